@@ -0,0 +1,68 @@
+package com.example.withaop.bench;
+
+import com.example.withaop.ratelimit.PrincipalRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출자별 속도 제한 비용 (호출 한 번당 시간, 8개 스레드)
+ *
+ * - distinctPrincipals: 호출자 수 (100,000명이면 호출마다 다른 버킷의 CAS)
+ * - hot: 모든 스레드가 같은 호출자 한 명 (같은 AtomicLong에 CAS 경합)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitBenchmark {
+
+    @Param({"1000", "100000"})
+    public int principals;
+
+    private String[] names;
+    private PrincipalRateLimiter limiter;
+    private PrincipalRateLimiter hotLimiter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        names = new String[principals];
+        for (int i = 0; i < principals; i++) {
+            names[i] = "user-" + i;
+        }
+        // 거절 없이 버킷 조회 + CAS 비용만 보도록 충분히 큰 속도
+        limiter = new PrincipalRateLimiter("createUser", 1e9, 1_000, principals, 1_000);
+        hotLimiter = new PrincipalRateLimiter("createUser", 1e9, 1_000, principals, 1_000);
+        for (String name : names) {
+            limiter.tryAcquire(name);
+        }
+    }
+
+    @Benchmark
+    public long distinctPrincipals() {
+        return limiter.tryAcquire(names[ThreadLocalRandom.current().nextInt(principals)]);
+    }
+
+    @Benchmark
+    public long hot() {
+        return hotLimiter.tryAcquire("admin");
+    }
+}
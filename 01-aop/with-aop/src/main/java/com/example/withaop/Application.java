@@ -1,15 +1,35 @@
 package com.example.withaop;
 
+import com.example.withaop.aspect.ConcurrencyLimitAspect;
+import com.example.withaop.aspect.PerformanceAspect;
+import com.example.withaop.aspect.RateLimitAspect;
+import com.example.withaop.aspect.RequestCollapsingAspect;
+import com.example.withaop.aspect.TimeoutAspect;
+import com.example.withaop.load.LoadGenerator;
+import com.example.withaop.load.LoadProperties;
+import com.example.withaop.load.LoadReport;
+import com.example.withaop.load.LoadTarget;
 import com.example.withaop.model.User;
+import com.example.withaop.repository.UserRepository;
 import com.example.withaop.service.UserService;
+import com.example.withaop.slo.SloProperties;
+import com.example.withaop.util.DemoLog;
+import com.example.withaop.util.SecurityContext;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 @SpringBootApplication
 @EnableAspectJAutoProxy  // AOP 활성화 (Spring Boot는 자동이지만 명시적으로 표시)
+@EnableConfigurationProperties({SloProperties.class, LoadProperties.class})  // application.yml의 slo.*, load.* 바인딩
 public class Application {
 
     public static void main(String[] args) {
@@ -17,7 +37,14 @@ public class Application {
     }
 
     @Bean
-    public CommandLineRunner demo(UserService userService) {
+    @ConditionalOnProperty(name = "load.enabled", havingValue = "false", matchIfMissing = true)
+    public CommandLineRunner demo(
+        UserService userService,
+        RequestCollapsingAspect requestCollapsingAspect,
+        ConcurrencyLimitAspect concurrencyLimitAspect,
+        TimeoutAspect timeoutAspect,
+        PerformanceAspect performanceAspect
+    ) {
         return args -> {
             System.out.println("\n");
             System.out.println("=".repeat(60));
@@ -37,6 +64,21 @@ public class Application {
             userService.deleteUser(2L);
             System.out.println("========================================\n");
 
+            // 4. 동시 조회 - 같은 ID는 조회 하나를 공유하고, 다른 ID는 배치로 묶임
+            ExecutorService callers = Executors.newFixedThreadPool(16);
+            for (int i = 0; i < 200; i++) {
+                long userId = i % 10 == 0 ? 3L : 1L;
+                callers.execute(() -> userService.getUser(userId));
+            }
+            callers.shutdown();
+            callers.awaitTermination(10, TimeUnit.SECONDS);
+            requestCollapsingAspect.stats().forEach(stats -> System.out.println("요청 병합: " + stats));
+            concurrencyLimitAspect.stats().forEach(stats -> System.out.println("동시 실행 제한: " + stats));
+            System.out.println("제한 시간: " + timeoutAspect.stats());
+            performanceAspect.stats().forEach(stats -> System.out.println("실행 비용: " + stats));
+            performanceAspect.slo().forEach(status -> System.out.println("SLO: " + status));
+            System.out.println("========================================\n");
+
             System.out.println("\n");
             System.out.println("=".repeat(60));
             System.out.println("장점: 비즈니스 로직만 3줄, 공통 관심사는 Aspect로 분리!");
@@ -45,4 +87,63 @@ public class Application {
             System.out.println();
         };
     }
+
+    /**
+     * load.enabled=true면 데모 대신 고정 도착률 부하 (조회 = getUser, 쓰기 = createUser, 호출자 = user-{ID})
+     */
+    @Bean
+    @ConditionalOnProperty(name = "load.enabled", havingValue = "true")
+    public CommandLineRunner load(
+        UserService userService,
+        UserRepository userRepository,
+        LoadProperties loadProperties,
+        RequestCollapsingAspect requestCollapsingAspect,
+        ConcurrencyLimitAspect concurrencyLimitAspect,
+        RateLimitAspect rateLimitAspect,
+        TimeoutAspect timeoutAspect,
+        PerformanceAspect performanceAspect
+    ) {
+        return args -> {
+            // 조회할 ID 1 ~ users를 미리 채움 (서비스를 거치지 않으므로 속도 제한, 로그 없음)
+            for (int i = userRepository.count() + 1; i <= loadProperties.users(); i++) {
+                userRepository.save(new User(null, "User " + i, "user" + i + "@example.com"));
+            }
+            LoadTarget target = new LoadTarget() {
+                @Override
+                public void read(long userId) {
+                    SecurityContext.setPrincipal("user-" + userId);
+                    userService.getUser(userId);
+                }
+
+                @Override
+                public void write(long userId) {
+                    SecurityContext.setPrincipal("user-" + userId);
+                    userService.createUser("Load User", "load-" + userId + "@example.com");
+                }
+            };
+
+            System.out.println("\n");
+            System.out.println("=".repeat(60));
+            System.out.println("WITH AOP - 부하 생성: " + loadProperties.options());
+            System.out.println("=".repeat(60));
+
+            // 호출마다 찍는 데모 로그만 끔 (예외, SLO 경고 등은 그대로 출력)
+            DemoLog.setEnabled(!loadProperties.quiet());
+            LoadReport report;
+            try {
+                report = new LoadGenerator(loadProperties.options()).run(target);
+            } finally {
+                DemoLog.setEnabled(true);
+            }
+
+            report.print(System.out);
+            requestCollapsingAspect.stats().forEach(stats -> System.out.println("요청 병합: " + stats));
+            concurrencyLimitAspect.stats().forEach(stats -> System.out.println("동시 실행 제한: " + stats));
+            rateLimitAspect.stats().forEach(stats -> System.out.println("속도 제한: " + stats));
+            System.out.println("제한 시간: " + timeoutAspect.stats());
+            performanceAspect.stats().forEach(stats -> System.out.println("실행 비용: " + stats));
+            performanceAspect.slo().forEach(status -> System.out.println("SLO: " + status));
+            System.out.println("=".repeat(60));
+        };
+    }
 }
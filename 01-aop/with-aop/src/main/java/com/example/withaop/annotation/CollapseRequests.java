@@ -0,0 +1,39 @@
+package com.example.withaop.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동시 호출 병합 (RequestCollapsingAspect가 처리)
+ *
+ * 인자가 하나인 조회 메서드에 붙입니다.
+ * - 같은 인자로 동시에 들어온 호출은 진행 중인 조회 하나의 결과를 함께 받음 (single-flight)
+ * - batchMethod가 있으면, 조회가 진행 중일 때 들어온 다른 인자들을 windowMillis 동안 모아
+ *   batchMethod 한 번으로 조회함 (micro-batching)
+ *
+ * 병합된 호출은 뒤쪽 Aspect(보안, 로깅, 성능 측정)를 각자 거치지 않고 조회 한 번의 결과를 공유합니다.
+ * 따라서 호출자마다 결과가 달라지지 않는 읽기 메서드에만 사용해야 합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CollapseRequests {
+
+    /**
+     * 여러 인자를 한 번에 조회하는 같은 Bean의 메서드 이름
+     * 인자 목록(Collection)을 받고 인자 → 결과 Map을 반환해야 합니다.
+     * 비어 있으면 같은 인자의 single-flight만 적용됩니다.
+     */
+    String batchMethod() default "";
+
+    /**
+     * 배치를 모으는 최대 시간 (다른 조회가 진행 중일 때만 기다림 - 한가할 때는 지연 없음)
+     */
+    long windowMillis() default 2;
+
+    /**
+     * 배치 하나의 최대 인자 수 (차면 창이 끝나기 전에 바로 조회)
+     */
+    int maxBatchSize() default 64;
+}
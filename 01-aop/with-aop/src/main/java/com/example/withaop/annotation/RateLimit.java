@@ -0,0 +1,27 @@
+package com.example.withaop.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 호출자(principal)별 호출 속도 제한 (RateLimitAspect가 처리)
+ *
+ * 호출자마다 토큰 버킷 하나를 두고, 토큰이 없으면 RateLimitExceededException으로 바로 실패합니다.
+ * 호출자는 SecurityContext.getPrincipal()로 구분합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    /**
+     * 호출자 한 명이 1초에 호출할 수 있는 평균 횟수 (토큰 충전 속도)
+     */
+    double permitsPerSecond();
+
+    /**
+     * 한 번에 몰아서 호출할 수 있는 최대 횟수 (버킷 크기)
+     */
+    int burst() default 1;
+}
@@ -0,0 +1,23 @@
+package com.example.withaop.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 실행 제한 시간 (TimeoutAspect가 처리)
+ *
+ * 호출은 호출 스레드에서 그대로 실행되고, 마감 시각(Deadline)이 스레드 컨텍스트로 아래 호출에 전달됩니다.
+ * 마감이 지나면 호출 스레드를 interrupt하고, Repository 호출 전 checkpoint에서 DeadlineExceededException으로 중단합니다.
+ * 바깥 호출의 마감이 더 이르면 바깥 마감을 그대로 따릅니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Timeout {
+
+    /**
+     * 제한 시간 (ms)
+     */
+    long millis();
+}
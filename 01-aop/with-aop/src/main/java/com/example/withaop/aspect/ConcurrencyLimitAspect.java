@@ -0,0 +1,89 @@
+package com.example.withaop.aspect;
+
+import com.example.withaop.limit.AdaptiveLimiter;
+import com.example.withaop.limit.LimitExceededException;
+import com.example.withaop.limit.LimiterOptions;
+import com.example.withaop.limit.LimiterStats;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동시 실행 제한 Aspect
+ *
+ * 서비스 메서드마다 AdaptiveLimiter를 두고, 제한을 넘는 호출은 짧게 기다리게 하거나 바로 거절합니다.
+ * 과부하 때 모든 호출이 함께 느려지는 대신, 넘치는 호출만 LimitExceededException으로 빨리 실패합니다.
+ *
+ * RequestCollapsingAspect와 RateLimitAspect 안쪽에서 실행되므로, 병합된 호출은 실제 조회 하나만,
+ * 속도 제한에 걸린 호출은 아예 제한에 포함되지 않습니다.
+ * 제한 설정은 application.yml의 concurrency-limit.*에서 주입됩니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class ConcurrencyLimitAspect {
+
+    private final LimiterOptions options;
+    private final Map<Method, AdaptiveLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitAspect(
+        @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+        @Value("${concurrency-limit.min-limit:2}") int minLimit,
+        @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+        @Value("${concurrency-limit.queue-size:16}") int queueSize,
+        @Value("${concurrency-limit.queue-timeout-millis:20}") long queueTimeoutMillis,
+        @Value("${concurrency-limit.window-millis:100}") long windowMillis,
+        @Value("${concurrency-limit.min-window-samples:10}") int minWindowSamples,
+        @Value("${concurrency-limit.smoothing:0.2}") double smoothing,
+        @Value("${concurrency-limit.rtt-tolerance:1.5}") double rttTolerance
+    ) {
+        this.options = new LimiterOptions(
+            initialLimit, minLimit, maxLimit, queueSize, queueTimeoutMillis,
+            windowMillis, minWindowSamples, smoothing, rttTolerance
+        );
+    }
+
+    @Around("execution(* com.example.withaop.service.*.*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        AdaptiveLimiter limiter = limiters.get(method);
+        if (limiter == null) {
+            limiter = limiters.computeIfAbsent(method, m -> new AdaptiveLimiter(
+                m.getDeclaringClass().getSimpleName() + "." + m.getName(), options));
+        }
+        if (!limiter.tryAcquire()) {
+            LimiterStats stats = limiter.stats();
+            throw new LimitExceededException(stats.method(), stats.limit());
+        }
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 메서드별 현재 제한, 실행 중인 호출 수, 거절 수
+     */
+    public List<LimiterStats> stats() {
+        return limiters.values().stream().map(AdaptiveLimiter::stats).toList();
+    }
+}
+
+/*
+ * 이점:
+ * 1. 과부하 때 허용된 호출의 지연은 유지되고, 넘치는 호출만 빨리 실패
+ * 2. 제한 값을 직접 맞출 필요 없이 관측한 지연에 따라 자동으로 조정
+ * 3. 서비스 코드 변경 없이 모든 서비스 메서드에 적용
+ */
@@ -1,5 +1,6 @@
 package com.example.withaop.aspect;
 
+import com.example.withaop.util.DemoLog;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
@@ -22,9 +23,9 @@ public class LoggingAspect {
      */
     @Before("execution(* com.example.withaop.service.*.*(..))")
     public void logBefore(JoinPoint joinPoint) {
-        System.out.println("\n========================================");
-        System.out.println("메서드 호출: " + joinPoint.getSignature().getName());
-        System.out.println("파라미터: " + Arrays.toString(joinPoint.getArgs()));
+        DemoLog.println("\n========================================");
+        DemoLog.println("메서드 호출: " + joinPoint.getSignature().getName());
+        DemoLog.println("파라미터: " + Arrays.toString(joinPoint.getArgs()));
     }
 
     /**
@@ -36,7 +37,7 @@ public class LoggingAspect {
         returning = "result"
     )
     public void logAfterReturning(JoinPoint joinPoint, Object result) {
-        System.out.println("반환값: " + result);
+        DemoLog.println("반환값: " + result);
     }
 }
 
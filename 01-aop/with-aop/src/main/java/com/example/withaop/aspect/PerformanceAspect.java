@@ -1,18 +1,53 @@
 package com.example.withaop.aspect;
 
+import com.example.withaop.jfr.ArgumentSize;
+import com.example.withaop.jfr.ServiceInvocationEvent;
+import com.example.withaop.perf.InvocationAccounting;
+import com.example.withaop.perf.MethodAccounting;
+import com.example.withaop.slo.SloMonitor;
+import com.example.withaop.slo.SloProperties;
+import com.example.withaop.slo.SloStatus;
+import com.example.withaop.util.DemoLog;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.List;
+
 /**
  * 성능 측정 Aspect
  *
  * 모든 서비스 메서드의 실행 시간을 자동으로 측정합니다.
+ * 호출마다 JFR 이벤트(ServiceInvocationEvent)도 남기므로, JFR 기록 안에서 GC 멈춤이나 락 경합과 함께 볼 수 있습니다.
+ * JFR 기록이 꺼져 있으면 begin/end/shouldCommit은 꺼짐 플래그 확인뿐이라 호출당 몇 ns입니다 (이벤트 객체는 escape analysis로 할당되지 않음).
+ * 메서드 이름과 인자 크기는 shouldCommit()이 true일 때(기록 중 + 임계값 이상)만 계산합니다.
+ *
+ * 경과 시간 옆에 호출별 할당 바이트와 스레드 CPU 시간도 측정해 메서드별로 집계합니다 (stats()).
+ * 어느 UserService 메서드가 GC 압력을 만드는지 바로 보입니다.
+ * 측정 여부는 application.yml의 performance.accounting.*에서 주입됩니다 (기본: 끔, 끄면 호출당 비용이 없음).
+ *
+ * 같은 경과 시간으로 application.yml의 slo.budgets에 선언한 메서드별 지연 목표(SLO)도 감시합니다.
+ * 요청 스레드는 슬라이딩 윈도 히스토그램에 더하기만 하고, 평가와 위반 / 회복 로그는 SloMonitor의 평가 스레드가 맡습니다.
  */
 @Aspect
 @Component
-public class PerformanceAspect {
+public class PerformanceAspect implements AutoCloseable {
+
+    private final InvocationAccounting accounting;
+    private final SloMonitor sloMonitor;
+
+    public PerformanceAspect(
+        @Value("${performance.accounting.cpu:false}") boolean measureCpu,
+        @Value("${performance.accounting.allocation:false}") boolean measureAllocation,
+        SloProperties sloProperties
+    ) {
+        this.accounting = new InvocationAccounting(measureCpu, measureAllocation);
+        this.sloMonitor = new SloMonitor(sloProperties.objectives(), sloProperties.options());
+    }
 
     /**
      * @Around: 메서드 실행 전후에 코드 실행
@@ -20,20 +55,67 @@ public class PerformanceAspect {
      */
     @Around("execution(* com.example.withaop.service.*.*(..))")
     public Object measureExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        // 실행 시간 측정 시작
-        long startTime = System.currentTimeMillis();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        // 실행 시간, CPU 시간, 할당 바이트 측정 시작
+        long startTime = System.nanoTime();
+        long startCpu = accounting.cpuTime();
+        long startAllocated = accounting.allocatedBytes();
+        ServiceInvocationEvent event = new ServiceInvocationEvent();
+        event.begin();
 
         // 실제 메서드 실행
-        Object result = joinPoint.proceed();
+        String outcome = "OK";
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable t) {
+            outcome = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            event.end();
+            long cpuTime = accounting.cpuTime() - startCpu;
+            long allocated = accounting.allocatedBytes() - startAllocated;
+            long endTime = System.nanoTime();
+            accounting.record(method, endTime - startTime, cpuTime, allocated);
+            sloMonitor.record(method.getName(), startTime, endTime);
+            if (event.shouldCommit()) {
+                event.record(
+                    method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                    outcome,
+                    ArgumentSize.of(joinPoint.getArgs()),
+                    cpuTime,
+                    allocated
+                );
+            }
+        }
 
         // 실행 시간 측정 종료
-        long endTime = System.currentTimeMillis();
-        long executionTime = endTime - startTime;
+        long executionTime = (System.nanoTime() - startTime) / 1_000_000;
 
-        System.out.println("실행 시간: " + executionTime + "ms");
+        DemoLog.println("실행 시간: " + executionTime + "ms");
 
         return result;
     }
+
+    /**
+     * 메서드별 평균 경과 시간, CPU 시간, 할당 바이트 (전체 할당이 많은 순서)
+     */
+    public List<MethodAccounting> stats() {
+        return accounting.stats();
+    }
+
+    /**
+     * 메서드별 현재 SLO 상태 (지금 시점으로 다시 평가)
+     */
+    public List<SloStatus> slo() {
+        return sloMonitor.evaluate();
+    }
+
+    @Override
+    public void close() {
+        sloMonitor.close();
+    }
 }
 
 /*
@@ -41,4 +123,7 @@ public class PerformanceAspect {
  * 1. 모든 서비스 메서드에 자동 적용
  * 2. 새 메서드 추가 시 추가 코드 불필요
  * 3. 포인트컷만 변경하면 다른 패키지에도 적용 가능
+ * 4. JFR 기록 하나로 서비스 지연과 GC/락 이벤트를 함께 분석 (기록이 꺼져 있으면 비용 없음)
+ * 5. GC 압력과 CPU 사용을 메서드 단위로 추적
+ * 6. 지연 목표 위반을 요청 경로를 멈추지 않고 계속 감시
  */
@@ -0,0 +1,79 @@
+package com.example.withaop.aspect;
+
+import com.example.withaop.annotation.RateLimit;
+import com.example.withaop.ratelimit.PrincipalRateLimiter;
+import com.example.withaop.ratelimit.RateLimitExceededException;
+import com.example.withaop.ratelimit.RateLimitStats;
+import com.example.withaop.util.SecurityContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 속도 제한 Aspect
+ *
+ * @RateLimit 메서드를 호출자(SecurityContext.getPrincipal())별 토큰 버킷으로 제한합니다.
+ * SecurityAspect는 관리자인지(예/아니오)만 보므로, 한 호출자가 createUser를 몰아서 호출하는 것은 막지 못합니다.
+ * 토큰이 없으면 RateLimitExceededException으로 바로 실패하고, 예외에 재시도 가능 시간(retryAfterMillis)이 담깁니다.
+ *
+ * ConcurrencyLimitAspect보다 바깥에서 실행되므로, 거절될 호출은 동시 실행 자리를 차지하지 않습니다.
+ * 호출자 수 한도와 정리 간격은 application.yml의 rate-limit.*에서 주입됩니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class RateLimitAspect {
+
+    private final int maxPrincipals;
+    private final long sweepIntervalMillis;
+    private final Map<Method, PrincipalRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    public RateLimitAspect(
+        @Value("${rate-limit.max-principals:100000}") int maxPrincipals,
+        @Value("${rate-limit.sweep-interval-millis:1000}") long sweepIntervalMillis
+    ) {
+        this.maxPrincipals = maxPrincipals;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+    }
+
+    @Around("@annotation(rateLimit)")
+    public Object limit(ProceedingJoinPoint joinPoint, RateLimit rateLimit) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        PrincipalRateLimiter limiter = limiters.computeIfAbsent(method, m -> new PrincipalRateLimiter(
+            m.getDeclaringClass().getSimpleName() + "." + m.getName(),
+            rateLimit.permitsPerSecond(), rateLimit.burst(), maxPrincipals, sweepIntervalMillis));
+
+        String principal = SecurityContext.getPrincipal();
+        long waitNanos = limiter.tryAcquire(principal);
+        if (waitNanos > 0) {
+            long retryAfterMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999));
+            throw new RateLimitExceededException(limiter.name(), principal, retryAfterMillis);
+        }
+        return joinPoint.proceed();
+    }
+
+    /**
+     * 메서드별 허용 / 거절 수, 버킷을 가진 호출자 수
+     */
+    public List<RateLimitStats> stats() {
+        return limiters.values().stream().map(PrincipalRateLimiter::stats).toList();
+    }
+}
+
+/*
+ * 이점:
+ * 1. 한 호출자가 몰아서 호출해도 다른 호출자의 처리량은 유지
+ * 2. 메서드마다 @RateLimit 한 줄로 속도 설정
+ * 3. 버킷 차감이 CAS 한 번이라 호출자가 많아도 lock 경합이 없음
+ */
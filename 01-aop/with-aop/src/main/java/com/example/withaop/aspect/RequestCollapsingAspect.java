@@ -0,0 +1,91 @@
+package com.example.withaop.aspect;
+
+import com.example.withaop.annotation.CollapseRequests;
+import com.example.withaop.collapse.CollapseStats;
+import com.example.withaop.collapse.RequestCollapser;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 병합 Aspect
+ *
+ * @CollapseRequests 메서드에 대한 동시 호출을 RequestCollapser로 묶습니다.
+ * TimeoutAspect 바로 안쪽(HIGHEST_PRECEDENCE + 3)에서 실행되므로, 병합된 호출은 뒤쪽 Aspect 체인을 조회 한 번만 거칩니다.
+ * 배치 조회는 프록시(joinPoint.getThis())의 batchMethod를 호출하므로 배치마다 Aspect 체인이 한 번 적용됩니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class RequestCollapsingAspect {
+
+    private final Map<Method, RequestCollapser> collapsers = new ConcurrentHashMap<>();
+
+    @Around("@annotation(collapse)")
+    public Object collapse(ProceedingJoinPoint joinPoint, CollapseRequests collapse) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object[] args = joinPoint.getArgs();
+        if (args.length != 1) {
+            throw new IllegalStateException("@CollapseRequests는 인자가 하나인 메서드에만 사용할 수 있습니다: " + method);
+        }
+        RequestCollapser collapser = collapsers.computeIfAbsent(
+            method, m -> createCollapser(m, collapse, joinPoint.getThis()));
+        return collapser.execute(args[0], joinPoint::proceed);
+    }
+
+    /**
+     * 메서드별 병합 통계
+     */
+    public List<CollapseStats> stats() {
+        return collapsers.values().stream().map(RequestCollapser::stats).toList();
+    }
+
+    private RequestCollapser createCollapser(Method method, CollapseRequests collapse, Object proxy) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        RequestCollapser.BatchLoader batchLoader = null;
+        if (!collapse.batchMethod().isEmpty()) {
+            Method batchMethod = findBatchMethod(AopUtils.getTargetClass(proxy), collapse.batchMethod());
+            batchLoader = keys -> invoke(batchMethod, proxy, keys);
+        }
+        return new RequestCollapser(name, collapse.windowMillis(), collapse.maxBatchSize(), batchLoader);
+    }
+
+    private static Method findBatchMethod(Class<?> type, String name) {
+        return Arrays.stream(type.getMethods())
+            .filter(m -> m.getName().equals(name)
+                && m.getParameterCount() == 1
+                && m.getParameterTypes()[0].isAssignableFrom(List.class)
+                && Map.class.isAssignableFrom(m.getReturnType()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                "배치 메서드를 찾을 수 없습니다: " + type.getSimpleName() + "." + name + "(" + Collection.class.getSimpleName() + ") → Map"));
+    }
+
+    private static Map<?, ?> invoke(Method batchMethod, Object proxy, List<Object> keys) throws Throwable {
+        try {
+            return (Map<?, ?>) batchMethod.invoke(proxy, keys);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
+
+/*
+ * 이점:
+ * 1. 인기 사용자를 수백 명이 동시에 조회해도 Repository 조회와 Aspect 체인은 한 번만 실행
+ * 2. 서로 다른 ID도 조회가 몰릴 때는 한 번의 다건 조회로 묶임
+ * 3. 서비스 코드는 @CollapseRequests 한 줄만 추가
+ */
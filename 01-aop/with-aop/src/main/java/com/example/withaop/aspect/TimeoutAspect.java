@@ -0,0 +1,67 @@
+package com.example.withaop.aspect;
+
+import com.example.withaop.annotation.Timeout;
+import com.example.withaop.deadline.Deadline;
+import com.example.withaop.deadline.DeadlineScope;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실행 제한 시간 Aspect
+ *
+ * @Timeout 메서드를 DeadlineScope 아래에서 실행합니다.
+ * 가장 바깥 Aspect(HIGHEST_PRECEDENCE + 2)라서 요청 병합 대기, 동시 실행 대기 자리에서 기다리는 시간도 제한 시간에 포함됩니다.
+ * (HIGHEST_PRECEDENCE, + 1은 쓰지 않음: Spring의 ExposeInvocationInterceptor(+ 1)보다 바깥의 어드바이스는
+ *  JoinPointMatch를 찾지 못해 인자 바인딩과 @Before가 IllegalStateException으로 실패합니다)
+ * 마감은 스레드 컨텍스트(Deadline)로 아래 호출에 전달되고, Repository 메서드 실행 전마다 checkpoint로 확인합니다.
+ * 감시 스레드 간격은 application.yml의 deadline.watchdog-tick-millis에서 주입됩니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class TimeoutAspect implements AutoCloseable {
+
+    private final DeadlineScope scope;
+
+    public TimeoutAspect(@Value("${deadline.watchdog-tick-millis:5}") long watchdogTickMillis) {
+        this.scope = new DeadlineScope(watchdogTickMillis);
+    }
+
+    @Around("@annotation(timeout)")
+    public Object withDeadline(ProceedingJoinPoint joinPoint, Timeout timeout) throws Throwable {
+        return scope.run(joinPoint.getSignature().getName(), timeout.millis(), joinPoint::proceed);
+    }
+
+    /**
+     * 아래 호출(Repository)로 전달된 마감 확인 - 마감이 지났으면 저장소를 건드리기 전에 중단
+     */
+    @Before("execution(* com.example.withaop.repository.*.*(..))")
+    public void checkDeadline() {
+        Deadline.checkpoint();
+    }
+
+    public DeadlineScope.Stats stats() {
+        return scope.stats();
+    }
+
+    /**
+     * 컨텍스트 종료 시 감시 스레드 종료
+     */
+    @Override
+    public void close() {
+        scope.close();
+    }
+}
+
+/*
+ * 이점:
+ * 1. 느린 저장소 호출이 호출자를 무한정 붙잡지 않음
+ * 2. 마감이 아래 호출로 전달되어, 이미 늦은 호출은 저장소를 건드리기 전에 중단
+ * 3. 마감이 남은 빠른 경로에서는 ThreadLocal 조회와 시각 비교만 추가됨
+ */
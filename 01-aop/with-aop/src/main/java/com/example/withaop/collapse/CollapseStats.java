@@ -0,0 +1,24 @@
+package com.example.withaop.collapse;
+
+/**
+ * 요청 병합 통계
+ *
+ * @param calls 메서드 호출 수
+ * @param joined 진행 중인 같은 키의 조회에 합류한 호출 수
+ * @param loads 실제 조회 수 (단건 + 배치 + 배치 결과에 없어 다시 실행한 단건)
+ * @param batches 배치 조회 수
+ * @param meanBatchSize 배치 하나의 평균 키 수
+ * @param collapseRatio calls / loads (1이면 병합 없음)
+ * @param meanWindowWaitMicros 배치를 모으느라 리더가 더 기다린 평균 시간
+ */
+public record CollapseStats(
+    String method,
+    long calls,
+    long joined,
+    long loads,
+    long batches,
+    double meanBatchSize,
+    double collapseRatio,
+    double meanWindowWaitMicros
+) {
+}
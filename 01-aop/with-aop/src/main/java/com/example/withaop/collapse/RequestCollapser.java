@@ -0,0 +1,280 @@
+package com.example.withaop.collapse;
+
+import com.example.withaop.deadline.Deadline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청 병합기 (single-flight + micro-batching)
+ *
+ * 별도 스레드 없이 호출 스레드가 조회를 실행합니다.
+ * - 같은 키의 조회가 진행 중이면 새로 조회하지 않고 그 결과를 기다림
+ * - 배치 조회기가 있으면 키를 현재 배치에 넣음
+ *   배치의 첫 호출자(리더)는 다른 조회가 진행 중일 때만 windowMillis 동안 키를 더 모은 뒤 한 번에 조회함
+ *   배치가 maxBatchSize만큼 차면 마지막으로 넣은 호출자가 바로 조회함
+ * - 배치 결과에 없는 키는 그 키의 호출자가 단건 조회로 다시 실행함 (예외도 단건 조회와 같게 전달)
+ *
+ * 진행 중인 조회 목록은 ConcurrentHashMap이라 같은 키에 합류하는 호출은 락을 잡지 않고, 락은 배치를 모을 때만 씁니다.
+ * 공유 조회는 호출한 스레드의 마감(Deadline)을 떼어 놓고 실행하고, 각 호출자는 자기 마감까지만 결과를 기다립니다.
+ * 그래서 리더의 마감이 지나도 아직 마감이 남은 다른 호출자는 실패하지 않습니다.
+ */
+public final class RequestCollapser {
+
+    /**
+     * 단건 조회 (원래 메서드 실행)
+     */
+    @FunctionalInterface
+    public interface Loader {
+        Object load() throws Throwable;
+    }
+
+    /**
+     * 배치 조회 - 키 목록을 받아 키 → 결과 Map을 반환
+     */
+    @FunctionalInterface
+    public interface BatchLoader {
+        Map<?, ?> loadAll(List<Object> keys) throws Throwable;
+    }
+
+    // 배치 결과에 없던 키 표시
+    private static final Object MISSING = new Object();
+
+    private final String name;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BatchLoader batchLoader;
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // 아래 상태(현재 배치, Batch.taken)는 lock으로 보호 - 배치 조회기가 있을 때 조회를 시작하는 호출만 잡음
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchTaken = lock.newCondition();
+    private Batch current = new Batch();
+
+    // 실행 중인 조회 수 (0이면 리더가 창을 기다리지 않음)
+    private final AtomicInteger activeLoads = new AtomicInteger();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedKeys = new LongAdder();
+    private final LongAdder windowWaits = new LongAdder();
+    private final LongAdder windowWaitNanos = new LongAdder();
+
+    /**
+     * 배치 하나 - 키 순서대로 결과를 받을 future
+     */
+    private static final class Batch {
+        final List<Object> keys = new ArrayList<>();
+        final List<CompletableFuture<Object>> futures = new ArrayList<>();
+        boolean taken;
+    }
+
+    /**
+     * @param batchLoader null이면 같은 키의 single-flight만 적용
+     */
+    public RequestCollapser(String name, long windowMillis, int maxBatchSize, BatchLoader batchLoader) {
+        if (windowMillis < 0 || maxBatchSize < 1) {
+            throw new IllegalArgumentException(
+                "windowMillis는 0 이상, maxBatchSize는 1 이상이어야 합니다: " + windowMillis + ", " + maxBatchSize);
+        }
+        this.name = name;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.batchLoader = batchLoader;
+    }
+
+    /**
+     * key의 결과를 반환 (진행 중인 조회가 있으면 함께 기다리고, 없으면 조회를 시작함)
+     */
+    public Object execute(Object key, Loader loader) throws Throwable {
+        calls.increment();
+        CompletableFuture<Object> future = inFlight.get(key);
+        boolean owner = false;
+        if (future == null) {
+            CompletableFuture<Object> created = new CompletableFuture<>();
+            future = inFlight.computeIfAbsent(key, k -> created);
+            owner = future == created;
+        }
+        if (!owner) {
+            joined.increment();
+        }
+
+        Batch batch = null;
+        boolean leader = false;
+        boolean full = false;
+        if (owner && batchLoader != null) {
+            lock.lock();
+            try {
+                batch = current;
+                batch.keys.add(key);
+                batch.futures.add(future);
+                leader = batch.keys.size() == 1;
+                if (batch.keys.size() >= maxBatchSize) {
+                    full = take(batch);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        if (owner && batchLoader == null) {
+            loadSingle(key, future, loader);
+        } else if (full) {
+            loadBatch(batch);
+        } else if (leader) {
+            if (awaitWindow(batch)) {
+                loadBatch(batch);
+            }
+        }
+
+        Object result = await(future);
+        if (result == MISSING) {
+            // 배치 결과에 없는 키 - 원래 메서드로 조회 (없는 사용자 예외 등이 그대로 전달됨)
+            loads.increment();
+            return loader.load();
+        }
+        return result;
+    }
+
+    public CollapseStats stats() {
+        long callCount = calls.sum();
+        long loadCount = loads.sum();
+        long batchCount = batches.sum();
+        long waitCount = windowWaits.sum();
+        return new CollapseStats(
+            name,
+            callCount,
+            joined.sum(),
+            loadCount,
+            batchCount,
+            batchCount == 0 ? 0.0 : (double) batchedKeys.sum() / batchCount,
+            loadCount == 0 ? 0.0 : (double) callCount / loadCount,
+            waitCount == 0 ? 0.0 : windowWaitNanos.sum() / 1e3 / waitCount
+        );
+    }
+
+    /**
+     * 리더: 다른 조회가 진행 중이면 창이 끝나거나 배치가 찰 때까지 기다림
+     *
+     * @return 리더가 배치를 조회해야 하면 true (배치가 차서 다른 호출자가 가져갔으면 false)
+     */
+    private boolean awaitWindow(Batch batch) {
+        lock.lock();
+        try {
+            if (activeLoads.get() > 0 && windowNanos > 0) {
+                long start = System.nanoTime();
+                long deadline = start + windowNanos;
+                long remaining = windowNanos;
+                boolean interrupted = false;
+                while (!batch.taken && remaining > 0) {
+                    try {
+                        batchTaken.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        // 배치의 다른 호출자도 이 조회를 기다리므로 중단하지 않고 바로 조회
+                        interrupted = true;
+                        break;
+                    }
+                    remaining = deadline - System.nanoTime();
+                }
+                windowWaits.increment();
+                windowWaitNanos.add(System.nanoTime() - start);
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return take(batch);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 배치를 닫고 새 배치를 시작 (lock 안에서 호출)
+     *
+     * @return 이 호출로 배치를 가져왔으면 true
+     */
+    private boolean take(Batch batch) {
+        if (batch.taken) {
+            return false;
+        }
+        batch.taken = true;
+        if (current == batch) {
+            current = new Batch();
+        }
+        batchTaken.signalAll();
+        return true;
+    }
+
+    private void loadSingle(Object key, CompletableFuture<Object> future, Loader loader) {
+        loads.increment();
+        activeLoads.incrementAndGet();
+        try {
+            Object value = Deadline.runDetached(loader::load);
+            finish(key, future).complete(value);
+        } catch (Throwable t) {
+            finish(key, future).completeExceptionally(t);
+        } finally {
+            activeLoads.decrementAndGet();
+        }
+    }
+
+    private void loadBatch(Batch batch) {
+        loads.increment();
+        batches.increment();
+        batchedKeys.add(batch.keys.size());
+        activeLoads.incrementAndGet();
+        try {
+            List<Object> keys = List.copyOf(batch.keys);
+            Map<?, ?> values = (Map<?, ?>) Deadline.runDetached(() -> batchLoader.loadAll(keys));
+            for (int i = 0; i < batch.keys.size(); i++) {
+                Object key = batch.keys.get(i);
+                Object value = values.containsKey(key) ? values.get(key) : MISSING;
+                finish(key, batch.futures.get(i)).complete(value);
+            }
+        } catch (Throwable t) {
+            for (int i = 0; i < batch.keys.size(); i++) {
+                finish(batch.keys.get(i), batch.futures.get(i)).completeExceptionally(t);
+            }
+        } finally {
+            activeLoads.decrementAndGet();
+        }
+    }
+
+    /**
+     * 완료하기 전에 진행 중 목록에서 제거 (완료 후 들어온 호출은 새로 조회)
+     */
+    private CompletableFuture<Object> finish(Object key, CompletableFuture<Object> future) {
+        inFlight.remove(key, future);
+        return future;
+    }
+
+    /**
+     * 현재 호출자의 마감까지만 결과를 기다림 (조회는 계속되고 다른 호출자는 그대로 기다림)
+     */
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            Deadline deadline = Deadline.current();
+            if (deadline == null) {
+                return future.get();
+            }
+            return future.get(Math.max(0, Deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            throw Deadline.current().exceeded(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.withaop.deadline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 현재 스레드의 마감 시각 (DeadlineScope가 설정)
+ *
+ * 아래 호출은 Deadline.checkpoint()로 마감을 확인하거나, Deadline.remainingNanos()를
+ * 블로킹 호출의 제한 시간으로 넘겨 같은 마감을 따릅니다.
+ * checkpoint는 시각을 읽지 않고 감시 스레드가 남긴 취소 표시만 확인합니다 (ThreadLocal 조회 + volatile 읽기).
+ * 그래서 마감이 남았을 때 거의 비용이 없고, 대신 마감 후 감시 간격(tickMillis) 안에 중단됩니다.
+ */
+public final class Deadline {
+
+    private static final int RUNNING = 0;
+    private static final int DONE = 1;
+    private static final int CANCELLED = 2;
+    // runDetached 실행 중 - 감시 스레드가 취소하지 않음
+    private static final int DETACHED = 3;
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final long deadlineNanos;
+    private final long timeoutMillis;
+    private final Thread thread;
+    private final AtomicInteger state = new AtomicInteger(RUNNING);
+    // 감시 스레드가 interrupt를 마쳤는지 (취소된 호출이 interrupt 상태를 지우기 전에 기다림)
+    private volatile boolean interruptDelivered;
+
+    Deadline(String name, long deadlineNanos, long timeoutMillis, Thread thread) {
+        this.name = name;
+        this.deadlineNanos = deadlineNanos;
+        this.timeoutMillis = timeoutMillis;
+        this.thread = thread;
+    }
+
+    /**
+     * 현재 스레드의 마감 (없으면 null)
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 마감까지 남은 시간 (마감이 없으면 Long.MAX_VALUE, 지났으면 0 이하)
+     */
+    public static long remainingNanos() {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? Long.MAX_VALUE : deadline.deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * 감시 스레드가 취소했으면 DeadlineExceededException
+     */
+    public static void checkpoint() {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null && deadline.state.get() == CANCELLED) {
+            throw deadline.exceeded(null);
+        }
+    }
+
+    /**
+     * 현재 스레드의 마감을 떼어 놓고 body 실행
+     *
+     * 여러 호출자가 결과를 기다리는 공유 작업(병합된 조회)에 씁니다.
+     * 그동안 감시 스레드는 이 스레드를 interrupt하지 않고, checkpoint / remainingNanos는 마감이 없는 것처럼 동작합니다.
+     * 이미 취소된 마감이면 남은 interrupt를 지우고 실행합니다 (호출자 자신은 끝난 뒤 마감 초과로 처리됨).
+     */
+    public static Object runDetached(DeadlineScope.Body body) throws Throwable {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return body.call();
+        }
+        boolean detached = deadline.state.compareAndSet(RUNNING, DETACHED);
+        if (!detached && deadline.state.get() == CANCELLED) {
+            while (!deadline.interruptDelivered) {
+                Thread.onSpinWait();
+            }
+            Thread.interrupted();
+        }
+        CURRENT.remove();
+        try {
+            return body.call();
+        } finally {
+            CURRENT.set(deadline);
+            if (detached) {
+                // 떼어 놓은 동안 마감이 지났으면 감시 스레드가 다음 주기에 취소함
+                deadline.state.compareAndSet(DETACHED, RUNNING);
+            }
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long deadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * 마감이 지났거나 취소되었는지 (시각을 직접 비교하므로 checkpoint보다 정확하지만 비쌈)
+     */
+    public boolean isExpired() {
+        return state.get() == CANCELLED || System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    static void set(Deadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    public DeadlineExceededException exceeded(Throwable cause) {
+        String message = name + " 제한 시간(" + timeoutMillis + "ms) 초과";
+        return cause == null ? new DeadlineExceededException(message) : new DeadlineExceededException(message, cause);
+    }
+
+    /**
+     * 감시 스레드: 마감이 지났으면 취소하고 호출 스레드를 interrupt
+     *
+     * @return 이번에 취소했으면 true
+     */
+    boolean cancelIfExpired(long now) {
+        if (now - deadlineNanos < 0 || !state.compareAndSet(RUNNING, CANCELLED)) {
+            return false;
+        }
+        thread.interrupt();
+        interruptDelivered = true;
+        return true;
+    }
+
+    /**
+     * 호출 스레드: 호출이 끝남
+     *
+     * @return 감시 스레드가 먼저 취소했으면 true (이때 interrupt 상태는 지워짐)
+     */
+    boolean finish() {
+        if (state.compareAndSet(RUNNING, DONE)) {
+            return false;
+        }
+        while (!interruptDelivered) {
+            Thread.onSpinWait();
+        }
+        Thread.interrupted();
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{" + name + ", remaining=" + TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()) + "ms}";
+    }
+}
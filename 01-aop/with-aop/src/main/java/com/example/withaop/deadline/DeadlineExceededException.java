@@ -0,0 +1,15 @@
+package com.example.withaop.deadline;
+
+/**
+ * 마감 시각이 지나 중단된 호출
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
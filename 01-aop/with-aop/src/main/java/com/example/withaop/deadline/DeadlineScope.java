@@ -0,0 +1,157 @@
+package com.example.withaop.deadline;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 마감 시각 아래에서 호출 실행 + 마감이 지난 호출을 취소하는 감시 스레드
+ *
+ * 호출은 호출 스레드에서 그대로 실행됩니다 (스레드를 옮기지 않으므로 SecurityContext 같은 스레드 컨텍스트가 유지됨).
+ * 취소는 협력 방식입니다.
+ * - 감시 스레드가 tickMillis마다 스레드별 슬롯을 훑어, 마감이 지난 호출의 스레드를 interrupt
+ *   → sleep / 블로킹 I/O / Future.get은 바로 깨어나고, 가상 스레드에서도 같은 방식으로 동작
+ * - 계산 중인 코드는 Deadline.checkpoint()에서 중단 (감시 스레드가 남긴 취소 표시를 확인)
+ * 취소된 호출이 예외로 끝나면 DeadlineExceededException(원인 포함)으로 바꾸고, interrupt 상태는 지웁니다.
+ *
+ * 빠른 경로 비용: Deadline 객체 하나, ThreadLocal 설정, 스레드 슬롯에 volatile 쓰기
+ * (슬롯은 스레드마다 처음 한 번만 등록하고, 끝난 스레드의 슬롯은 감시 스레드가 지움)
+ * 바깥 호출의 마감이 더 이르면 새 마감을 만들지 않고 바깥 마감을 그대로 씁니다.
+ */
+public final class DeadlineScope implements AutoCloseable {
+
+    /**
+     * 마감 아래에서 실행할 호출
+     */
+    @FunctionalInterface
+    public interface Body {
+        Object call() throws Throwable;
+    }
+
+    /**
+     * @param calls 마감을 새로 건 호출 수
+     * @param inherited 바깥 호출의 마감이 더 일러서 그대로 따른 호출 수
+     * @param exceeded 마감을 건 호출 중 DeadlineExceededException으로 끝난 수 (+ 시작 전에 바깥 마감이 지난 호출)
+     * @param cancelled 감시 스레드가 interrupt한 호출 수
+     * @param active 지금 마감 아래에서 실행 중인 호출 수
+     */
+    public record Stats(long calls, long inherited, long exceeded, long cancelled, int active) {
+    }
+
+    /**
+     * 스레드 하나의 현재 마감 (감시 스레드가 읽음)
+     */
+    private static final class Slot {
+        final Thread thread = Thread.currentThread();
+        volatile Deadline deadline;
+    }
+
+    private final long tickNanos;
+    private final Set<Slot> slots = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Slot> currentSlot = ThreadLocal.withInitial(this::register);
+    private final Thread watchdog;
+    private volatile boolean closed;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder inherited = new LongAdder();
+    private final LongAdder exceeded = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    public DeadlineScope(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 0보다 커야 합니다: " + tickMillis);
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.watchdog = new Thread(this::watch, "deadline-watchdog");
+        this.watchdog.setDaemon(true);
+        this.watchdog.start();
+    }
+
+    /**
+     * timeoutMillis 안에 body 실행
+     */
+    public Object run(String name, long timeoutMillis, Body body) throws Throwable {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Deadline outer = Deadline.current();
+        if (outer != null && outer.deadlineNanos() - deadlineNanos <= 0) {
+            inherited.increment();
+            return runInherited(outer, body);
+        }
+
+        calls.increment();
+        Deadline deadline = new Deadline(name, deadlineNanos, timeoutMillis, Thread.currentThread());
+        Slot slot = currentSlot.get();
+        Deadline previous = slot.deadline;
+        Deadline.set(deadline);
+        slot.deadline = deadline;
+        Object result;
+        try {
+            result = body.call();
+        } catch (Throwable t) {
+            if (deadline.finish()) {
+                cancelled.increment();
+                exceeded.increment();
+                throw deadline.exceeded(t);
+            }
+            if (t instanceof DeadlineExceededException) {
+                exceeded.increment();
+            }
+            throw t;
+        } finally {
+            slot.deadline = previous;
+            Deadline.set(outer);
+        }
+        if (deadline.finish()) {
+            // 취소와 거의 동시에 끝남 - 결과는 이미 나왔으므로 그대로 반환
+            cancelled.increment();
+        }
+        return result;
+    }
+
+    public Stats stats() {
+        int active = 0;
+        for (Slot slot : slots) {
+            if (slot.deadline != null) {
+                active++;
+            }
+        }
+        return new Stats(calls.sum(), inherited.sum(), exceeded.sum(), cancelled.sum(), active);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(watchdog);
+    }
+
+    private Object runInherited(Deadline outer, Body body) throws Throwable {
+        if (outer.isExpired()) {
+            exceeded.increment();
+            throw outer.exceeded(null);
+        }
+        return body.call();
+    }
+
+    private Slot register() {
+        Slot slot = new Slot();
+        slots.add(slot);
+        return slot;
+    }
+
+    private void watch() {
+        while (!closed) {
+            long now = System.nanoTime();
+            for (Slot slot : slots) {
+                Deadline deadline = slot.deadline;
+                if (deadline != null) {
+                    deadline.cancelIfExpired(now);
+                } else if (!slot.thread.isAlive()) {
+                    slots.remove(slot);
+                }
+            }
+            LockSupport.parkNanos(this, tickNanos);
+        }
+    }
+}
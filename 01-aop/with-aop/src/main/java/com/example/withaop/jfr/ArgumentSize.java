@@ -0,0 +1,51 @@
+package com.example.withaop.jfr;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 호출 인자의 크기 구간
+ *
+ * 인자를 그대로 기록하면 이벤트가 커지고 개인정보가 남으므로, 크기만 대략 구간으로 나눕니다.
+ * 크기는 컬렉션/맵/배열은 원소 수, 문자열은 길이, 그 밖의 값은 1로 세어 모두 더합니다.
+ */
+public enum ArgumentSize {
+    NONE,
+    SMALL,
+    MEDIUM,
+    LARGE;
+
+    private static final int SMALL_MAX = 16;
+    private static final int MEDIUM_MAX = 1_024;
+
+    public static ArgumentSize of(Object[] args) {
+        long size = 0;
+        for (Object arg : args) {
+            size += sizeOf(arg);
+        }
+        if (size == 0) {
+            return NONE;
+        }
+        return size <= SMALL_MAX ? SMALL : size <= MEDIUM_MAX ? MEDIUM : LARGE;
+    }
+
+    private static long sizeOf(Object arg) {
+        if (arg == null) {
+            return 0;
+        }
+        if (arg instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (arg instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (arg instanceof CharSequence text) {
+            return text.length();
+        }
+        if (arg.getClass().isArray()) {
+            return Array.getLength(arg);
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.withaop.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * .jfr 파일에서 ServiceInvocationEvent를 읽어 메서드별 지연 요약을 출력하는 오프라인 도구
+ *
+ * 사용법: java -cp <classpath> com.example.withaop.jfr.InvocationReport service.jfr
+ * (Gradle: ./gradlew jfrReport -Pjfr=service.jfr)
+ *
+ * 애플리케이션이 없어도 되며 JDK의 jdk.jfr.consumer만 사용합니다.
+ */
+public final class InvocationReport {
+
+    /**
+     * 메서드 하나의 지연 요약 (시간 단위: ns)
+     *
+     * @param meanCpuNanos 호출당 평균 CPU 시간
+     * @param meanAllocatedBytes 호출당 평균 할당 바이트
+     */
+    public record MethodSummary(
+        String method,
+        int count,
+        int errors,
+        long meanNanos,
+        long p50Nanos,
+        long p90Nanos,
+        long p99Nanos,
+        long maxNanos,
+        long meanCpuNanos,
+        long meanAllocatedBytes
+    ) {
+    }
+
+    private InvocationReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("사용법: InvocationReport <recording.jfr>");
+            System.exit(2);
+        }
+        Path file = Path.of(args[0]);
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("JFR 파일을 찾을 수 없습니다: " + file);
+        }
+        print(summarize(file));
+    }
+
+    /**
+     * 메서드별 요약 (p99가 큰 순서)
+     */
+    public static List<MethodSummary> summarize(Path file) throws IOException {
+        Map<String, List<RecordedEvent>> byMethod = new TreeMap<>();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                if (event.getEventType().getName().equals(ServiceInvocationEvent.NAME)) {
+                    byMethod.computeIfAbsent(event.getString("method"), m -> new ArrayList<>()).add(event);
+                }
+            }
+        }
+        List<MethodSummary> summaries = new ArrayList<>();
+        byMethod.forEach((method, events) -> summaries.add(summarize(method, events)));
+        summaries.sort(Comparator.comparingLong(MethodSummary::p99Nanos).reversed());
+        return summaries;
+    }
+
+    private static MethodSummary summarize(String method, List<RecordedEvent> events) {
+        long[] durations = new long[events.size()];
+        int errors = 0;
+        long total = 0;
+        long cpu = 0;
+        long allocated = 0;
+        for (int i = 0; i < durations.length; i++) {
+            RecordedEvent event = events.get(i);
+            durations[i] = event.getDuration().toNanos();
+            total += durations[i];
+            cpu += event.getLong("cpuTime");
+            allocated += event.getLong("allocatedBytes");
+            if (!"OK".equals(event.getString("outcome"))) {
+                errors++;
+            }
+        }
+        Arrays.sort(durations);
+        return new MethodSummary(
+            method,
+            durations.length,
+            errors,
+            total / durations.length,
+            percentile(durations, 50),
+            percentile(durations, 90),
+            percentile(durations, 99),
+            durations[durations.length - 1],
+            cpu / durations.length,
+            allocated / durations.length
+        );
+    }
+
+    /**
+     * nearest-rank 백분위수 (정렬된 배열)
+     */
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static void print(List<MethodSummary> summaries) {
+        if (summaries.isEmpty()) {
+            System.out.println("ServiceInvocation 이벤트가 없습니다 (기록 중에 서비스 호출이 있었는지, 이벤트가 켜져 있었는지 확인하세요)");
+            return;
+        }
+        System.out.printf("%-28s %8s %6s %10s %10s %10s %10s %10s %10s %12s%n",
+            "method", "count", "errors", "mean(ms)", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "cpu(ms)", "alloc(B)");
+        for (MethodSummary s : summaries) {
+            System.out.printf("%-28s %8d %6d %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f %12d%n",
+                s.method(), s.count(), s.errors(),
+                millis(s.meanNanos()), millis(s.p50Nanos()), millis(s.p90Nanos()), millis(s.p99Nanos()), millis(s.maxNanos()),
+                millis(s.meanCpuNanos()), s.meanAllocatedBytes());
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
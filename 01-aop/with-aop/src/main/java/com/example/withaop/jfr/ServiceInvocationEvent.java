@@ -0,0 +1,69 @@
+package com.example.withaop.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * 서비스 메서드 호출 하나에 대한 JFR 이벤트 (PerformanceAspect가 기록)
+ *
+ * 같은 기록(.jfr)에 GC, 락 대기, 스레드 상태 이벤트가 함께 남으므로,
+ * 느린 호출이 GC 멈춤이나 락 경합과 겹쳤는지 JDK Mission Control에서 시간축으로 바로 볼 수 있습니다.
+ *
+ * 기본 설정:
+ * - 임계값 0ms: 모든 호출을 기록 (InvocationReport가 전체 지연 분포를 요약할 수 있도록)
+ * - 스택 트레이스 끔: Aspect 체인 때문에 스택이 깊고, 메서드 이름은 이미 method 필드에 있음
+ * 기록할 때 .jfc 설정으로 바꿀 수 있습니다 (예: threshold=10 ms, stackTrace=true로 느린 호출만 + 호출 경로 포함).
+ */
+@Name(ServiceInvocationEvent.NAME)
+@Label("Service Invocation")
+@Description("서비스 메서드 호출 (PerformanceAspect)")
+@Category({"Spring AOP", "Service"})
+@Enabled
+@Threshold("0 ms")
+@StackTrace(false)
+public class ServiceInvocationEvent extends Event {
+
+    public static final String NAME = "com.example.withaop.ServiceInvocation";
+
+    @Label("Method")
+    @Description("클래스.메서드")
+    String method;
+
+    @Label("Outcome")
+    @Description("OK 또는 던진 예외의 클래스 이름")
+    String outcome;
+
+    @Label("Argument Size")
+    @Description("인자 크기 구간 (ArgumentSize)")
+    String argumentSize;
+
+    @Label("CPU Time")
+    @Description("호출 스레드의 CPU 시간 (측정하지 않으면 0)")
+    @Timespan(Timespan.NANOSECONDS)
+    long cpuTime;
+
+    @Label("Allocated")
+    @Description("호출 스레드가 할당한 바이트 (측정하지 않으면 0)")
+    @DataAmount(DataAmount.BYTES)
+    long allocatedBytes;
+
+    /**
+     * 필드를 채우고 기록 (shouldCommit()이 true일 때만 호출)
+     */
+    public void record(String method, String outcome, ArgumentSize argumentSize, long cpuTime, long allocatedBytes) {
+        this.method = method;
+        this.outcome = outcome;
+        this.argumentSize = argumentSize.name();
+        this.cpuTime = cpuTime;
+        this.allocatedBytes = allocatedBytes;
+        commit();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.withaop.limit;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 적응형 동시 실행 제한 (gradient 방식, Netflix concurrency-limits의 Gradient2와 같은 계산)
+ *
+ * 실행 중인 호출 수를 limit 이하로 유지하고, limit은 관측한 지연에 따라 바뀝니다.
+ * - 창마다 평균 지연(shortRtt)을 장기 평균(longRtt)과 비교
+ *   gradient = clamp(rttTolerance * longRtt / shortRtt, 0.5, 1)
+ *   newLimit = limit * gradient + sqrt(limit)
+ * - 지연이 그대로면 gradient = 1 이라 limit이 sqrt(limit)씩 늘고, 지연이 늘면 최대 절반까지 줄어듦
+ * - limit의 절반도 쓰지 않은 창에서는 늘리지 않음 (부하가 없어서 지연이 낮은 것이므로)
+ *
+ * 호출 경로에는 lock이 없습니다.
+ * - 허용 / 반환은 AtomicInteger CAS, 지연 기록은 LongAdder
+ * - limit 재계산은 CAS에 성공한 스레드 하나만 하고, 나머지는 기다리지 않고 지나감
+ * - 제한에 걸린 호출만 대기 자리(queueSize)에서 queueTimeoutMillis까지 park
+ */
+public final class AdaptiveLimiter {
+
+    // longRtt 지수 이동 평균 계수 (약 20개 창의 평균)
+    private static final double LONG_RTT_ALPHA = 2.0 / 21;
+    // 대기 중인 호출이 놓친 깨움을 복구하는 최대 park 간격
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String name;
+    private final LimiterOptions options;
+    private final long windowNanos;
+    private final long queueTimeoutNanos;
+
+    private volatile int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+    // 현재 창의 기록
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final AtomicLong nextUpdateAt;
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    // 재계산하는 스레드만 씀
+    private volatile double shortRttNanos;
+    private volatile double longRttNanos;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdaptiveLimiter(String name, LimiterOptions options) {
+        this.name = name;
+        this.options = options;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(options.windowMillis());
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(options.queueTimeoutMillis());
+        this.limit = options.initialLimit();
+        this.nextUpdateAt = new AtomicLong(System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * 실행 허용 여부 - 제한에 걸리면 대기 자리에서 기다리고, 자리가 없거나 시간이 지나면 false
+     * 허용되면 실행이 끝난 뒤 반드시 release를 호출해야 합니다.
+     */
+    public boolean tryAcquire() {
+        if (acquireSlot()) {
+            accepted.increment();
+            return true;
+        }
+        if (queued.incrementAndGet() > options.queueSize()) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        Thread current = Thread.currentThread();
+        waiters.add(current);
+        try {
+            long deadline = System.nanoTime() + queueTimeoutNanos;
+            while (true) {
+                if (acquireSlot()) {
+                    accepted.increment();
+                    return true;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || current.isInterrupted()) {
+                    rejected.increment();
+                    return false;
+                }
+                LockSupport.parkNanos(this, Math.min(remaining, MAX_PARK_NANOS));
+            }
+        } finally {
+            waiters.remove(current);
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * 실행 종료 - 지연을 기록하고 기다리는 호출을 깨움
+     */
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+        maybeUpdateLimit();
+        wakeWaiter();
+    }
+
+    public LimiterStats stats() {
+        return new LimiterStats(
+            name,
+            limit,
+            inFlight.get(),
+            queued.get(),
+            accepted.sum(),
+            rejected.sum(),
+            shortRttNanos / 1e6,
+            longRttNanos / 1e6
+        );
+    }
+
+    private boolean acquireSlot() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    private void wakeWaiter() {
+        Thread waiter = waiters.peek();
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    /**
+     * 창이 끝났으면 limit 재계산 (다른 스레드가 계산 중이면 건너뜀)
+     */
+    private void maybeUpdateLimit() {
+        long now = System.nanoTime();
+        if (now < nextUpdateAt.get() || windowSamples.sum() < options.minWindowSamples()) {
+            return;
+        }
+        if (!updating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long samples = windowSamples.sumThenReset();
+            long rttSum = windowRttNanos.sumThenReset();
+            int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+            nextUpdateAt.set(now + windowNanos);
+            if (samples == 0) {
+                return;
+            }
+            updateLimit((double) rttSum / samples, maxInFlight);
+        } finally {
+            updating.set(false);
+        }
+    }
+
+    private void updateLimit(double shortRtt, int maxInFlight) {
+        shortRttNanos = shortRtt;
+        double longRtt = longRttNanos == 0 ? shortRtt : longRttNanos * (1 - LONG_RTT_ALPHA) + shortRtt * LONG_RTT_ALPHA;
+        // 지연이 크게 줄었으면 장기 평균도 빨리 따라 내려감 (예전 과부하 지연이 기준으로 남지 않도록)
+        if (longRtt / shortRtt > 2) {
+            longRtt = longRtt * 0.95;
+        }
+        longRttNanos = longRtt;
+
+        int current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, options.rttTolerance() * longRtt / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        if (target > current && maxInFlight < current / 2) {
+            // limit의 절반도 쓰지 않았으면 늘리지 않음
+            return;
+        }
+        double smoothed = current * (1 - options.smoothing()) + target * options.smoothing();
+        int next = (int) Math.max(options.minLimit(), Math.min(options.maxLimit(), Math.round(smoothed)));
+        limit = next;
+        if (next > current) {
+            wakeWaiter();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.withaop.limit;
+
+/**
+ * 동시 실행 제한에 걸려 거절된 호출
+ */
+public class LimitExceededException extends RuntimeException {
+
+    public LimitExceededException(String method, int limit) {
+        super("요청이 너무 많습니다: " + method + " (동시 실행 제한 " + limit + ")");
+    }
+}
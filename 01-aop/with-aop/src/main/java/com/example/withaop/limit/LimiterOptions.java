@@ -0,0 +1,45 @@
+package com.example.withaop.limit;
+
+/**
+ * 적응형 동시 실행 제한 설정
+ *
+ * @param initialLimit 시작 제한 (동시에 실행 중일 수 있는 호출 수)
+ * @param minLimit 제한의 하한
+ * @param maxLimit 제한의 상한
+ * @param queueSize 제한에 걸린 호출이 기다릴 수 있는 자리 수 (0이면 바로 거절)
+ * @param queueTimeoutMillis 대기 자리에서 기다리는 최대 시간 (지나면 거절)
+ * @param windowMillis 제한을 다시 계산하는 최소 간격
+ * @param minWindowSamples 제한을 다시 계산하는 데 필요한 최소 완료 수
+ * @param smoothing 새 제한을 반영하는 비율 (1이면 계산 값을 그대로 사용)
+ * @param rttTolerance 장기 평균보다 이 배수까지 느려진 지연은 과부하로 보지 않음
+ */
+public record LimiterOptions(
+    int initialLimit,
+    int minLimit,
+    int maxLimit,
+    int queueSize,
+    long queueTimeoutMillis,
+    long windowMillis,
+    int minWindowSamples,
+    double smoothing,
+    double rttTolerance
+) {
+
+    public LimiterOptions {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(
+                "1 <= minLimit <= initialLimit <= maxLimit 이어야 합니다: " + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (queueSize < 0 || queueTimeoutMillis < 0 || windowMillis < 0 || minWindowSamples < 1) {
+            throw new IllegalArgumentException(
+                "queueSize, queueTimeoutMillis, windowMillis는 0 이상, minWindowSamples는 1 이상이어야 합니다");
+        }
+        if (smoothing <= 0 || smoothing > 1 || rttTolerance < 1) {
+            throw new IllegalArgumentException("0 < smoothing <= 1, rttTolerance >= 1 이어야 합니다: " + smoothing + ", " + rttTolerance);
+        }
+    }
+
+    public static LimiterOptions defaults() {
+        return new LimiterOptions(20, 2, 200, 16, 20, 100, 10, 0.2, 1.5);
+    }
+}
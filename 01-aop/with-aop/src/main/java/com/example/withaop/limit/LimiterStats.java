@@ -0,0 +1,24 @@
+package com.example.withaop.limit;
+
+/**
+ * 동시 실행 제한 통계
+ *
+ * @param limit 현재 제한
+ * @param inFlight 지금 실행 중인 호출 수
+ * @param queued 지금 대기 자리에서 기다리는 호출 수
+ * @param accepted 실행을 허용한 호출 수 (대기 후 허용 포함)
+ * @param rejected 거절한 호출 수 (대기 자리가 없거나 대기 시간 초과)
+ * @param shortRttMillis 최근 창의 평균 지연
+ * @param longRttMillis 지연의 장기 평균 (제한을 줄일지 판단하는 기준)
+ */
+public record LimiterStats(
+    String method,
+    int limit,
+    int inFlight,
+    int queued,
+    long accepted,
+    long rejected,
+    double shortRttMillis,
+    double longRttMillis
+) {
+}
@@ -0,0 +1,218 @@
+package com.example.withaop.load;
+
+import com.example.withaop.slo.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open-loop) 부하 생성기
+ *
+ * 생성기 스레드는 i번째 요청을 정확히 start + i / ratePerSecond 시각에 실행기로 넘기고,
+ * 응답을 기다리지 않고 다음 요청 시각까지 잡니다. 서비스가 느려져도 요청 속도가 줄지 않으므로
+ * 실제 사용자가 몰리는 상황처럼 실행 대기열이 쌓입니다.
+ *
+ * 응답 시간은 실제 시작 시각이 아니라 의도한 시작 시각부터 잽니다 (coordinated omission 보정).
+ * 응답을 기다렸다가 다음 요청을 보내는 방식(closed-loop)은 서비스가 멈춘 동안 요청도 멈춰서
+ * 멈춘 시간이 요청 한 건에만 기록되고 p99가 실제보다 훨씬 좋게 나옵니다.
+ *
+ * 요청마다 readRatio 확률로 조회, 나머지는 쓰기이고 ID는 Zipf 분포로 뽑습니다.
+ */
+public final class LoadGenerator {
+
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+    private static final int OCTAVE = 8;  // LatencyHistogram은 2배 구간마다 8칸
+
+    private final LoadOptions options;
+    private final ZipfDistribution ids;
+
+    public LoadGenerator(LoadOptions options) {
+        this.options = options;
+        this.ids = new ZipfDistribution(options.users(), options.zipfExponent());
+    }
+
+    /**
+     * 워밍업 + 측정 구간 동안 요청을 보내고, 보낸 요청이 모두 끝날 때까지 (최대 30초) 기다린 뒤 보고서를 만듦
+     */
+    public LoadReport run(LoadTarget target) throws InterruptedException {
+        Recorder reads = new Recorder("read");
+        Recorder writes = new Recorder("write");
+        AtomicLong lastCompletion = new AtomicLong();
+        AtomicLong outstanding = new AtomicLong();
+
+        ExecutorService executor = options.virtualThreads() ? newVirtualThreadExecutor() : null;
+        String executorName = executor != null ? "가상 스레드" : "플랫폼 스레드 " + options.threads() + "개"
+            + (options.virtualThreads() ? " (이 JVM은 가상 스레드 미지원: " + Runtime.version() + ")" : "");
+        if (executor == null) {
+            executor = newPlatformExecutor();
+        }
+        double nanosPerRequest = 1e9 / options.ratePerSecond();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        long maxLag = 0;
+        try {
+            for (long i = 0; ; i++) {
+                long intended = start + (long) (i * nanosPerRequest);
+                if (intended >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                maxLag = Math.max(maxLag, System.nanoTime() - intended);
+
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                boolean read = random.nextDouble() < options.readRatio();
+                long userId = ids.sample(random.nextDouble());
+                Recorder recorder = intended < measureFrom ? null : read ? reads : writes;
+                outstanding.incrementAndGet();
+                executor.execute(() -> {
+                    long started = System.nanoTime();
+                    Exception error = null;
+                    try {
+                        if (read) {
+                            target.read(userId);
+                        } else {
+                            target.write(userId);
+                        }
+                    } catch (Exception e) {
+                        error = e;
+                    }
+                    long finished = System.nanoTime();
+                    if (recorder != null) {
+                        recorder.record(finished - intended, finished - started, error);
+                        lastCompletion.accumulateAndGet(finished, Math::max);
+                    }
+                    outstanding.decrementAndGet();
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+
+        long measured = reads.count.sum() + writes.count.sum();
+        double elapsedSeconds = (Math.max(end, lastCompletion.get()) - measureFrom) / 1e9;
+        return new LoadReport(options, executorName, measured / elapsedSeconds, maxLag / 1e6,
+            outstanding.get(), List.of(reads.report(), writes.report()));
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor()를 리플렉션으로 호출 (JDK 17로 컴파일하므로)
+     *
+     * @return 가상 스레드를 지원하지 않는 JVM이면 null
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // JDK 17: 메서드 없음, JDK 19/20: --enable-preview 없이 호출하면 UnsupportedOperationException
+            return null;
+        }
+    }
+
+    private ExecutorService newPlatformExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(options.threads(), task -> {
+            Thread thread = new Thread(task, "load-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 요청 종류 하나의 측정값 (여러 실행 스레드가 동시에 기록)
+     */
+    private static final class Recorder {
+        final String name;
+        final LatencyHistogram response = new LatencyHistogram();
+        final LatencyHistogram service = new LatencyHistogram();
+        final AtomicLong maxResponse = new AtomicLong();
+        final AtomicLong maxService = new AtomicLong();
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final Map<String, LongAdder> errorTypes = new ConcurrentHashMap<>();
+
+        Recorder(String name) {
+            this.name = name;
+        }
+
+        void record(long responseNanos, long serviceNanos, Exception error) {
+            response.record(responseNanos);
+            service.record(serviceNanos);
+            maxResponse.accumulateAndGet(responseNanos, Math::max);
+            maxService.accumulateAndGet(serviceNanos, Math::max);
+            count.increment();
+            if (error != null) {
+                errors.increment();
+                errorTypes.computeIfAbsent(error.getClass().getSimpleName(), k -> new LongAdder()).increment();
+            }
+        }
+
+        LoadReport.OperationReport report() {
+            long total = count.sum();
+            long[] responseCounts = new long[LatencyHistogram.BUCKETS];
+            long[] serviceCounts = new long[LatencyHistogram.BUCKETS];
+            response.addTo(responseCounts);
+            service.addTo(serviceCounts);
+            Map<String, Long> types = new TreeMap<>();
+            errorTypes.forEach((type, n) -> types.put(type, n.sum()));
+            return new LoadReport.OperationReport(name, total, errors.sum(), types,
+                percentiles(responseCounts, total, maxResponse.get()),
+                percentiles(serviceCounts, total, maxService.get()),
+                bins(responseCounts));
+        }
+
+        /**
+         * 칸 상한으로 보고하는 백분위수가 실제 최댓값을 넘지 않도록 max로 자름
+         */
+        private static LoadReport.Percentiles percentiles(long[] counts, long total, long max) {
+            return new LoadReport.Percentiles(
+                Math.min(max, LatencyHistogram.percentile(counts, total, 50)) / 1e6,
+                Math.min(max, LatencyHistogram.percentile(counts, total, 90)) / 1e6,
+                Math.min(max, LatencyHistogram.percentile(counts, total, 99)) / 1e6,
+                Math.min(max, LatencyHistogram.percentile(counts, total, 99.9)) / 1e6,
+                max / 1e6);
+        }
+
+        /**
+         * 8칸(2배 구간)씩 묶어 첫 기록 구간부터 마지막 기록 구간까지
+         */
+        private static List<LoadReport.Bin> bins(long[] counts) {
+            List<LoadReport.Bin> bins = new ArrayList<>();
+            int first = -1;
+            int last = -1;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    first = first < 0 ? i / OCTAVE : first;
+                    last = i / OCTAVE;
+                }
+            }
+            for (int octave = Math.max(first, 0); octave <= last; octave++) {
+                long n = 0;
+                for (int i = octave * OCTAVE; i < (octave + 1) * OCTAVE; i++) {
+                    n += counts[i];
+                }
+                long from = octave == 0 ? 0 : LatencyHistogram.upperBound(octave * OCTAVE - 1);
+                long to = LatencyHistogram.upperBound((octave + 1) * OCTAVE - 1);
+                bins.add(new LoadReport.Bin(from / 1e6, to / 1e6, n));
+            }
+            return bins;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.withaop.load;
+
+/**
+ * 부하 생성 설정
+ *
+ * @param ratePerSecond 초당 요청 수 (응답 속도와 관계없이 이 간격으로 요청을 보냄)
+ * @param durationSeconds 측정 구간 길이
+ * @param warmupSeconds 측정 전에 같은 속도로 보내고 버리는 구간 (JIT 컴파일, 캐시 채우기)
+ * @param readRatio 조회 비율 (0 ~ 1, 나머지는 쓰기)
+ * @param users 요청에 쓰는 사용자 ID 범위 (1 ~ users)
+ * @param zipfExponent ID 쏠림 정도 (0이면 균등, 클수록 소수의 ID에 몰림)
+ * @param threads 요청을 실행하는 플랫폼 스레드 수 (가상 스레드를 쓰면 무시)
+ * @param virtualThreads 요청마다 가상 스레드 하나로 실행 (JDK 21 미만이면 플랫폼 스레드로 대체)
+ */
+public record LoadOptions(
+    double ratePerSecond,
+    long durationSeconds,
+    long warmupSeconds,
+    double readRatio,
+    int users,
+    double zipfExponent,
+    int threads,
+    boolean virtualThreads
+) {
+
+    public LoadOptions {
+        if (!(ratePerSecond > 0) || durationSeconds <= 0 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("ratePerSecond > 0, durationSeconds > 0, warmupSeconds >= 0 이어야 합니다: "
+                + ratePerSecond + ", " + durationSeconds + ", " + warmupSeconds);
+        }
+        if (!(readRatio >= 0 && readRatio <= 1) || users <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("0 <= readRatio <= 1, users > 0, threads > 0 이어야 합니다: "
+                + readRatio + ", " + users + ", " + threads);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.withaop.load;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.yml의 load.* (부하 생성 모드)
+ *
+ * load.enabled=true면 데모 대신 LoadGenerator로 UserService에 부하를 겁니다.
+ *   ./gradlew bootRun --args='--load.enabled=true --load.rate-per-second=2000'
+ *
+ * @param quiet 부하 중에는 호출마다 찍는 데모 로그(DemoLog)를 끔
+ *   (콘솔 I/O가 측정을 덮어 버리므로, 보고서는 끝난 뒤 출력. 예외와 SLO 경고는 그대로 출력)
+ */
+@ConfigurationProperties(prefix = "load")
+public record LoadProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("500") double ratePerSecond,
+    @DefaultValue("10") long durationSeconds,
+    @DefaultValue("2") long warmupSeconds,
+    @DefaultValue("0.9") double readRatio,
+    @DefaultValue("1000") int users,
+    @DefaultValue("1.0") double zipfExponent,
+    @DefaultValue("16") int threads,
+    @DefaultValue("false") boolean virtualThreads,
+    @DefaultValue("true") boolean quiet
+) {
+
+    public LoadOptions options() {
+        return new LoadOptions(ratePerSecond, durationSeconds, warmupSeconds, readRatio, users, zipfExponent,
+            threads, virtualThreads);
+    }
+}
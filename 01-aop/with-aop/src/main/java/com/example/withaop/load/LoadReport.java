@@ -0,0 +1,82 @@
+package com.example.withaop.load;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 생성 결과
+ *
+ * 응답 시간은 요청을 "보냈어야 하는" 시각(의도한 시작 시각)부터 잽니다.
+ * 서비스가 느려져 요청이 실행 대기열에 쌓이면 그 대기 시간도 응답 시간에 들어가므로
+ * 느린 구간의 요청이 적게 기록되는 문제(coordinated omission)가 없습니다.
+ * 서비스 시간은 실제로 실행을 시작한 시각부터 잰 값이라, 둘의 차이가 곧 대기열에서 기다린 시간입니다.
+ *
+ * @param executor 요청을 실행한 방식 (예: "플랫폼 스레드 16개", "가상 스레드")
+ * @param completedPerSecond 측정 구간 요청이 실제로 처리된 속도 (목표보다 낮으면 서비스가 따라가지 못한 것)
+ * @param maxSchedulerLagMillis 생성기 자신이 의도한 시각보다 늦게 요청을 보낸 최대 시간 (크면 생성기 스레드가 밀린 것)
+ * @param incomplete 종료 대기 시간 안에 끝나지 않은 요청 수 (백분위수에 포함되지 않음)
+ */
+public record LoadReport(
+    LoadOptions options,
+    String executor,
+    double completedPerSecond,
+    double maxSchedulerLagMillis,
+    long incomplete,
+    List<OperationReport> operations
+) {
+
+    /**
+     * @param response 의도한 시작 시각 기준 응답 시간
+     * @param service 실제 시작 시각 기준 서비스 시간
+     * @param errorTypes 예외 클래스 이름별 실패 수
+     * @param histogram 응답 시간 분포 (2배 간격, 비어 있는 앞뒤 구간은 빠짐)
+     */
+    public record OperationReport(
+        String name,
+        long count,
+        long errors,
+        Map<String, Long> errorTypes,
+        Percentiles response,
+        Percentiles service,
+        List<Bin> histogram
+    ) {
+    }
+
+    public record Percentiles(double p50Millis, double p90Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms",
+                p50Millis, p90Millis, p99Millis, p999Millis, maxMillis);
+        }
+    }
+
+    /**
+     * 응답 시간이 fromMillis 이상 toMillis 미만인 요청 수
+     */
+    public record Bin(double fromMillis, double toMillis, long count) {
+    }
+
+    public void print(PrintStream out) {
+        out.printf("[부하] 목표 %.1f/s, 처리 %.1f/s, 측정 %d초 (워밍업 %d초), 조회 %.0f%%, 사용자 ID 1~%d (zipf %.2f), %s%n",
+            options.ratePerSecond(), completedPerSecond, options.durationSeconds(), options.warmupSeconds(),
+            options.readRatio() * 100, options.users(), options.zipfExponent(), executor);
+        out.printf("[부하] 생성기 최대 지연 %.2fms, 미완료 %d건%n", maxSchedulerLagMillis, incomplete);
+        for (OperationReport operation : operations) {
+            if (operation.count() == 0) {
+                continue;
+            }
+            out.printf("%s: %d건, 실패 %d건%s%n", operation.name(), operation.count(), operation.errors(),
+                operation.errorTypes().isEmpty() ? "" : " " + operation.errorTypes());
+            out.println("  응답 시간(의도한 시작 기준): " + operation.response());
+            out.println("  서비스 시간(실제 시작 기준): " + operation.service());
+            long largest = operation.histogram().stream().mapToLong(Bin::count).max().orElse(1);
+            for (Bin bin : operation.histogram()) {
+                int width = (int) Math.round(40.0 * bin.count() / largest);
+                out.printf("  %9.3f ~ %9.3fms | %-40s %d (%.1f%%)%n", bin.fromMillis(), bin.toMillis(),
+                    "#".repeat(width), bin.count(), 100.0 * bin.count() / operation.count());
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.withaop.load;
+
+/**
+ * 부하를 받는 대상 (예: UserService 호출로 연결)
+ *
+ * 예외를 던지면 실패로 집계합니다 (예외 종류별 개수는 보고서에 나옴).
+ */
+public interface LoadTarget {
+
+    /**
+     * 조회 요청
+     *
+     * @param userId Zipf 분포로 뽑은 사용자 ID
+     */
+    void read(long userId) throws Exception;
+
+    /**
+     * 쓰기 요청
+     *
+     * @param userId Zipf 분포로 뽑은 사용자 ID (요청을 보내는 호출자)
+     */
+    void write(long userId) throws Exception;
+}
@@ -0,0 +1,118 @@
+package com.example.withaop.perf;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 호출별 할당 바이트와 CPU 시간 측정 + 메서드별 집계
+ *
+ * 경과 시간만으로는 어느 메서드가 가비지를 만드는지 알 수 없으므로, 호출 전후에 현재 스레드의 값을 읽어 차이를 더합니다.
+ * - 할당: ThreadMXBean.getCurrentThreadAllocatedBytes() (TLAB 카운터를 읽는 정도라 수십 ns)
+ * - CPU: ThreadMXBean.getCurrentThreadCpuTime() (clock_gettime 시스템 호출이라 더 비쌈)
+ * JVM이 지원하지 않거나 꺼 둔 항목은 측정하지 않고 -1로 보고합니다.
+ *
+ * 집계는 메서드마다 LongAdder라서 여러 스레드가 동시에 기록해도 경합이 거의 없습니다.
+ */
+public final class InvocationAccounting {
+
+    private static final class Counters {
+        final String method;
+        final LongAdder calls = new LongAdder();
+        final LongAdder wallNanos = new LongAdder();
+        final LongAdder cpuNanos = new LongAdder();
+        final LongAdder allocatedBytes = new LongAdder();
+        final LongAccumulator maxAllocatedBytes = new LongAccumulator(Math::max, 0);
+
+        Counters(String method) {
+            this.method = method;
+        }
+    }
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final boolean cpuEnabled;
+    private final boolean allocationEnabled;
+    private final Map<Method, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param measureCpu 스레드 CPU 시간 측정
+     * @param measureAllocation 할당 바이트 측정
+     */
+    public InvocationAccounting(boolean measureCpu, boolean measureAllocation) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threads = bean instanceof com.sun.management.ThreadMXBean sun ? sun : null;
+        this.cpuEnabled = measureCpu && bean.isCurrentThreadCpuTimeSupported() && bean.isThreadCpuTimeEnabled();
+        this.allocationEnabled = measureAllocation && threads != null
+            && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+    }
+
+    public boolean isCpuEnabled() {
+        return cpuEnabled;
+    }
+
+    public boolean isAllocationEnabled() {
+        return allocationEnabled;
+    }
+
+    /**
+     * 현재 스레드의 누적 CPU 시간 (측정하지 않으면 0)
+     */
+    public long cpuTime() {
+        return cpuEnabled ? threads.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * 현재 스레드의 누적 할당 바이트 (측정하지 않으면 0)
+     */
+    public long allocatedBytes() {
+        return allocationEnabled ? threads.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * 호출 하나의 비용 기록
+     */
+    public void record(Method method, long wallNanos, long cpuNanos, long allocatedBytes) {
+        Counters c = counters.get(method);
+        if (c == null) {
+            c = counters.computeIfAbsent(method, m -> new Counters(m.getDeclaringClass().getSimpleName() + "." + m.getName()));
+        }
+        c.calls.increment();
+        c.wallNanos.add(wallNanos);
+        if (cpuEnabled) {
+            c.cpuNanos.add(cpuNanos);
+        }
+        if (allocationEnabled) {
+            c.allocatedBytes.add(allocatedBytes);
+            c.maxAllocatedBytes.accumulate(allocatedBytes);
+        }
+    }
+
+    /**
+     * 메서드별 집계 (전체 할당이 많은 순서)
+     */
+    public List<MethodAccounting> stats() {
+        return counters.values().stream()
+            .map(this::toAccounting)
+            .sorted(Comparator.comparingLong(MethodAccounting::totalAllocatedBytes).reversed())
+            .toList();
+    }
+
+    private MethodAccounting toAccounting(Counters c) {
+        long calls = Math.max(1, c.calls.sum());
+        long allocated = c.allocatedBytes.sum();
+        return new MethodAccounting(
+            c.method,
+            c.calls.sum(),
+            c.wallNanos.sum() / 1_000.0 / calls,
+            cpuEnabled ? c.cpuNanos.sum() / 1_000.0 / calls : -1,
+            allocationEnabled ? allocated / calls : -1,
+            allocationEnabled ? c.maxAllocatedBytes.get() : -1,
+            allocationEnabled ? allocated : -1
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.withaop.perf;
+
+/**
+ * 메서드별 누적 실행 비용
+ *
+ * 값은 모두 포함(inclusive) 값입니다. 호출 안에서 다른 서비스 메서드를 부르면 그 비용도 바깥 메서드에 들어갑니다.
+ *
+ * @param calls 측정한 호출 수
+ * @param meanWallMicros 호출당 평균 경과 시간
+ * @param meanCpuMicros 호출당 평균 스레드 CPU 시간 (측정하지 않으면 -1)
+ * @param meanAllocatedBytes 호출당 평균 할당 바이트 (측정하지 않으면 -1)
+ * @param maxAllocatedBytes 호출 하나의 최대 할당 바이트 (측정하지 않으면 -1)
+ * @param totalAllocatedBytes 전체 할당 바이트 - GC 압력에 대한 이 메서드의 몫 (측정하지 않으면 -1)
+ */
+public record MethodAccounting(
+    String method,
+    long calls,
+    double meanWallMicros,
+    double meanCpuMicros,
+    long meanAllocatedBytes,
+    long maxAllocatedBytes,
+    long totalAllocatedBytes
+) {
+}
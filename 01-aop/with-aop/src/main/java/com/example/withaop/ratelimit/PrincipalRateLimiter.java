@@ -0,0 +1,168 @@
+package com.example.withaop.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출자별 토큰 버킷 (메서드 하나에 대한 제한)
+ *
+ * 버킷은 GCRA(Generic Cell Rate Algorithm)로 표현한 토큰 버킷입니다.
+ * 토큰 수와 마지막 충전 시각 대신 "버킷이 가득 차는 시각"(full) 하나만 AtomicLong에 저장합니다.
+ * - 호출 한 번 = full을 interval(1 / permitsPerSecond)만큼 뒤로 미룸
+ * - full - now가 burst * interval을 넘으면 토큰이 없는 것 → 거절, 그 차이가 재시도 가능 시각
+ * → 확인과 차감이 CAS 한 번이라 lock이 없음
+ *
+ * full <= now인 버킷은 가득 찬 버킷이라 새로 만든 버킷과 같으므로 언제 지워도 동작이 바뀌지 않습니다.
+ * sweepIntervalMillis마다 가득 찬 버킷을 지우고, 호출자 수는 maxPrincipals로 제한합니다.
+ * 정리는 호출 스레드에서 하지만 한 호출은 버킷을 최대 SWEEP_BATCH개만 봅니다.
+ * 버킷이 많으면 한 번의 정리가 여러 호출에 나뉘어 이어지므로, 어떤 호출도 버킷 전체를 훑느라 늦어지지 않습니다.
+ * 자리가 없을 때 온 새 호출자는 다음 정리 전까지 공용 overflow 버킷 하나를 함께 씁니다.
+ */
+public final class PrincipalRateLimiter {
+
+    static final int SWEEP_BATCH = 1_000;
+
+    private final String name;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxPrincipals;
+    private final long sweepIntervalNanos;
+    private final LongSupplier clock;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflowBucket = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong nextSweepAt;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    // 진행 중인 정리의 위치 - sweeping을 잡은 스레드만 읽고 씀
+    private Iterator<Map.Entry<String, AtomicLong>> sweepCursor;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    public PrincipalRateLimiter(String name, double permitsPerSecond, int burst, int maxPrincipals, long sweepIntervalMillis) {
+        this(name, permitsPerSecond, burst, maxPrincipals, sweepIntervalMillis, System::nanoTime);
+    }
+
+    PrincipalRateLimiter(String name, double permitsPerSecond, int burst, int maxPrincipals, long sweepIntervalMillis, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxPrincipals < 1 || sweepIntervalMillis < 0) {
+            throw new IllegalArgumentException(
+                "permitsPerSecond > 0, burst >= 1, maxPrincipals >= 1, sweepIntervalMillis >= 0 이어야 합니다: "
+                    + permitsPerSecond + ", " + burst + ", " + maxPrincipals + ", " + sweepIntervalMillis);
+        }
+        this.name = name;
+        this.intervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.maxPrincipals = maxPrincipals;
+        this.sweepIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sweepIntervalMillis);
+        this.clock = clock;
+        this.nextSweepAt = new AtomicLong(clock.getAsLong() + sweepIntervalNanos);
+    }
+
+    /**
+     * principal의 토큰 하나 사용
+     *
+     * @return 허용되면 0, 거절되면 토큰이 생길 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String principal) {
+        long now = clock.getAsLong();
+        maybeSweep(now);
+        while (true) {
+            AtomicLong bucket = bucketFor(principal);
+            long waitNanos = consume(bucket, now);
+            if (waitNanos > 0) {
+                throttled.increment();
+                return waitNanos;
+            }
+            // 차감하는 사이에 버킷이 지워졌으면 새 버킷에서 다시 차감 (지워진 버킷의 차감은 무효)
+            if (bucket == overflowBucket || buckets.get(principal) == bucket) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public RateLimitStats stats() {
+        return new RateLimitStats(
+            name,
+            allowed.sum(),
+            throttled.sum(),
+            buckets.size(),
+            evicted.sum(),
+            overflowed.sum()
+        );
+    }
+
+    /**
+     * GCRA 차감 - CAS가 실패하면(다른 스레드가 먼저 차감) 다시 계산
+     */
+    private long consume(AtomicLong bucket, long now) {
+        while (true) {
+            long full = bucket.get();
+            long next = Math.max(full, now) + intervalNanos;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong bucketFor(String principal) {
+        AtomicLong bucket = buckets.get(principal);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxPrincipals) {
+            overflowed.increment();
+            return overflowBucket;
+        }
+        return buckets.computeIfAbsent(principal, p -> new AtomicLong(Long.MIN_VALUE));
+    }
+
+    /**
+     * 가득 찬 버킷 정리 - 한 스레드만 실행하고, 다른 스레드는 기다리지 않고 지나감
+     *
+     * 한 번에 SWEEP_BATCH개까지만 보고, 남은 버킷은 다음 호출이 이어서 정리합니다.
+     * 끝까지 본 뒤에야 다음 정리 시각을 정합니다.
+     */
+    private void maybeSweep(long now) {
+        if (now < nextSweepAt.get()) {
+            return;
+        }
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (sweepCursor == null) {
+                sweepCursor = buckets.entrySet().iterator();
+            }
+            for (int visited = 0; visited < SWEEP_BATCH && sweepCursor.hasNext(); visited++) {
+                Map.Entry<String, AtomicLong> entry = sweepCursor.next();
+                AtomicLong bucket = entry.getValue();
+                if (bucket.get() <= now && buckets.remove(entry.getKey(), bucket)) {
+                    evicted.increment();
+                }
+            }
+            if (!sweepCursor.hasNext()) {
+                sweepCursor = null;
+                nextSweepAt.set(now + sweepIntervalNanos);
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.withaop.ratelimit;
+
+/**
+ * 호출 속도 제한에 걸려 거절된 호출
+ * retryAfterMillis 뒤에 다시 호출하면 토큰이 있습니다.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String principal;
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(String method, String principal, long retryAfterMillis) {
+        super("호출 한도를 넘었습니다: " + method + " (" + principal + "), " + retryAfterMillis + "ms 뒤에 다시 시도하세요");
+        this.principal = principal;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public String getPrincipal() {
+        return principal;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.withaop.ratelimit;
+
+/**
+ * 호출 속도 제한 통계
+ *
+ * @param allowed 허용한 호출 수
+ * @param throttled 토큰이 없어 거절한 호출 수
+ * @param activePrincipals 지금 버킷을 가진 호출자 수
+ * @param evicted 가득 차서(한동안 호출이 없어서) 지운 버킷 수
+ * @param overflowed 호출자 수 한도 때문에 공용 버킷을 쓴 호출 수
+ */
+public record RateLimitStats(
+    String method,
+    long allowed,
+    long throttled,
+    int activePrincipals,
+    long evicted,
+    long overflowed
+) {
+}
@@ -3,13 +3,19 @@ package com.example.withaop.repository;
 import com.example.withaop.model.User;
 import org.springframework.stereotype.Repository;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 메모리 저장소 (부하 생성 모드에서 여러 스레드가 동시에 읽고 쓰므로 ConcurrentHashMap)
+ */
 @Repository
 public class UserRepository {
-    private final Map<Long, User> users = new HashMap<>();
-    private Long sequence = 0L;
+    private final Map<Long, User> users = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
 
     public UserRepository() {
         // 초기 데이터
@@ -25,18 +31,35 @@ public class UserRepository {
         return user;
     }
 
+    /**
+     * 여러 사용자를 한 번에 조회 (없는 ID는 결과에서 빠짐)
+     */
+    public Map<Long, User> findAllById(Collection<Long> ids) {
+        Map<Long, User> found = new LinkedHashMap<>();
+        for (Long id : ids) {
+            User user = users.get(id);
+            if (user != null) {
+                found.put(id, user);
+            }
+        }
+        return found;
+    }
+
     public User save(User user) {
         if (user.getId() == null) {
-            user.setId(++sequence);
+            user.setId(sequence.incrementAndGet());
         }
         users.put(user.getId(), user);
         return user;
     }
 
     public void deleteById(Long id) {
-        if (!users.containsKey(id)) {
+        if (users.remove(id) == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다: " + id);
         }
-        users.remove(id);
+    }
+
+    public int count() {
+        return users.size();
     }
 }
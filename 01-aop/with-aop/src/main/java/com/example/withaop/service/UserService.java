@@ -1,9 +1,16 @@
 package com.example.withaop.service;
 
+import com.example.withaop.annotation.CollapseRequests;
+import com.example.withaop.annotation.RateLimit;
+import com.example.withaop.annotation.Timeout;
 import com.example.withaop.model.User;
 import com.example.withaop.repository.UserRepository;
+import com.example.withaop.util.DemoLog;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * AOP를 사용한 깔끔한 UserService
  *
@@ -26,32 +33,47 @@ public class UserService {
      *
      * 공통 관심사(성능측정, 로깅, 예외처리, 보안)는
      * Aspect에서 자동으로 처리됩니다!
+     * 동시 조회는 @CollapseRequests로 묶여 조회 한 번(또는 getUsers 한 번)으로 처리됩니다.
      */
+    @Timeout(millis = 500)
+    @CollapseRequests(batchMethod = "getUsers")
     public User getUser(Long userId) {
         // 순수한 비즈니스 로직만!
         User user = userRepository.findById(userId);
-        System.out.println("  → 사용자 조회: " + user.getName());
+        DemoLog.println("  → 사용자 조회: " + user.getName());
         return user;
     }
 
     /**
-     * 사용자 생성
+     * 여러 사용자 조회 (없는 ID는 결과에서 빠짐)
+     */
+    public Map<Long, User> getUsers(Collection<Long> userIds) {
+        Map<Long, User> users = userRepository.findAllById(userIds);
+        DemoLog.println("  → 사용자 일괄 조회: " + users.size() + "명");
+        return users;
+    }
+
+    /**
+     * 사용자 생성 (호출자마다 초당 5회, 한 번에 최대 10회)
      */
+    @Timeout(millis = 1_000)
+    @RateLimit(permitsPerSecond = 5, burst = 10)
     public User createUser(String name, String email) {
         // 순수한 비즈니스 로직만!
         User user = new User(null, name, email);
         userRepository.save(user);
-        System.out.println("  → 사용자 생성: " + user.getName());
+        DemoLog.println("  → 사용자 생성: " + user.getName());
         return user;
     }
 
     /**
      * 사용자 삭제
      */
+    @Timeout(millis = 500)
     public void deleteUser(Long userId) {
         // 순수한 비즈니스 로직만!
         userRepository.deleteById(userId);
-        System.out.println("  → 사용자 삭제: " + userId);
+        DemoLog.println("  → 사용자 삭제: " + userId);
     }
 }
 
@@ -0,0 +1,27 @@
+package com.example.withaop.slo;
+
+/**
+ * 메서드 하나의 지연 목표 (예: getUser p99 < 2ms)
+ *
+ * 목표를 넘어도 되는 호출의 비율(오류 예산)은 1 - percentile / 100 입니다 (p99면 1%).
+ *
+ * @param method 서비스 메서드 이름
+ * @param percentile 백분위 (0 ~ 100, 예: 99)
+ * @param thresholdMillis 이 백분위의 지연 상한
+ */
+public record LatencyObjective(String method, double percentile, double thresholdMillis) {
+
+    public LatencyObjective {
+        if (percentile <= 0 || percentile >= 100 || thresholdMillis <= 0) {
+            throw new IllegalArgumentException(
+                "percentile은 0 ~ 100 사이, thresholdMillis는 0보다 커야 합니다: " + method + " p" + percentile + " < " + thresholdMillis + "ms");
+        }
+    }
+
+    /**
+     * 목표를 넘어도 되는 호출 비율
+     */
+    public double errorBudget() {
+        return 1 - percentile / 100;
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.withaop.slo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 메서드별 지연 목표(SLO) 감시
+ *
+ * 메서드마다 시간 칸(bucketSeconds) 하나당 히스토그램 하나를 두고, 칸들을 링으로 돌려 씁니다.
+ * 긴 윈도 = 최근 windowSeconds / bucketSeconds 칸, 짧은 윈도 = 최근 shortWindowSeconds / bucketSeconds 칸.
+ *
+ * 요청 스레드(record)는 현재 칸의 히스토그램에 더하기만 합니다 (락, 할당 없음).
+ * 칸 비우기와 평가는 평가 스레드가 합니다.
+ * - 링은 윈도보다 한 칸 크고, 평가 스레드가 "다음" 칸을 미리 비워 둠
+ *   → 요청 스레드가 쓰는 칸을 비우지 않으므로 회전 때문에 요청이 멈추거나 값이 섞이지 않음
+ * - 평가는 칸들을 합쳐 백분위, 소진 속도를 계산하고 상태가 바뀌면(위반 / 회복) 로그를 남김
+ *
+ * 위반 판단은 다중 윈도 소진 속도 방식입니다 (긴 윈도와 짧은 윈도 모두 소진 속도 1 초과).
+ * 순간적인 튐 하나로는 위반이 되지 않고, 장애가 끝나면 짧은 윈도가 먼저 내려가서 빨리 회복됩니다.
+ */
+public final class SloMonitor implements AutoCloseable {
+
+    private static final class Slot {
+        volatile long epoch = Long.MIN_VALUE;
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final LongAdder slow = new LongAdder();
+
+        void reset(long newEpoch) {
+            histogram.reset();
+            slow.reset();
+            epoch = newEpoch;
+        }
+    }
+
+    private static final class Tracker {
+        final LatencyObjective objective;
+        final long thresholdNanos;
+        final Slot[] slots;
+        SloStatus.State state = SloStatus.State.NO_DATA;
+
+        Tracker(LatencyObjective objective, int slotCount) {
+            this.objective = objective;
+            this.thresholdNanos = (long) (objective.thresholdMillis() * 1_000_000);
+            this.slots = new Slot[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                slots[i] = new Slot();
+            }
+        }
+
+        Slot slot(long epoch) {
+            return slots[(int) Math.floorMod(epoch, (long) slots.length)];
+        }
+    }
+
+    private final SloOptions options;
+    private final LongSupplier clock;
+    private final long bucketNanos;
+    private final int windowBuckets;
+    private final int shortWindowBuckets;
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+    private final Thread evaluator;
+    private volatile List<SloStatus> latest = List.of();
+    private volatile boolean closed;
+
+    public SloMonitor(List<LatencyObjective> objectives, SloOptions options) {
+        this(objectives, options, System::nanoTime);
+    }
+
+    SloMonitor(List<LatencyObjective> objectives, SloOptions options, LongSupplier clock) {
+        this.options = options;
+        this.clock = clock;
+        this.bucketNanos = TimeUnit.SECONDS.toNanos(options.bucketSeconds());
+        this.windowBuckets = (int) (options.windowSeconds() / options.bucketSeconds());
+        this.shortWindowBuckets = (int) (options.shortWindowSeconds() / options.bucketSeconds());
+        for (LatencyObjective objective : objectives) {
+            trackers.put(objective.method(), new Tracker(objective, windowBuckets + 1));
+        }
+        evaluate();
+        if (options.evaluationIntervalMillis() > 0 && !trackers.isEmpty()) {
+            this.evaluator = new Thread(this::evaluateLoop, "slo-evaluator");
+            this.evaluator.setDaemon(true);
+            this.evaluator.start();
+        } else {
+            this.evaluator = null;
+        }
+    }
+
+    /**
+     * 호출 하나 기록 (목표가 없는 메서드는 무시)
+     *
+     * @param startNanos 호출 시작 시각 (System.nanoTime)
+     * @param endNanos 호출 종료 시각 (이 시각의 칸에 기록)
+     */
+    public void record(String method, long startNanos, long endNanos) {
+        Tracker tracker = trackers.get(method);
+        if (tracker == null) {
+            return;
+        }
+        long nanos = endNanos - startNanos;
+        Slot slot = tracker.slot(Math.floorDiv(endNanos, bucketNanos));
+        slot.histogram.record(nanos);
+        if (nanos > tracker.thresholdNanos) {
+            slot.slow.increment();
+        }
+    }
+
+    /**
+     * 마지막 평가 결과
+     */
+    public List<SloStatus> status() {
+        return latest;
+    }
+
+    /**
+     * 지금 시점으로 평가하고 결과 반환 (평가 스레드가 주기적으로 호출, 바로 최신 상태가 필요할 때 직접 호출)
+     */
+    public synchronized List<SloStatus> evaluate() {
+        long epoch = Math.floorDiv(clock.getAsLong(), bucketNanos);
+        List<SloStatus> statuses = new ArrayList<>(trackers.size());
+        for (Tracker tracker : trackers.values()) {
+            rotate(tracker, epoch);
+            SloStatus status = evaluate(tracker, epoch);
+            if (status.state() != tracker.state) {
+                logTransition(tracker.state, status);
+                tracker.state = status.state();
+            }
+            statuses.add(status);
+        }
+        latest = List.copyOf(statuses);
+        return latest;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (evaluator != null) {
+            LockSupport.unpark(evaluator);
+        }
+    }
+
+    /**
+     * 다음 칸을 미리 비움
+     * 현재 칸의 표시가 다르면 평가 스레드가 한 칸 넘게 멈췄던 것 → 이전 바퀴의 값이 섞이지 않도록 현재 칸도 비움
+     * (이때 막 기록된 몇 건은 잃을 수 있음)
+     */
+    private void rotate(Tracker tracker, long epoch) {
+        Slot current = tracker.slot(epoch);
+        if (current.epoch != epoch) {
+            current.reset(epoch);
+        }
+        Slot next = tracker.slot(epoch + 1);
+        if (next.epoch != epoch + 1) {
+            next.reset(epoch + 1);
+        }
+    }
+
+    private SloStatus evaluate(Tracker tracker, long epoch) {
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        long calls = 0;
+        long slowCalls = 0;
+        long shortCalls = 0;
+        long shortSlowCalls = 0;
+        for (int age = 0; age < windowBuckets; age++) {
+            Slot slot = tracker.slot(epoch - age);
+            if (slot.epoch != epoch - age) {
+                continue;
+            }
+            long[] slotCounts = new long[LatencyHistogram.BUCKETS];
+            slot.histogram.addTo(slotCounts);
+            long slotCalls = 0;
+            for (int i = 0; i < slotCounts.length; i++) {
+                counts[i] += slotCounts[i];
+                slotCalls += slotCounts[i];
+            }
+            long slotSlow = slot.slow.sum();
+            calls += slotCalls;
+            slowCalls += slotSlow;
+            if (age < shortWindowBuckets) {
+                shortCalls += slotCalls;
+                shortSlowCalls += slotSlow;
+            }
+        }
+
+        LatencyObjective objective = tracker.objective;
+        double burnRate = burnRate(slowCalls, calls, objective);
+        double shortBurnRate = burnRate(shortSlowCalls, shortCalls, objective);
+        SloStatus.State state;
+        if (calls < Math.max(1, options.minSamples())) {
+            state = SloStatus.State.NO_DATA;
+        } else if (burnRate > 1 && shortBurnRate > 1) {
+            state = SloStatus.State.BREACHED;
+        } else {
+            state = SloStatus.State.OK;
+        }
+        return new SloStatus(
+            objective.method(),
+            objective.percentile(),
+            objective.thresholdMillis(),
+            LatencyHistogram.percentile(counts, calls, objective.percentile()) / 1e6,
+            calls,
+            slowCalls,
+            burnRate,
+            shortBurnRate,
+            state
+        );
+    }
+
+    private static double burnRate(long slowCalls, long calls, LatencyObjective objective) {
+        return calls == 0 ? 0 : (double) slowCalls / calls / objective.errorBudget();
+    }
+
+    private void logTransition(SloStatus.State previous, SloStatus status) {
+        String objective = String.format("p%s %.2fms (목표 < %.2fms), 소진 속도 %.1f배 / 짧은 윈도 %.1f배",
+            formatPercentile(status.percentile()), status.observedMillis(), status.thresholdMillis(),
+            status.burnRate(), status.shortBurnRate());
+        if (status.state() == SloStatus.State.BREACHED) {
+            System.out.println("[SLO] " + status.method() + " 위반: " + objective);
+        } else if (previous == SloStatus.State.BREACHED) {
+            System.out.println("[SLO] " + status.method() + " 회복: " + objective);
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private void evaluateLoop() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(options.evaluationIntervalMillis());
+        while (!closed) {
+            LockSupport.parkNanos(this, intervalNanos);
+            if (!closed) {
+                evaluate();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.withaop.slo;
+
+/**
+ * 슬라이딩 윈도 설정
+ *
+ * @param windowSeconds 목표 달성 여부를 판단하는 긴 윈도
+ * @param shortWindowSeconds 위반 확인 / 회복 판단에 쓰는 짧은 윈도 (순간적인 튐과 이미 끝난 장애를 걸러냄)
+ * @param bucketSeconds 윈도를 나누는 시간 칸 (윈도는 칸 단위로 밀려남)
+ * @param minSamples 긴 윈도에 이만큼 호출이 없으면 판단하지 않음 (NO_DATA)
+ * @param evaluationIntervalMillis 평가 스레드 주기 (0이면 스레드 없이 evaluate() 호출 때만 평가)
+ */
+public record SloOptions(
+    long windowSeconds,
+    long shortWindowSeconds,
+    long bucketSeconds,
+    long minSamples,
+    long evaluationIntervalMillis
+) {
+
+    public SloOptions {
+        if (bucketSeconds <= 0 || windowSeconds < bucketSeconds || shortWindowSeconds < bucketSeconds
+            || shortWindowSeconds > windowSeconds || windowSeconds % bucketSeconds != 0 || shortWindowSeconds % bucketSeconds != 0) {
+            throw new IllegalArgumentException(
+                "bucketSeconds <= shortWindowSeconds <= windowSeconds, 두 윈도는 bucketSeconds의 배수여야 합니다: "
+                    + bucketSeconds + ", " + shortWindowSeconds + ", " + windowSeconds);
+        }
+        if (minSamples < 0 || evaluationIntervalMillis < 0 || evaluationIntervalMillis > bucketSeconds * 1_000) {
+            throw new IllegalArgumentException(
+                "minSamples >= 0, 0 <= evaluationIntervalMillis <= bucketSeconds * 1000 이어야 합니다: "
+                    + minSamples + ", " + evaluationIntervalMillis);
+        }
+    }
+
+    public static SloOptions defaults() {
+        return new SloOptions(60, 10, 5, 20, 1_000);
+    }
+}
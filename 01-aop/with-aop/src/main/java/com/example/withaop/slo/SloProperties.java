@@ -0,0 +1,48 @@
+package com.example.withaop.slo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * application.yml의 slo.* (메서드별 지연 목표 + 윈도 설정)
+ *
+ * slo:
+ *   budgets:
+ *     getUser: { percentile: 99, threshold-millis: 2 }
+ *
+ * 메서드마다 값이 여러 개인 맵이라 @Value 대신 @ConfigurationProperties로 바인딩합니다.
+ */
+@ConfigurationProperties(prefix = "slo")
+public record SloProperties(
+    @DefaultValue("60") long windowSeconds,
+    @DefaultValue("10") long shortWindowSeconds,
+    @DefaultValue("5") long bucketSeconds,
+    @DefaultValue("20") long minSamples,
+    @DefaultValue("1000") long evaluationIntervalMillis,
+    Map<String, Budget> budgets
+) {
+
+    /**
+     * @param percentile 백분위 (예: 99)
+     * @param thresholdMillis 이 백분위의 지연 상한
+     */
+    public record Budget(double percentile, double thresholdMillis) {
+    }
+
+    public SloProperties {
+        budgets = budgets == null ? Map.of() : Map.copyOf(budgets);
+    }
+
+    public SloOptions options() {
+        return new SloOptions(windowSeconds, shortWindowSeconds, bucketSeconds, minSamples, evaluationIntervalMillis);
+    }
+
+    public List<LatencyObjective> objectives() {
+        return budgets.entrySet().stream()
+            .map(e -> new LatencyObjective(e.getKey(), e.getValue().percentile(), e.getValue().thresholdMillis()))
+            .toList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.withaop.slo;
+
+/**
+ * 메서드 하나의 현재 SLO 상태
+ *
+ * 소진 속도(burn rate) = 목표를 넘은 호출 비율 / 오류 예산
+ * 1이면 예산을 딱 맞게 쓰는 중이고, 1을 넘으면 목표 백분위의 지연이 상한을 넘은 것입니다.
+ *
+ * @param observedMillis 긴 윈도의 목표 백분위 지연 (히스토그램 칸 상한, 최대 12.5% 크게 나옴)
+ * @param calls 긴 윈도의 호출 수
+ * @param slowCalls 긴 윈도에서 상한을 넘은 호출 수
+ * @param burnRate 긴 윈도의 소진 속도
+ * @param shortBurnRate 짧은 윈도의 소진 속도
+ */
+public record SloStatus(
+    String method,
+    double percentile,
+    double thresholdMillis,
+    double observedMillis,
+    long calls,
+    long slowCalls,
+    double burnRate,
+    double shortBurnRate,
+    State state
+) {
+
+    public enum State {
+        /** 호출이 minSamples보다 적어 판단하지 않음 */
+        NO_DATA,
+        OK,
+        /** 긴 윈도와 짧은 윈도 모두 소진 속도 1 이상 */
+        BREACHED
+    }
+}
@@ -3,6 +3,9 @@ package com.example.withaop.util;
 public class SecurityContext {
     private static boolean isAdmin = true; // 테스트용으로 기본값 true
 
+    // 현재 스레드의 호출자 (RateLimitAspect가 호출자별로 속도를 제한할 때 사용)
+    private static final ThreadLocal<String> principal = ThreadLocal.withInitial(() -> "admin");
+
     public static boolean isAdmin() {
         return isAdmin;
     }
@@ -10,4 +13,16 @@ public class SecurityContext {
     public static void setAdmin(boolean admin) {
         isAdmin = admin;
     }
+
+    public static String getPrincipal() {
+        return principal.get();
+    }
+
+    public static void setPrincipal(String name) {
+        principal.set(name);
+    }
+
+    public static void clearPrincipal() {
+        principal.remove();
+    }
 }
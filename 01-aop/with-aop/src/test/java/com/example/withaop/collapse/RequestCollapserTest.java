@@ -0,0 +1,237 @@
+package com.example.withaop.collapse;
+
+import com.example.withaop.deadline.Deadline;
+import com.example.withaop.deadline.DeadlineExceededException;
+import com.example.withaop.deadline.DeadlineScope;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCollapserTest {
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(32);
+
+    private static final RequestCollapser.Loader NO_SINGLE_LOAD = () -> {
+        throw new AssertionError("단건 조회가 실행되면 안 됩니다");
+    };
+
+    @Test
+    void concurrentCallsForSameKeyShareOneLoad() throws Exception {
+        // Given: release가 열릴 때까지 끝나지 않는 단건 조회
+        RequestCollapser collapser = new RequestCollapser("getUser", 2, 64, null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When: 같은 키로 32번 동시 호출 - 첫 조회가 진행 중인 동안 나머지 31번이 모두 합류한 뒤 조회를 끝냄
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            results.add(call(collapser, 1L, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "John Doe";
+            }));
+            started.await(1, TimeUnit.SECONDS);
+        }
+        awaitJoined(collapser, 31);
+        release.countDown();
+
+        // Then: 조회는 한 번, 모든 호출이 같은 결과를 받음
+        for (Future<Object> result : results) {
+            assertEquals("John Doe", result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        CollapseStats stats = collapser.stats();
+        assertEquals(32, stats.calls());
+        assertEquals(31, stats.joined());
+        assertEquals(1, stats.loads());
+        assertEquals(32.0, stats.collapseRatio(), 0.001);
+        callers.shutdown();
+    }
+
+    @Test
+    void keysArrivingDuringLoadAreBatched() throws Exception {
+        // Given: 첫 배치(키 0)는 release가 열릴 때까지 끝나지 않음, 창은 길고 배치는 10개에서 참
+        List<List<Object>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstLoading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RequestCollapser collapser = new RequestCollapser("getUser", 10_000, 10, keys -> {
+            batches.add(keys);
+            if (keys.contains(0L)) {
+                firstLoading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            Map<Object, Object> values = new LinkedHashMap<>();
+            keys.forEach(key -> values.put(key, "user-" + key));
+            return values;
+        });
+
+        // When: 첫 조회가 진행 중일 때 다른 키 10개가 들어옴
+        Future<Object> first = call(collapser, 0L, NO_SINGLE_LOAD);
+        assertTrue(firstLoading.await(1, TimeUnit.SECONDS));
+        List<Future<Object>> results = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            long key = id;
+            results.add(call(collapser, key, NO_SINGLE_LOAD));
+        }
+
+        // Then: 나머지 10개는 첫 조회가 끝나기 전에 하나의 배치로 조회됨
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("user-" + (i + 1), results.get(i).get(1, TimeUnit.SECONDS));
+        }
+        assertFalse(first.isDone());
+        release.countDown();
+        assertEquals("user-0", first.get(1, TimeUnit.SECONDS));
+        assertEquals(2, batches.size());
+        assertEquals(List.of(0L), batches.get(0));
+        assertEquals(10, batches.get(1).size());
+
+        CollapseStats stats = collapser.stats();
+        assertEquals(11, stats.calls());
+        assertEquals(2, stats.loads());
+        assertEquals(5.5, stats.meanBatchSize(), 0.001);
+        assertTrue(stats.meanWindowWaitMicros() > 0);
+        callers.shutdown();
+    }
+
+    @Test
+    void sharedLoadOutlivesLeaderDeadlineAndEachCallerWaitsUntilItsOwn() throws Exception {
+        // Given: release가 열릴 때까지 끝나지 않는 단건 조회, 감시 간격 1ms
+        DeadlineScope scope = new DeadlineScope(1);
+        RequestCollapser collapser = new RequestCollapser("getUser", 2, 64, null);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean loadInterrupted = new AtomicBoolean();
+        AtomicReference<Deadline> leaderDeadline = new AtomicReference<>();
+        RequestCollapser.Loader loader = () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                loadInterrupted.set(true);
+                throw e;
+            }
+            return "John Doe";
+        };
+
+        // When: 마감 20ms인 리더가 조회를 시작하고, 마감이 긴 호출자와 짧은 호출자가 합류
+        Future<Object> leader = callWithin(scope, 20, () -> {
+            leaderDeadline.set(Deadline.current());
+            return collapser.execute(1L, loader);
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        Future<Object> patient = callWithin(scope, 5_000, () -> collapser.execute(1L, NO_SINGLE_LOAD));
+        Future<Object> hasty = callWithin(scope, 20, () -> collapser.execute(1L, NO_SINGLE_LOAD));
+        awaitJoined(collapser, 2);
+
+        // Then: 짧은 호출자는 자기 마감에 실패하고, 조회는 계속됨
+        ExecutionException error = assertThrows(ExecutionException.class, () -> hasty.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, error.getCause());
+
+        // 리더의 마감이 지나고 감시 스레드가 여러 번 돈 뒤에도 공유 조회는 interrupt되지 않음
+        while (!leaderDeadline.get().isExpired()) {
+            LockSupport.parkNanos(1_000_000);
+        }
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+        release.countDown();
+        assertEquals("John Doe", patient.get(1, TimeUnit.SECONDS));
+        assertFalse(loadInterrupted.get());
+        assertEquals(1, collapser.stats().loads());
+        // 리더 자신은 조회를 끝낸 뒤 결과를 받거나 마감 초과로 끝남 (어느 쪽이든 멈추지 않음)
+        try {
+            assertEquals("John Doe", leader.get(1, TimeUnit.SECONDS));
+        } catch (ExecutionException e) {
+            assertInstanceOf(DeadlineExceededException.class, e.getCause());
+        }
+        scope.close();
+        callers.shutdown();
+    }
+
+    @Test
+    void idleLeaderLoadsWithoutWaiting() throws Throwable {
+        // Given: 창이 길어도
+        RequestCollapser collapser = new RequestCollapser("getUser", 10_000, 2, keys -> Map.of(keys.get(0), "loaded"));
+
+        // When: 진행 중인 조회가 없으면 리더가 기다리지 않음
+        Object value = collapser.execute(1L, () -> "single");
+
+        // Then: 창 대기 없이 배치 하나로 조회됨
+        assertEquals("loaded", value);
+        CollapseStats stats = collapser.stats();
+        assertEquals(1, stats.batches());
+        assertEquals(0.0, stats.meanWindowWaitMicros(), 0.001);
+        callers.shutdown();
+    }
+
+    @Test
+    void missingKeyFallsBackToSingleLoadAndBatchFailureReachesAllCallers() throws Throwable {
+        // Given: 배치 결과에 키가 없음
+        RequestCollapser collapser = new RequestCollapser("getUser", 2, 64, keys -> Map.of());
+
+        // When & Then: 단건 조회의 예외가 그대로 전달됨
+        RuntimeException missing = assertThrows(RuntimeException.class, () -> collapser.execute(999L, () -> {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: 999");
+        }));
+        assertEquals("사용자를 찾을 수 없습니다: 999", missing.getMessage());
+        assertEquals(2, collapser.stats().loads());
+
+        // Given: 배치 조회 자체가 실패
+        RequestCollapser failing = new RequestCollapser("getUser", 2, 64, keys -> {
+            throw new IllegalStateException("저장소 오류");
+        });
+
+        // When & Then
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> failing.execute(1L, () -> "single"));
+        assertEquals("저장소 오류", error.getMessage());
+        callers.shutdown();
+    }
+
+    private static void awaitJoined(RequestCollapser collapser, long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (collapser.stats().joined() < expected && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000);
+        }
+        assertEquals(expected, collapser.stats().joined());
+    }
+
+    private Future<Object> callWithin(DeadlineScope scope, long timeoutMillis, DeadlineScope.Body body) {
+        return callers.submit(() -> {
+            try {
+                return scope.run("getUser", timeoutMillis, body);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+    }
+
+    private Future<Object> call(RequestCollapser collapser, Object key, RequestCollapser.Loader loader) {
+        return callers.submit(() -> {
+            try {
+                return collapser.execute(key, loader);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+    }
+}
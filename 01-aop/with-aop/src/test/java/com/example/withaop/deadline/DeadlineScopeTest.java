@@ -0,0 +1,96 @@
+package com.example.withaop.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineScopeTest {
+
+    private final DeadlineScope scope = new DeadlineScope(5);
+
+    @AfterEach
+    void tearDown() {
+        scope.close();
+    }
+
+    @Test
+    void fastCallRunsUnderDeadlineAndRestoresContext() throws Throwable {
+        // When
+        Object result = scope.run("getUser", 1_000, () -> {
+            assertNotNull(Deadline.current());
+            assertTrue(Deadline.remainingNanos() > 0);
+            Deadline.checkpoint();
+            return "John Doe";
+        });
+
+        // Then: 결과 반환, 호출이 끝나면 마감이 지워짐
+        assertEquals("John Doe", result);
+        assertNull(Deadline.current());
+        assertEquals(Long.MAX_VALUE, Deadline.remainingNanos());
+        DeadlineScope.Stats stats = scope.stats();
+        assertEquals(1, stats.calls());
+        assertEquals(0, stats.cancelled());
+        assertEquals(0, stats.active());
+    }
+
+    @Test
+    void blockedCallIsInterruptedAtDeadline() {
+        // When: 제한 시간 50ms인 호출이 5초 동안 블로킹
+        long start = System.nanoTime();
+        DeadlineExceededException error = assertThrows(DeadlineExceededException.class, () -> scope.run("getUser", 50, () -> {
+            Thread.sleep(5_000);
+            return "late";
+        }));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then: 마감 직후 중단, 호출 스레드의 interrupt 상태는 지워짐
+        assertInstanceOf(InterruptedException.class, error.getCause());
+        assertTrue(elapsedMillis < 1_000, () -> "중단까지 걸린 시간: " + elapsedMillis + "ms");
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertEquals(1, scope.stats().cancelled());
+        assertEquals(1, scope.stats().exceeded());
+    }
+
+    @Test
+    void computingCallStopsAtCheckpoint() {
+        // When: interrupt를 확인하지 않는 계산도 checkpoint에서 중단됨
+        assertThrows(DeadlineExceededException.class, () -> scope.run("createUser", 20, () -> {
+            while (true) {
+                Deadline.checkpoint();
+            }
+        }));
+
+        // Then
+        assertFalse(Thread.interrupted());
+        assertEquals(1, scope.stats().exceeded());
+    }
+
+    @Test
+    void nestedCallInheritsEarlierOuterDeadline() throws Throwable {
+        // When
+        scope.run("outer", 1_000, () -> {
+            Deadline outer = Deadline.current();
+
+            // 더 긴 제한 시간: 바깥 마감을 그대로 사용
+            scope.run("longer", 10_000, () -> {
+                assertSame(outer, Deadline.current());
+                return null;
+            });
+
+            // 더 짧은 제한 시간: 새 마감, 끝나면 바깥 마감으로 복원
+            scope.run("shorter", 100, () -> {
+                assertNotSame(outer, Deadline.current());
+                assertTrue(Deadline.current().deadlineNanos() < outer.deadlineNanos());
+                return null;
+            });
+            assertSame(outer, Deadline.current());
+            return null;
+        });
+
+        // Then
+        DeadlineScope.Stats stats = scope.stats();
+        assertEquals(2, stats.calls());
+        assertEquals(1, stats.inherited());
+    }
+}
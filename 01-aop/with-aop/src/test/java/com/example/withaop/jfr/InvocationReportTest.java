@@ -0,0 +1,74 @@
+package com.example.withaop.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvocationReportTest {
+
+    @Test
+    void summarizesRecordedInvocationsPerMethod() throws Exception {
+        // Given: ServiceInvocation 이벤트만 켠 기록
+        Path file = Files.createTempFile("invocations", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ServiceInvocationEvent.NAME);
+            recording.start();
+
+            // When: getUser 10번(1번 실패), createUser 1번
+            for (int i = 0; i < 10; i++) {
+                emit("UserService.getUser", i == 9 ? "IllegalStateException" : "OK", 0);
+            }
+            emit("UserService.createUser", "OK", 50);
+
+            recording.stop();
+            recording.dump(file);
+        }
+        List<InvocationReport.MethodSummary> summaries = InvocationReport.summarize(file);
+        Files.delete(file);
+
+        // Then: 메서드별 호출 수/실패 수, p99가 큰 createUser가 먼저
+        assertEquals(2, summaries.size());
+        InvocationReport.MethodSummary createUser = summaries.get(0);
+        assertEquals("UserService.createUser", createUser.method());
+        assertEquals(1, createUser.count());
+        assertTrue(createUser.p99Nanos() >= 50_000_000, () -> "createUser p99: " + createUser.p99Nanos());
+
+        InvocationReport.MethodSummary getUser = summaries.get(1);
+        assertEquals("UserService.getUser", getUser.method());
+        assertEquals(10, getUser.count());
+        assertEquals(1, getUser.errors());
+        assertEquals(1_000, getUser.meanCpuNanos());
+        assertEquals(4_096, getUser.meanAllocatedBytes());
+        assertTrue(getUser.p50Nanos() <= getUser.p99Nanos() && getUser.p99Nanos() <= getUser.maxNanos());
+    }
+
+    @Test
+    void eventIsNotCommittedWithoutRecording() {
+        // 기록이 없으면 이벤트가 꺼져 있으므로 PerformanceAspect는 필드를 채우지 않음
+        ServiceInvocationEvent event = new ServiceInvocationEvent();
+        event.begin();
+        event.end();
+        assertFalse(event.shouldCommit());
+    }
+
+    @Test
+    void argumentSizeClassesBySize() {
+        assertEquals(ArgumentSize.NONE, ArgumentSize.of(new Object[0]));
+        assertEquals(ArgumentSize.SMALL, ArgumentSize.of(new Object[]{1L}));
+        assertEquals(ArgumentSize.MEDIUM, ArgumentSize.of(new Object[]{"Alice Johnson", "alice@example.com"}));
+        assertEquals(ArgumentSize.LARGE, ArgumentSize.of(new Object[]{new long[2_000]}));
+    }
+
+    private static void emit(String method, String outcome, long sleepMillis) throws InterruptedException {
+        ServiceInvocationEvent event = new ServiceInvocationEvent();
+        event.begin();
+        Thread.sleep(sleepMillis);
+        event.end();
+        event.record(method, outcome, ArgumentSize.SMALL, 1_000, 4_096);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.withaop.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void callsOverLimitAreRejectedWithoutQueue() {
+        // Given: 제한 2, 대기 자리 없음
+        AdaptiveLimiter limiter = new AdaptiveLimiter("getUser", new LimiterOptions(2, 2, 2, 0, 0, 100, 10, 0.2, 1.5));
+
+        // When
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        boolean third = limiter.tryAcquire();
+
+        // Then: 세 번째 호출은 바로 거절, 반환하면 다시 허용
+        assertFalse(third);
+        limiter.release(MILLIS);
+        assertTrue(limiter.tryAcquire());
+
+        LimiterStats stats = limiter.stats();
+        assertEquals(2, stats.inFlight());
+        assertEquals(3, stats.accepted());
+        assertEquals(1, stats.rejected());
+    }
+
+    @Test
+    void queuedCallIsAdmittedWhenSlotIsReleased() throws Exception {
+        // Given: 제한 1, 대기 자리 1개, 최대 2초 대기
+        AdaptiveLimiter limiter = new AdaptiveLimiter("getUser", new LimiterOptions(1, 1, 1, 1, 2_000, 100, 10, 0.2, 1.5));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        assertTrue(limiter.tryAcquire());
+
+        // When: 두 번째 호출은 대기, 세 번째 호출은 대기 자리가 없어 거절
+        Future<Boolean> waiting = executor.submit(limiter::tryAcquire);
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (limiter.stats().queued() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertFalse(limiter.tryAcquire());
+        limiter.release(MILLIS);
+
+        // Then
+        assertTrue(waiting.get(1, TimeUnit.SECONDS));
+        assertEquals(0, limiter.stats().queued());
+        assertEquals(1, limiter.stats().rejected());
+        executor.shutdown();
+    }
+
+    @Test
+    void limitGrowsWhileLatencyIsStableAndShrinksWhenLatencyRises() {
+        // Given: 완료 10건마다 재계산, 평활화 없음
+        AdaptiveLimiter limiter = new AdaptiveLimiter("getUser", new LimiterOptions(20, 2, 200, 0, 0, 0, 10, 1.0, 1.5));
+
+        // When: 제한만큼 동시에 실행하고 10ms로 완료 (지연 유지)
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter, 10);
+        }
+        int grown = limiter.stats().limit();
+
+        // When: 지연이 50ms로 늘어남
+        runWindow(limiter, 50);
+        int shrunk = limiter.stats().limit();
+
+        // Then
+        assertTrue(grown > 20, () -> "지연이 유지될 때 제한: " + grown);
+        assertTrue(shrunk < grown, () -> "지연이 늘었을 때 제한: " + grown + " → " + shrunk);
+        assertEquals(50.0, limiter.stats().shortRttMillis(), 0.001);
+    }
+
+    @Test
+    void limitDoesNotGrowWhenMostlyIdle() {
+        // Given
+        AdaptiveLimiter limiter = new AdaptiveLimiter("getUser", new LimiterOptions(20, 2, 200, 0, 0, 0, 10, 1.0, 1.5));
+
+        // When: 한 번에 하나씩만 실행 (제한의 절반도 쓰지 않음)
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(10 * MILLIS);
+        }
+
+        // Then
+        assertEquals(20, limiter.stats().limit());
+    }
+
+    /**
+     * 현재 제한만큼 허용받은 뒤 모두 rttMillis로 완료
+     */
+    private static void runWindow(AdaptiveLimiter limiter, long rttMillis) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttMillis * MILLIS);
+        }
+    }
+}
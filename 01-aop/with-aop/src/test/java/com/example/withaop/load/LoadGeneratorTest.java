@@ -0,0 +1,101 @@
+package com.example.withaop.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    @Test
+    void zipfFavorsLowRanks() {
+        // Given: 1000개, exponent 1 → 1등 확률 = 1 / H(1000)
+        ZipfDistribution zipf = new ZipfDistribution(1_000, 1.0);
+        double harmonic = 0;
+        for (int k = 1; k <= 1_000; k++) {
+            harmonic += 1.0 / k;
+        }
+
+        // Then
+        assertEquals(1 / harmonic, zipf.probability(1), 1e-12);
+        assertEquals(zipf.probability(1) / 10, zipf.probability(10), 1e-12);
+        assertEquals(1, zipf.sample(0.0));
+        assertEquals(2, zipf.sample(zipf.probability(1)));
+        assertEquals(1_000, zipf.sample(0.999_999_999));
+
+        // exponent 0이면 균등
+        ZipfDistribution uniform = new ZipfDistribution(4, 0);
+        assertEquals(0.25, uniform.probability(3), 1e-12);
+        assertEquals(3, uniform.sample(0.6));
+    }
+
+    @Test
+    void stallIsChargedToQueuedRequests() throws Exception {
+        // Given: 초당 200건, 실행 스레드 1개, 첫 요청이 200ms 멈춤
+        LoadOptions options = new LoadOptions(200, 1, 0, 1.0, 10, 1.0, 1, false);
+        AtomicBoolean stalled = new AtomicBoolean();
+        AtomicLong maxId = new AtomicLong();
+        LoadTarget target = new LoadTarget() {
+            @Override
+            public void read(long userId) throws Exception {
+                maxId.accumulateAndGet(userId, Math::max);
+                if (stalled.compareAndSet(false, true)) {
+                    Thread.sleep(200);
+                }
+            }
+
+            @Override
+            public void write(long userId) {
+                fail("readRatio 1.0이면 쓰기가 없어야 합니다");
+            }
+        };
+
+        // When
+        LoadReport report = new LoadGenerator(options).run(target);
+
+        // Then: 멈춘 동안에도 요청은 5ms마다 보내졌고, 그동안 쌓인 약 40건의 대기 시간이 응답 시간에 들어감
+        LoadReport.OperationReport reads = report.operations().get(0);
+        assertEquals(200, reads.count());
+        assertEquals(0, reads.errors());
+        assertEquals(0, report.incomplete());
+        assertTrue(maxId.get() >= 1 && maxId.get() <= 10, () -> "id: " + maxId.get());
+        assertTrue(reads.response().p90Millis() > 50, () -> "응답 시간: " + reads.response());
+        assertTrue(reads.response().maxMillis() >= 200, () -> "응답 시간: " + reads.response());
+        // 실행 시간만 재면 멈춘 요청 한 건뿐이라 p90은 빠름 (coordinated omission)
+        assertTrue(reads.service().p90Millis() < 20, () -> "서비스 시간: " + reads.service());
+        assertEquals(200, reads.histogram().stream().mapToLong(LoadReport.Bin::count).sum());
+    }
+
+    @Test
+    void failuresAreCountedByType() throws Exception {
+        // Given: 모두 쓰기, 쓰기는 항상 실패
+        LoadOptions options = new LoadOptions(100, 1, 0, 0.0, 10, 1.0, 2, false);
+        LoadTarget target = new LoadTarget() {
+            @Override
+            public void read(long userId) {
+                fail("readRatio 0이면 조회가 없어야 합니다");
+            }
+
+            @Override
+            public void write(long userId) {
+                throw new IllegalStateException("쓰기 실패");
+            }
+        };
+
+        // When
+        LoadReport report = new LoadGenerator(options).run(target);
+
+        // Then
+        LoadReport.OperationReport reads = report.operations().get(0);
+        LoadReport.OperationReport writes = report.operations().get(1);
+        assertEquals(0, reads.count());
+        assertEquals(100, writes.count());
+        assertEquals(100, writes.errors());
+        assertEquals(Map.of("IllegalStateException", 100L), writes.errorTypes());
+        assertTrue(report.completedPerSecond() > 90 && report.completedPerSecond() <= 100.5,
+            () -> "처리 속도: " + report.completedPerSecond());
+    }
+}
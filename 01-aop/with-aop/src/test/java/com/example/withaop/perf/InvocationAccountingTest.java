@@ -0,0 +1,82 @@
+package com.example.withaop.perf;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvocationAccountingTest {
+
+    static byte[] sink;
+
+    @Test
+    void allocationIsAttributedToTheMethodThatAllocates() throws Exception {
+        // Given
+        InvocationAccounting accounting = new InvocationAccounting(true, true);
+        assertTrue(accounting.isAllocationEnabled());
+        Method heavy = String.class.getMethod("toUpperCase");
+        Method light = String.class.getMethod("length");
+
+        // When: heavy는 호출마다 1MB 할당, light는 거의 할당하지 않음
+        for (int i = 0; i < 10; i++) {
+            measure(accounting, heavy, () -> sink = new byte[1 << 20]);
+            measure(accounting, light, () -> { });
+        }
+
+        // Then: 할당이 많은 메서드가 먼저, 호출당 할당이 1MB 이상
+        List<MethodAccounting> stats = accounting.stats();
+        assertEquals(2, stats.size());
+        MethodAccounting first = stats.get(0);
+        assertEquals("String.toUpperCase", first.method());
+        assertEquals(10, first.calls());
+        assertTrue(first.meanAllocatedBytes() >= 1 << 20, () -> "호출당 할당: " + first.meanAllocatedBytes());
+        assertTrue(first.maxAllocatedBytes() >= first.meanAllocatedBytes());
+        assertTrue(stats.get(1).meanAllocatedBytes() < 1_024, () -> "호출당 할당: " + stats.get(1).meanAllocatedBytes());
+    }
+
+    @Test
+    void cpuTimeIsMeasuredForBusyCalls() throws Exception {
+        // Given
+        InvocationAccounting accounting = new InvocationAccounting(true, false);
+        assertTrue(accounting.isCpuEnabled());
+        Method method = String.class.getMethod("hashCode");
+
+        // When: 스레드 CPU 시간이 20ms 늘어날 때까지 계산 (경과 시간으로 재면 스케줄링에서 밀린 시간이 빠짐)
+        measure(accounting, method, () -> {
+            long end = accounting.cpuTime() + 20_000_000;
+            while (accounting.cpuTime() < end) {
+                Thread.onSpinWait();
+            }
+        });
+
+        // Then: CPU 시간이 측정되고, 할당은 측정하지 않았으므로 -1
+        MethodAccounting stats = accounting.stats().get(0);
+        assertTrue(stats.meanCpuMicros() >= 20_000, () -> "CPU 시간: " + stats.meanCpuMicros() + "us");
+        assertEquals(-1, stats.meanAllocatedBytes());
+        assertEquals(-1, stats.totalAllocatedBytes());
+    }
+
+    @Test
+    void disabledAccountingOnlyCountsWallTime() throws Exception {
+        InvocationAccounting accounting = new InvocationAccounting(false, false);
+        assertEquals(0, accounting.cpuTime());
+        assertEquals(0, accounting.allocatedBytes());
+
+        measure(accounting, String.class.getMethod("isEmpty"), () -> { });
+
+        MethodAccounting stats = accounting.stats().get(0);
+        assertEquals(1, stats.calls());
+        assertEquals(-1.0, stats.meanCpuMicros());
+        assertEquals(-1, stats.meanAllocatedBytes());
+    }
+
+    private static void measure(InvocationAccounting accounting, Method method, Runnable body) {
+        long start = System.nanoTime();
+        long startCpu = accounting.cpuTime();
+        long startAllocated = accounting.allocatedBytes();
+        body.run();
+        accounting.record(method, System.nanoTime() - start, accounting.cpuTime() - startCpu, accounting.allocatedBytes() - startAllocated);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.withaop.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalRateLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void burstIsAllowedThenCallsAreThrottledWithRetryAfter() {
+        // Given: 초당 10회(100ms마다 토큰 1개), 한 번에 최대 3회
+        PrincipalRateLimiter limiter = new PrincipalRateLimiter("createUser", 10, 3, 100, 1_000, now::get);
+
+        // When & Then: 3회까지 허용, 4번째는 100ms 뒤에 가능
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("alice"));
+        }
+        assertEquals(100 * MILLIS, limiter.tryAcquire("alice"));
+
+        // And: 다른 호출자는 영향을 받지 않음
+        assertEquals(0, limiter.tryAcquire("bob"));
+
+        // And: 40ms 뒤에는 60ms 남음, 100ms 뒤에는 토큰 1개
+        now.addAndGet(40 * MILLIS);
+        assertEquals(60 * MILLIS, limiter.tryAcquire("alice"));
+        now.addAndGet(60 * MILLIS);
+        assertEquals(0, limiter.tryAcquire("alice"));
+        assertTrue(limiter.tryAcquire("alice") > 0);
+
+        RateLimitStats stats = limiter.stats();
+        assertEquals(5, stats.allowed());
+        assertEquals(3, stats.throttled());
+        assertEquals(2, stats.activePrincipals());
+    }
+
+    @Test
+    void idlePrincipalsAreEvictedAndMemoryIsBounded() {
+        // Given: 호출자 최대 2명, 1초마다 정리
+        PrincipalRateLimiter limiter = new PrincipalRateLimiter("createUser", 10, 1, 2, 1_000, now::get);
+        assertEquals(0, limiter.tryAcquire("alice"));
+        assertEquals(0, limiter.tryAcquire("bob"));
+
+        // When: 자리가 없을 때 온 호출자들은 공용 버킷 하나를 함께 씀
+        assertEquals(0, limiter.tryAcquire("carol"));
+        assertTrue(limiter.tryAcquire("dave") > 0);
+        assertEquals(2, limiter.stats().activePrincipals());
+        assertEquals(2, limiter.stats().overflowed());
+
+        // When: 1초 동안 호출이 없으면 버킷이 가득 차서 정리됨
+        now.addAndGet(1_000 * MILLIS);
+        assertEquals(0, limiter.tryAcquire("carol"));
+
+        // Then
+        RateLimitStats stats = limiter.stats();
+        assertEquals(2, stats.evicted());
+        assertEquals(1, stats.activePrincipals());
+    }
+
+    @Test
+    void sweepVisitsAtMostOneBatchPerCall() {
+        // Given: 정리 한 번에 볼 수 있는 것보다 많은 호출자
+        int principals = PrincipalRateLimiter.SWEEP_BATCH * 2 + 10;
+        PrincipalRateLimiter limiter = new PrincipalRateLimiter("createUser", 10, 1, principals, 1_000, now::get);
+        for (int i = 0; i < principals; i++) {
+            assertEquals(0, limiter.tryAcquire("user-" + i));
+        }
+
+        // When: 1초 뒤 첫 호출은 한 배치만 정리
+        now.addAndGet(1_000 * MILLIS);
+        limiter.tryAcquire("user-0");
+
+        // Then
+        assertEquals(PrincipalRateLimiter.SWEEP_BATCH, limiter.stats().evicted());
+
+        // And: 다음 호출들이 나머지를 이어서 정리
+        limiter.tryAcquire("user-0");
+        limiter.tryAcquire("user-0");
+        assertTrue(limiter.stats().evicted() >= principals - 1);
+        assertTrue(limiter.stats().activePrincipals() <= 1);
+    }
+
+    @Test
+    void concurrentCallsNeverExceedBurst() throws Exception {
+        // Given: 시간이 흐르지 않으면 호출자 한 명은 burst만큼만 허용됨
+        PrincipalRateLimiter limiter = new PrincipalRateLimiter("createUser", 1, 100, 1_000, 1_000, now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When: 8개 스레드가 1,000번씩 호출
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            results.add(executor.submit(() -> {
+                int allowed = 0;
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire("alice") == 0) {
+                        allowed++;
+                    }
+                }
+                return allowed;
+            }));
+        }
+        int allowed = 0;
+        for (Future<Integer> result : results) {
+            allowed += result.get(5, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertEquals(100, allowed);
+        assertEquals(7_900, limiter.stats().throttled());
+        executor.shutdown();
+    }
+}
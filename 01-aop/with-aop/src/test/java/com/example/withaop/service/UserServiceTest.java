@@ -1,11 +1,21 @@
 package com.example.withaop.service;
 
+import com.example.withaop.aspect.RequestCollapsingAspect;
+import com.example.withaop.collapse.CollapseStats;
 import com.example.withaop.model.User;
 import com.example.withaop.repository.UserRepository;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -17,6 +27,9 @@ class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RequestCollapsingAspect requestCollapsingAspect;
+
     @Test
     void testGetUser() {
         // Given: 사용자가 존재함
@@ -100,6 +113,42 @@ class UserServiceTest {
         assertNotNull(user);
         // 콘솔 출력으로 AOP가 작동하는 것을 확인할 수 있음
     }
+
+    @Test
+    void testConcurrentGetUserThroughProxy() throws Exception {
+        // Given: 프록시로 주입된 UserService (Timeout → 요청 병합 → 속도 제한 → 동시 실행 제한 → ... 체인)
+        assertTrue(AopUtils.isAopProxy(userService));
+        long[] ids = {
+            userRepository.save(new User(null, "Proxy A", "proxy-a@example.com")).getId(),
+            userRepository.save(new User(null, "Proxy B", "proxy-b@example.com")).getId()
+        };
+        long callsBefore = getUserStats().calls();
+
+        // When: 여러 스레드가 프록시를 거쳐 동시에 조회
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<User>> results = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            long userId = ids[i % 2];
+            results.add(callers.submit(() -> userService.getUser(userId)));
+        }
+        callers.shutdown();
+        assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Then: 모든 호출이 자기 ID의 사용자를 받고, 요청 병합 Aspect를 거침
+        for (int i = 0; i < 40; i++) {
+            assertEquals(ids[i % 2], results.get(i).get().getId());
+        }
+        CollapseStats stats = getUserStats();
+        assertEquals(callsBefore + 40, stats.calls());
+        assertTrue(stats.loads() <= stats.calls());
+    }
+
+    private CollapseStats getUserStats() {
+        return requestCollapsingAspect.stats().stream()
+            .filter(stats -> stats.method().equals("UserService.getUser"))
+            .findFirst()
+            .orElse(new CollapseStats("UserService.getUser", 0, 0, 0, 0, 0, 1, 0));
+    }
 }
 
 /*
@@ -0,0 +1,105 @@
+package com.example.withaop.slo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SloMonitorTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 평가 스레드 없이 evaluate()로만 평가 (긴 윈도 60초, 짧은 윈도 10초, 칸 5초)
+    private final SloOptions options = new SloOptions(60, 10, 5, 20, 0);
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+    private final SloMonitor monitor = new SloMonitor(
+        List.of(new LatencyObjective("getUser", 99, 2)), options, clock::get);
+
+    @Test
+    void fastCallsMeetTheObjective() {
+        // When: 1ms 호출 100번
+        record("getUser", 100, MS);
+
+        // Then
+        SloStatus status = monitor.evaluate().get(0);
+        assertEquals(SloStatus.State.OK, status.state());
+        assertEquals(100, status.calls());
+        assertEquals(0, status.slowCalls());
+        assertTrue(status.observedMillis() >= 1 && status.observedMillis() <= 1.125, () -> "p99: " + status.observedMillis());
+    }
+
+    @Test
+    void slowTailBreachesThenRecoversWhenShortWindowIsClean() {
+        // When: 100번 중 5번이 10ms (p99 목표의 오류 예산 1%를 5배 속도로 소진)
+        record("getUser", 95, MS);
+        record("getUser", 5, 10 * MS);
+
+        // Then: 위반
+        SloStatus breached = monitor.evaluate().get(0);
+        assertEquals(SloStatus.State.BREACHED, breached.state());
+        assertEquals(5.0, breached.burnRate(), 1e-9);
+        assertTrue(breached.observedMillis() >= 10, () -> "p99: " + breached.observedMillis());
+
+        // When: 이후 15초 동안 빠른 호출만 (칸마다 평가)
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(5 * SECOND);
+            monitor.evaluate();
+            record("getUser", 100, MS);
+        }
+
+        // Then: 긴 윈도는 아직 소진 속도 1 초과지만 짧은 윈도가 깨끗하므로 회복
+        SloStatus recovered = monitor.evaluate().get(0);
+        assertEquals(SloStatus.State.OK, recovered.state());
+        assertTrue(recovered.burnRate() > 1, () -> "burn: " + recovered.burnRate());
+        assertEquals(0.0, recovered.shortBurnRate());
+    }
+
+    @Test
+    void oldBucketsSlideOutOfTheWindow() {
+        // Given
+        record("getUser", 100, 10 * MS);
+        assertEquals(SloStatus.State.BREACHED, monitor.evaluate().get(0).state());
+
+        // When: 호출 없이 긴 윈도(60초)가 지남
+        for (int i = 0; i < 12; i++) {
+            clock.addAndGet(5 * SECOND);
+            monitor.evaluate();
+        }
+
+        // Then: 윈도에 남은 호출이 없음
+        SloStatus status = monitor.evaluate().get(0);
+        assertEquals(0, status.calls());
+        assertEquals(SloStatus.State.NO_DATA, status.state());
+        assertEquals(status, monitor.status().get(0));
+    }
+
+    @Test
+    void histogramPercentilesAreWithinBucketPrecision() {
+        // Given: 1us ~ 10ms 균등 분포
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long us = 1; us <= 10_000; us++) {
+            histogram.record(us * 1_000);
+        }
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        histogram.addTo(counts);
+
+        // Then: 칸 상한으로 보고하므로 실제 값 이상, 12.5% + 1칸 이내
+        for (double p : new double[]{50, 90, 99, 99.9}) {
+            long exact = (long) Math.ceil(p / 100 * 10_000) * 1_000;
+            long reported = LatencyHistogram.percentile(counts, 10_000, p);
+            assertTrue(reported >= exact && reported <= exact * 1.15, () -> "p" + p + ": " + reported + " vs " + exact);
+        }
+        assertEquals(0, LatencyHistogram.percentile(new long[LatencyHistogram.BUCKETS], 0, 99));
+    }
+
+    private void record(String method, int calls, long nanos) {
+        long end = clock.get();
+        for (int i = 0; i < calls; i++) {
+            monitor.record(method, end - nanos, end);
+        }
+    }
+}
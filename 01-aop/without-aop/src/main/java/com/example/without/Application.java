@@ -1,13 +1,22 @@
 package com.example.without;
 
+import com.example.without.load.LoadGenerator;
+import com.example.without.load.LoadProperties;
+import com.example.without.load.LoadReport;
+import com.example.without.load.LoadTarget;
 import com.example.without.model.User;
+import com.example.without.repository.UserRepository;
 import com.example.without.service.UserService;
+import com.example.without.util.DemoLog;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
 @SpringBootApplication
+@EnableConfigurationProperties(LoadProperties.class)  // application.yml의 load.* 바인딩
 public class Application {
 
     public static void main(String[] args) {
@@ -15,6 +24,7 @@ public class Application {
     }
 
     @Bean
+    @ConditionalOnProperty(name = "load.enabled", havingValue = "false", matchIfMissing = true)
     public CommandLineRunner demo(UserService userService) {
         return args -> {
             System.out.println("\n");
@@ -40,4 +50,47 @@ public class Application {
             System.out.println();
         };
     }
+
+    /**
+     * load.enabled=true면 데모 대신 고정 도착률 부하 (조회 = getUser, 쓰기 = createUser)
+     * with-aop와 같은 설정으로 돌리면 공통 관심사를 직접 넣은 코드와 Aspect의 비용을 비교할 수 있음
+     */
+    @Bean
+    @ConditionalOnProperty(name = "load.enabled", havingValue = "true")
+    public CommandLineRunner load(UserService userService, UserRepository userRepository, LoadProperties loadProperties) {
+        return args -> {
+            // 조회할 ID 1 ~ users를 미리 채움 (서비스를 거치지 않으므로 로그 없음)
+            for (int i = userRepository.count() + 1; i <= loadProperties.users(); i++) {
+                userRepository.save(new User(null, "User " + i, "user" + i + "@example.com"));
+            }
+            LoadTarget target = new LoadTarget() {
+                @Override
+                public void read(long userId) {
+                    userService.getUser(userId);
+                }
+
+                @Override
+                public void write(long userId) {
+                    userService.createUser("Load User", "load-" + userId + "@example.com");
+                }
+            };
+
+            System.out.println("\n");
+            System.out.println("=".repeat(60));
+            System.out.println("WITHOUT AOP - 부하 생성: " + loadProperties.options());
+            System.out.println("=".repeat(60));
+
+            // 호출마다 찍는 데모 로그만 끔 (예외, SLO 경고 등은 그대로 출력)
+            DemoLog.setEnabled(!loadProperties.quiet());
+            LoadReport report;
+            try {
+                report = new LoadGenerator(loadProperties.options()).run(target);
+            } finally {
+                DemoLog.setEnabled(true);
+            }
+
+            report.print(System.out);
+            System.out.println("=".repeat(60));
+        };
+    }
 }
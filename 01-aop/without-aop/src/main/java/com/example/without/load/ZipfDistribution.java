@@ -0,0 +1,70 @@
+package com.example.without.load;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Zipf 분포 (순위 k가 뽑힐 확률이 1 / k^exponent 에 비례)
+ *
+ * 소수의 인기 ID에 요청이 몰리는 실제 트래픽을 흉내 냅니다.
+ * - exponent 0: 균등 분포
+ * - exponent 1: n = 1000이면 상위 1%(10개)가 요청의 약 39%를 차지
+ *
+ * 누적 확률표를 한 번 만들어 두고 이진 탐색으로 뽑으므로 한 번 뽑는 데 O(log n), 할당 없음입니다.
+ */
+public final class ZipfDistribution {
+
+    private final double[] cumulative;
+    private final double exponent;
+
+    public ZipfDistribution(int size, double exponent) {
+        if (size <= 0 || exponent < 0 || Double.isNaN(exponent)) {
+            throw new IllegalArgumentException("size > 0, exponent >= 0 이어야 합니다: " + size + ", " + exponent);
+        }
+        this.exponent = exponent;
+        this.cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        cumulative[size - 1] = 1.0;
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+
+    public double exponent() {
+        return exponent;
+    }
+
+    /**
+     * @return 1 ~ size 사이의 순위 (1이 가장 자주 뽑힘)
+     */
+    public int sample() {
+        return sample(ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * @param uniform [0, 1) 균등 난수
+     */
+    public int sample(double uniform) {
+        int index = Arrays.binarySearch(cumulative, uniform);
+        // 정확히 같은 값이 없으면 (-(삽입 위치) - 1): 누적 확률이 uniform보다 큰 첫 칸
+        return Math.min(cumulative.length, (index >= 0 ? index + 1 : -index - 1) + 1);
+    }
+
+    /**
+     * 순위 rank가 뽑힐 확률
+     */
+    public double probability(int rank) {
+        if (rank < 1 || rank > cumulative.length) {
+            throw new IllegalArgumentException("rank는 1 ~ " + cumulative.length + " 이어야 합니다: " + rank);
+        }
+        return rank == 1 ? cumulative[0] : cumulative[rank - 1] - cumulative[rank - 2];
+    }
+}
@@ -3,13 +3,17 @@ package com.example.without.repository;
 import com.example.without.model.User;
 import org.springframework.stereotype.Repository;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 메모리 저장소 (부하 생성 모드에서 여러 스레드가 동시에 읽고 쓰므로 ConcurrentHashMap)
+ */
 @Repository
 public class UserRepository {
-    private final Map<Long, User> users = new HashMap<>();
-    private Long sequence = 0L;
+    private final Map<Long, User> users = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
 
     public UserRepository() {
         // 초기 데이터
@@ -27,16 +31,19 @@ public class UserRepository {
 
     public User save(User user) {
         if (user.getId() == null) {
-            user.setId(++sequence);
+            user.setId(sequence.incrementAndGet());
         }
         users.put(user.getId(), user);
         return user;
     }
 
     public void deleteById(Long id) {
-        if (!users.containsKey(id)) {
+        if (users.remove(id) == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다: " + id);
         }
-        users.remove(id);
+    }
+
+    public int count() {
+        return users.size();
     }
 }
@@ -2,6 +2,7 @@ package com.example.without.service;
 
 import com.example.without.model.User;
 import com.example.without.repository.UserRepository;
+import com.example.without.util.DemoLog;
 import com.example.without.util.SecurityContext;
 import org.springframework.stereotype.Service;
 
@@ -29,9 +30,9 @@ public class UserService {
         long startTime = System.currentTimeMillis();
 
         // 2. 메서드 로깅
-        System.out.println("\n========================================");
-        System.out.println("메서드 호출: getUser");
-        System.out.println("파라미터: userId=" + userId);
+        DemoLog.println("\n========================================");
+        DemoLog.println("메서드 호출: getUser");
+        DemoLog.println("파라미터: userId=" + userId);
 
         try {
             // 3. 보안 체크
@@ -41,16 +42,16 @@ public class UserService {
 
             // ========== 실제 비즈니스 로직 (단 2줄!) ==========
             User user = userRepository.findById(userId);
-            System.out.println("  → 사용자 조회: " + user.getName());
+            DemoLog.println("  → 사용자 조회: " + user.getName());
             // ==============================================
 
             // 4. 반환값 로깅
-            System.out.println("반환값: " + user);
+            DemoLog.println("반환값: " + user);
 
             // 5. 실행 시간 측정 종료
             long endTime = System.currentTimeMillis();
-            System.out.println("실행 시간: " + (endTime - startTime) + "ms");
-            System.out.println("========================================\n");
+            DemoLog.println("실행 시간: " + (endTime - startTime) + "ms");
+            DemoLog.println("========================================\n");
 
             return user;
 
@@ -74,9 +75,9 @@ public class UserService {
         long startTime = System.currentTimeMillis();
 
         // 2. 메서드 로깅
-        System.out.println("\n========================================");
-        System.out.println("메서드 호출: createUser");
-        System.out.println("파라미터: name=" + name + ", email=" + email);
+        DemoLog.println("\n========================================");
+        DemoLog.println("메서드 호출: createUser");
+        DemoLog.println("파라미터: name=" + name + ", email=" + email);
 
         try {
             // 3. 보안 체크
@@ -87,16 +88,16 @@ public class UserService {
             // ========== 실제 비즈니스 로직 (단 3줄!) ==========
             User user = new User(null, name, email);
             userRepository.save(user);
-            System.out.println("  → 사용자 생성: " + user.getName());
+            DemoLog.println("  → 사용자 생성: " + user.getName());
             // ==============================================
 
             // 4. 반환값 로깅
-            System.out.println("반환값: " + user);
+            DemoLog.println("반환값: " + user);
 
             // 5. 실행 시간 측정 종료
             long endTime = System.currentTimeMillis();
-            System.out.println("실행 시간: " + (endTime - startTime) + "ms");
-            System.out.println("========================================\n");
+            DemoLog.println("실행 시간: " + (endTime - startTime) + "ms");
+            DemoLog.println("========================================\n");
 
             return user;
 
@@ -120,9 +121,9 @@ public class UserService {
         long startTime = System.currentTimeMillis();
 
         // 2. 메서드 로깅
-        System.out.println("\n========================================");
-        System.out.println("메서드 호출: deleteUser");
-        System.out.println("파라미터: userId=" + userId);
+        DemoLog.println("\n========================================");
+        DemoLog.println("메서드 호출: deleteUser");
+        DemoLog.println("파라미터: userId=" + userId);
 
         try {
             // 3. 보안 체크
@@ -132,16 +133,16 @@ public class UserService {
 
             // ========== 실제 비즈니스 로직 (단 2줄!) ==========
             userRepository.deleteById(userId);
-            System.out.println("  → 사용자 삭제: " + userId);
+            DemoLog.println("  → 사용자 삭제: " + userId);
             // ==============================================
 
             // 4. 반환값 로깅
-            System.out.println("반환값: void");
+            DemoLog.println("반환값: void");
 
             // 5. 실행 시간 측정 종료
             long endTime = System.currentTimeMillis();
-            System.out.println("실행 시간: " + (endTime - startTime) + "ms");
-            System.out.println("========================================\n");
+            DemoLog.println("실행 시간: " + (endTime - startTime) + "ms");
+            DemoLog.println("========================================\n");
 
         } catch (Exception e) {
             // 6. 예외 처리 및 로깅
@@ -0,0 +1,25 @@
+package com.example.without.util;
+
+/**
+ * 호출마다 찍는 데모 로그 (메서드 호출, 파라미터, 반환값, 실행 시간)
+ *
+ * 부하 생성 모드(load.quiet=true)에서는 이 로그만 끕니다.
+ * 콘솔 I/O가 측정을 덮지 않게 하려는 것이고, 예외 로그와 SLO 경고 같은 다른 출력은 그대로 나갑니다.
+ */
+public class DemoLog {
+    private static volatile boolean enabled = true;
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static void println(String line) {
+        if (enabled) {
+            System.out.println(line);
+        }
+    }
+}
@@ -23,6 +23,10 @@ fun main() {
     // 조회
     println("등록된 사용자: ${userService.getAllUsers().size}명")
 
+    // 종료 (큐에 남은 알림을 모두 보낸 뒤 디스패처 종료)
+    userService.shutdown()
+    println("알림: ${userService.notificationStats()}")
+
     println()
     println("=" * 60)
     println("문제점 요약")
@@ -32,6 +36,7 @@ fun main() {
     println("3. 테스트 시 Mock 객체 주입 불가능")
     println("4. 객체 생성 책임이 UserService에 있음 (SRP 위반)")
     println("5. 다른 곳에서 동일한 Repository 인스턴스 재사용 불가")
+    println("6. 알림 디스패처의 생성 / 종료까지 UserService가 직접 관리")
     println()
     println("→ 해결책: Level 2에서 DI 컨테이너 도입")
     println("=" * 60)
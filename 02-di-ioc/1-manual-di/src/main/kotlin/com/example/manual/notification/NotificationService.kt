@@ -5,6 +5,14 @@ package com.example.manual.notification
  */
 interface NotificationService {
     fun send(message: String)
+
+    /**
+     * 여러 메시지를 한 번에 전송 (NotificationDispatcher가 배치 단위로 호출)
+     * 게이트웨이가 대량 전송 API를 제공하면 재정의해서 왕복 한 번으로 보냄
+     */
+    fun sendBatch(messages: List<String>) {
+        messages.forEach(::send)
+    }
 }
 
 /**
@@ -2,6 +2,7 @@ package com.example.manual.service
 
 import com.example.manual.model.User
 import com.example.manual.notification.EmailNotificationService
+import com.example.manual.notification.NotificationDispatcher
 import com.example.manual.repository.UserRepositoryImpl
 
 /**
@@ -12,11 +13,13 @@ import com.example.manual.repository.UserRepositoryImpl
  * 2. 구현체를 변경하려면 이 코드를 직접 수정해야 함
  * 3. 테스트 시 Mock 객체를 주입할 수 없음
  * 4. UserService가 객체 생성 책임까지 가지고 있음 (SRP 위반)
+ * 5. 알림 디스패처의 생성과 종료(shutdown)까지 UserService가 책임짐
  */
 class UserService {
     // 문제: 구체적인 구현체를 직접 생성!
     private val userRepository = UserRepositoryImpl()
-    private val notificationService = EmailNotificationService()
+    // 알림은 디스패처 큐에 넣고 바로 반환 (게이트웨이 왕복을 기다리지 않음)
+    private val notificationDispatcher = NotificationDispatcher(EmailNotificationService())
 
     fun registerUser(name: String, email: String): User {
         println("\n=== 사용자 등록 시작 ===")
@@ -24,7 +27,7 @@ class UserService {
         // 비즈니스 로직
         val user = User(name = name, email = email)
         val saved = userRepository.save(user)
-        notificationService.send("환영합니다, ${saved.name}님!")
+        notificationDispatcher.submit("환영합니다, ${saved.name}님!")
 
         println("=== 사용자 등록 완료 ===\n")
         return saved
@@ -37,6 +40,17 @@ class UserService {
     fun getAllUsers(): List<User> {
         return userRepository.findAll()
     }
+
+    fun notificationStats(): NotificationDispatcher.Stats {
+        return notificationDispatcher.stats()
+    }
+
+    /**
+     * 큐에 남은 알림을 모두 보낸 뒤 디스패처 종료
+     */
+    fun shutdown() {
+        notificationDispatcher.close()
+    }
 }
 
 /*
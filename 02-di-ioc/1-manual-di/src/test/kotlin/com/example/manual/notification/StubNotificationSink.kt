@@ -0,0 +1,41 @@
+package com.example.manual.notification
+
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+
+/**
+ * 테스트용 알림 게이트웨이
+ * 실제 이메일/SMS 게이트웨이처럼 호출(배치)마다 latencyMillis만큼 걸림
+ *
+ * @param failing true이면 모든 전송이 실패함
+ * @param gate 지정하면 전송마다 이 래치가 열릴 때까지 기다림 (게이트웨이가 멈춘 상황)
+ */
+class StubNotificationSink(
+    private val latencyMillis: Long = 0,
+    @Volatile var failing: Boolean = false,
+    private val gate: CountDownLatch? = null
+) : NotificationService {
+
+    /** sendBatch가 호출된 횟수 (gate에서 기다리는 중인 호출 포함) */
+    @Volatile
+    var calls = 0
+        private set
+
+    /** 게이트웨이 호출 한 번에 전달된 메시지 묶음 */
+    val batches: MutableList<List<String>> = Collections.synchronizedList(mutableListOf())
+
+    val messages: List<String>
+        get() = synchronized(batches) { batches.flatten() }
+
+    override fun send(message: String) {
+        sendBatch(listOf(message))
+    }
+
+    override fun sendBatch(messages: List<String>) {
+        synchronized(this) { calls++ }
+        gate?.await()
+        if (latencyMillis > 0) Thread.sleep(latencyMillis)
+        check(!failing) { "게이트웨이 오류" }
+        batches.add(messages.toList())
+    }
+}
@@ -1,6 +1,7 @@
 plugins {
     kotlin("jvm") version "1.9.22"
     application
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
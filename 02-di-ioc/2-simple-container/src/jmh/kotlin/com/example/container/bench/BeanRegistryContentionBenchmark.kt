@@ -0,0 +1,96 @@
+package com.example.container.bench
+
+import com.example.container.BeanRegistry
+import com.example.container.notification.EmailNotificationService
+import com.example.container.notification.NotificationService
+import com.example.container.notification.SmsNotificationService
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Group
+import org.openjdk.jmh.annotations.GroupThreads
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.Collections
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * 동시 조회 중 등록이 일어날 때의 get 성능
+ *
+ * 그룹마다 7개 스레드는 계속 조회하고 1개 스레드는 계속 교체 등록
+ * - registry: ClassValue 기반 BeanRegistry (DIContainer의 저장소)
+ * - concurrentMap: ConcurrentHashMap (구현체 조회는 두 번 조회)
+ * - synchronizedMap: 이전 mutableMapOf를 스레드 안전하게 감싼 경우
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class BeanRegistryContentionBenchmark {
+    private val email = EmailNotificationService()
+    private val sms = SmsNotificationService()
+    private var toggle = false
+
+    private val registry = BeanRegistry()
+    private val concurrentMap = ConcurrentHashMap<Class<*>, Any>()
+    private val synchronizedMap = Collections.synchronizedMap(HashMap<Class<*>, Any>())
+
+    @Setup
+    fun setUp() {
+        registry.register(NotificationService::class.java, email)
+        concurrentMap[NotificationService::class.java] = email
+        concurrentMap[EmailNotificationService::class.java] = email
+        synchronizedMap[NotificationService::class.java] = email
+    }
+
+    private fun next(): NotificationService {
+        toggle = !toggle
+        return if (toggle) sms else email
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(7)
+    fun registryGet(): Any? = registry.get(NotificationService::class.java)
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(1)
+    fun registryRegister() = registry.register(NotificationService::class.java, next())
+
+    @Benchmark
+    @Group("concurrentMap")
+    @GroupThreads(7)
+    fun concurrentMapGet(): Any? = concurrentMap[NotificationService::class.java]
+
+    @Benchmark
+    @Group("concurrentMap")
+    @GroupThreads(1)
+    fun concurrentMapRegister() {
+        val instance = next()
+        concurrentMap[NotificationService::class.java] = instance
+        concurrentMap[instance.javaClass] = instance
+    }
+
+    @Benchmark
+    @Group("synchronizedMap")
+    @GroupThreads(7)
+    fun synchronizedMapGet(): Any? = synchronizedMap[NotificationService::class.java]
+
+    @Benchmark
+    @Group("synchronizedMap")
+    @GroupThreads(1)
+    fun synchronizedMapRegister() {
+        synchronizedMap[NotificationService::class.java] = next()
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.container
+
+/**
+ * 락 없이 읽을 수 있는 Bean 저장소
+ *
+ * 읽기(get): ClassValue로 클래스마다 붙어 있는 슬롯을 찾아 volatile 필드를 한 번 읽음
+ *   - 해시맵 조회가 아니라 Class 객체에 캐시된 값을 꺼내므로 O(1), 락 없음
+ *   - 등록 시점에 상위 타입(부모 클래스, 인터페이스)의 슬롯까지 미리 채워두므로
+ *     어떤 상위 타입으로 조회하든 조회 한 번으로 끝남
+ * 쓰기(register): 드물게 일어나므로 락 안에서 슬롯을 갱신하고 volatile 쓰기로 발행
+ *
+ * 우선순위: 명시적으로 등록한 타입 > 상위 타입 인덱스 (같은 순위끼리는 Last-Win)
+ */
+class BeanRegistry {
+    private class Slot {
+        @Volatile
+        var instance: Any? = null
+    }
+
+    private val slots = object : ClassValue<Slot>() {
+        override fun computeValue(type: Class<*>) = Slot()
+    }
+
+    private val lock = Any()
+
+    // 명시적으로 등록된 타입 (lock 안에서만 접근)
+    private val registered = LinkedHashMap<Class<*>, Any>()
+
+    fun get(type: Class<*>): Any? = slots.get(type).instance
+
+    fun register(type: Class<*>, instance: Any) {
+        synchronized(lock) {
+            registered[type] = instance
+            slots.get(type).instance = instance
+
+            // 상위 타입 인덱스: 명시적으로 등록된 타입은 덮어쓰지 않음
+            supertypesOf(instance.javaClass).forEach { supertype ->
+                if (supertype !in registered) {
+                    slots.get(supertype).instance = instance
+                }
+            }
+        }
+    }
+
+    /**
+     * 명시적으로 등록된 타입 목록 (등록 순서)
+     */
+    fun registeredTypes(): List<Class<*>> = synchronized(lock) { registered.keys.toList() }
+
+    /**
+     * 자기 자신을 포함한 모든 상위 클래스와 인터페이스 (Object 제외)
+     */
+    private fun supertypesOf(clazz: Class<*>): Set<Class<*>> {
+        val result = LinkedHashSet<Class<*>>()
+        val pending = ArrayDeque<Class<*>>()
+        pending.add(clazz)
+        while (pending.isNotEmpty()) {
+            val type = pending.removeFirst()
+            if (type == Any::class.java || !result.add(type)) continue
+            type.superclass?.let { pending.add(it) }
+            pending.addAll(type.interfaces)
+        }
+        return result
+    }
+}
@@ -12,16 +12,20 @@ package com.example.container
  * 1. 여전히 수동으로 등록해야 함
  * 2. 타입 안전성 부족
  * 3. 의존성 자동 주입 불가
+ *
+ * 저장소는 BeanRegistry (ClassValue 기반, 락 없는 조회)
+ * - 등록 중에도 다른 스레드에서 안전하게 조회 가능
+ * - 등록한 인스턴스의 상위 타입으로도 바로 조회 가능
  */
 class DIContainer {
-    private val beans = mutableMapOf<Class<*>, Any>()
+    private val beans = BeanRegistry()
 
     /**
      * 의존성 등록
      * 같은 타입은 하나만 등록 가능 (Last-Win)
      */
     fun <T : Any> register(type: Class<T>, instance: T) {
-        beans[type] = instance
+        beans.register(type, instance)
         println("[Container] ${type.simpleName} 등록 완료")
     }
 
@@ -30,7 +34,7 @@ class DIContainer {
      */
     @Suppress("UNCHECKED_CAST")
     fun <T : Any> get(type: Class<T>): T {
-        return beans[type] as? T
+        return beans.get(type) as? T
             ?: throw IllegalStateException("${type.simpleName}이(가) 컨테이너에 등록되지 않았습니다")
     }
 
@@ -39,7 +43,7 @@ class DIContainer {
      */
     fun printRegisteredBeans() {
         println("\n[Container] 등록된 Bean 목록:")
-        beans.keys.forEach {
+        beans.registeredTypes().forEach {
             println("  - ${it.simpleName}")
         }
         println()
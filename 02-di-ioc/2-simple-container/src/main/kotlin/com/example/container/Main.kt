@@ -1,6 +1,7 @@
 package com.example.container
 
 import com.example.container.notification.EmailNotificationService
+import com.example.container.notification.NotificationDispatcher
 import com.example.container.notification.NotificationService
 import com.example.container.notification.SmsNotificationService
 import com.example.container.repository.UserRepository
@@ -34,11 +35,12 @@ fun main() {
     container.register<NotificationService>(EmailNotificationService())
     // 주석 해제하면 SMS로 변경됨 (UserService 코드 수정 불필요!)
     // container.register<NotificationService>(SmsNotificationService())
+    container.register(NotificationDispatcher(container.get<NotificationService>()))
 
     // 3. 의존성 주입하여 UserService 생성
     val userService = UserService(
         userRepository = container.get(),
-        notificationService = container.get()
+        notificationDispatcher = container.get()
     )
     container.register(userService)
 
@@ -52,6 +54,11 @@ fun main() {
     // 6. 조회
     println("등록된 사용자: ${userService.getAllUsers().size}명")
 
+    // 7. 종료 (종료 순서도 직접 챙겨야 함: 큐에 남은 알림을 모두 보낸 뒤 디스패처 종료)
+    val dispatcher = container.get<NotificationDispatcher>()
+    dispatcher.close()
+    println("알림: ${dispatcher.stats()}")
+
     println()
     println("=" * 60)
     println("Level 2 개선점")
@@ -68,6 +75,7 @@ fun main() {
     println("2. 의존성이 많아지면 등록 코드가 복잡해짐")
     println("3. 타입 안전성 부족 (런타임에 에러 발생 가능)")
     println("4. 의존성 자동 주입 불가")
+    println("5. 디스패처 같은 자원의 종료를 직접 호출해야 함")
     println()
     println("→ 해결책: Level 3에서 Reflection 기반 자동 주입 도입")
     println("=" * 60)
@@ -1,7 +1,7 @@
 package com.example.container.service
 
 import com.example.container.model.User
-import com.example.container.notification.NotificationService
+import com.example.container.notification.NotificationDispatcher
 import com.example.container.repository.UserRepository
 
 /**
@@ -12,6 +12,7 @@ import com.example.container.repository.UserRepository
  * 2. 인터페이스에 의존 (구현체에 의존 X)
  * 3. UserService는 비즈니스 로직에만 집중
  * 4. 의존성 변경이 UserService 코드 수정 없이 가능
+ * 5. 알림은 NotificationDispatcher 큐에 넣고 바로 반환 (디스패처의 생성 / 종료는 Main이 담당)
  *
  * 여전히 남은 문제:
  * 1. Main에서 수동으로 의존성을 연결해야 함
@@ -19,7 +20,7 @@ import com.example.container.repository.UserRepository
  */
 class UserService(
     private val userRepository: UserRepository,
-    private val notificationService: NotificationService
+    private val notificationDispatcher: NotificationDispatcher
 ) {
     fun registerUser(name: String, email: String): User {
         println("\n=== 사용자 등록 시작 ===")
@@ -27,7 +28,7 @@ class UserService(
         // 비즈니스 로직만 집중
         val user = User(name = name, email = email)
         val saved = userRepository.save(user)
-        notificationService.send("환영합니다, ${saved.name}님!")
+        notificationDispatcher.submit("환영합니다, ${saved.name}님!")
 
         println("=== 사용자 등록 완료 ===\n")
         return saved
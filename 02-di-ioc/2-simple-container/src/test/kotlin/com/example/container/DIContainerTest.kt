@@ -0,0 +1,80 @@
+package com.example.container
+
+import com.example.container.notification.EmailNotificationService
+import com.example.container.notification.NotificationService
+import com.example.container.notification.SmsNotificationService
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * DIContainer 저장소(BeanRegistry) 테스트
+ */
+class DIContainerTest {
+
+    @Test
+    @DisplayName("인터페이스로 등록한 Bean을 구현 클래스 타입으로도 조회할 수 있다")
+    fun `registered bean should be resolvable by its concrete type`() {
+        val container = DIContainer()
+        val email = EmailNotificationService()
+
+        container.register<NotificationService>(email)
+
+        assertSame(email, container.get<NotificationService>())
+        assertSame(email, container.get<EmailNotificationService>())
+    }
+
+    @Test
+    @DisplayName("명시적으로 등록한 타입은 상위 타입 인덱스보다 우선한다")
+    fun `explicit registration should win over supertype index`() {
+        val container = DIContainer()
+        val email = EmailNotificationService()
+        val sms = SmsNotificationService()
+
+        container.register<NotificationService>(email)
+        container.register(sms)
+
+        assertSame(email, container.get<NotificationService>())
+        assertSame(sms, container.get<SmsNotificationService>())
+    }
+
+    @Test
+    @DisplayName("등록 중에도 다른 스레드의 조회는 등록이 끝난 인스턴스만 본다")
+    fun `concurrent lookups should never observe a missing bean`() {
+        val container = DIContainer()
+        container.register<NotificationService>(EmailNotificationService())
+
+        val running = AtomicBoolean(true)
+        val failures = AtomicBoolean(false)
+        val ready = CountDownLatch(4)
+        val executor = Executors.newFixedThreadPool(4)
+        repeat(4) {
+            executor.submit {
+                ready.countDown()
+                while (running.get()) {
+                    try {
+                        container.get<NotificationService>()
+                    } catch (e: IllegalStateException) {
+                        failures.set(true)
+                    }
+                }
+            }
+        }
+
+        // when: 조회가 진행되는 동안 계속 교체 등록
+        ready.await()
+        repeat(200) {
+            container.register<NotificationService>(if (it % 2 == 0) SmsNotificationService() else EmailNotificationService())
+        }
+        running.set(false)
+        executor.shutdown()
+
+        // then
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS))
+        assertFalse(failures.get())
+    }
+}
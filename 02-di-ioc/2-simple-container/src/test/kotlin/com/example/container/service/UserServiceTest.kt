@@ -3,6 +3,7 @@ package com.example.container.service
 import com.example.container.DIContainer
 import com.example.container.get
 import com.example.container.notification.EmailNotificationService
+import com.example.container.notification.NotificationDispatcher
 import com.example.container.notification.NotificationService
 import com.example.container.register
 import com.example.container.repository.UserRepository
@@ -30,10 +31,11 @@ class UserServiceTest {
         container = DIContainer()
         container.register<UserRepository>(UserRepositoryImpl())
         container.register<NotificationService>(EmailNotificationService())
+        container.register(NotificationDispatcher(container.get<NotificationService>()))
 
         userService = UserService(
             userRepository = container.get(),
-            notificationService = container.get()
+            notificationDispatcher = container.get()
         )
     }
 
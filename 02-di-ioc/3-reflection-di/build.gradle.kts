@@ -1,6 +1,7 @@
 plugins {
     kotlin("jvm") version "1.9.22"
     application
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -13,6 +14,8 @@ repositories {
 dependencies {
     implementation(kotlin("stdlib"))
     implementation(kotlin("reflect"))
+    // 런타임 프록시 바이트코드 생성 (Hidden Class)
+    implementation("org.ow2.asm:asm:9.6")
     testImplementation(kotlin("test"))
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.1")
 }
@@ -23,8 +26,85 @@ application {
 
 tasks.test {
     useJUnitPlatform()
+    // 가상 스레드가 캐리어에 고정(pinning)되면 스택 출력 (JDK 21 이상, 그 이하에서는 무시됨)
+    jvmArgs("-Djdk.tracePinnedThreads=full")
+    // 테스트가 만든 알림 outbox 로그를 run의 로그(build/outbox)와 분리
+    systemProperty("reflection.outbox.dir", layout.buildDirectory.dir("test-outbox").get().asFile.absolutePath)
 }
 
 kotlin {
     jvmToolchain(17)
 }
+
+// @Lazy 시작 시간 / 메모리 측정 (src/jmh/kotlin/.../bench/LazyStartupMeasurement.kt)
+tasks.register<JavaExec>("lazyStartup") {
+    group = "benchmark"
+    description = "10,000개 컴포넌트에서 eager / @Lazy 시작 시간과 메모리를 비교합니다"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.reflection.bench.LazyStartupMeasurementKt")
+    jvmArgs("-Xmx1g")
+}
+
+// 테넌트 1,000개: 테넌트마다 컨테이너 생성 vs 자식 컨테이너 (src/jmh/kotlin/.../bench/TenantChildrenMeasurement.kt)
+tasks.register<JavaExec>("tenantChildren") {
+    group = "benchmark"
+    description = "테넌트 1,000개를 전체 컨테이너 / 자식 컨테이너로 만들 때의 생성 시간과 메모리를 비교합니다"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.reflection.bench.TenantChildrenMeasurementKt")
+    jvmArgs("-Xmx1g")
+}
+
+tasks.register<JavaExec>("schedulerFootprint") {
+    group = "benchmark"
+    description = "타이머 100,000개를 ScheduledThreadPoolExecutor / HashedWheelTimer로 예약 / 취소할 때의 비용과 메모리를 비교합니다"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.reflection.bench.SchedulerFootprintMeasurementKt")
+    jvmArgs("-Xmx1g")
+}
+
+// @Async + 지연 주입 게이트웨이: 실행 모드별 동시성 (src/jmh/kotlin/.../bench/GatewayConcurrencyMeasurement.kt)
+tasks.register<JavaExec>("gatewayConcurrency") {
+    group = "benchmark"
+    description = "블로킹 게이트웨이 호출을 플랫폼 스레드 풀 / 가상 스레드로 실행할 때의 처리량과 동시 호출 수를 비교합니다"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.reflection.bench.GatewayConcurrencyMeasurementKt")
+    jvmArgs("-Djdk.tracePinnedThreads=full")
+}
+
+// AOT wiring: 빌드 시점에 스캔/분석 결과를 Kotlin 코드로 생성 (src/main/kotlin/.../aot/WiringGenerator.kt)
+// 생성 코드는 aot 소스셋으로 컴파일되어 run 클래스패스에 포함됨 (-PnoAot 이면 런타임 스캔으로 실행)
+val generatedWiringDir = layout.buildDirectory.dir("generated/aot/kotlin")
+
+val aot by sourceSets.creating {
+    kotlin.srcDir(generatedWiringDir)
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += output + compileClasspath + sourceSets.main.get().runtimeClasspath
+}
+
+val generateWiring by tasks.registering(JavaExec::class) {
+    group = "aot"
+    description = "컴포넌트 스캔 결과로 Reflection 없는 wiring 코드(GeneratedWiring.kt)를 생성합니다"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("com.example.reflection.aot.WiringGeneratorKt")
+    args("com.example.reflection", generatedWiringDir.get().asFile.absolutePath)
+    inputs.files(sourceSets.main.get().output)
+    outputs.dir(generatedWiringDir)
+}
+
+tasks.named("compileAotKotlin") {
+    dependsOn(generateWiring)
+}
+
+tasks.named<JavaExec>("run") {
+    // -Preflection.async.mode=PLATFORM|VIRTUAL 로 @Async 실행 모드 선택 (기본: 지원되면 VIRTUAL)
+    project.findProperty("reflection.async.mode")?.let { systemProperty("reflection.async.mode", it) }
+    jvmArgs("-Djdk.tracePinnedThreads=full")
+    // 출력 파일은 작업 디렉터리(루트에서 실행하면 02-di-ioc)가 아니라 이 모듈의 build 아래에 씀
+    val buildDir = layout.buildDirectory.get().asFile
+    systemProperty("reflection.startup.trace-file", buildDir.resolve("startup-trace.json").absolutePath)
+    systemProperty("reflection.trace.flamegraph-file", buildDir.resolve("trace-flamegraph.txt").absolutePath)
+    systemProperty("reflection.outbox.dir", buildDir.resolve("outbox").absolutePath)
+    if (!project.hasProperty("noAot")) {
+        classpath += aot.output
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.reflection.bench
+
+import com.example.reflection.ReflectionContainer
+import com.example.reflection.notification.NotificationService
+import com.example.reflection.service.UserService
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Threads
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import kotlin.reflect.KClass
+
+/**
+ * getBean 조회 성능 (8개 스레드 동시 조회)
+ *
+ * - registry*: ClassValue 기반 BeanRegistry (현재 구현)
+ * - legacy*: 이전 구현과 같은 방식 - HashMap<KClass, Any>에서 못 찾으면 인터페이스 매핑으로 한 번 더 조회
+ * - concurrentMap*: 비교용 ConcurrentHashMap<Class, Any>
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class BeanLookupBenchmark {
+    private lateinit var container: ReflectionContainer
+    private val legacyBeans = HashMap<KClass<*>, Any>()
+    private val legacyInterfaceToImpl = HashMap<KClass<*>, KClass<*>>()
+    private val concurrentBeans = ConcurrentHashMap<Class<*>, Any>()
+
+    @Setup
+    fun setUp() {
+        container = ReflectionContainer("com.example.reflection", verbose = false)
+
+        val notificationService = container.getBean(NotificationService::class.java)
+        legacyBeans[notificationService::class] = notificationService
+        legacyBeans[UserService::class] = container.getBean(UserService::class.java)
+        legacyInterfaceToImpl[NotificationService::class] = notificationService::class
+
+        concurrentBeans[NotificationService::class.java] = notificationService
+        concurrentBeans[UserService::class.java] = container.getBean(UserService::class.java)
+    }
+
+    @TearDown
+    fun tearDown() {
+        container.close()
+    }
+
+    @Benchmark
+    fun registryByClass(): Any = container.getBean(UserService::class.java)
+
+    @Benchmark
+    fun registryByInterface(): Any = container.getBean(NotificationService::class.java)
+
+    @Benchmark
+    fun legacyByClass(): Any? = legacyGet(UserService::class)
+
+    @Benchmark
+    fun legacyByInterface(): Any? = legacyGet(NotificationService::class)
+
+    @Benchmark
+    fun concurrentMapByInterface(): Any? = concurrentBeans[NotificationService::class.java]
+
+    private fun legacyGet(type: KClass<*>): Any? = legacyBeans[type] ?: legacyBeans[legacyInterfaceToImpl[type]]
+}
@@ -0,0 +1,94 @@
+package com.example.reflection.bench
+
+import com.example.reflection.ReflectionContainer
+import com.example.reflection.bench.event.AsyncTick
+import com.example.reflection.bench.event.SyncTick
+import com.example.reflection.bench.event.TickCounter
+import com.example.reflection.event.EventBus
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OperationsPerInvocation
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/**
+ * 이벤트 발행 비용 (동기 vs 비동기)
+ *
+ * - direct: 구독 메서드를 직접 호출 (기준선)
+ * - syncPublish: 디스패치 테이블 조회 + 발행 스레드에서 구독자 호출
+ * - asyncThroughput: 이벤트 BATCH개를 발행하고 모두 처리될 때까지 기다림 (이벤트 1개당 시간)
+ *   MPSC 큐에 넣는 비용 + 이벤트 스레드로 넘기는 비용 + 처리 비용
+ * - asyncLatency: 이벤트 1개를 발행하고 구독자가 처리할 때까지의 시간 분포 (SampleTime)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=EventBusBenchmark
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class EventBusBenchmark {
+    private lateinit var container: ReflectionContainer
+    private lateinit var bus: EventBus
+    private lateinit var counter: TickCounter
+
+    private val syncTick = SyncTick(1)
+    private val asyncTick = AsyncTick(1)
+
+    @Setup
+    fun setUp() {
+        container = ReflectionContainer("com.example.reflection.bench.event", verbose = false)
+        bus = container.eventBus
+        counter = container.getBean(TickCounter::class.java)
+    }
+
+    @TearDown
+    fun tearDown() {
+        container.close()
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    fun direct(): Long {
+        counter.onDirect(syncTick)
+        return counter.syncSum
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    fun syncPublish(): Long {
+        bus.publish(syncTick)
+        return counter.syncSum
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OperationsPerInvocation(BATCH)
+    fun asyncThroughput(): Long {
+        val target = counter.asyncCount + BATCH
+        repeat(BATCH) { bus.publish(asyncTick) }
+        while (counter.asyncCount < target) Thread.onSpinWait()
+        return target
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    fun asyncLatency(): Long {
+        val target = counter.asyncCount + 1
+        bus.publish(asyncTick)
+        while (counter.asyncCount < target) Thread.onSpinWait()
+        return target
+    }
+
+    private companion object {
+        const val BATCH = 1_000
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.reflection.bench
+
+import com.example.reflection.ReflectionContainer
+import com.example.reflection.async.AsyncExecutionInterceptor
+import com.example.reflection.async.ExecutionMode
+import com.example.reflection.async.TaskExecutors
+import com.example.reflection.bench.async.LatencyGateway
+import com.example.reflection.bench.async.ProfileLookup
+import com.example.reflection.getBean
+import com.example.reflection.proxy.ProxyBeanPostProcessor
+import java.util.concurrent.CompletableFuture
+
+/**
+ * 블로킹 I/O 아래에서 실행 모드별 동시성 측정
+ *
+ * @Async 메서드(ProfileLookup.fetch)가 지연 50ms인 게이트웨이 스텁을 호출할 때
+ * 동시 요청 수를 늘려 가며 처리량과 게이트웨이에 실제로 도달한 최대 동시 호출 수를 비교
+ * - PLATFORM: 플랫폼 스레드 풀 (스레드 수가 곧 동시 호출 상한)
+ * - VIRTUAL: 작업마다 가상 스레드 (JDK 21 이상에서만 측정, 블로킹 sleep 동안 캐리어 스레드를 반납)
+ *
+ * 가상 스레드가 synchronized 블록 안에서 블로킹하면 캐리어에 고정(pinning)되어 이점이 사라짐
+ * 실행 태스크는 -Djdk.tracePinnedThreads=full로 고정 발생 시 스택을 출력함
+ *
+ * 실행: ./gradlew gatewayConcurrency
+ */
+fun main(args: Array<String>) {
+    LatencyGateway.latencyMillis = args.getOrNull(0)?.toLong() ?: 50L
+    val concurrencyLevels = listOf(64, 256, 1_024)
+
+    val modes = buildList {
+        add("platform(64)" to { TaskExecutors.create(ExecutionMode.PLATFORM, "async-", platformThreads = 64) })
+        add("platform(256)" to { TaskExecutors.create(ExecutionMode.PLATFORM, "async-", platformThreads = 256) })
+        if (TaskExecutors.virtualThreadsSupported) {
+            add("virtual" to { TaskExecutors.create(ExecutionMode.VIRTUAL, "async-") })
+        }
+    }
+
+    println("게이트웨이 지연 ${LatencyGateway.latencyMillis}ms, 요청 수 = 동시 요청 수 x 4")
+    if (!TaskExecutors.virtualThreadsSupported) {
+        println("(가상 스레드를 지원하지 않는 JVM: ${Runtime.version()} - virtual 모드는 생략)")
+    }
+    println("%-16s %12s %14s %14s %12s".format("mode", "concurrency", "throughput/s", "peak in-flight", "elapsed(ms)"))
+
+    for ((name, factory) in modes) {
+        val executor = factory()
+        val container = ReflectionContainer(
+            "com.example.reflection.bench.async",
+            verbose = false,
+            beanPostProcessors = listOf(ProxyBeanPostProcessor(listOf(AsyncExecutionInterceptor.advisor(executor))))
+        )
+        val lookup = container.getBean<ProfileLookup>()
+
+        // 워밍업: 스레드 생성 / JIT
+        runWave(lookup, 256)
+
+        for (concurrency in concurrencyLevels) {
+            LatencyGateway.reset()
+            val elapsedNanos = runWave(lookup, concurrency)
+            println(
+                "%-16s %12d %14.0f %14d %12.0f".format(
+                    name, concurrency, concurrency * WAVES / (elapsedNanos / 1e9),
+                    LatencyGateway.peakInFlight, elapsedNanos / 1e6
+                )
+            )
+        }
+        container.close()
+        executor.shutdown()
+    }
+}
+
+private const val WAVES = 4
+
+/**
+ * concurrency개 요청을 동시에 보내고 모두 끝날 때까지 기다리기를 WAVES번 반복
+ */
+private fun runWave(lookup: ProfileLookup, concurrency: Int): Long {
+    val start = System.nanoTime()
+    repeat(WAVES) {
+        val handles = Array(concurrency) { lookup.fetch(it) }
+        CompletableFuture.allOf(*handles).join()
+    }
+    return System.nanoTime() - start
+}
@@ -0,0 +1,76 @@
+package com.example.reflection.bench
+
+import com.example.reflection.ReflectionContainer
+import java.lang.management.ManagementFactory
+import kotlin.reflect.KClass
+
+/**
+ * @Lazy 시작 시간 / 메모리 측정
+ *
+ * 10,000개 컴포넌트 중 진입점(가장 위층)의 일부만 실제로 사용하는 애플리케이션을 가정하고
+ * 모두 즉시 생성(eager)할 때와 @Lazy로 필요한 것만 생성할 때를 비교
+ *
+ * 측정 항목:
+ * - startup: 컨테이너 생성 시간 (스캔 + 그래프 분석 + 즉시 생성)
+ * - first use: 사용하는 진입점들을 처음 getBean 하는 데 걸린 시간
+ * - retained heap: 컨테이너를 놓아주었을 때 GC로 회수되는 힙 크기
+ *
+ * 실행: ./gradlew lazyStartup
+ */
+fun main(args: Array<String>) {
+    val count = args.getOrNull(0)?.toInt() ?: 10_000
+    val usedRatio = args.getOrNull(1)?.toDouble() ?: 0.05
+
+    println("합성 컴포넌트 ${count}개 x 2 (eager / lazy) 컴파일 중...")
+    val eager = SyntheticComponents("com.example.synthetic.eager", count)
+    val lazy = SyntheticComponents("com.example.synthetic.lazy", count, lazy = true)
+    eager.classLoader
+    lazy.classLoader
+
+    // 1회차는 JIT / kotlin-reflect 캐시 워밍업, 2회차를 결과로 사용
+    repeat(2) { round ->
+        val results = listOf(measure("eager", eager, usedRatio), measure("lazy", lazy, usedRatio))
+        if (round == 1) {
+            println()
+            println("컴포넌트 ${count}개, 진입점 중 ${(usedRatio * 100).toInt()}% 사용")
+            println("%-6s %12s %12s %16s".format("mode", "startup(ms)", "first use(ms)", "retained(MB)"))
+            results.forEach { println(it) }
+        }
+    }
+}
+
+private class Result(val mode: String, val startupMillis: Double, val firstUseMillis: Double, val retainedBytes: Long) {
+    override fun toString() =
+        "%-6s %12.1f %12.1f %16.1f".format(mode, startupMillis, firstUseMillis, retainedBytes / 1024.0 / 1024.0)
+}
+
+private fun measure(mode: String, components: SyntheticComponents, usedRatio: Double): Result {
+    val roots = components.rootClasses()
+    val used = roots.take(maxOf(1, (roots.size * usedRatio).toInt()))
+
+    val startupStart = System.nanoTime()
+    var container: ReflectionContainer? = components.withClassLoader {
+        ReflectionContainer(components.packageName, verbose = false)
+    }
+    val startupNanos = System.nanoTime() - startupStart
+
+    val firstUseStart = System.nanoTime()
+    used.forEach {
+        @Suppress("UNCHECKED_CAST")
+        container!!.getBean(it.kotlin as KClass<Any>)
+    }
+    val firstUseNanos = System.nanoTime() - firstUseStart
+
+    // 컨테이너를 붙잡은 상태와 놓아준 상태의 힙 차이 = 컨테이너가 유지하는 메모리
+    val heapWithContainer = usedHeapAfterGc()
+    check(container!!.getBean(used.first().kotlin).javaClass == used.first())
+    container = null
+    val heapWithoutContainer = usedHeapAfterGc()
+
+    return Result(mode, startupNanos / 1e6, firstUseNanos / 1e6, heapWithContainer - heapWithoutContainer)
+}
+
+private fun usedHeapAfterGc(): Long {
+    repeat(3) { System.gc() }
+    return ManagementFactory.getMemoryMXBean().heapMemoryUsage.used
+}
@@ -0,0 +1,114 @@
+package com.example.reflection.bench
+
+import com.example.reflection.ReflectionContainer
+import com.example.reflection.bench.proxy.DefaultPriceCalculator
+import com.example.reflection.bench.proxy.PriceCalculator
+import com.example.reflection.proxy.Advisor
+import com.example.reflection.proxy.MethodInterceptor
+import com.example.reflection.proxy.MethodInvocation
+import com.example.reflection.proxy.Pointcut
+import com.example.reflection.proxy.ProxyBeanPostProcessor
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.lang.reflect.Proxy
+import java.util.concurrent.TimeUnit
+
+/**
+ * 프록시 메서드 호출 비용 (호출 1회당 ns)
+ *
+ * 01-aop의 Aspect 3개(시간 측정, 로깅, 보안)를 흉내낸 통과형 인터셉터 3개를 같은 순서로 적용
+ * - direct: 프록시 없이 직접 호출 (기준선)
+ * - hiddenClass*: ProxyBeanPostProcessor가 생성한 Hidden Class 프록시
+ *   - Unadvised: 인터셉터가 없는 메서드 (생성된 코드가 바로 위임)
+ * - jdkProxy: java.lang.reflect.Proxy + InvocationHandler, 마지막에 Method.invoke
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ProxyBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class ProxyBenchmark {
+    private lateinit var direct: PriceCalculator
+    private lateinit var hiddenClass: PriceCalculator
+    private lateinit var jdkProxy: PriceCalculator
+
+    private var quantity = 3
+    private var unitPrice = 12_000L
+
+    private val interceptors = List(3) { MethodInterceptor { invocation -> invocation.proceed() } }
+    private val pointcut = Pointcut { _, method -> method.name == "total" }
+
+    @Setup
+    fun setUp() {
+        direct = DefaultPriceCalculator()
+
+        val processor = ProxyBeanPostProcessor(interceptors.mapIndexed { order, it -> Advisor(pointcut, it, order) })
+        val container = ReflectionContainer(
+            "com.example.reflection.bench.proxy",
+            verbose = false,
+            beanPostProcessors = listOf(processor)
+        )
+        hiddenClass = container.getBean(PriceCalculator::class.java)
+
+        val target = DefaultPriceCalculator()
+        jdkProxy = Proxy.newProxyInstance(
+            PriceCalculator::class.java.classLoader,
+            arrayOf(PriceCalculator::class.java)
+        ) { _, method, args ->
+            if (pointcut.matches(target.javaClass, method)) {
+                ReflectiveInvocation(target, method, args ?: emptyArray(), interceptors).proceed()
+            } else {
+                method.invoke(target, *(args ?: emptyArray()))
+            }
+        } as PriceCalculator
+    }
+
+    @Benchmark
+    fun direct(): Long = direct.total(quantity, unitPrice)
+
+    @Benchmark
+    fun hiddenClass(): Long = hiddenClass.total(quantity, unitPrice)
+
+    @Benchmark
+    fun hiddenClassUnadvised(): Long = hiddenClass.subtotal(quantity, unitPrice)
+
+    @Benchmark
+    fun jdkProxy(): Long = jdkProxy.total(quantity, unitPrice)
+
+    @Benchmark
+    fun jdkProxyUnadvised(): Long = jdkProxy.subtotal(quantity, unitPrice)
+
+    /**
+     * JDK Proxy용 인터셉터 체인 - 마지막 단계가 Reflection 호출
+     */
+    private class ReflectiveInvocation(
+        override val target: Any,
+        override val method: Method,
+        override val arguments: Array<Any?>,
+        private val interceptors: List<MethodInterceptor>
+    ) : MethodInvocation {
+        private var position = 0
+
+        override fun proceed(): Any? {
+            if (position < interceptors.size) return interceptors[position++].invoke(this)
+            return try {
+                method.invoke(target, *arguments)
+            } catch (e: InvocationTargetException) {
+                throw e.targetException
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.reflection.bench
+
+import com.example.reflection.schedule.HashedWheelTimer
+import java.lang.management.ManagementFactory
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+/**
+ * 대량 타이머 예약 / 취소 비용 측정
+ *
+ * 요청 타임아웃처럼 "대부분 만료 전에 취소되는 타이머"를 많이 거는 상황을 가정하고 비교
+ * - ScheduledThreadPoolExecutor (removeOnCancel = true): 락으로 보호되는 힙, 예약 / 취소 O(log n)
+ * - HashedWheelTimer: 락 없는 큐에 넣고 틱 스레드가 칸으로 옮김, 예약 / 취소 O(1)
+ *
+ * 측정 항목:
+ * - schedule / cancel: 타이머 하나를 예약 / 취소하는 데 걸린 평균 시간
+ * - retained heap: 예약된 타이머 전체가 차지하는 힙 크기
+ *
+ * 실행: ./gradlew schedulerFootprint
+ */
+fun main(args: Array<String>) {
+    val timers = args.getOrNull(0)?.toInt() ?: 100_000
+
+    // 1회차는 JIT 워밍업, 2회차를 결과로 사용
+    repeat(2) { round ->
+        val executor = measureExecutor(timers)
+        val wheel = measureWheel(timers)
+        if (round == 1) {
+            println()
+            println("타이머 ${timers}개 (60초 뒤 만료, 모두 만료 전에 취소)")
+            println("%-28s %14s %14s %16s".format("scheduler", "schedule(ns)", "cancel(ns)", "retained(MB)"))
+            println(executor)
+            println(wheel)
+        }
+    }
+}
+
+private class FootprintResult(
+    val name: String,
+    val timers: Int,
+    val scheduleNanos: Long,
+    val cancelNanos: Long,
+    val retainedBytes: Long
+) {
+    override fun toString() = "%-28s %14.1f %14.1f %16.1f".format(
+        name, scheduleNanos.toDouble() / timers, cancelNanos.toDouble() / timers, retainedBytes / 1024.0 / 1024.0
+    )
+}
+
+private val noop = Runnable { }
+
+private fun measureExecutor(count: Int): FootprintResult {
+    val executor = ScheduledThreadPoolExecutor(1).apply { removeOnCancelPolicy = true }
+    val heapBefore = usedHeapAfterGc()
+
+    var start = System.nanoTime()
+    val futures = arrayOfNulls<ScheduledFuture<*>>(count)
+    for (i in 0 until count) {
+        futures[i] = executor.schedule(noop, 60_000L + i % 1_000, TimeUnit.MILLISECONDS)
+    }
+    val scheduleNanos = System.nanoTime() - start
+    val heapWith = usedHeapAfterGc()
+    check(executor.queue.size == count)
+
+    start = System.nanoTime()
+    for (future in futures) future!!.cancel(false)
+    val cancelNanos = System.nanoTime() - start
+
+    check(executor.queue.isEmpty())
+    executor.shutdownNow()
+    return FootprintResult("ScheduledThreadPoolExecutor", count, scheduleNanos, cancelNanos, heapWith - heapBefore)
+}
+
+private fun measureWheel(count: Int): FootprintResult {
+    val timer = HashedWheelTimer()
+    // 틱 / 워커 스레드 시작 비용은 제외
+    timer.schedule(0, noop)
+    val heapBefore = usedHeapAfterGc()
+
+    var start = System.nanoTime()
+    val tasks = Array(count) { i -> timer.schedule(60_000L + i % 1_000, noop) }
+    val scheduleNanos = System.nanoTime() - start
+    // 틱 스레드가 새 예약을 휠의 칸으로 옮긴 뒤에 힙 측정
+    Thread.sleep(50)
+    val heapWith = usedHeapAfterGc()
+    check(timer.stats().pending == count.toLong())
+
+    start = System.nanoTime()
+    for (task in tasks) task.cancel()
+    val cancelNanos = System.nanoTime() - start
+
+    check(timer.stats().pending == 0L)
+    timer.close()
+    return FootprintResult("HashedWheelTimer", count, scheduleNanos, cancelNanos, heapWith - heapBefore)
+}
+
+private fun usedHeapAfterGc(): Long {
+    repeat(3) { System.gc() }
+    return ManagementFactory.getMemoryMXBean().heapMemoryUsage.used
+}
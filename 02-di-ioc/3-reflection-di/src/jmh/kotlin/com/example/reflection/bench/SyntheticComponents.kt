@@ -0,0 +1,110 @@
+package com.example.reflection.bench
+
+import java.io.File
+import java.net.URLClassLoader
+import java.nio.file.Files
+import javax.tools.ToolProvider
+
+/**
+ * 벤치마크용 합성 컴포넌트 그래프 생성기
+ *
+ * count개의 @Component Java 클래스를 depth개의 층으로 나누어 생성하고,
+ * 각 층의 클래스는 바로 아래 층의 클래스 fanOut개를 @Inject로 주입받음
+ *
+ * 예) count=6, depth=3, fanOut=2
+ *     layer 0: C0, C1        (의존성 없음)
+ *     layer 1: C2, C3        -> layer 0 중 2개
+ *     layer 2: C4, C5        -> layer 1 중 2개
+ *
+ * 생성한 소스는 JDK 내장 컴파일러(javax.tools)로 컴파일하고
+ * 별도 클래스로더로 로드하므로 스캔 대상 패키지가 기존 컴포넌트와 섞이지 않음
+ */
+class SyntheticComponents(
+    val packageName: String,
+    val count: Int,
+    val depth: Int = 4,
+    val fanOut: Int = 2,
+    val lazy: Boolean = false
+) {
+    private val layerSize = (count + depth - 1) / depth
+
+    val classLoader: ClassLoader by lazy { compile() }
+
+    fun className(index: Int) = "$packageName.C$index"
+
+    /**
+     * 가장 위층(다른 누구도 주입받지 않는) 클래스들 - 애플리케이션이 직접 조회하는 진입점 역할
+     */
+    fun rootClasses(): List<Class<*>> {
+        val firstRoot = layerSize * (depth - 1)
+        return (firstRoot until count).map { Class.forName(className(it), false, classLoader) }
+    }
+
+    private fun dependenciesOf(index: Int): List<Int> {
+        val layer = index / layerSize
+        if (layer == 0) return emptyList()
+
+        val below = (layer - 1) * layerSize
+        return (0 until fanOut).map { j -> below + (index * 31 + j * 17) % layerSize }.distinct()
+    }
+
+    private fun source(index: Int): String {
+        val params = dependenciesOf(index).joinToString(", ") { "@Inject C$it d$it" }
+        return """
+            package $packageName;
+
+            import com.example.reflection.annotation.Component;
+            import com.example.reflection.annotation.Inject;
+            import com.example.reflection.annotation.Lazy;
+
+            @Component
+            ${if (lazy) "@Lazy" else ""}
+            public class C$index {
+                // 실제 컴포넌트가 들고 있는 캐시/버퍼를 흉내내는 상태
+                private final long[] state = new long[32];
+
+                public C$index($params) {
+                }
+            }
+        """.trimIndent()
+    }
+
+    private fun compile(): ClassLoader {
+        val root = Files.createTempDirectory("synthetic-components").toFile()
+        val sourceDir = File(root, "src/" + packageName.replace('.', '/')).apply { mkdirs() }
+        val classesDir = File(root, "classes").apply { mkdirs() }
+
+        val sources = (0 until count).map { index ->
+            File(sourceDir, "C$index.java").apply { writeText(source(index)) }
+        }
+
+        val compiler = ToolProvider.getSystemJavaCompiler()
+            ?: throw IllegalStateException("JDK 컴파일러를 찾을 수 없습니다 (JRE가 아닌 JDK로 실행해야 합니다)")
+        val args = listOf(
+            "-d", classesDir.path,
+            "-encoding", "UTF-8",
+            "-proc:none",
+            "-cp", System.getProperty("java.class.path"),
+            "-nowarn"
+        ) + sources.map { it.path }
+        val exitCode = compiler.run(null, null, System.err, *args.toTypedArray())
+        check(exitCode == 0) { "합성 컴포넌트 컴파일 실패 (exit=$exitCode)" }
+
+        root.deleteOnExit()
+        return URLClassLoader(arrayOf(classesDir.toURI().toURL()), SyntheticComponents::class.java.classLoader)
+    }
+
+    /**
+     * 컨테이너가 스캔할 때 합성 클래스를 찾을 수 있도록 컨텍스트 클래스로더를 바꿔서 실행
+     */
+    fun <T> withClassLoader(block: () -> T): T {
+        val thread = Thread.currentThread()
+        val previous = thread.contextClassLoader
+        thread.contextClassLoader = classLoader
+        try {
+            return block()
+        } finally {
+            thread.contextClassLoader = previous
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.reflection.bench
+
+import com.example.reflection.ReflectionContainer
+import java.lang.management.ManagementFactory
+import java.lang.ref.Reference
+
+/**
+ * 테넌트별 컨테이너 생성 시간 / 메모리 측정
+ *
+ * 합성 컴포넌트 1,000개짜리 애플리케이션에서 테넌트 1,000개를 만든다고 가정하고 비교
+ * - full container: 테넌트마다 ReflectionContainer 생성 (스캔 + 분석 + 모든 Bean 생성)
+ *   오래 걸리므로 일부 테넌트만 만들고 1,000개로 환산
+ * - child container: 부모 하나 + 테넌트마다 createChild
+ *   (테넌트 설정 객체 1개 + 진입점 컴포넌트 1개를 자식 안에서 다시 생성)
+ *
+ * 측정 항목:
+ * - per tenant: 테넌트 하나를 만드는 데 걸린 시간
+ * - retained heap: 테넌트 컨테이너 전체를 놓아주었을 때 GC로 회수되는 힙 크기
+ *
+ * 실행: ./gradlew tenantChildren
+ */
+fun main(args: Array<String>) {
+    val tenants = args.getOrNull(0)?.toInt() ?: 1_000
+    val components = args.getOrNull(1)?.toInt() ?: 1_000
+    val fullContainers = args.getOrNull(2)?.toInt() ?: 20
+
+    println("합성 컴포넌트 ${components}개 컴파일 중...")
+    val synthetic = SyntheticComponents("com.example.synthetic.tenant", components)
+    val roots = synthetic.rootClasses()
+
+    // 1회차는 JIT / kotlin-reflect 캐시 워밍업, 2회차를 결과로 사용
+    repeat(2) { round ->
+        val full = measureFullContainers(synthetic, fullContainers)
+        val children = measureChildren(synthetic, roots, tenants)
+        if (round == 1) {
+            println()
+            println("컴포넌트 ${components}개, 테넌트 ${tenants}개 (full container는 ${fullContainers}개로 측정 후 환산)")
+            println("%-16s %14s %16s %18s".format("mode", "per tenant(us)", "total(ms)", "retained(MB)"))
+            println(full.scaledTo(tenants))
+            println(children)
+        }
+    }
+}
+
+/**
+ * 테넌트 설정 (자식 컨테이너에 instance()로 등록)
+ */
+class TenantSettings(val tenantId: Int)
+
+private class TenantResult(val mode: String, val tenants: Int, val totalNanos: Long, val retainedBytes: Long) {
+    fun scaledTo(target: Int) = TenantResult(mode, target, totalNanos * target / tenants, retainedBytes * target / tenants)
+
+    override fun toString() = "%-16s %14.1f %16.1f %18.1f".format(
+        mode, totalNanos / 1e3 / tenants, totalNanos / 1e6, retainedBytes / 1024.0 / 1024.0
+    )
+}
+
+private fun measureFullContainers(synthetic: SyntheticComponents, count: Int): TenantResult {
+    val heapBefore = usedHeapAfterGc()
+    val start = System.nanoTime()
+    val containers = synthetic.withClassLoader {
+        List(count) { ReflectionContainer(synthetic.packageName, verbose = false) }
+    }
+    val elapsed = System.nanoTime() - start
+
+    // 힙을 잴 때까지 컨테이너를 붙잡아 둠 (반환하면 놓아줌)
+    val heapWith = usedHeapAfterGc()
+    check(containers.size == count)
+    Reference.reachabilityFence(containers)
+    return TenantResult("full container", count, elapsed, heapWith - heapBefore)
+}
+
+private fun measureChildren(synthetic: SyntheticComponents, roots: List<Class<*>>, count: Int): TenantResult {
+    val parent = synthetic.withClassLoader { ReflectionContainer(synthetic.packageName, verbose = false) }
+
+    // 부모는 두 방식 모두에 필요하므로 부모를 만든 뒤의 힙을 기준으로 자식들만 측정
+    val heapBefore = usedHeapAfterGc()
+    val start = System.nanoTime()
+    val children = List(count) { i ->
+        parent.createChild("tenant-$i") {
+            instance(TenantSettings(i))
+            component(roots[i % roots.size].kotlin)
+        }
+    }
+    val elapsed = System.nanoTime() - start
+
+    // 힙을 잴 때까지 자식들을 붙잡아 둠 (반환하면 놓아줌)
+    val heapWith = usedHeapAfterGc()
+    check(children.last().getBean(TenantSettings::class).tenantId == count - 1)
+    Reference.reachabilityFence(children)
+    return TenantResult("child container", count, elapsed, heapWith - heapBefore)
+}
+
+private fun usedHeapAfterGc(): Long {
+    repeat(3) { System.gc() }
+    return ManagementFactory.getMemoryMXBean().heapMemoryUsage.used
+}
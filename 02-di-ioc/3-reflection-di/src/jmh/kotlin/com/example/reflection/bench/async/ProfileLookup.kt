@@ -0,0 +1,49 @@
+package com.example.reflection.bench.async
+
+import com.example.reflection.annotation.Async
+import com.example.reflection.annotation.Component
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 동시성 측정용 컴포넌트
+ * 프로필 조회가 외부 게이트웨이(블로킹 I/O)를 호출한다고 가정
+ */
+interface ProfileLookup {
+    @Async
+    fun fetch(userId: Int): CompletableFuture<String>
+}
+
+@Component
+class GatewayProfileLookup : ProfileLookup {
+    override fun fetch(userId: Int): CompletableFuture<String> =
+        CompletableFuture.completedFuture(LatencyGateway.call("user-$userId"))
+}
+
+/**
+ * 지연을 주입한 게이트웨이 스텁
+ * 호출마다 latencyMillis만큼 블로킹하고, 동시에 처리 중인 호출 수의 최댓값을 기록함
+ */
+object LatencyGateway {
+    @Volatile
+    var latencyMillis = 50L
+
+    private val inFlight = AtomicInteger()
+    private val peak = AtomicInteger()
+
+    val peakInFlight: Int get() = peak.get()
+
+    fun call(request: String): String {
+        peak.accumulateAndGet(inFlight.incrementAndGet(), ::maxOf)
+        try {
+            Thread.sleep(latencyMillis)
+            return "$request:ok"
+        } finally {
+            inFlight.decrementAndGet()
+        }
+    }
+
+    fun reset() {
+        peak.set(0)
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.reflection.bench.event
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Subscribe
+
+/**
+ * 이벤트 버스 벤치마크용 컴포넌트
+ * SyncTick은 발행 스레드에서, AsyncTick은 이벤트 스레드에서 처리됨
+ */
+class SyncTick(val value: Long)
+
+class AsyncTick(val value: Long)
+
+@Component
+class TickCounter {
+    @Volatile
+    var syncSum = 0L
+
+    @Volatile
+    var asyncCount = 0L
+
+    fun onDirect(tick: SyncTick) {
+        syncSum += tick.value
+    }
+
+    @Subscribe
+    fun onSync(tick: SyncTick) {
+        syncSum += tick.value
+    }
+
+    // 구독자마다 드레인은 한 스레드에서만 실행되므로 volatile 쓰기로 충분
+    // 동기 구독자처럼 이벤트 값을 읽음 (벤치마크는 value가 1인 틱만 발행하므로 처리한 틱 수와 같음)
+    @Subscribe(async = true)
+    fun onAsync(tick: AsyncTick) {
+        asyncCount += tick.value
+    }
+}
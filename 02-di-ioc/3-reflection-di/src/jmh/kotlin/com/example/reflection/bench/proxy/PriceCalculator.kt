@@ -0,0 +1,18 @@
+package com.example.reflection.bench.proxy
+
+import com.example.reflection.annotation.Component
+
+/**
+ * 프록시 벤치마크용 컴포넌트
+ * total은 인터셉터 적용, subtotal은 미적용
+ */
+interface PriceCalculator {
+    fun total(quantity: Int, unitPrice: Long): Long
+    fun subtotal(quantity: Int, unitPrice: Long): Long
+}
+
+@Component
+class DefaultPriceCalculator : PriceCalculator {
+    override fun total(quantity: Int, unitPrice: Long) = quantity * unitPrice + 2_500
+    override fun subtotal(quantity: Int, unitPrice: Long) = quantity * unitPrice
+}
@@ -0,0 +1,67 @@
+package com.example.reflection
+
+import com.example.reflection.annotation.ScopeType
+import java.util.concurrent.atomic.AtomicReference
+import kotlin.reflect.KClass
+
+/**
+ * Bean 정의 (Spring의 BeanDefinition과 유사)
+ *
+ * 스캔 시점(또는 빌드 시점)에 한 번만 계산해 두고, 이후 Bean 생성(특히 prototype)은
+ * 어노테이션 분석 없이 instantiator를 바로 호출함
+ *
+ * - dependencies[i]: i번째 생성자 파라미터에 주입할 구현 클래스 (@Inject가 없으면 null)
+ * - exposedTypes: 이 Bean을 조회할 수 있는 타입 (자기 자신 + 구현체로 선택된 상위 타입)
+ * - init / destroy: @PostConstruct / @PreDestroy 콜백 (없으면 null)
+ * - instantiator: 생성자 인자 배열을 받아 인스턴스를 만드는 함수
+ *   (런타임 스캔이면 Reflection 생성자 호출, AOT면 생성된 코드의 직접 생성자 호출)
+ */
+class BeanDefinition(
+    val beanClass: KClass<*>,
+    val dependencies: List<KClass<*>?>,
+    val parameterNames: List<String?>,
+    val scope: ScopeType,
+    val lazy: Boolean,
+    val exposedTypes: List<Class<*>>,
+    val init: LifecycleCallback? = null,
+    val destroy: LifecycleCallback? = null,
+    private val instantiator: (Array<Any?>) -> Any
+) {
+    private val dependencyArray: Array<KClass<*>?> = dependencies.toTypedArray()
+
+    /**
+     * 싱글톤 인스턴스 슬롯
+     * null이면 아직 생성 전, CAS로 단 한 번만 발행됨
+     */
+    val singleton = AtomicReference<Any?>()
+
+    /**
+     * 컨테이너 시작 시점에 생성해야 하는 Bean인지
+     */
+    val isEager: Boolean get() = scope == ScopeType.SINGLETON && !lazy
+
+    /**
+     * 미리 계산된 팩토리
+     * resolve로 의존성을 꺼내 instantiator를 호출
+     */
+    fun newInstance(resolve: (index: Int, dependency: KClass<*>) -> Any): Any {
+        return construct(resolveArguments(resolve))
+    }
+
+    /**
+     * 생성자 인자 배열 준비 (@Inject가 없는 파라미터는 null)
+     */
+    fun resolveArguments(resolve: (index: Int, dependency: KClass<*>) -> Any): Array<Any?> {
+        val args = arrayOfNulls<Any>(dependencyArray.size)
+        for (i in dependencyArray.indices) {
+            val dependency = dependencyArray[i]
+            if (dependency != null) args[i] = resolve(i, dependency)
+        }
+        return args
+    }
+
+    /**
+     * 준비된 인자로 생성자 호출
+     */
+    fun construct(args: Array<Any?>): Any = instantiator(args)
+}
@@ -0,0 +1,38 @@
+package com.example.reflection
+
+import kotlin.reflect.KClass
+
+/**
+ * 계층형 Bean 조회 (Spring의 HierarchicalBeanFactory와 유사)
+ *
+ * ReflectionContainer(루트)와 ChildContainer가 구현하며,
+ * 자식 컨테이너는 자기에게 없는 Bean을 부모 체인을 따라 올라가며 찾음
+ */
+interface BeanFactory {
+
+    fun <T : Any> getBean(type: Class<T>): T
+
+    /**
+     * 이미 생성되어 발행된 싱글톤만 조회 (없으면 null, 새로 생성하지 않음)
+     * 자식 컨테이너는 이 결과만 캐시함 (PROTOTYPE 등은 매번 부모에게 위임)
+     */
+    fun findSingleton(type: Class<*>): Any?
+
+    /**
+     * 생성자 주입용 조회: dependency는 BeanDefinition.dependencies에 기록된 구현 클래스
+     * 자식 컨테이너는 자기가 재정의한 Bean이 있으면 그것을 주입함
+     */
+    fun resolveDependency(dependency: KClass<*>): Any
+
+    /**
+     * 자식 컨테이너 생성 (스캔 / 생성자 분석 없이 부모의 BeanDefinition을 재사용)
+     */
+    fun createChild(name: String, declare: ChildContainer.Declarations.() -> Unit = {}): ChildContainer
+}
+
+/**
+ * Kotlin DSL을 위한 확장 함수
+ */
+inline fun <reified T : Any> BeanFactory.getBean(): T {
+    return getBean(T::class.java)
+}
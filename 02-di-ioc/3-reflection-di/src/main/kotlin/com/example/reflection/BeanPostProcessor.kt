@@ -0,0 +1,13 @@
+package com.example.reflection
+
+/**
+ * Bean 후처리 (Spring의 BeanPostProcessor와 유사)
+ *
+ * 생성자 호출이 끝난 Bean을 받아서 그대로 돌려주거나 다른 객체(프록시 등)로 바꿔서 돌려줌
+ * 컨테이너는 돌려받은 객체를 싱글톤으로 발행하고 다른 Bean에 주입함
+ *
+ * 프록시로 바꾸는 경우 인터페이스 타입으로만 조회/주입할 수 있음 (구현 클래스 타입으로는 불가)
+ */
+fun interface BeanPostProcessor {
+    fun postProcessAfterInitialization(bean: Any, definition: BeanDefinition): Any
+}
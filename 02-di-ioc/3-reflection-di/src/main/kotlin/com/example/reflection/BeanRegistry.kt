@@ -0,0 +1,45 @@
+package com.example.reflection
+
+/**
+ * 생성된 싱글톤을 락 없이 조회하는 저장소
+ *
+ * 읽기(get): ClassValue로 클래스마다 붙어 있는 슬롯을 찾아 volatile 필드를 한 번 읽음
+ *   - Class 객체에 캐시된 값을 꺼내므로 해시맵 조회 없이 O(1), 락 없음
+ *   - 컨테이너가 상위 타입(부모 클래스, 인터페이스)의 슬롯까지 함께 채우므로
+ *     어떤 타입으로 조회하든 조회 한 번으로 끝남
+ * 쓰기(publish): 한 타입은 하나의 BeanDefinition에만 매핑되고, 싱글톤은 CAS에서 이긴
+ *   스레드만 발행하므로 슬롯마다 쓰기는 최대 한 번 (volatile 쓰기로 안전하게 발행)
+ */
+class BeanRegistry {
+    private class Slot {
+        @Volatile
+        var instance: Any? = null
+    }
+
+    private val slots = object : ClassValue<Slot>() {
+        override fun computeValue(type: Class<*>) = Slot()
+    }
+
+    fun get(type: Class<*>): Any? = slots.get(type).instance
+
+    fun publish(instance: Any, types: List<Class<*>>) {
+        types.forEach { slots.get(it).instance = instance }
+    }
+}
+
+/**
+ * 모든 상위 클래스와 인터페이스 (자기 자신과 Object 제외)
+ */
+fun supertypesOf(clazz: Class<*>): Set<Class<*>> {
+    val result = LinkedHashSet<Class<*>>()
+    val pending = ArrayDeque<Class<*>>()
+    clazz.superclass?.let { pending.add(it) }
+    pending.addAll(clazz.interfaces)
+    while (pending.isNotEmpty()) {
+        val type = pending.removeFirst()
+        if (type == Any::class.java || !result.add(type)) continue
+        type.superclass?.let { pending.add(it) }
+        pending.addAll(type.interfaces)
+    }
+    return result
+}
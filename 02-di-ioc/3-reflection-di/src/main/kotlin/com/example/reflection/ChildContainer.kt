@@ -0,0 +1,163 @@
+package com.example.reflection
+
+import com.example.reflection.annotation.ScopeType
+import com.example.reflection.event.EventBus
+import com.example.reflection.schedule.HashedWheelTimer
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.reflect.KClass
+
+/**
+ * 자식 컨테이너 (테넌트별 컨텍스트)
+ *
+ * 한 JVM에서 여러 테넌트를 운영할 때 테넌트마다 ReflectionContainer를 만들면
+ * 테넌트 수만큼 스캔 / 생성자 분석 / 모든 Bean 생성을 반복하게 됨
+ * 자식 컨테이너는 부모의 싱글톤을 그대로 물려받고, 자기가 선언한 Bean만 따로 가짐
+ *
+ * - instance(bean): 이미 만들어진 객체를 등록 (예: 테넌트 설정) - 클래스 + 모든 상위 타입으로 조회 가능
+ * - component(Class): 부모에 등록된 컴포넌트를 자식 안에서 새로 생성
+ *   부모의 BeanDefinition(주입 계획, instantiator)을 그대로 쓰므로 스캔 / 어노테이션 분석이 없음
+ *   의존성은 자식이 재정의한 Bean이 있으면 그것을, 없으면 부모의 Bean을 주입받음
+ *
+ * 조회 순서: 자식이 선언한 Bean -> 부모 조회 캐시 -> 부모 체인
+ * 부모의 Bean은 자식이 재정의한 Bean을 볼 수 없음 (Spring의 부모/자식 ApplicationContext와 같음)
+ * 예) 자식이 TenantConfig만 재정의하면 부모의 UserService는 여전히 부모의 설정을 사용하므로,
+ *     테넌트 설정이 필요한 Bean은 component()로 함께 선언해야 함
+ *
+ * 자식이 생성한 Bean의 @Subscribe / @Scheduled 메서드는 부모와 같은 내장 이벤트 버스 / 스케줄러에 등록됨
+ *
+ * 자식을 닫으면 자식이 등록한 구독자 / 주기 작업을 해제하고, 자식이 생성한 Bean의 @PreDestroy만 호출함 (부모를 닫기 전에 닫아야 함)
+ * 생성 중 Bean 생성 / 초기화가 실패하면 이미 생성한 Bean을 생성 역순으로 종료한 뒤 예외를 던짐
+ */
+class ChildContainer internal constructor(
+    val name: String,
+    private val parent: BeanFactory,
+    private val root: ReflectionContainer,
+    declarations: Declarations
+) : BeanFactory, AutoCloseable {
+
+    /**
+     * 자식 컨테이너에 둘 Bean 선언
+     */
+    class Declarations internal constructor() {
+        internal val instances = mutableListOf<Any>()
+        internal val components = mutableListOf<KClass<*>>()
+
+        fun instance(bean: Any) {
+            instances += bean
+        }
+
+        fun component(beanClass: KClass<*>) {
+            components += beanClass
+        }
+    }
+
+    // 자식이 선언한 Bean: 조회 타입 -> 인스턴스 (생성자에서 채운 뒤 읽기 전용)
+    private val local = HashMap<Class<*>, Any>()
+
+    // 부모 체인에서 찾은 싱글톤 캐시 (체인을 매번 올라가지 않도록)
+    private val inherited = ConcurrentHashMap<Class<*>, Any>()
+
+    // @PreDestroy를 호출할 Bean (생성 순서대로, 프록시가 아닌 원본)
+    private val destroyTargets = mutableListOf<Pair<BeanDefinition, Any>>()
+
+    // 자식이 생성한 Bean의 이벤트 구독자 / 주기 작업 (닫을 때 해제)
+    private val subscribers = mutableListOf<EventBus.Subscriber>()
+    private val scheduledMethods = mutableListOf<HashedWheelTimer.ScheduledMethod>()
+    private val closed = AtomicBoolean()
+
+    init {
+        declarations.instances.forEach { bean ->
+            publish(bean, exposedTypesOf.get(bean.javaClass))
+        }
+
+        val definitions = declarations.components.associateWith { beanClass ->
+            val definition = root.definitionOf(beanClass)
+                ?: throw IllegalStateException("${beanClass.simpleName}: 부모 컨테이너에 등록된 컴포넌트만 자식에서 다시 생성할 수 있습니다")
+            check(definition.scope == ScopeType.SINGLETON) {
+                "${beanClass.simpleName}: 자식 컨테이너에는 SINGLETON 컴포넌트만 선언할 수 있습니다"
+            }
+            definition
+        }
+        // 선언한 컴포넌트끼리 의존하면 의존 대상부터 생성 (부모의 그래프가 DAG이므로 재귀가 끝남)
+        val created = HashMap<KClass<*>, Any>()
+        fun create(definition: BeanDefinition): Any = created[definition.beanClass] ?: run {
+            val args = definition.resolveArguments { _, dependency ->
+                definitions[dependency]?.let { create(it) } ?: resolveDependency(dependency)
+            }
+            val raw = definition.construct(args)
+            root.initialize(definition, raw)
+            val instance = root.postProcess(raw, definition)
+            created[definition.beanClass] = instance
+            if (definition.destroy != null) destroyTargets += definition to raw
+            subscribers += root.subscribe(raw, definition.beanClass.java)
+            scheduledMethods += root.schedule(raw, definition.beanClass.java)
+            publish(instance, definition.exposedTypes.filter { it.isInstance(instance) })
+            instance
+        }
+        try {
+            definitions.values.forEach { create(it) }
+        } catch (e: Throwable) {
+            // 호출자는 닫을 자식을 받지 못하므로, 이미 만든 Bean은 여기서 구독 / 작업 해제 후 생성 역순으로 종료
+            try {
+                close()
+            } catch (closeError: Throwable) {
+                e.addSuppressed(closeError)
+            }
+            throw e
+        }
+    }
+
+    // 같은 타입을 여러 번 선언하면 나중에 선언한 Bean이 사용됨 (Last-Win)
+    private fun publish(instance: Any, types: List<Class<*>>) {
+        types.forEach { local[it] = instance }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun <T : Any> getBean(type: Class<T>): T {
+        findSingleton(type)?.let { return it as T }
+        // 부모의 @Lazy 최초 조회, PROTOTYPE/THREAD/REQUEST Bean (캐시하지 않음)
+        return parent.getBean(type)
+    }
+
+    fun <T : Any> getBean(type: KClass<T>): T = getBean(type.java)
+
+    override fun findSingleton(type: Class<*>): Any? {
+        local[type]?.let { return it }
+        inherited[type]?.let { return it }
+        val found = parent.findSingleton(type) ?: return null
+        inherited.putIfAbsent(type, found)
+        return found
+    }
+
+    override fun resolveDependency(dependency: KClass<*>): Any {
+        local[dependency.java]?.let { return it }
+        // 부모가 이 구현 클래스를 발행한 타입 중 하나라도 자식이 재정의했으면 자식의 Bean을 주입
+        root.definitionOf(dependency)?.exposedTypes?.forEach { type ->
+            local[type]?.let { return it }
+        }
+        return parent.resolveDependency(dependency)
+    }
+
+    override fun createChild(name: String, declare: Declarations.() -> Unit): ChildContainer {
+        return ChildContainer(name, this, root, Declarations().apply(declare))
+    }
+
+    /**
+     * 자식이 등록한 구독자 / 주기 작업을 해제한 뒤, 자식이 생성한 Bean의 @PreDestroy를 생성 역순으로 호출
+     * 취소 시점에 이미 실행 중인 주기 작업은 그 실행을 마치고 멈춤
+     */
+    override fun close() {
+        if (!closed.compareAndSet(false, true)) return
+        root.eventBus.unregister(subscribers)
+        scheduledMethods.forEach { it.task.cancel() }
+        destroyTargets.asReversed().forEach { (definition, bean) -> root.destroy(definition, bean) }
+    }
+
+    private companion object {
+        // instance()로 등록한 객체의 조회 타입 (클래스마다 한 번만 계산해 모든 자식이 공유)
+        val exposedTypesOf = object : ClassValue<List<Class<*>>>() {
+            override fun computeValue(type: Class<*>) = listOf(type) + supertypesOf(type)
+        }
+    }
+}
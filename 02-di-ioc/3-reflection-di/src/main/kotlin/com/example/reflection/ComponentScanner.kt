@@ -0,0 +1,229 @@
+package com.example.reflection
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.Lazy
+import com.example.reflection.annotation.PostConstruct
+import com.example.reflection.annotation.PreDestroy
+import com.example.reflection.annotation.Scope
+import com.example.reflection.annotation.ScopeType
+import com.example.reflection.startup.ApplicationStartup
+import java.lang.reflect.InvocationTargetException
+import kotlin.reflect.KClass
+import kotlin.reflect.KFunction
+import kotlin.reflect.KParameter
+import kotlin.reflect.full.findAnnotation
+import kotlin.reflect.full.functions
+import kotlin.reflect.full.primaryConstructor
+import kotlin.reflect.jvm.isAccessible
+import kotlin.reflect.jvm.javaConstructor
+import kotlin.reflect.jvm.javaMethod
+import kotlin.reflect.jvm.javaType
+
+/**
+ * 컴포넌트 스캔 + 생성자 분석
+ *
+ * 1. 패키지 스캔으로 @Component 클래스를 찾고
+ * 2. 생성자를 분석해 BeanDefinition 목록을 만듦
+ *
+ * ReflectionContainer가 시작할 때 사용하며,
+ * 빌드 시점에 WiringGenerator가 같은 분석 결과를 코드로 만들 때도 사용
+ * (Spring의 ClassPathBeanDefinitionScanner와 유사)
+ *
+ * @param startup 패키지 스캔(container.scan)과 Bean별 생성자 분석(bean.scan) 시간 기록
+ * @param infrastructure 컨테이너가 직접 제공하는 내장 Bean (예: EventBus) - 스캔한 컴포넌트가 주입받을 수 있음
+ */
+class ComponentScanner(
+    private val basePackage: String,
+    private val log: (String) -> Unit = {},
+    private val startup: ApplicationStartup = ApplicationStartup.DEFAULT,
+    private val infrastructure: List<BeanDefinition> = emptyList()
+) {
+    // 상위 타입 인덱스: 부모 클래스 / 인터페이스 -> 구현 클래스 (같은 타입의 구현체가 여러 개면 Last-Win)
+    private val typeIndex = mutableMapOf<Class<*>, KClass<*>>()
+    private val componentClasses = mutableListOf<KClass<*>>()
+
+    /**
+     * 내장 Bean + 스캔 순서대로 정렬된 BeanDefinition 목록
+     */
+    fun scan(): List<BeanDefinition> {
+        infrastructure.forEach { definition ->
+            definition.exposedTypes.forEach { typeIndex[it] = definition.beanClass }
+        }
+        val step = startup.start(ApplicationStartup.CONTAINER_SCAN).tag("basePackage", basePackage)
+        scanComponents(basePackage)
+        step.tag("components") { componentClasses.size.toString() }
+        step.end()
+        return infrastructure + buildDefinitions()
+    }
+
+    /**
+     * 패키지 스캔
+     * @Component가 붙은 모든 클래스를 찾음
+     */
+    private fun scanComponents(basePackage: String) {
+        // 실제 Spring은 ClassPathScanningCandidateComponentProvider를 사용
+        // 여기서는 간단히 구현
+        val packagePath = basePackage.replace('.', '/')
+        val classLoader = Thread.currentThread().contextClassLoader
+        val resources = classLoader.getResources(packagePath)
+
+        val classes = mutableListOf<KClass<*>>()
+
+        resources.asSequence().forEach { url ->
+            val path = url.path
+            val dir = java.io.File(path)
+            if (dir.exists() && dir.isDirectory) {
+                findClassesInDirectory(dir, basePackage, classLoader, classes)
+            }
+        }
+
+        classes.forEach { clazz ->
+            if (clazz.findAnnotation<Component>() != null) {
+                log("[Scan] ${clazz.simpleName} 발견")
+
+                // 모든 컴포넌트 클래스 저장
+                componentClasses.add(clazz)
+
+                // 상위 타입 인덱스 저장
+                supertypesOf(clazz.java).forEach { supertype ->
+                    typeIndex[supertype] = clazz
+                }
+            }
+        }
+    }
+
+    /**
+     * 디렉토리에서 클래스 파일 찾기
+     */
+    private fun findClassesInDirectory(
+        directory: java.io.File,
+        packageName: String,
+        classLoader: ClassLoader,
+        classes: MutableList<KClass<*>>
+    ) {
+        directory.listFiles()?.forEach { file ->
+            if (file.isDirectory) {
+                findClassesInDirectory(file, "$packageName.${file.name}", classLoader, classes)
+            } else if (file.name.endsWith(".class")) {
+                val className = "$packageName.${file.name.substring(0, file.name.length - 6)}"
+                try {
+                    // 스캔한 클래스로더로 로드 (초기화는 실제 생성 시점까지 미룸)
+                    val clazz = Class.forName(className, false, classLoader).kotlin
+                    classes.add(clazz)
+                } catch (e: Exception) {
+                    // 내부 클래스나 로드 불가능한 클래스는 무시
+                }
+            }
+        }
+    }
+
+    /**
+     * 생성자 분석
+     * 각 컴포넌트의 생성자를 분석하여 "무엇을 주입받는지"를 미리 계산
+     */
+    private fun buildDefinitions(): List<BeanDefinition> {
+        val components = componentClasses.toSet() + infrastructure.map { it.beanClass }
+
+        return componentClasses.map { clazz ->
+            val step = startup.start(ApplicationStartup.BEAN_SCAN)
+                .tag(ApplicationStartup.TAG_BEAN_CLASS) { clazz.java.name }
+            val constructor = injectionConstructor(clazz)
+            val dependencies = constructor.parameters.map { param ->
+                // @Inject가 없으면 null (선택적 의존성)
+                if (param.findAnnotation<Inject>() != null) resolveImplClass(param, components) else null
+            }
+            val scope = clazz.findAnnotation<Scope>()?.value ?: ScopeType.SINGLETON
+            val lazy = clazz.findAnnotation<Lazy>() != null
+            // 이 Bean을 조회할 수 있는 타입: 자기 자신 + 자신이 구현체로 선택된 상위 타입
+            // (다른 컴포넌트 클래스 자체는 그 컴포넌트에 양보)
+            val exposedTypes = listOf(clazz.java) + supertypesOf(clazz.java).filter { supertype ->
+                typeIndex[supertype] == clazz && supertype.kotlin !in components
+            }
+            BeanDefinition(
+                beanClass = clazz,
+                dependencies = dependencies,
+                parameterNames = constructor.parameters.map { it.name },
+                scope = scope,
+                lazy = lazy,
+                exposedTypes = exposedTypes,
+                init = lifecycleCallback(clazz, PostConstruct::class) { it.timeoutMillis },
+                destroy = lifecycleCallback(clazz, PreDestroy::class) { it.timeoutMillis },
+                instantiator = reflectiveInstantiator(constructor)
+            ).also { step.end() }
+        }
+    }
+
+    /**
+     * Reflection으로 생성자를 호출하는 instantiator
+     * 어노테이션 분석 없이 미리 꺼내 둔 Java 생성자를 바로 호출함
+     */
+    private fun reflectiveInstantiator(constructor: KFunction<*>): (Array<Any?>) -> Any {
+        constructor.isAccessible = true
+        val javaConstructor = constructor.javaConstructor
+            ?: throw IllegalStateException("${constructor.name}을 호출할 수 없습니다")
+        return { args ->
+            try {
+                javaConstructor.newInstance(*args) as Any
+            } catch (e: InvocationTargetException) {
+                // 생성자 안에서 발생한 예외를 그대로 전달
+                throw e.targetException
+            }
+        }
+    }
+
+    /**
+     * @PostConstruct / @PreDestroy 메서드 찾기 (파라미터 없는 메서드 하나만 허용)
+     */
+    private fun <A : Annotation> lifecycleCallback(
+        clazz: KClass<*>,
+        annotation: KClass<A>,
+        timeoutMillis: (A) -> Long
+    ): LifecycleCallback? {
+        val candidates = clazz.functions.mapNotNull { function ->
+            function.annotations.filterIsInstance(annotation.java).firstOrNull()?.let { function to it }
+        }
+        if (candidates.isEmpty()) return null
+        check(candidates.size == 1) {
+            "${clazz.simpleName}: @${annotation.simpleName} 메서드는 하나만 둘 수 있습니다"
+        }
+
+        val (function, found) = candidates.single()
+        val method = function.javaMethod
+        check(method != null && method.parameterCount == 0) {
+            "${clazz.simpleName}.${function.name}: @${annotation.simpleName} 메서드는 파라미터가 없어야 합니다"
+        }
+        method.isAccessible = true
+        return LifecycleCallback(function.name, timeoutMillis(found)) { bean ->
+            try {
+                method.invoke(bean)
+            } catch (e: InvocationTargetException) {
+                throw e.targetException
+            }
+        }
+    }
+
+    /**
+     * 의존성 해결
+     * 파라미터 타입에 맞는 구현 클래스 찾기
+     */
+    private fun resolveImplClass(param: KParameter, components: Set<KClass<*>>): KClass<*> {
+        val type = (param.type.javaType as Class<*>).kotlin
+
+        // 컴포넌트 클래스 자체를 주입받는 경우
+        if (type in components) return type
+
+        // 인터페이스(또는 부모 클래스)인 경우 구현체 찾기
+        return typeIndex[type.java]
+            ?: throw IllegalStateException("${type.simpleName}에 대한 구현체를 찾을 수 없습니다")
+    }
+}
+
+/**
+ * 주입에 사용할 생성자
+ * Java 클래스는 primary constructor 개념이 없으므로 유일한 생성자를 사용
+ */
+fun injectionConstructor(clazz: KClass<*>): KFunction<*> {
+    return clazz.primaryConstructor ?: clazz.constructors.singleOrNull()
+        ?: throw IllegalStateException("${clazz.simpleName}에 Primary Constructor가 없습니다")
+}
@@ -0,0 +1,102 @@
+package com.example.reflection
+
+import kotlin.reflect.KClass
+
+/**
+ * 컴포넌트 간 의존 관계 그래프 (DAG)
+ *
+ * 노드: @Component 클래스
+ * 간선: 클래스 -> 생성자에서 주입받는 구현 클래스
+ *
+ * Spring의 DefaultListableBeanFactory가 dependentBeanMap으로
+ * 의존 관계를 추적하는 것과 유사한 역할
+ */
+class DependencyGraph(private val edges: Map<KClass<*>, List<KClass<*>>>) {
+
+    val nodes: Set<KClass<*>> get() = edges.keys
+
+    fun dependenciesOf(clazz: KClass<*>): List<KClass<*>> = edges[clazz].orEmpty()
+
+    /**
+     * 순환 의존성 검사
+     * DFS로 방문 중인 경로를 추적하다가 경로 위의 노드를 다시 만나면 순환
+     * (깊은 의존 체인에서도 StackOverflow가 나지 않도록 명시적 스택 사용)
+     *
+     * @throws CircularDependencyException 순환이 있으면 전체 경로와 함께 예외
+     */
+    fun checkCycles() {
+        val visited = mutableSetOf<KClass<*>>()
+        val path = ArrayList<KClass<*>>()
+        val onPath = mutableSetOf<KClass<*>>()
+        val pending = ArrayDeque<Iterator<KClass<*>>>()
+
+        nodes.forEach { root ->
+            if (!visited.add(root)) return@forEach
+            path.add(root)
+            onPath.add(root)
+            pending.addLast(dependenciesOf(root).iterator())
+
+            while (pending.isNotEmpty()) {
+                val deps = pending.last()
+                if (!deps.hasNext()) {
+                    pending.removeLast()
+                    onPath.remove(path.removeAt(path.lastIndex))
+                    continue
+                }
+                val next = deps.next()
+                if (next in onPath) {
+                    // 경로에서 next가 처음 등장한 지점부터가 순환 구간
+                    val start = path.indexOf(next)
+                    throw CircularDependencyException(path.subList(start, path.size) + next)
+                }
+                if (visited.add(next)) {
+                    path.add(next)
+                    onPath.add(next)
+                    pending.addLast(dependenciesOf(next).iterator())
+                }
+            }
+        }
+    }
+
+    /**
+     * 위상 정렬 (Kahn 알고리즘)
+     * 같은 웨이브에 속한 Bean들은 서로 의존하지 않으므로 동시에 생성할 수 있음
+     *
+     * 예) UserService -> (UserRepositoryImpl, EmailNotificationService)
+     *     wave 0: [UserRepositoryImpl, EmailNotificationService]
+     *     wave 1: [UserService]
+     */
+    fun topologicalWaves(): List<List<KClass<*>>> {
+        checkCycles()
+
+        val remaining = edges.mapValuesTo(LinkedHashMap()) { (_, deps) -> deps.toSet().size }
+        val dependents = mutableMapOf<KClass<*>, MutableList<KClass<*>>>()
+        edges.forEach { (node, deps) ->
+            deps.toSet().forEach { dependents.getOrPut(it) { mutableListOf() }.add(node) }
+        }
+
+        val waves = mutableListOf<List<KClass<*>>>()
+        var current = remaining.filterValues { it == 0 }.keys.toList()
+        while (current.isNotEmpty()) {
+            waves.add(current)
+            val next = mutableListOf<KClass<*>>()
+            current.forEach { done ->
+                dependents[done].orEmpty().forEach { dependent ->
+                    val left = remaining.getValue(dependent) - 1
+                    remaining[dependent] = left
+                    if (left == 0) next.add(dependent)
+                }
+            }
+            current = next
+        }
+        return waves
+    }
+}
+
+/**
+ * 순환 의존성 예외
+ * cycle에는 순환 경로 전체가 담김 (예: A -> B -> C -> A)
+ */
+class CircularDependencyException(val cycle: List<KClass<*>>) : IllegalStateException(
+    "순환 의존성이 감지되었습니다: ${cycle.joinToString(" -> ") { it.simpleName ?: it.toString() }}"
+)
@@ -0,0 +1,11 @@
+package com.example.reflection
+
+import com.example.reflection.event.EventBus
+import com.example.reflection.schedule.HashedWheelTimer
+
+/**
+ * 컨테이너가 스캔 결과에 추가하는 내장 Bean (Spring이 ApplicationEventPublisher 등을 직접 등록하는 것과 같음)
+ * 스캔한 컴포넌트가 생성자에서 주입받을 수 있고, 의존성 그래프에도 포함됨
+ */
+internal fun infrastructureDefinitions(eventBus: EventBus, scheduler: HashedWheelTimer): List<BeanDefinition> =
+    listOf(EventBus.definition(eventBus), HashedWheelTimer.definition(scheduler))
@@ -0,0 +1,213 @@
+package com.example.reflection
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.reflect.KClass
+
+/**
+ * 초기화 / 소멸 콜백 (@PostConstruct / @PreDestroy 메서드)
+ *
+ * @param timeoutMillis 0 이하면 컨테이너 기본값
+ * @param invoke Bean 인스턴스를 받아 콜백 메서드를 호출
+ *   (런타임 스캔이면 Reflection 호출, AOT면 생성된 코드의 직접 호출)
+ */
+class LifecycleCallback(
+    val methodName: String,
+    val timeoutMillis: Long = 0,
+    val invoke: (Any) -> Unit
+)
+
+enum class LifecyclePhase { INIT, DESTROY }
+
+/**
+ * 초기화 / 소멸 콜백 실행 기록
+ */
+class LifecycleReport(val entries: List<Entry>) {
+
+    enum class Outcome { OK, FAILED, TIMED_OUT }
+
+    /**
+     * @property startNanos 컨테이너 생성 시점 기준 상대 시간
+     * @property durationNanos 콜백 실행 시간 (시간 초과면 기다린 시간)
+     */
+    class Entry(
+        val beanClass: KClass<*>,
+        val phase: LifecyclePhase,
+        val methodName: String,
+        val threadName: String,
+        val startNanos: Long,
+        val durationNanos: Long,
+        val outcome: Outcome,
+        val error: Throwable?
+    )
+
+    fun print() {
+        println("=== Lifecycle 콜백 ===")
+        entries.sortedBy { it.startNanos }.forEach {
+            println("  %-8s %-28s %-12s %9.2fms  +%.2fms  [%s] %s".format(
+                it.phase, "${it.beanClass.simpleName}.${it.methodName}", it.outcome,
+                it.durationNanos / 1e6, it.startNanos / 1e6, it.threadName, it.error?.message ?: ""
+            ))
+        }
+        println()
+    }
+}
+
+/**
+ * 콜백 실행기
+ *
+ * - 초기화(runInline): Bean을 만드는 스레드(웨이브 워커)에서 바로 실행 - ThreadLocal / 스코프 문맥이 그대로 보임
+ *   마감 시간이 지나면 감시 스레드가 그 스레드를 interrupt하고 TIMED_OUT으로 기록
+ *   (interrupt를 무시하는 콜백은 끝날 때까지 기다림)
+ * - 소멸(runAll): 콜백을 별도 스레드에서 실행해야 시간 초과 시 기다리지 않고 넘어갈 수 있음
+ *   runAll로 넘긴 콜백들은 동시에 시작하고, 각자의 마감 시간까지만 기다림
+ */
+internal class LifecycleCallbacks(private val defaultTimeoutMillis: Long) {
+
+    class Call(val definition: BeanDefinition, val callback: LifecycleCallback, val bean: Any)
+
+    private val origin = System.nanoTime()
+    private val entries = ConcurrentLinkedQueue<LifecycleReport.Entry>()
+
+    private val threadIds = AtomicInteger()
+    private val lazyExecutor = lazy<ExecutorService> {
+        Executors.newCachedThreadPool { task ->
+            Thread(task, "lifecycle-${threadIds.incrementAndGet()}").apply { isDaemon = true }
+        }
+    }
+    private val executor by lazyExecutor
+
+    private val lazyWatchdog = lazy {
+        ScheduledThreadPoolExecutor(1) { task ->
+            Thread(task, "lifecycle-watchdog").apply { isDaemon = true }
+        }.apply { removeOnCancelPolicy = true }
+    }
+    private val watchdog by lazyWatchdog
+
+    private class Running(val call: Call, val submittedAt: Long, val timeoutMillis: Long) {
+        val deadline = submittedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMillis)
+
+        lateinit var future: Future<*>
+
+        @Volatile var startedAt = submittedAt
+        @Volatile var finishedAt = 0L
+        @Volatile var threadName = ""
+    }
+
+    /**
+     * 콜백을 호출 스레드에서 실행 (마감 시간이 지나면 감시 스레드가 interrupt)
+     */
+    fun runInline(phase: LifecyclePhase, call: Call): LifecycleReport.Entry {
+        val timeoutMillis = call.callback.timeoutMillis.takeIf { it > 0 } ?: defaultTimeoutMillis
+        val thread = Thread.currentThread()
+        // 0: 실행 중, 1: 끝남, 2: 시간 초과 - 끝남과 시간 초과 중 먼저 바꾼 쪽이 결과를 정함
+        val state = AtomicInteger()
+        val alarm = watchdog.schedule({
+            if (state.compareAndSet(RUNNING, TIMED_OUT)) thread.interrupt()
+        }, timeoutMillis, TimeUnit.MILLISECONDS)
+
+        val startedAt = System.nanoTime()
+        var error: Throwable? = null
+        try {
+            call.callback.invoke(call.bean)
+        } catch (e: Throwable) {
+            error = e
+        }
+        val finishedAt = System.nanoTime()
+
+        val timedOut = !state.compareAndSet(RUNNING, FINISHED)
+        if (timedOut) {
+            // 감시 작업의 interrupt가 끝난 뒤 플래그를 지워, 이 스레드의 다음 작업에 남지 않게 함
+            try {
+                alarm.get()
+            } catch (e: ExecutionException) {
+                // 감시 작업은 interrupt만 하므로 실패하지 않음
+            }
+            Thread.interrupted()
+        } else {
+            alarm.cancel(false)
+        }
+
+        val (outcome, cause) = when {
+            timedOut -> LifecycleReport.Outcome.TIMED_OUT to TimeoutException("${timeoutMillis}ms 안에 끝나지 않았습니다")
+            error != null -> LifecycleReport.Outcome.FAILED to error
+            else -> LifecycleReport.Outcome.OK to null
+        }
+        return LifecycleReport.Entry(
+            beanClass = call.definition.beanClass,
+            phase = phase,
+            methodName = call.callback.methodName,
+            threadName = thread.name,
+            startNanos = startedAt - origin,
+            durationNanos = finishedAt - startedAt,
+            outcome = outcome,
+            error = cause
+        ).also { entries.add(it) }
+    }
+
+    fun runAll(phase: LifecyclePhase, calls: List<Call>): List<LifecycleReport.Entry> {
+        val running = calls.map { call ->
+            val timeoutMillis = call.callback.timeoutMillis.takeIf { it > 0 } ?: defaultTimeoutMillis
+            val submittedAt = System.nanoTime()
+            val task = Running(call, submittedAt, timeoutMillis)
+            task.future = executor.submit {
+                task.threadName = Thread.currentThread().name
+                task.startedAt = System.nanoTime()
+                try {
+                    call.callback.invoke(call.bean)
+                } finally {
+                    task.finishedAt = System.nanoTime()
+                }
+            }
+            task
+        }
+
+        return running.map { task ->
+            val (outcome, error) = try {
+                task.future.get(maxOf(0, task.deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                LifecycleReport.Outcome.OK to null
+            } catch (e: TimeoutException) {
+                task.future.cancel(true)
+                LifecycleReport.Outcome.TIMED_OUT to TimeoutException("${task.timeoutMillis}ms 안에 끝나지 않았습니다")
+            } catch (e: ExecutionException) {
+                LifecycleReport.Outcome.FAILED to (e.cause ?: e)
+            }
+            // 시간 초과면 마감 시간의 기준인 제출 시점부터 기다린 시간
+            val (begin, end) = if (outcome == LifecycleReport.Outcome.TIMED_OUT) {
+                task.submittedAt to System.nanoTime()
+            } else {
+                task.startedAt to task.finishedAt
+            }
+            LifecycleReport.Entry(
+                beanClass = task.call.definition.beanClass,
+                phase = phase,
+                methodName = task.call.callback.methodName,
+                threadName = task.threadName,
+                startNanos = task.startedAt - origin,
+                durationNanos = end - begin,
+                outcome = outcome,
+                error = error
+            ).also { entries.add(it) }
+        }
+    }
+
+    fun report(): LifecycleReport = LifecycleReport(entries.sortedBy { it.startNanos })
+
+    fun shutdown() {
+        if (lazyExecutor.isInitialized()) executor.shutdownNow()
+        if (lazyWatchdog.isInitialized()) watchdog.shutdownNow()
+    }
+
+    private companion object {
+        const val RUNNING = 0
+        const val FINISHED = 1
+        const val TIMED_OUT = 2
+    }
+}
@@ -1,6 +1,21 @@
 package com.example.reflection
 
+import com.example.reflection.async.AsyncExecutionInterceptor
+import com.example.reflection.async.ExecutionMode
+import com.example.reflection.async.TaskExecutors
+import com.example.reflection.notification.NotificationDispatcher
+import com.example.reflection.notification.NotificationService
+import com.example.reflection.outbox.NotificationOutbox
+import com.example.reflection.proxy.Advisor
+import com.example.reflection.proxy.MethodInterceptor
+import com.example.reflection.proxy.Pointcut
+import com.example.reflection.proxy.ProxyBeanPostProcessor
+import com.example.reflection.repository.UserRepository
 import com.example.reflection.service.UserService
+import com.example.reflection.startup.RecordingApplicationStartup
+import com.example.reflection.trace.Tracer
+import com.example.reflection.trace.TracingOptions
+import java.io.File
 
 /**
  * Level 3: Reflection 기반 DI
@@ -9,12 +24,20 @@ import com.example.reflection.service.UserService
  * 1. @Component로 자동 등록
  * 2. @Inject로 의존성 자동 주입
  * 3. 패키지 스캔으로 클래스 자동 발견
+ * 4. 의존성 그래프로 순환 의존성 감지, 독립적인 Bean 병렬 생성
+ * 5. @Lazy, @Scope(PROTOTYPE / THREAD / REQUEST)
+ * 6. BeanPostProcessor + Hidden Class 프록시로 인터셉터 적용
+ * 7. @PostConstruct / @PreDestroy (같은 웨이브는 병렬, 타임아웃 지원)
+ * 8. 내장 EventBus + @Subscribe
+ * 9. 내장 스케줄러(타이밍 휠) + @Scheduled (사용자 수 메트릭을 주기적으로 출력)
+ * 10. NotificationDispatcher - 알림을 bounded 큐에 넣고 백그라운드에서 배치 전송
+ * 11. @Async 프록시 - 게이트웨이 전송을 가상 스레드(JDK 21+, 아니면 플랫폼 스레드 풀)에서 실행
+ * 12. NotificationOutbox - 가입 알림을 로컬 로그에 먼저 기록하고 릴레이가 전달 (프로세스가 죽어도 유실 없음)
+ * 13. Tracer - 서비스 -> 저장소 -> 알림 호출을 span으로 샘플링해 호출 트리 / flame graph로 내보냄
  *
  * 여전히 남은 문제:
  * 1. Qualifier 부족 (같은 타입 여러 개 선택 불가)
- * 2. Scope 관리 불가
- * 3. Lifecycle 콜백 없음
- * 4. AOP, 트랜잭션 등 고급 기능 없음
+ * 2. 선언적 AOP(@Aspect, 포인트컷 표현식), 트랜잭션 등 고급 기능 없음
  */
 fun main() {
     println("=" * 60)
@@ -22,8 +45,49 @@ fun main() {
     println("=" * 60)
     println()
 
-    // 1. 컨테이너 생성 (패키지 스캔 자동 실행)
-    val container = ReflectionContainer("com.example.reflection")
+    // 1. 컨테이너 생성 (패키지 스캔 자동 실행, 생성된 wiring이 있으면 스캔 생략)
+    val startup = RecordingApplicationStartup()
+    val startedAt = System.nanoTime()
+    // NotificationService 호출 시간 측정 (01-aop의 PerformanceAspect와 같은 역할을 프록시로)
+    val timing = MethodInterceptor { invocation ->
+        val start = System.nanoTime()
+        try {
+            invocation.proceed()
+        } finally {
+            println("  [Proxy] ${invocation.method.name} ${(System.nanoTime() - start) / 1_000}us")
+        }
+    }
+    val notificationTiming = Advisor(
+        Pointcut { _, method -> method.declaringClass == NotificationService::class.java },
+        timing
+    )
+    // 저장소 / 알림 호출을 span으로 기록 (-Dreflection.trace.sample-rate, 데모는 호출이 적으므로 전부 기록)
+    val tracer = Tracer(TracingOptions(sampleRate = System.getProperty("reflection.trace.sample-rate", "1.0").toDouble()))
+    val tracing = tracer.advisor(Pointcut { _, method ->
+        method.declaringClass == UserRepository::class.java || method.declaringClass == NotificationService::class.java
+    })
+    // @Async 메서드(NotificationService.sendBatchAsync)를 실행할 스레드 (-Dreflection.async.mode=platform|virtual)
+    val executionMode = ExecutionMode.fromSystemProperty()
+    val asyncExecutor = TaskExecutors.create(executionMode, "async-")
+    println("@Async 실행 모드: $executionMode (가상 스레드 지원: ${TaskExecutors.virtualThreadsSupported})")
+    val container = ReflectionContainer(
+        "com.example.reflection",
+        applicationStartup = startup,
+        beanPostProcessors = listOf(
+            ProxyBeanPostProcessor(listOf(AsyncExecutionInterceptor.advisor(asyncExecutor), tracing, notificationTiming))
+        )
+    )
+    val startupMillis = (System.nanoTime() - startedAt) / 1_000_000.0
+    val mode = if (container.usesGeneratedWiring) "생성된 wiring (AOT)" else "런타임 스캔 (Reflection)"
+    println("컨테이너 시작: ${"%.1f".format(startupMillis)}ms - $mode")
+    println()
+
+    // 어떤 Bean이 시작 시간을 잡아먹었는지 (chrome://tracing 또는 ui.perfetto.dev에서 trace 파일 열기)
+    // 파일 위치는 gradle run이 모듈의 build 디렉터리로 넘김 (IDE 등에서 직접 실행하면 작업 디렉터리 기준)
+    startup.printSummary()
+    val trace = startup.writeChromeTrace(File(System.getProperty("reflection.startup.trace-file", "build/startup-trace.json")))
+    println("Chrome trace: ${trace.path}")
+    println()
 
     // 2. Bean 확인
     container.printBeans()
@@ -31,12 +95,35 @@ fun main() {
     // 3. UserService 가져오기 (이미 모든 의존성이 주입되어 있음!)
     val userService = container.getBean<UserService>()
 
-    // 4. 사용자 등록
-    val user1 = userService.registerUser("홍길동", "hong@example.com")
-    val user2 = userService.registerUser("김철수", "kim@example.com")
+    // 4. 사용자 등록 (UserService는 인터페이스가 없어 프록시 대상이 아니므로 진입점에서 루트 span을 직접 엶)
+    val user1 = tracer.inSpan("UserService.registerUser") { userService.registerUser("홍길동", "hong@example.com") }
+    val user2 = tracer.inSpan("UserService.registerUser") { userService.registerUser("김철수", "kim@example.com") }
 
     // 5. 조회
     println("등록된 사용자: ${userService.getAllUsers().size}명")
+    println()
+
+    // @Scheduled 작업이 몇 번 실행되도록 잠시 대기
+    Thread.sleep(350)
+    println("스케줄러: ${container.scheduler.stats()}")
+    println()
+
+    // 6. 컨테이너 종료 (@PreDestroy는 생성의 역순으로 호출, NotificationDispatcher는 남은 알림을 보낸 뒤 닫힘)
+    val dispatcher = container.getBean<NotificationDispatcher>()
+    val outbox = container.getBean<NotificationOutbox>()
+    container.close()
+    container.lifecycleReport().print()
+    println("outbox: ${outbox.stats()} (${outbox.options.directory.path})")
+    println("알림: ${dispatcher.stats()}")
+    println()
+
+    // 호출 트리 (알림 전송은 디스패처 / @Async 스레드에서 실행되므로 별도 트레이스)
+    println("=== 호출 트리 (${tracer.stats()}) ===")
+    tracer.callTree().print()
+    val flameGraph = tracer.store.writeFlameGraph(File(System.getProperty("reflection.trace.flamegraph-file", "build/trace-flamegraph.txt")))
+    println("flame graph (collapsed stack): ${flameGraph.path}")
+    // 디스패처가 전송 중인 배치를 모두 기다린 뒤에 실행기 종료
+    asyncExecutor.shutdown()
 
     println()
     println("=" * 60)
@@ -46,16 +133,24 @@ fun main() {
     println("✓ @Inject로 의존성 자동 주입")
     println("✓ 패키지 스캔으로 클래스 자동 발견")
     println("✓ 수동 등록/주입 코드 완전 제거")
-    println("✓ 의존성 순서 자동 해결")
+    println("✓ 의존성 순서 자동 해결 (위상 정렬)")
+    println("✓ 순환 의존성 감지 (전체 경로 보고)")
+    println("✓ 독립적인 Bean 병렬 생성")
+    println("✓ @Lazy 지연 생성, @Scope(PROTOTYPE / THREAD / REQUEST)")
+    println("✓ BeanPostProcessor + 프록시 인터셉터 (Reflection 없는 직접 호출)")
+    println("✓ @PostConstruct / @PreDestroy (웨이브 단위 병렬 실행, 타임아웃)")
+    println("✓ @Subscribe 이벤트 버스 (디스패치 테이블, 비동기 구독자별 MPSC 큐)")
+    println("✓ @Scheduled 주기 작업 (해시드 타이밍 휠, O(1) 예약 / 취소)")
+    println("✓ 비동기 배치 알림 디스패처 (bounded 큐, 배치 크기 / linger 시간, 종료 시 남은 알림 전송)")
+    println("✓ @Async 프록시 (가상 스레드 / 플랫폼 스레드 풀 실행 모드)")
+    println("✓ 알림 outbox (로컬 로그 append, 재시도 / 멱등 키 / 체크포인트로 재시작 후 재전달)")
+    println("✓ span 트레이싱 (트레이스 단위 샘플링, 락 없는 링 버퍼, 호출 트리 / flame graph 내보내기)")
     println()
     println("=" * 60)
     println("여전히 남은 문제")
     println("=" * 60)
     println("1. Qualifier 부족 (같은 타입의 Bean이 여러 개면?)")
-    println("2. Scope 관리 불가 (모두 싱글톤)")
-    println("3. Lifecycle 콜백 없음 (@PostConstruct, @PreDestroy)")
-    println("4. 순환 의존성 감지 불가")
-    println("5. AOP, 트랜잭션, 보안 등 고급 기능 없음")
+    println("2. 선언적 AOP(@Aspect), 트랜잭션, 보안 등 고급 기능 없음")
     println()
     println("→ 해결책: Level 4에서 Spring Framework 사용")
     println("=" * 60)
@@ -1,12 +1,16 @@
 package com.example.reflection
 
-import com.example.reflection.annotation.Component
-import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.ScopeType
+import com.example.reflection.aot.AotWiring
+import com.example.reflection.event.EventBus
+import com.example.reflection.schedule.HashedWheelTimer
+import com.example.reflection.startup.ApplicationStartup
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.atomic.AtomicBoolean
 import kotlin.reflect.KClass
-import kotlin.reflect.KParameter
-import kotlin.reflect.full.findAnnotation
-import kotlin.reflect.full.primaryConstructor
-import kotlin.reflect.jvm.javaType
 
 /**
  * Level 3: Reflection 기반 DI 컨테이너
@@ -15,179 +19,380 @@ import kotlin.reflect.jvm.javaType
  * 1. 패키지 스캔으로 @Component 자동 발견
  * 2. Reflection으로 객체 자동 생성
  * 3. 생성자의 @Inject 파라미터 자동 주입
- * 4. 의존성 순서 자동 해결
+ * 4. 의존성 그래프(DAG) 구성 및 순환 의존성 감지
+ * 5. 위상 정렬 순서로 생성, 서로 독립적인 Bean은 병렬 생성
+ * 6. @Lazy 지연 생성, @Scope(PROTOTYPE / THREAD / REQUEST) 지원
+ * 7. 빌드 시점에 생성된 wiring 코드가 있으면 스캔/Reflection 없이 시작 (AOT)
+ * 8. 시작 과정 계측 (ApplicationStartup - 스캔/생성 단계별 시간, Chrome trace 출력)
+ * 9. BeanPostProcessor로 생성된 Bean 후처리 (예: ProxyBeanPostProcessor로 인터셉터 프록시 적용)
+ * 10. @PostConstruct / @PreDestroy 콜백 (초기화는 웨이브 안에서 병렬, 종료는 웨이브 역순으로 병렬)
+ *     시작 중 Bean 생성이 실패하면 이미 생성된 Bean을 웨이브 역순으로 종료한 뒤 예외를 던짐
+ * 11. 내장 EventBus - 싱글톤 Bean의 @Subscribe 메서드를 구독자로 등록, EventPublisher로 주입받아 발행
+ * 12. 내장 스케줄러(HashedWheelTimer) - 싱글톤 Bean의 @Scheduled 메서드를 주기 작업으로 등록
+ * 13. createChild로 부모의 싱글톤과 BeanDefinition을 공유하는 자식 컨테이너 생성 (테넌트별 컨텍스트)
  *
  * Spring의 ApplicationContext와 유사한 역할
+ *
+ * @param parallelism Bean 생성에 사용할 스레드 수 (1이면 호출 스레드에서 순차 생성)
+ * @param verbose false면 스캔/생성 로그를 출력하지 않음 (컴포넌트가 많은 벤치마크용)
+ * @param useGeneratedWiring true면 빌드 시점에 생성된 wiring 코드(AotWiring)가 있을 때 그것을 사용
+ * @param applicationStartup 시작 단계 기록 (기본값은 기록하지 않음, RecordingApplicationStartup으로 타임라인 수집)
+ * @param beanPostProcessors 생성자 호출 직후 순서대로 적용할 후처리기
+ * @param callbackTimeoutMillis 초기화/소멸 콜백 기본 제한 시간 (어노테이션의 timeoutMillis가 우선)
  */
-class ReflectionContainer(basePackage: String) {
-    private val beans = mutableMapOf<KClass<*>, Any>()
-    private val interfaceToImpl = mutableMapOf<KClass<*>, KClass<*>>()
-    private val componentClasses = mutableListOf<KClass<*>>()
+class ReflectionContainer(
+    basePackage: String,
+    private val parallelism: Int = Runtime.getRuntime().availableProcessors(),
+    private val verbose: Boolean = true,
+    useGeneratedWiring: Boolean = true,
+    private val applicationStartup: ApplicationStartup = ApplicationStartup.DEFAULT,
+    private val beanPostProcessors: List<BeanPostProcessor> = emptyList(),
+    callbackTimeoutMillis: Long = 30_000
+) : BeanFactory, AutoCloseable {
+    // 생성된 싱글톤 (클래스 + 상위 타입) - getBean의 fast path
+    private val beans = BeanRegistry()
 
-    init {
-        println("=== 컴포넌트 스캔 시작: $basePackage ===")
-        scanComponents(basePackage)
-        println()
-        println("=== Bean 생성 시작 ===")
-        createBeans()
-        println()
-    }
+    private val definitions = linkedMapOf<KClass<*>, BeanDefinition>()
+
+    // 클래스 + 상위 타입 -> BeanDefinition (초기화 이후 읽기 전용)
+    private val definitionsByType = mutableMapOf<Class<*>, BeanDefinition>()
+    private val waves: List<List<KClass<*>>>
+    private val creationOrder: List<KClass<*>>
+
+    private val threadScope = ThreadScopeStore()
+    private val requestScope = RequestScopeStore()
+
+    private val lifecycle = LifecycleCallbacks(callbackTimeoutMillis)
+
+    // @PreDestroy 콜백을 호출할 싱글톤 원본 인스턴스 (프록시가 아닌 실제 Bean)
+    private val destroyTargets = ConcurrentHashMap<BeanDefinition, Any>()
+    private val closed = AtomicBoolean()
 
     /**
-     * 1단계: 패키지 스캔
-     * @Component가 붙은 모든 클래스를 찾음
+     * 빌드 시점에 생성된 wiring 코드를 사용했는지 (false면 런타임 스캔)
      */
-    private fun scanComponents(basePackage: String) {
-        // 실제 Spring은 ClassPathScanningCandidateComponentProvider를 사용
-        // 여기서는 간단히 구현
-        val packagePath = basePackage.replace('.', '/')
-        val classLoader = Thread.currentThread().contextClassLoader
-        val resources = classLoader.getResources(packagePath)
+    val usesGeneratedWiring: Boolean
 
-        val classes = mutableListOf<KClass<*>>()
+    /**
+     * 내장 이벤트 버스 (EventBus / EventPublisher 타입으로 주입받을 수 있는 Bean)
+     */
+    val eventBus = EventBus()
 
-        resources.asSequence().forEach { url ->
-            val path = url.path
-            val dir = java.io.File(path)
-            if (dir.exists() && dir.isDirectory) {
-                findClassesInDirectory(dir, basePackage, classes)
-            }
+    /**
+     * 내장 스케줄러 (HashedWheelTimer / TaskScheduler 타입으로 주입받을 수 있는 Bean)
+     */
+    val scheduler = HashedWheelTimer()
+
+    init {
+        // 1단계: Bean 정의 준비 - 생성된 wiring이 있으면 스캔/Reflection 분석을 건너뜀
+        val wiring = if (useGeneratedWiring) AotWiring.load(basePackage) else null
+        usesGeneratedWiring = wiring != null
+        val scanned = if (wiring != null) {
+            log("=== 생성된 wiring 사용: ${wiring.javaClass.name} ===")
+            infrastructureDefinitions(eventBus, scheduler) + wiring.definitions()
+        } else {
+            log("=== 컴포넌트 스캔 시작: $basePackage ===")
+            ComponentScanner(basePackage, ::log, applicationStartup, infrastructureDefinitions(eventBus, scheduler)).scan()
+        }
+        scanned.forEach { definition ->
+            definitions[definition.beanClass] = definition
+            definition.exposedTypes.forEach { definitionsByType[it] = definition }
         }
+        log("")
 
-        classes.forEach { clazz ->
-            if (clazz.findAnnotation<Component>() != null) {
-                println("[Scan] ${clazz.simpleName} 발견")
+        // 2단계: 의존성 그래프 구성
+        log("=== 의존성 그래프 분석 ===")
+        val graphStep = applicationStartup.start(ApplicationStartup.CONTAINER_GRAPH)
+        val graph = DependencyGraph(definitions.mapValues { (_, definition) -> definition.dependencies.filterNotNull() })
+        waves = graph.topologicalWaves()
+        creationOrder = waves.flatten()
+        graphStep.tag("waves") { waves.size.toString() }.end()
+        log("${definitions.size}개 컴포넌트, ${waves.size}개 웨이브")
+        log("")
+        log("=== Bean 생성 시작 ===")
+        try {
+            createBeans(waves)
+        } catch (e: Throwable) {
+            // 이미 생성된 싱글톤이 연 자원(스레드, 파일, 커넥션)을 생성의 역순으로 정리
+            log("=== 시작 실패: 생성된 Bean 종료 ===")
+            try {
+                close()
+            } catch (suppressed: Throwable) {
+                e.addSuppressed(suppressed)
+            }
+            throw e
+        }
+        log("")
+    }
 
-                // 모든 컴포넌트 클래스 저장
-                componentClasses.add(clazz)
+    /**
+     * 3단계: Bean 생성
+     * 위상 정렬된 웨이브 순서대로 생성하고,
+     * 같은 웨이브의 Bean들은 ForkJoinPool에서 동시에 생성
+     *
+     * @Lazy, PROTOTYPE, THREAD, REQUEST Bean은 여기서 만들지 않음
+     * (단, 시작 시점에 생성되는 싱글톤이 주입받으면 그때 생성됨)
+     */
+    private fun createBeans(waves: List<List<KClass<*>>>) {
+        val pool = if (parallelism > 1) ForkJoinPool(parallelism) else null
+        try {
+            waves.forEachIndexed { index, classes ->
+                val wave = classes.map { definitions.getValue(it) }.filter { it.isEager }
+                if (wave.isEmpty()) return@forEachIndexed
 
-                // 인터페이스 매핑 저장
-                clazz.java.interfaces.forEach { intf ->
-                    interfaceToImpl[intf.kotlin] = clazz
+                log("[Wave $index] ${wave.joinToString { it.beanClass.java.simpleName }}")
+                val step = applicationStartup.start(ApplicationStartup.CONTAINER_WAVE)
+                    .tag("index", index.toString())
+                    .tag("beans") { wave.size.toString() }
+                if (pool == null || wave.size == 1) {
+                    wave.forEach { createSingleton(it) }
+                } else {
+                    val tasks = wave.map { definition -> Callable { createSingleton(definition) } }
+                    pool.invokeAll(tasks).forEach { future ->
+                        try {
+                            future.get()
+                        } catch (e: ExecutionException) {
+                            throw e.cause ?: e
+                        }
+                    }
                 }
+                step.end()
             }
+        } finally {
+            pool?.shutdown()
         }
     }
 
     /**
-     * 디렉토리에서 클래스 파일 찾기
-     */
-    private fun findClassesInDirectory(
-        directory: java.io.File,
-        packageName: String,
-        classes: MutableList<KClass<*>>
-    ) {
-        directory.listFiles()?.forEach { file ->
-            if (file.isDirectory) {
-                findClassesInDirectory(file, "$packageName.${file.name}", classes)
-            } else if (file.name.endsWith(".class")) {
-                val className = "$packageName.${file.name.substring(0, file.name.length - 6)}"
-                try {
-                    val clazz = Class.forName(className).kotlin
-                    classes.add(clazz)
-                } catch (e: Exception) {
-                    // 내부 클래스나 로드 불가능한 클래스는 무시
-                }
-            }
+     * 스코프에 맞게 Bean 인스턴스를 꺼내거나 생성
+     */
+    private fun resolve(definition: BeanDefinition): Any {
+        return when (definition.scope) {
+            ScopeType.SINGLETON -> definition.singleton.get() ?: createSingleton(definition)
+            ScopeType.PROTOTYPE -> newInstance(definition)
+            ScopeType.THREAD -> threadScope.get(definition) { newInstance(definition) }
+            ScopeType.REQUEST -> requestScope.get(definition) { newInstance(definition) }
         }
     }
 
+    override fun resolveDependency(dependency: KClass<*>): Any = resolve(definitions.getValue(dependency))
+
+    internal fun definitionOf(beanClass: KClass<*>): BeanDefinition? = definitions[beanClass]
+
+    private fun newInstance(definition: BeanDefinition): Any {
+        val instance = definition.newInstance { _, dependencyClass -> resolveDependency(dependencyClass) }
+        initialize(definition, instance)
+        return postProcess(instance, definition)
+    }
+
     /**
-     * 2단계: Bean 생성
-     * 의존성 순서를 고려하여 객체 생성
+     * @PostConstruct 콜백 실행 (제한 시간 안에 끝나지 않거나 실패하면 Bean 생성 실패)
+     * Bean을 만드는 스레드에서 바로 실행하므로 호출 스레드의 ThreadLocal / 스코프 문맥이 그대로 보임
+     * 웨이브 안의 Bean들은 각자의 생성 스레드에서 동시에 호출하므로 초기화도 병렬로 진행됨
      */
-    private fun createBeans() {
-        componentClasses.forEach { clazz ->
-            if (!beans.containsKey(clazz)) {
-                createBean(clazz)
-            }
+    internal fun initialize(definition: BeanDefinition, bean: Any) {
+        val callback = definition.init ?: return
+        val step = applicationStartup.start(ApplicationStartup.BEAN_INIT)
+            .tag(ApplicationStartup.TAG_BEAN_CLASS) { definition.beanClass.java.name }
+        val entry = try {
+            lifecycle.runInline(LifecyclePhase.INIT, LifecycleCallbacks.Call(definition, callback, bean))
+        } finally {
+            step.end()
+        }
+        log("  [Init] ${definition.beanClass.java.simpleName}.${callback.methodName}() ${"%.1f".format(entry.durationNanos / 1e6)}ms")
+        if (entry.outcome != LifecycleReport.Outcome.OK) {
+            throw IllegalStateException(
+                "${definition.beanClass.java.simpleName}.${callback.methodName}() 초기화 실패 (${entry.outcome})",
+                entry.error
+            )
         }
     }
 
     /**
-     * Bean 생성 (재귀적으로 의존성 해결)
+     * @PreDestroy 콜백 하나 실행 (실패 / 시간 초과는 보고서에만 기록)
      */
-    private fun createBean(clazz: KClass<*>): Any {
-        // 이미 생성된 Bean은 재사용 (싱글톤)
-        beans[clazz]?.let { return it }
+    internal fun destroy(definition: BeanDefinition, bean: Any) {
+        val callback = definition.destroy ?: return
+        lifecycle.runAll(LifecyclePhase.DESTROY, listOf(LifecycleCallbacks.Call(definition, callback, bean)))
+    }
 
-        println("[Create] ${clazz.simpleName} 생성 중...")
+    /**
+     * Bean의 @Subscribe 메서드를 내장 이벤트 버스에 등록 (자식 컨테이너가 생성한 Bean도 사용)
+     */
+    internal fun subscribe(bean: Any, beanClass: Class<*>): List<EventBus.Subscriber> =
+        eventBus.register(bean, beanClass).onEach { log("  [Subscribe] $it") }
 
-        val constructor = clazz.primaryConstructor
-            ?: throw IllegalStateException("${clazz.simpleName}에 Primary Constructor가 없습니다")
+    /**
+     * Bean의 @Scheduled 메서드를 내장 스케줄러에 등록 (자식 컨테이너가 생성한 Bean도 사용)
+     */
+    internal fun schedule(bean: Any, beanClass: Class<*>): List<HashedWheelTimer.ScheduledMethod> =
+        scheduler.register(bean, beanClass).onEach { log("  [Scheduled] $it") }
 
-        // 생성자 파라미터 분석
-        val parameters = constructor.parameters
-        val args = mutableListOf<Any?>()
+    internal fun postProcess(bean: Any, definition: BeanDefinition): Any {
+        var result = bean
+        for (processor in beanPostProcessors) {
+            result = processor.postProcessAfterInitialization(result, definition)
+        }
+        return result
+    }
 
-        parameters.forEach { param ->
-            val hasInject = param.findAnnotation<Inject>() != null
-            if (hasInject) {
-                // @Inject가 있으면 자동 주입
-                val dependency = resolveDependency(param)
-                args.add(dependency)
-                println("  [Inject] ${param.name}: ${dependency::class.simpleName}")
-            } else {
-                // @Inject가 없으면 null (선택적 의존성)
-                args.add(null)
+    /**
+     * 싱글톤 생성 (Double-checked, lock-free 발행)
+     *
+     * 1. 슬롯이 비어 있으면 락 없이 인스턴스를 만들고
+     * 2. CAS로 슬롯에 발행 - 경쟁에서 진 스레드는 자기 인스턴스를 버리고 이긴 쪽을 사용
+     *
+     * 락이 없으므로 동시에 처음 조회되면 생성자가 두 번 호출될 수 있지만,
+     * 외부에 공개되는 인스턴스는 항상 하나뿐임 (Kotlin의 LazyThreadSafetyMode.PUBLICATION과 같은 전략)
+     */
+    private fun createSingleton(definition: BeanDefinition): Any {
+        definition.singleton.get()?.let { return it }
+
+        val clazz = definition.beanClass
+        log("[Create] ${clazz.java.simpleName} 생성 중...")
+        val step = applicationStartup.start(ApplicationStartup.BEAN_INSTANTIATE)
+            .tag(ApplicationStartup.TAG_BEAN_CLASS) { clazz.java.name }
+            .tag(ApplicationStartup.TAG_DEPENDENCIES) {
+                definition.dependencies.filterNotNull().joinToString(",") { it.java.name }
             }
-        }
 
-        // 객체 생성
-        val instance = constructor.call(*args.toTypedArray())
-        beans[clazz] = instance
+        val raw = try {
+            val args = definition.resolveArguments { index, dependencyClass ->
+                val dependency = resolveDependency(dependencyClass)
+                log("  [Inject] ${definition.parameterNames[index]}: ${dependency.javaClass.simpleName}")
+                dependency
+            }
+            val constructorStep = applicationStartup.start(ApplicationStartup.BEAN_CONSTRUCTOR)
+            val constructed = try {
+                definition.construct(args)
+            } finally {
+                constructorStep.end()
+            }
+            initialize(definition, constructed)
+            constructed
+        } finally {
+            step.end()
+        }
+        val instance = postProcess(raw, definition)
 
-        // 인터페이스 타입으로도 등록
-        clazz.java.interfaces.forEach { intf ->
-            beans[intf.kotlin] = instance
+        if (!definition.singleton.compareAndSet(null, instance)) {
+            // 경쟁에서 진 인스턴스는 공개되지 않으므로 초기화한 자원을 바로 정리
+            destroy(definition, raw)
+            return definition.singleton.get()!!
         }
+        if (definition.destroy != null) destroyTargets[definition] = raw
+        subscribe(raw, clazz.java)
+        schedule(raw, clazz.java)
+
+        // 클래스와 상위 타입 슬롯에 한 번에 발행 (구현체가 여러 개면 스캔 시 매핑된 타입만)
+        // 프록시로 바뀐 Bean은 프록시가 구현한 인터페이스 타입에만 발행
+        beans.publish(instance, definition.exposedTypes.filter { it.isInstance(instance) })
 
-        println("  [Done] ${clazz.simpleName} 생성 완료")
+        log("  [Done] ${clazz.java.simpleName} 생성 완료")
         return instance
     }
 
     /**
-     * 의존성 해결
-     * 파라미터 타입에 맞는 Bean 찾기
+     * Bean 조회
+     *
+     * fast path: 이미 생성된 싱글톤은 BeanRegistry 슬롯 읽기 한 번 (락 없음)
+     * slow path: @Lazy 싱글톤 최초 조회, PROTOTYPE/THREAD/REQUEST Bean
      */
-    private fun resolveDependency(param: KParameter): Any {
-        val type = (param.type.javaType as Class<*>).kotlin
+    @Suppress("UNCHECKED_CAST")
+    override fun <T : Any> getBean(type: Class<T>): T {
+        beans.get(type)?.let { return it as T }
 
-        // 이미 생성된 Bean이 있으면 반환
-        beans[type]?.let { return it }
+        val definition = definitionsByType[type]
+            ?: throw IllegalStateException("${type.simpleName}을 찾을 수 없습니다")
+        val bean = resolve(definition)
+        check(type.isInstance(bean)) {
+            "${type.simpleName}은 프록시로 감싸져 있어 인터페이스 타입으로만 조회할 수 있습니다"
+        }
+        return bean as T
+    }
+
+    fun <T : Any> getBean(type: KClass<T>): T = getBean(type.java)
 
-        // 인터페이스인 경우 구현체 찾기
-        val implClass = interfaceToImpl[type]
-            ?: throw IllegalStateException("${type.simpleName}에 대한 구현체를 찾을 수 없습니다")
+    override fun findSingleton(type: Class<*>): Any? = beans.get(type)
 
-        // 재귀적으로 의존성 생성
-        return createBean(implClass)
+    /**
+     * 자식 컨테이너 생성
+     * 스캔 / 생성자 분석 없이 이 컨테이너의 싱글톤과 BeanDefinition을 공유하므로
+     * 선언한 Bean 수만큼의 생성 비용만 듦
+     *
+     * 예) container.createChild("tenant-42") {
+     *         instance(TenantConfig("42"))
+     *         component(UserService::class)   // TenantConfig를 주입받는 UserService를 테넌트 전용으로 생성
+     *     }
+     */
+    override fun createChild(name: String, declare: ChildContainer.Declarations.() -> Unit): ChildContainer {
+        return ChildContainer(name, this, this, ChildContainer.Declarations().apply(declare))
     }
 
     /**
-     * Bean 조회
+     * REQUEST 스코프 블록 실행
+     * 블록 안에서 조회한 REQUEST Bean은 블록이 끝날 때까지 같은 인스턴스
      */
-    fun <T : Any> getBean(type: KClass<T>): T {
-        @Suppress("UNCHECKED_CAST")
-        return (beans[type] ?: beans[interfaceToImpl[type]]) as? T
-            ?: throw IllegalStateException("${type.simpleName}을 찾을 수 없습니다")
+    fun <T> runInRequestScope(block: () -> T): T = requestScope.run(block)
+
+    /**
+     * 컨테이너 종료
+     * 생성 웨이브의 역순으로 @PreDestroy 콜백 실행 - 의존하는 Bean이 의존 대상보다 먼저 종료되고,
+     * 같은 웨이브의 Bean들은 동시에 종료됨
+     * 제한 시간을 넘기거나 실패한 콜백은 보고서에 기록하고 다음 Bean 종료를 계속 진행
+     */
+    override fun close() {
+        if (!closed.compareAndSet(false, true)) return
+
+        log("=== 컨테이너 종료 ===")
+        waves.asReversed().forEach { wave ->
+            val calls = wave.mapNotNull { clazz ->
+                val definition = definitions.getValue(clazz)
+                destroyTargets.remove(definition)?.let { LifecycleCallbacks.Call(definition, definition.destroy!!, it) }
+            }
+            if (calls.isEmpty()) return@forEach
+            lifecycle.runAll(LifecyclePhase.DESTROY, calls).forEach { entry ->
+                log("[Destroy] ${entry.beanClass.java.simpleName}.${entry.methodName}() ${entry.outcome} ${"%.1f".format(entry.durationNanos / 1e6)}ms")
+            }
+        }
+        lifecycle.shutdown()
+        log("")
+    }
+
+    /**
+     * JVM 종료 시 close() 호출 (Spring의 registerShutdownHook과 같음)
+     */
+    fun registerShutdownHook() {
+        Runtime.getRuntime().addShutdownHook(Thread(::close, "container-shutdown"))
     }
 
+    /**
+     * 지금까지 실행된 초기화/소멸 콜백 기록
+     */
+    fun lifecycleReport(): LifecycleReport = lifecycle.report()
+
     /**
      * 등록된 Bean 목록 출력
      */
     fun printBeans() {
         println("=== 등록된 Bean 목록 ===")
-        beans.forEach { (clazz, instance) ->
-            println("  ${clazz.simpleName} -> ${instance::class.simpleName}")
+        creationOrder.forEach { clazz ->
+            val definition = definitions.getValue(clazz)
+            val instance = definition.singleton.get()
+            val target = when {
+                definition.scope != ScopeType.SINGLETON -> "(${definition.scope.name.lowercase()})"
+                instance == null -> "(lazy, 아직 생성되지 않음)"
+                !definition.beanClass.isInstance(instance) -> "${clazz.java.simpleName} (proxy)"
+                else -> instance.javaClass.simpleName
+            }
+            definition.exposedTypes.forEach { type ->
+                println("  ${type.simpleName} -> $target")
+            }
         }
         println()
     }
-}
 
-/**
- * Kotlin DSL을 위한 확장 함수
- */
-inline fun <reified T : Any> ReflectionContainer.getBean(): T {
-    return getBean(T::class)
+    private fun log(message: String) {
+        if (verbose) println(message)
+    }
 }
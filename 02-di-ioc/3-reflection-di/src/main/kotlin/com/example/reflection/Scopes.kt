@@ -0,0 +1,53 @@
+package com.example.reflection
+
+/**
+ * 싱글톤이 아닌 스코프의 Bean 저장소
+ *
+ * Spring의 org.springframework.beans.factory.config.Scope와 유사
+ */
+interface ScopeStore {
+    fun get(definition: BeanDefinition, create: () -> Any): Any
+}
+
+/**
+ * THREAD 스코프: 스레드마다 하나의 인스턴스
+ *
+ * Spring의 SimpleThreadScope와 유사
+ * 스레드가 살아 있는 동안 인스턴스도 유지되므로 스레드 풀에서 사용할 때 주의
+ */
+class ThreadScopeStore : ScopeStore {
+    private val store = ThreadLocal.withInitial { HashMap<BeanDefinition, Any>() }
+
+    override fun get(definition: BeanDefinition, create: () -> Any): Any {
+        // computeIfAbsent가 아닌 getOrPut: 생성 중 다른 THREAD Bean을 재귀적으로 만들어도 안전
+        return store.get().getOrPut(definition, create)
+    }
+}
+
+/**
+ * REQUEST 스코프: 요청(작업 단위)마다 하나의 인스턴스
+ *
+ * ReflectionContainer.runInRequestScope { } 블록 안에서만 유효하며,
+ * 블록이 끝나면 인스턴스도 함께 버려짐
+ */
+class RequestScopeStore : ScopeStore {
+    private val current = ThreadLocal<MutableMap<BeanDefinition, Any>?>()
+
+    override fun get(definition: BeanDefinition, create: () -> Any): Any {
+        val store = current.get()
+            ?: throw IllegalStateException("${definition.beanClass.simpleName}: 활성화된 request scope가 없습니다")
+        return store.getOrPut(definition, create)
+    }
+
+    fun <T> run(block: () -> T): T {
+        // 이미 request scope 안이면 바깥 요청의 인스턴스를 그대로 사용
+        if (current.get() != null) return block()
+
+        current.set(HashMap())
+        try {
+            return block()
+        } finally {
+            current.remove()
+        }
+    }
+}
@@ -19,3 +19,108 @@ annotation class Component
 @Target(AnnotationTarget.VALUE_PARAMETER)
 @Retention(AnnotationRetention.RUNTIME)
 annotation class Inject
+
+/**
+ * 지연 생성을 표시하는 어노테이션
+ * 컨테이너 시작 시점이 아니라 처음 조회(getBean)될 때 생성됨
+ *
+ * Spring의 @Lazy와 유사
+ */
+@Target(AnnotationTarget.CLASS)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class Lazy
+
+/**
+ * Bean의 생존 범위를 지정하는 어노테이션
+ * 붙이지 않으면 SINGLETON
+ *
+ * Spring의 @Scope와 유사
+ */
+@Target(AnnotationTarget.CLASS)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class Scope(val value: ScopeType)
+
+enum class ScopeType {
+    /** 컨테이너당 하나 */
+    SINGLETON,
+
+    /** 조회(주입)할 때마다 새로 생성 */
+    PROTOTYPE,
+
+    /** 스레드당 하나 */
+    THREAD,
+
+    /** runInRequestScope 블록(요청)당 하나 */
+    REQUEST
+}
+
+/**
+ * 초기화 콜백을 표시하는 어노테이션
+ * 생성자 주입이 끝난 직후(프록시로 감싸기 전) 한 번 호출됨 - 캐시 워밍업, 커넥션 생성 등
+ * 서로 의존하지 않는 Bean의 초기화 콜백은 병렬로 실행됨
+ *
+ * Spring(jakarta.annotation)의 @PostConstruct와 유사
+ *
+ * @param timeoutMillis 이 시간 안에 끝나지 않으면 컨테이너 시작 실패 (0 이하면 컨테이너 기본값)
+ */
+@Target(AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class PostConstruct(val timeoutMillis: Long = 0)
+
+/**
+ * 소멸 콜백을 표시하는 어노테이션
+ * 컨테이너 종료(close) 시 생성의 역순으로 호출됨 (SINGLETON Bean만)
+ *
+ * Spring(jakarta.annotation)의 @PreDestroy와 유사
+ *
+ * @param timeoutMillis 이 시간 안에 끝나지 않으면 기다리지 않고 다음 Bean 종료 진행 (0 이하면 컨테이너 기본값)
+ */
+@Target(AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class PreDestroy(val timeoutMillis: Long = 0)
+
+/**
+ * 이벤트 구독 메서드를 표시하는 어노테이션
+ * 파라미터 하나(이벤트 타입)를 받는 메서드에 붙이면, 그 타입(또는 하위 타입)의 이벤트가 발행될 때 호출됨
+ * 컨테이너가 싱글톤 Bean을 생성할 때 등록함 (PROTOTYPE 등 다른 스코프의 Bean은 등록하지 않음)
+ *
+ * Spring의 @EventListener와 유사 (async = true는 @EventListener + @Async)
+ *
+ * @param async false면 발행한 스레드에서 바로 호출 (예외도 발행자에게 전달),
+ *   true면 구독자별 큐에 넣고 이벤트 스레드에서 순서대로 호출
+ */
+@Target(AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class Subscribe(val async: Boolean = false)
+
+/**
+ * 주기 실행 메서드를 표시하는 어노테이션 (파라미터 없는 메서드)
+ * 컨테이너가 싱글톤 Bean을 생성할 때 내장 스케줄러(HashedWheelTimer)에 등록함
+ * fixedRateMillis와 fixedDelayMillis 중 하나만 지정
+ *
+ * Spring의 @Scheduled와 유사
+ *
+ * @param fixedRateMillis 이전 실행의 예정 시각 기준 주기 (밀리지 않도록 예정 시각을 누적)
+ * @param fixedDelayMillis 이전 실행이 끝난 시각 기준 간격
+ * @param initialDelayMillis 첫 실행까지의 지연
+ */
+@Target(AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class Scheduled(
+    val fixedRateMillis: Long = 0,
+    val fixedDelayMillis: Long = 0,
+    val initialDelayMillis: Long = 0
+)
+
+/**
+ * 비동기 실행 메서드를 표시하는 어노테이션
+ * AsyncExecutionInterceptor.advisor()를 ProxyBeanPostProcessor에 등록하면, 프록시가 이 메서드를
+ * 비동기 실행기(가상 스레드 또는 플랫폼 스레드 풀)에서 호출하고 바로 반환함
+ * 인터페이스 기반 프록시이므로 인터페이스 메서드(또는 그 구현 메서드)에만 적용됨
+ *
+ * Spring의 @Async와 유사
+ * 반환 타입은 CompletableFuture(결과를 핸들로 전달) 또는 Unit(결과 없이 실행만)
+ */
+@Target(AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class Async
@@ -0,0 +1,39 @@
+package com.example.reflection.aot
+
+import com.example.reflection.BeanDefinition
+
+/**
+ * 빌드 시점에 생성된 wiring 코드 (AOT)
+ *
+ * ./gradlew generateWiring 이 ReflectionContainer와 같은 스캔/분석을 빌드 시점에 실행하고,
+ * 그 결과를 "생성자를 직접 호출하는" Kotlin 코드로 만들어 이 인터페이스를 구현함
+ * 컨테이너는 시작할 때 이 클래스가 클래스패스에 있으면 스캔과 Reflection 분석을 건너뜀
+ *
+ * Spring의 AOT 처리(BeanFactoryInitializationAotContribution)와 유사
+ */
+interface AotWiring {
+    /**
+     * 위상 정렬 순서로 정렬된 Bean 정의
+     */
+    fun definitions(): List<BeanDefinition>
+
+    companion object {
+        const val CLASS_SIMPLE_NAME = "GeneratedWiring"
+
+        /**
+         * 생성된 wiring 클래스 이름 규칙: <basePackage>.generated.GeneratedWiring
+         */
+        fun className(basePackage: String) = "$basePackage.generated.$CLASS_SIMPLE_NAME"
+
+        fun load(basePackage: String): AotWiring? {
+            val classLoader = Thread.currentThread().contextClassLoader
+            return try {
+                Class.forName(className(basePackage), true, classLoader)
+                    .getDeclaredConstructor()
+                    .newInstance() as AotWiring
+            } catch (e: ClassNotFoundException) {
+                null
+            }
+        }
+    }
+}
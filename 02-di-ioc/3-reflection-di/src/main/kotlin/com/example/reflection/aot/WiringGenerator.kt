@@ -0,0 +1,136 @@
+package com.example.reflection.aot
+
+import com.example.reflection.BeanDefinition
+import com.example.reflection.ComponentScanner
+import com.example.reflection.DependencyGraph
+import com.example.reflection.LifecycleCallback
+import com.example.reflection.event.EventBus
+import com.example.reflection.infrastructureDefinitions
+import com.example.reflection.injectionConstructor
+import com.example.reflection.schedule.HashedWheelTimer
+import java.io.File
+import java.lang.reflect.Modifier
+import kotlin.reflect.KClass
+import kotlin.reflect.KParameter
+import kotlin.reflect.KVisibility
+
+/**
+ * 빌드 시점 wiring 코드 생성기 (AOT)
+ *
+ * ReflectionContainer가 시작할 때 하는 일(패키지 스캔, 생성자 분석, 순환 검사, 위상 정렬)을
+ * 빌드 시점에 미리 실행하고, 결과를 Reflection 없는 Kotlin 코드로 출력함
+ *
+ * 생성 결과 예)
+ *   BeanDefinition(beanClass = UserService::class, ..., init = LifecycleCallback("init", 0) { (it as UserService).init() }) { args ->
+ *       UserService(args[0] as UserRepository, args[1] as NotificationService)
+ *   }
+ *
+ * Level 1(Manual DI)의 "직접 new" 코드를 컴퓨터가 대신 써주는 것과 같음
+ * 순환 의존성이 있으면 런타임이 아니라 빌드가 실패함
+ */
+class WiringGenerator(private val basePackage: String) {
+
+    fun generate(): String {
+        // 내장 Bean(EventBus, 스케줄러)은 컨테이너가 직접 추가하므로 그래프에만 넣고 코드는 생성하지 않음
+        val infrastructure = infrastructureDefinitions(EventBus(), HashedWheelTimer())
+        val definitions = ComponentScanner(basePackage, infrastructure = infrastructure).scan().associateBy { it.beanClass }
+        val graph = DependencyGraph(definitions.mapValues { (_, definition) -> definition.dependencies.filterNotNull() })
+        val waves = graph.topologicalWaves()
+
+        val body = StringBuilder()
+        waves.forEachIndexed { index, wave ->
+            body.append("        // wave $index\n")
+            wave.filter { clazz -> infrastructure.none { it.beanClass == clazz } }
+                .forEach { clazz -> body.append(render(definitions.getValue(clazz))) }
+        }
+
+        return """
+            |// 자동 생성 파일 - 직접 수정하지 마세요
+            |// ./gradlew generateWiring 이 ReflectionContainer("$basePackage")의 스캔/분석 결과로 생성
+            |@file:Suppress("UNCHECKED_CAST")
+            |
+            |package $basePackage.generated
+            |
+            |import com.example.reflection.BeanDefinition
+            |import com.example.reflection.LifecycleCallback
+            |import com.example.reflection.annotation.ScopeType
+            |import com.example.reflection.aot.AotWiring
+            |
+            |class ${AotWiring.CLASS_SIMPLE_NAME} : AotWiring {
+            |    override fun definitions(): List<BeanDefinition> = listOf(
+            |${body.toString().trimEnd().removeSuffix(",")}
+            |    )
+            |}
+            |""".trimMargin()
+    }
+
+    fun writeTo(outputDir: File): File {
+        val file = File(outputDir, "${basePackage.replace('.', '/')}/generated/${AotWiring.CLASS_SIMPLE_NAME}.kt")
+        file.parentFile.mkdirs()
+        file.writeText(generate())
+        return file
+    }
+
+    private fun render(definition: BeanDefinition): String {
+        val clazz = definition.beanClass
+        val constructor = injectionConstructor(clazz)
+        check(Modifier.isPublic(clazz.java.modifiers) && constructor.visibility == KVisibility.PUBLIC) {
+            "${clazz.simpleName}: public 클래스 / public 생성자만 wiring 코드를 생성할 수 있습니다"
+        }
+
+        val arguments = constructor.parameters.mapIndexed { i, param -> "args[$i] as ${typeName(param)}" }
+        val call = "${name(clazz)}(${arguments.joinToString(", ")})"
+        val lambdaParam = if (arguments.isEmpty()) "_" else "args"
+
+        return """
+            |        BeanDefinition(
+            |            beanClass = ${name(clazz)}::class,
+            |            dependencies = listOf(${definition.dependencies.joinToString(", ") { it?.let { d -> "${name(d)}::class" } ?: "null" }}),
+            |            parameterNames = listOf(${definition.parameterNames.joinToString(", ") { it?.let { n -> "\"$n\"" } ?: "null" }}),
+            |            scope = ScopeType.${definition.scope.name},
+            |            lazy = ${definition.lazy},
+            |            exposedTypes = listOf(${definition.exposedTypes.joinToString(", ") { "${it.canonicalName}::class.java" }}),
+            |            init = ${callback(clazz, definition.init)},
+            |            destroy = ${callback(clazz, definition.destroy)}
+            |        ) { $lambdaParam -> $call },
+            |""".trimMargin() + "\n"
+    }
+
+    private fun name(clazz: KClass<*>): String = clazz.java.canonicalName
+
+    /**
+     * @PostConstruct / @PreDestroy 콜백을 직접 호출하는 코드
+     */
+    private fun callback(clazz: KClass<*>, callback: LifecycleCallback?): String {
+        if (callback == null) return "null"
+        val method = clazz.java.getMethod(callback.methodName)
+        check(Modifier.isPublic(method.modifiers)) {
+            "${clazz.simpleName}.${callback.methodName}: public 메서드만 wiring 코드를 생성할 수 있습니다"
+        }
+        return "LifecycleCallback(\"${callback.methodName}\", ${callback.timeoutMillis}) { (it as ${name(clazz)}).${callback.methodName}() }"
+    }
+
+    /**
+     * 생성자 파라미터 타입을 Kotlin 코드로 표현
+     * Java 플랫폼 타입(String!, (Mutable)List<..>)은 원시 클래스 이름으로 대체
+     */
+    private fun typeName(param: KParameter): String {
+        val rendered = param.type.toString()
+        if ('!' !in rendered && '(' !in rendered) return rendered
+
+        val raw = (param.type.classifier as? KClass<*>)?.java ?: Any::class.java
+        val wildcards = if (raw.typeParameters.isEmpty()) "" else raw.typeParameters.joinToString(", ", "<", ">") { "*" }
+        return "${raw.canonicalName}$wildcards?"
+    }
+}
+
+/**
+ * Gradle generateWiring 태스크의 진입점
+ *
+ * args[0]: 스캔할 패키지, args[1]: 생성 코드를 쓸 디렉토리
+ */
+fun main(args: Array<String>) {
+    require(args.size == 2) { "사용법: WiringGenerator <basePackage> <outputDir>" }
+    val file = WiringGenerator(args[0]).writeTo(File(args[1]))
+    println("[AOT] wiring 코드 생성: $file")
+}
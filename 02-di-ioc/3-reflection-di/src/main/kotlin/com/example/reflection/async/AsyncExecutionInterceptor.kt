@@ -0,0 +1,81 @@
+package com.example.reflection.async
+
+import com.example.reflection.annotation.Async
+import com.example.reflection.proxy.Advisor
+import com.example.reflection.proxy.MethodInterceptor
+import com.example.reflection.proxy.MethodInvocation
+import com.example.reflection.proxy.Pointcut
+import java.lang.reflect.Method
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Executor
+
+/**
+ * @Async 메서드를 비동기 실행기에서 호출하는 인터셉터 (Spring의 AsyncExecutionInterceptor와 같은 역할)
+ *
+ * - CompletableFuture 반환: 호출 스레드에는 바로 새 핸들을 돌려주고,
+ *   실행기 스레드에서 메서드를 호출한 뒤 메서드가 돌려준 핸들의 결과로 완료함
+ * - Unit 반환: 실행기에 넘기기만 하고 바로 반환 (예외는 로그로만 남음)
+ *
+ * 사용 예
+ *   val executor = TaskExecutors.create(ExecutionMode.VIRTUAL, "async-")
+ *   ReflectionContainer("com.example.app", beanPostProcessors = listOf(
+ *       ProxyBeanPostProcessor(listOf(AsyncExecutionInterceptor.advisor(executor)))
+ *   ))
+ */
+class AsyncExecutionInterceptor(private val executor: Executor) : MethodInterceptor {
+
+    override fun invoke(invocation: MethodInvocation): Any? {
+        if (invocation.method.returnType == Void.TYPE) {
+            executor.execute {
+                try {
+                    invocation.proceed()
+                } catch (e: Throwable) {
+                    println("[Async] ${invocation.target.javaClass.simpleName}.${invocation.method.name} 실패: $e")
+                }
+            }
+            return null
+        }
+
+        val handle = CompletableFuture<Any?>()
+        executor.execute {
+            try {
+                (invocation.proceed() as CompletableFuture<*>?)?.whenComplete { result, error ->
+                    if (error == null) handle.complete(result) else handle.completeExceptionally(unwrap(error))
+                } ?: handle.complete(null)
+            } catch (e: Throwable) {
+                handle.completeExceptionally(e)
+            }
+        }
+        return handle
+    }
+
+    private fun unwrap(error: Throwable): Throwable =
+        if (error is CompletionException && error.cause != null) error.cause!! else error
+
+    companion object {
+        /**
+         * @Async가 붙은 메서드(인터페이스 메서드 또는 구현 메서드)에만 적용되는 Advisor
+         * 비동기 실행이 가장 바깥이 되도록 기본 order는 가장 작은 값 (다른 인터셉터는 실행기 스레드에서 실행됨)
+         */
+        fun advisor(executor: Executor, order: Int = Int.MIN_VALUE) =
+            Advisor(AsyncPointcut, AsyncExecutionInterceptor(executor), order)
+    }
+}
+
+private object AsyncPointcut : Pointcut {
+    override fun matches(targetClass: Class<*>, method: Method): Boolean {
+        val implementation = try {
+            targetClass.getMethod(method.name, *method.parameterTypes)
+        } catch (e: NoSuchMethodException) {
+            method
+        }
+        if (!method.isAnnotationPresent(Async::class.java) && !implementation.isAnnotationPresent(Async::class.java)) {
+            return false
+        }
+        check(method.returnType == Void.TYPE || method.returnType == CompletableFuture::class.java) {
+            "${targetClass.simpleName}.${method.name}: @Async 메서드는 CompletableFuture 또는 Unit을 반환해야 합니다"
+        }
+        return true
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.reflection.async
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 비동기 작업을 실행할 스레드 종류
+ */
+enum class ExecutionMode {
+    /** 고정 크기 플랫폼 스레드 풀: 동시에 블로킹할 수 있는 작업 수 = 스레드 수 */
+    PLATFORM,
+
+    /** 작업마다 가상 스레드 (JDK 21+): 블로킹 I/O 중에는 캐리어 스레드를 놓아주므로 동시 작업 수 제한이 사실상 없음 */
+    VIRTUAL;
+
+    companion object {
+        /**
+         * -Dreflection.async.mode=platform|virtual (기본값: 가상 스레드를 지원하면 VIRTUAL)
+         */
+        fun fromSystemProperty(): ExecutionMode {
+            val value = System.getProperty(PROPERTY) ?: return if (TaskExecutors.virtualThreadsSupported) VIRTUAL else PLATFORM
+            return values().firstOrNull { it.name.equals(value, ignoreCase = true) }
+                ?: throw IllegalStateException("$PROPERTY 값은 platform 또는 virtual이어야 합니다: $value")
+        }
+
+        const val PROPERTY = "reflection.async.mode"
+    }
+}
+
+/**
+ * 비동기 실행기 생성
+ *
+ * 이 모듈은 JDK 17로 컴파일하므로 가상 스레드 API(Thread.ofVirtual, Executors.newThreadPerTaskExecutor)를
+ * 리플렉션으로 찾아 사용함 - JDK 21 이상에서 실행하면 가상 스레드, 그보다 낮으면 플랫폼 스레드 풀로 대체
+ *
+ * 가상 스레드가 synchronized 블록 안에서 블로킹하면 캐리어 스레드에 고정(pinning)됨
+ * gradle run / 측정 태스크는 -Djdk.tracePinnedThreads=full로 실행하므로 고정이 일어나면 스택이 출력됨
+ */
+object TaskExecutors {
+
+    /** 현재 JVM에서 가상 스레드를 만들 수 있는지 */
+    val virtualThreadsSupported: Boolean = virtualThreadFactory("probe-") != null
+
+    /**
+     * @param namePrefix 스레드 이름 접두사 (예: "async-" -> async-0, async-1, ...)
+     * @param platformThreads PLATFORM 모드(또는 가상 스레드를 지원하지 않을 때)의 스레드 수
+     */
+    fun create(mode: ExecutionMode, namePrefix: String, platformThreads: Int = 64): ExecutorService {
+        if (mode == ExecutionMode.VIRTUAL) {
+            val factory = virtualThreadFactory(namePrefix)
+            if (factory != null) {
+                return Executors::class.java.getMethod("newThreadPerTaskExecutor", ThreadFactory::class.java)
+                    .invoke(null, factory) as ExecutorService
+            }
+            println("[Async] 이 JVM(${Runtime.version()})은 가상 스레드를 지원하지 않아 플랫폼 스레드 ${platformThreads}개로 실행합니다")
+        }
+        val ids = AtomicInteger()
+        return ThreadPoolExecutor(
+            platformThreads, platformThreads, 60, TimeUnit.SECONDS, LinkedBlockingQueue()
+        ) { task -> Thread(task, "$namePrefix${ids.getAndIncrement()}").apply { isDaemon = true } }
+            .apply { allowCoreThreadTimeOut(true) }
+    }
+
+    /**
+     * 가상 스레드인지 (JDK 21 미만이면 항상 false)
+     */
+    fun isVirtual(thread: Thread): Boolean = isVirtualMethod?.invoke(thread) == true
+
+    private val isVirtualMethod = try {
+        Thread::class.java.getMethod("isVirtual")
+    } catch (e: NoSuchMethodException) {
+        null
+    }
+
+    /**
+     * Thread.ofVirtual().name(namePrefix, 0).factory()
+     */
+    private fun virtualThreadFactory(namePrefix: String): ThreadFactory? = try {
+        val builderType = Class.forName("java.lang.Thread\$Builder")
+        val builder = Thread::class.java.getMethod("ofVirtual").invoke(null)
+        val named = builderType.getMethod("name", String::class.java, Long::class.javaPrimitiveType).invoke(builder, namePrefix, 0L)
+        builderType.getMethod("factory").invoke(named) as ThreadFactory
+    } catch (e: ReflectiveOperationException) {
+        // JDK 17: 메서드 없음, JDK 19/20: --enable-preview 없이 호출하면 UnsupportedOperationException
+        null
+    }
+}
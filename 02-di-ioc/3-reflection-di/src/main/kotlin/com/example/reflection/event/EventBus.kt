@@ -0,0 +1,260 @@
+package com.example.reflection.event
+
+import com.example.reflection.BeanDefinition
+import com.example.reflection.LifecycleCallback
+import com.example.reflection.annotation.ScopeType
+import com.example.reflection.annotation.Subscribe
+import java.lang.invoke.LambdaMetafactory
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
+import java.lang.reflect.Method
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.locks.LockSupport
+import java.util.function.Consumer
+
+/**
+ * 이벤트 발행 (Spring의 ApplicationEventPublisher와 유사)
+ * 생성자에서 @Inject로 주입받아 사용
+ */
+fun interface EventPublisher {
+    fun publish(event: Any)
+}
+
+/**
+ * 컨테이너 내장 이벤트 버스
+ *
+ * ReflectionContainer가 싱글톤 Bean을 만들 때 @Subscribe 메서드를 찾아 등록함
+ * 자식 컨테이너가 다시 생성한 Bean도 같은 버스에 등록되고, 자식을 닫으면 등록이 해제됨
+ *
+ * 1. 디스패치 테이블: 이벤트 클래스 -> 구독자 배열
+ *    구독자가 등록될 때 새 테이블을 만들어 통째로 교체 (copy-on-write)
+ *    발행할 때는 테이블 조회 한 번 + 배열 순회만 함 (락 없음, 매 발행마다 타입 검사 없음)
+ *    처음 보는 이벤트 클래스(하위 타입)는 첫 발행 때 한 번 계산해서 테이블에 추가
+ * 2. 구독자 호출: LambdaMetafactory로 만든 Consumer를 통한 직접 호출 (Method.invoke 없음)
+ * 3. 비동기 구독자: 구독자마다 락 없는 MPSC 큐(메일박스)
+ *    발행 스레드는 큐에 넣기만 하고, 비어 있던 큐에 처음 넣은 스레드만 드레인 작업을 예약함
+ *    드레인은 구독자마다 한 번에 하나씩만 실행되므로 구독자별 이벤트 순서가 유지됨
+ *
+ * @param asyncThreads 비동기 구독자를 호출할 이벤트 스레드 수
+ */
+class EventBus(asyncThreads: Int = maxOf(2, Runtime.getRuntime().availableProcessors() / 2)) : EventPublisher {
+
+    /**
+     * 구독자 하나 (Bean의 @Subscribe 메서드 하나)
+     */
+    class Subscriber internal constructor(
+        val beanClass: Class<*>,
+        val methodName: String,
+        val eventType: Class<*>,
+        val async: Boolean,
+        private val target: Consumer<Any>,
+        private val bus: EventBus
+    ) {
+        private val mailbox = MpscQueue<Any>()
+        private val scheduled = AtomicBoolean()
+
+        internal fun deliver(event: Any) {
+            if (!async) {
+                target.accept(event)
+                return
+            }
+            bus.pending.increment()
+            mailbox.offer(event)
+            if (scheduled.compareAndSet(false, true)) bus.executor.execute(::drain)
+        }
+
+        /**
+         * 메일박스 비우기 (구독자마다 한 번에 하나만 실행됨)
+         * 한 번에 DRAIN_BATCH개까지만 처리하고 다시 예약해서 다른 구독자에게도 스레드를 양보
+         */
+        private fun drain() {
+            var count = 0
+            while (count < DRAIN_BATCH) {
+                val event = mailbox.poll() ?: break
+                try {
+                    target.accept(event)
+                    bus.delivered.increment()
+                } catch (e: Throwable) {
+                    bus.failed.increment()
+                    println("[EventBus] ${beanClass.simpleName}.$methodName(${event.javaClass.simpleName}) 실패: $e")
+                } finally {
+                    bus.pending.decrement()
+                }
+                count++
+            }
+            if (count == DRAIN_BATCH) {
+                bus.executor.execute(::drain)
+                return
+            }
+            scheduled.set(false)
+            // 플래그를 내리는 사이에 들어온 이벤트는 그 생산자가 예약하지 못했을 수 있으므로 다시 확인
+            if (!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) bus.executor.execute(::drain)
+        }
+
+        override fun toString() = "${beanClass.simpleName}.$methodName(${eventType.simpleName})${if (async) " async" else ""}"
+    }
+
+    /**
+     * 발행 / 전달 통계
+     *
+     * @property pending 비동기 큐에 들어가 아직 처리되지 않은 이벤트 수
+     */
+    data class Stats(val published: Long, val delivered: Long, val failed: Long, val pending: Long)
+
+    private val threadIds = AtomicInteger()
+    private val executor = ForkJoinPool(asyncThreads, { pool ->
+        ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool).apply {
+            name = "event-${threadIds.incrementAndGet()}"
+            isDaemon = true
+        }
+    }, null, true)
+
+    private val published = LongAdder()
+    private val delivered = LongAdder()
+    private val failed = LongAdder()
+    private val pending = LongAdder()
+
+    // 등록 순서대로 쌓인 전체 구독자 (쓰기는 register / unregister에서만, 락 안에서)
+    @Volatile
+    private var subscribers: List<Subscriber> = emptyList()
+
+    // 이벤트 클래스 -> 구독자 배열 (읽기 전용 맵을 통째로 교체)
+    @Volatile
+    private var dispatchTable: Map<Class<*>, Array<Subscriber>> = emptyMap()
+
+    /**
+     * bean의 @Subscribe 메서드를 구독자로 등록
+     * 메서드 탐색은 beanClass 기준 (프록시로 감싼 Bean도 원본 클래스의 메서드를 원본 인스턴스로 호출)
+     *
+     * @return 등록된 구독자 (없으면 빈 목록)
+     */
+    fun register(bean: Any, beanClass: Class<*> = bean.javaClass): List<Subscriber> {
+        val found = subscriberMethods.get(beanClass).map { (method, annotation) ->
+            Subscriber(beanClass, method.name, method.parameterTypes[0], annotation.async, consumer(bean, method), this)
+        }
+        if (found.isEmpty()) return found
+
+        synchronized(this) {
+            subscribers = subscribers + found
+            // 이미 발행된 적 있는 이벤트 클래스들의 배열을 다시 계산
+            dispatchTable = dispatchTable.keys.associateWith { subscribersOf(it) }
+        }
+        return found
+    }
+
+    /**
+     * register로 등록한 구독자를 해제
+     * 해제 후 발행한 이벤트는 전달되지 않음 (이미 비동기 큐에 들어간 이벤트는 그대로 처리됨)
+     */
+    fun unregister(removed: List<Subscriber>) {
+        if (removed.isEmpty()) return
+
+        synchronized(this) {
+            subscribers = subscribers - removed.toSet()
+            dispatchTable = dispatchTable.keys.associateWith { subscribersOf(it) }
+        }
+    }
+
+    override fun publish(event: Any) {
+        published.increment()
+        val targets = dispatchTable[event.javaClass] ?: addToTable(event.javaClass)
+        for (subscriber in targets) {
+            subscriber.deliver(event)
+        }
+    }
+
+    private fun addToTable(eventClass: Class<*>): Array<Subscriber> = synchronized(this) {
+        dispatchTable[eventClass]?.let { return it }
+        val targets = subscribersOf(eventClass)
+        dispatchTable = dispatchTable + (eventClass to targets)
+        targets
+    }
+
+    private fun subscribersOf(eventClass: Class<*>): Array<Subscriber> =
+        subscribers.filter { it.eventType.isAssignableFrom(eventClass) }.toTypedArray()
+
+    /**
+     * 비동기 큐가 모두 비워질 때까지 대기
+     *
+     * @return 제한 시간 안에 비워졌는지
+     */
+    fun awaitIdle(timeoutMillis: Long): Boolean {
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis)
+        while (pending.sum() > 0) {
+            if (System.nanoTime() > deadline) return false
+            LockSupport.parkNanos(50_000)
+        }
+        return true
+    }
+
+    fun stats() = Stats(published.sum(), delivered.sum(), failed.sum(), pending.sum())
+
+    fun subscribers(): List<Subscriber> = subscribers
+
+    /**
+     * 남은 비동기 이벤트를 처리한 뒤 이벤트 스레드 종료
+     */
+    fun close() {
+        if (!awaitIdle(CLOSE_TIMEOUT_MILLIS)) {
+            println("[EventBus] ${CLOSE_TIMEOUT_MILLIS}ms 안에 처리되지 않은 이벤트 ${pending.sum()}개를 버리고 종료합니다")
+        }
+        executor.shutdownNow()
+    }
+
+    companion object {
+        private const val DRAIN_BATCH = 256
+        private const val CLOSE_TIMEOUT_MILLIS = 5_000L
+
+        // 클래스별 @Subscribe 메서드 (클래스마다 한 번만 탐색)
+        private val subscriberMethods = object : ClassValue<List<Pair<Method, Subscribe>>>() {
+            override fun computeValue(type: Class<*>): List<Pair<Method, Subscribe>> {
+                return generateSequence(type) { it.superclass }
+                    .flatMap { it.declaredMethods.asSequence() }
+                    .mapNotNull { method -> method.getAnnotation(Subscribe::class.java)?.let { method to it } }
+                    .onEach { (method, _) ->
+                        check(method.parameterCount == 1 && !method.parameterTypes[0].isPrimitive) {
+                            "${type.simpleName}.${method.name}: @Subscribe 메서드는 이벤트 객체 파라미터 하나만 받아야 합니다"
+                        }
+                    }
+                    .toList()
+            }
+        }
+
+        /**
+         * bean.method(event)를 직접 호출하는 Consumer 생성
+         * LambdaMetafactory가 만든 클래스가 메서드를 바로 호출하므로 JIT이 인라인할 수 있음
+         */
+        @Suppress("UNCHECKED_CAST")
+        private fun consumer(bean: Any, method: Method): Consumer<Any> {
+            val lookup = MethodHandles.privateLookupIn(method.declaringClass, MethodHandles.lookup())
+            val handle = lookup.unreflect(method)
+            val site = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                MethodType.methodType(Consumer::class.java, method.declaringClass),
+                MethodType.methodType(Void.TYPE, Any::class.java),
+                handle,
+                MethodType.methodType(Void.TYPE, method.parameterTypes[0])
+            )
+            return site.target.invokeWithArguments(bean) as Consumer<Any>
+        }
+
+        /**
+         * 컨테이너가 스캔 결과에 추가하는 내장 Bean 정의
+         * EventBus / EventPublisher 타입으로 주입받을 수 있고, 컨테이너 종료 시 남은 이벤트를 처리하고 닫힘
+         */
+        fun definition(bus: EventBus) = BeanDefinition(
+            beanClass = EventBus::class,
+            dependencies = emptyList(),
+            parameterNames = emptyList(),
+            scope = ScopeType.SINGLETON,
+            lazy = false,
+            exposedTypes = listOf(EventBus::class.java, EventPublisher::class.java),
+            destroy = LifecycleCallback("close") { (it as EventBus).close() }
+        ) { bus }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.reflection.event
+
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 락 없는 다중 생산자 / 단일 소비자(MPSC) 큐 (Dmitry Vyukov의 intrusive MPSC 큐와 같은 구조)
+ *
+ * offer: 여러 스레드가 동시에 호출 가능 - getAndSet 한 번으로 끝에 붙임 (CAS 재시도 루프 없음)
+ * poll: 한 번에 한 스레드만 호출해야 함 (EventBus는 구독자마다 드레인 작업을 하나만 실행)
+ *
+ * 생산자가 getAndSet과 next 연결 사이에 있으면 poll은 잠깐 null을 돌려줄 수 있음
+ * (그 생산자가 연결을 끝낸 뒤 직접 드레인을 다시 예약하므로 이벤트가 유실되지 않음)
+ */
+internal class MpscQueue<T : Any> {
+    private class Node<T>(var value: T?) {
+        @Volatile
+        var next: Node<T>? = null
+    }
+
+    // 생산자들이 마지막 노드를 교체하는 지점
+    private val last = AtomicReference(Node<T>(null))
+
+    // 소비자만 읽고 쓰는 더미 노드 (다음 노드가 첫 번째 원소)
+    private var first: Node<T> = last.get()
+
+    fun offer(value: T) {
+        val node = Node(value)
+        last.getAndSet(node).next = node
+    }
+
+    fun poll(): T? {
+        val next = first.next ?: return null
+        val value = next.value
+        next.value = null
+        first = next
+        return value
+    }
+
+    fun isEmpty(): Boolean = first.next == null
+}
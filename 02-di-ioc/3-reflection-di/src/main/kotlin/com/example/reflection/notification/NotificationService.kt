@@ -1,12 +1,33 @@
 package com.example.reflection.notification
 
+import com.example.reflection.annotation.Async
 import com.example.reflection.annotation.Component
+import java.util.concurrent.CompletableFuture
 
 /**
  * 알림 서비스 인터페이스
  */
 interface NotificationService {
     fun send(message: String)
+
+    /**
+     * 여러 메시지를 한 번에 전송 (NotificationDispatcher가 배치 단위로 호출)
+     * 게이트웨이가 대량 전송 API를 제공하면 재정의해서 왕복 한 번으로 보냄
+     */
+    fun sendBatch(messages: List<String>) {
+        messages.forEach(::send)
+    }
+
+    /**
+     * 배치 비동기 전송 (NotificationDispatcher가 호출)
+     * AsyncExecutionInterceptor가 적용되면 비동기 실행기에서 sendBatch를 호출하고 바로 반환하므로
+     * 게이트웨이 지연 동안 디스패처 워커가 묶이지 않음 (적용되지 않으면 호출 스레드에서 전송)
+     */
+    @Async
+    fun sendBatchAsync(messages: List<String>): CompletableFuture<Unit> {
+        sendBatch(messages)
+        return CompletableFuture.completedFuture(Unit)
+    }
 }
 
 /**
@@ -0,0 +1,303 @@
+package com.example.reflection.outbox
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.PreDestroy
+import com.example.reflection.notification.NotificationDispatcher
+import java.io.File
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * outbox 설정
+ *
+ * @property directory 로그 / 체크포인트 / dead letter 파일 위치
+ *   (기본: -Dreflection.outbox.dir - gradle run / test가 모듈의 build 아래로 넘김, 없으면 작업 디렉터리의 build/outbox)
+ * @property syncOnAppend append마다 디스크 동기화(force)까지 기다릴지
+ * @property relayIntervalMillis 새 레코드가 없을 때 릴레이가 다시 확인하는 간격 (append하면 바로 깨움)
+ * @property maxBatch 릴레이가 한 번에 읽어 디스패처에 넘기는 최대 레코드 수
+ * @property maxAttempts 한 레코드의 최대 전달 시도 횟수 (넘으면 dead letter로 옮기고 다음으로 진행)
+ * @property dedupeWindow 전달한 멱등 키를 기억하는 최대 개수
+ * @property compactBytes 모두 전달된 로그가 이 크기를 넘으면 비움
+ * @property closeTimeoutMillis 종료할 때 남은 레코드의 전달을 기다리는 최대 시간 (deliveryTimeoutMillis보다 우선)
+ */
+data class OutboxOptions(
+    val directory: File = File(System.getProperty("reflection.outbox.dir") ?: "build/outbox"),
+    val syncOnAppend: Boolean = true,
+    val relayIntervalMillis: Long = 50,
+    val maxBatch: Int = 256,
+    val maxAttempts: Int = 5,
+    val initialBackoffMillis: Long = 50,
+    val maxBackoffMillis: Long = 5_000,
+    val deliveryTimeoutMillis: Long = 10_000,
+    val dedupeWindow: Int = 10_000,
+    val compactBytes: Long = 1L shl 20,
+    val closeTimeoutMillis: Long = 5_000
+)
+
+/**
+ * 알림 outbox (transactional outbox 패턴)
+ *
+ * 사용자 등록은 알림을 로컬 로그에 append만 하고 반환하므로 등록 지연은 append 비용에만 의존함
+ * 백그라운드 릴레이가 로그를 순서대로 읽어 NotificationDispatcher로 전달하고,
+ * 전달이 끝난 위치를 체크포인트로 남김 - 전달 전에 프로세스가 죽어도 다음 시작 때 체크포인트부터 다시 전달
+ *
+ * 전달 보장: at-least-once, 순서는 보장하지 않음
+ * - 릴레이는 로그 순서대로 디스패처에 넘기지만, 디스패처 워커가 여러 개이거나 sendBatchAsync가 @Async이면
+ *   배치끼리 전송 순서가 바뀔 수 있음 (같은 배치 안의 순서만 유지됨)
+ * - 실패한 레코드는 지수 백오프로 재시도, maxAttempts를 넘으면 outbox.dead에 기록하고 건너뜀
+ * - 재시도 / 재시작 시 이미 전달한 멱등 키는 건너뜀 (키는 체크포인트 앞의 로그와 최근 전달 기록에서 복원)
+ * - 전달 직후 체크포인트 기록 전에 죽으면 마지막 배치가 다시 전달될 수 있음
+ *
+ * customOptions는 @Inject가 없는 선택적 파라미터이므로 컨테이너가 만들면 기본 설정을 사용
+ * 의존하는 NotificationDispatcher보다 먼저 종료되므로, 종료 시 남은 레코드를 디스패처로 보낸 뒤 닫힘
+ */
+@Component
+class NotificationOutbox(
+    @Inject private val notificationDispatcher: NotificationDispatcher,
+    customOptions: OutboxOptions? = null
+) : AutoCloseable {
+
+    val options = customOptions ?: OutboxOptions()
+
+    /**
+     * outbox 통계
+     *
+     * @property pending 로그에 있지만 아직 전달되지 않은 레코드 수
+     * @property duplicates 이미 전달한 멱등 키라서 건너뛴 레코드 수
+     */
+    data class Stats(
+        val appended: Long,
+        val delivered: Long,
+        val duplicates: Long,
+        val retries: Long,
+        val deadLettered: Long,
+        val pending: Long,
+        val meanAppendMicros: Double
+    )
+
+    init {
+        require(options.maxBatch > 0 && options.maxAttempts > 0 && options.dedupeWindow > 0) {
+            "maxBatch, maxAttempts, dedupeWindow는 0보다 커야 합니다: $options"
+        }
+    }
+
+    private val log = OutboxLog(options.directory, options.syncOnAppend)
+    private val deadLetterFile = File(options.directory, "outbox.dead")
+
+    // 아래는 릴레이 스레드만 사용
+    // 전달한 멱등 키 (dedupeWindow를 넘으면 오래된 것부터 밀려남)
+    private val deliveredKeys = LinkedHashSet<String>()
+    // 전달했지만 앞선 레코드의 재시도 때문에 아직 체크포인트에 들어가지 못한 레코드 번호
+    private val deliveredAhead = HashSet<Long>()
+    // 레코드 번호별 실패 횟수
+    private val attempts = HashMap<Long, Int>()
+
+    @Volatile
+    private var closed = false
+
+    // close가 호출된 뒤 릴레이가 전달을 기다릴 수 있는 마지막 시각 (closed가 true일 때만 의미가 있음)
+    @Volatile
+    private var closeDeadline = 0L
+
+    private val appended = LongAdder()
+    private val delivered = LongAdder()
+    private val duplicates = LongAdder()
+    private val retries = LongAdder()
+    private val deadLettered = LongAdder()
+    private val appendNanos = LongAdder()
+
+    private val relay: Thread
+
+    init {
+        // 체크포인트 앞의 레코드는 이미 전달됨 - 그 키로 중복 제거 기록을 복원
+        var position = 0L
+        while (position < log.checkpoint.offset) {
+            val entries = log.read(position, options.maxBatch)
+            entries.forEach { remember(it.record.key) }
+            position = entries.last().nextOffset
+        }
+        val pending = log.lastSequence - log.checkpoint.sequence
+        if (pending > 0) println("[Outbox] 전달되지 않은 알림 ${pending}건을 다시 전달합니다")
+
+        relay = Thread(::relayLoop, "outbox-relay").apply {
+            isDaemon = true
+            start()
+        }
+    }
+
+    /**
+     * 알림을 로그에 기록하고 바로 반환 (전달은 릴레이가 처리)
+     *
+     * @param key 멱등 키 - 같은 키로 여러 번 기록해도 한 번만 전달됨 (예: "welcome:{email}")
+     */
+    fun append(key: String, message: String): OutboxRecord {
+        check(!closed) { "outbox가 종료되었습니다" }
+        val start = System.nanoTime()
+        val record = log.append(key, message)
+        appendNanos.add(System.nanoTime() - start)
+        appended.increment()
+        LockSupport.unpark(relay)
+        return record
+    }
+
+    fun stats(): Stats {
+        val appendedCount = appended.sum()
+        return Stats(
+            appended = appendedCount,
+            delivered = delivered.sum(),
+            duplicates = duplicates.sum(),
+            retries = retries.sum(),
+            deadLettered = deadLettered.sum(),
+            pending = log.lastSequence - log.checkpoint.sequence,
+            meanAppendMicros = if (appendedCount == 0L) 0.0 else appendNanos.sum() / 1e3 / appendedCount
+        )
+    }
+
+    /**
+     * 새 레코드를 받지 않고, 남은 레코드를 전달한 뒤 릴레이 종료
+     * 제한 시간 안에 전달하지 못한 레코드는 로그에 남아 다음 시작 때 전달됨
+     *
+     * 로그는 릴레이가 끝나면서 닫음 - 전달을 기다리던 릴레이가 닫힌 로그에 체크포인트를 쓰지 않도록
+     */
+    @PreDestroy
+    override fun close() {
+        if (closed) return
+        closeDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.closeTimeoutMillis)
+        closed = true
+        LockSupport.unpark(relay)
+        relay.join(options.closeTimeoutMillis + RELAY_EXIT_GRACE_MILLIS)
+        if (relay.isAlive) println("[Outbox] 릴레이가 아직 종료되지 않았습니다 - 로그는 릴레이가 끝날 때 닫힘")
+    }
+
+    private fun relayLoop() {
+        try {
+            relay()
+        } finally {
+            log.close()
+        }
+    }
+
+    private fun relay() {
+        var failures = 0
+        while (true) {
+            if (closed && System.nanoTime() - closeDeadline >= 0) return
+            val entries = log.read(log.checkpoint.offset, options.maxBatch)
+            if (entries.isEmpty()) {
+                if (closed) return
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(options.relayIntervalMillis))
+                continue
+            }
+
+            val done = deliver(entries)
+            if (done > 0) {
+                val last = entries[done - 1]
+                log.commit(last.nextOffset, last.record.sequence)
+                deliveredAhead.removeIf { it <= last.record.sequence }
+                log.compactIfDrained(options.compactBytes)
+                failures = 0
+            }
+            if (done < entries.size) {
+                // 실패한 레코드부터 백오프 후 재시도 (종료 중이면 로그에 남겨 두고 끝냄)
+                if (closed) return
+                retries.increment()
+                failures++
+                val backoff = minOf(options.initialBackoffMillis shl minOf(failures - 1, 20), options.maxBackoffMillis)
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoff))
+            }
+        }
+    }
+
+    /**
+     * 레코드를 디스패처로 넘기고 완료를 기다림
+     *
+     * @return 앞에서부터 연속으로 처리된(전달 / 중복 / dead letter) 레코드 수
+     */
+    private fun deliver(entries: List<OutboxEntry>): Int {
+        val submittedKeys = HashSet<String>()
+        val handles = entries.map { entry ->
+            val record = entry.record
+            when {
+                record.sequence in deliveredAhead -> null
+                record.key in deliveredKeys || !submittedKeys.add(record.key) -> {
+                    duplicates.increment()
+                    null
+                }
+                else -> try {
+                    notificationDispatcher.submit(record.payload)
+                } catch (e: Exception) {
+                    CompletableFuture.failedFuture(e)
+                }
+            }
+        }
+
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.deliveryTimeoutMillis)
+        var done = 0
+        var contiguous = true
+        entries.forEachIndexed { i, entry ->
+            val record = entry.record
+            val handle = handles[i]
+            val finished = when {
+                handle == null -> true
+                await(handle, deadline) -> {
+                    delivered.increment()
+                    remember(record.key)
+                    deliveredAhead.add(record.sequence)
+                    true
+                }
+                else -> {
+                    val attempt = (attempts[record.sequence] ?: 0) + 1
+                    attempts[record.sequence] = attempt
+                    if (attempt >= options.maxAttempts) deadLetter(record, attempt)
+                    attempt >= options.maxAttempts
+                }
+            }
+            if (finished) attempts.remove(record.sequence)
+            contiguous = contiguous && finished
+            if (contiguous) done++
+        }
+        return done
+    }
+
+    /**
+     * 핸들이 완료될 때까지 deadline까지 대기 (close가 호출되면 close 제한 시간까지만)
+     * close를 바로 알아채도록 relayIntervalMillis씩 나눠서 기다림
+     */
+    private fun await(handle: CompletableFuture<Unit>, deadline: Long): Boolean {
+        val sliceNanos = TimeUnit.MILLISECONDS.toNanos(maxOf(options.relayIntervalMillis, 1))
+        while (!handle.isDone) {
+            val now = System.nanoTime()
+            val remaining = if (closed) minOf(deadline - now, closeDeadline - now) else deadline - now
+            if (remaining <= 0) return false
+            try {
+                handle.get(minOf(remaining, sliceNanos), TimeUnit.NANOSECONDS)
+            } catch (e: TimeoutException) {
+                // 다음 조각에서 close 여부와 남은 시간을 다시 확인
+            } catch (e: Exception) {
+                return false
+            }
+        }
+        return !handle.isCompletedExceptionally
+    }
+
+    private fun remember(key: String) {
+        deliveredKeys.add(key)
+        if (deliveredKeys.size > options.dedupeWindow) {
+            deliveredKeys.remove(deliveredKeys.first())
+        }
+    }
+
+    private fun deadLetter(record: OutboxRecord, attempts: Int) {
+        deadLettered.increment()
+        println("[Outbox] ${record.key} 전달 ${attempts}회 실패 - dead letter로 옮김")
+        deadLetterFile.appendText("${record.sequence}\t${record.key}\t${record.payload}\n")
+    }
+
+    companion object {
+        // close 제한 시간이 지난 뒤 릴레이가 체크포인트를 쓰고 끝나기까지 기다리는 여유
+        private const val RELAY_EXIT_GRACE_MILLIS = 1_000L
+    }
+}
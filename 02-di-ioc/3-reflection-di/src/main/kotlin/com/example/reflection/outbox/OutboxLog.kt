@@ -0,0 +1,263 @@
+package com.example.reflection.outbox
+
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.channels.FileLock
+import java.nio.channels.OverlappingFileLockException
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.nio.file.StandardOpenOption
+import java.util.zip.CRC32
+
+/**
+ * outbox 레코드
+ *
+ * @property sequence 로그 안에서 1부터 증가하는 번호 (압축 후에도 이어짐)
+ * @property key 멱등 키 - 같은 키의 레코드는 한 번만 전달됨
+ */
+data class OutboxRecord(val sequence: Long, val key: String, val payload: String)
+
+/**
+ * 로그에서 읽은 레코드와 그 레코드 바로 다음 위치
+ */
+class OutboxEntry(val record: OutboxRecord, val nextOffset: Long)
+
+/**
+ * 전달이 끝난 위치
+ *
+ * @property offset 이 위치 앞의 레코드는 모두 전달됨
+ * @property sequence offset 앞의 마지막 레코드 번호
+ */
+data class OutboxCheckpoint(val offset: Long, val sequence: Long)
+
+/**
+ * append-only outbox 로그 파일
+ *
+ * 파일 형식: [본문 길이 Int][CRC32 Int][본문: sequence Long, key UTF, payload UTF] 반복
+ * - append는 레코드 하나를 write 한 번으로 씀 (write가 끝나면 프로세스가 죽어도 OS 페이지 캐시에 남음)
+ * - syncOnAppend이면 force까지 기다림 (OS / 전원 장애에도 남음, 대신 append마다 디스크 동기화 비용)
+ * - 열 때 처음부터 CRC를 확인하며 읽고, append 도중 죽어서 끊긴 꼬리는 잘라냄
+ * - 전달 위치는 outbox.checkpoint에 임시 파일 + 원자적 이동으로 기록 (반쯤 쓰인 체크포인트가 없음)
+ *   임시 파일을 force한 뒤 이동하고 디렉터리도 force하므로, 전원 장애 뒤에도 이전 / 새 체크포인트 중 하나가 남음
+ *   그래도 읽을 수 없는 체크포인트는 (0, 0)으로 보고 처음부터 다시 전달 (at-least-once)
+ * - 한 디렉터리는 한 인스턴스만 사용 (파일 락, 두 번째 인스턴스는 예외)
+ */
+class OutboxLog(
+    directory: File,
+    private val syncOnAppend: Boolean = true
+) : AutoCloseable {
+
+    private val logFile = File(directory, "outbox.log")
+    private val checkpointFile = File(directory, "outbox.checkpoint")
+
+    private val channel: FileChannel
+    private val fileLock: FileLock
+
+    // append / compact는 이 객체로 직렬화, read는 위치 지정 읽기라 락 없이 endOffset까지만 읽음
+    private val appendLock = Any()
+
+    @Volatile
+    var endOffset = 0L
+        private set
+
+    @Volatile
+    var checkpoint = OutboxCheckpoint(0, 0)
+        private set
+
+    private var nextSequence = 1L
+
+    /** 지금까지 append된 마지막 레코드 번호 */
+    val lastSequence: Long get() = nextSequence - 1
+
+    init {
+        check(directory.isDirectory || directory.mkdirs()) { "outbox 디렉터리를 만들 수 없습니다: $directory" }
+        channel = FileChannel.open(
+            logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+        )
+        fileLock = try {
+            channel.tryLock()
+        } catch (e: OverlappingFileLockException) {
+            null
+        } ?: run {
+            channel.close()
+            throw IllegalStateException("다른 인스턴스가 outbox 로그를 사용 중입니다: $logFile")
+        }
+        recover()
+    }
+
+    /**
+     * 레코드를 로그 끝에 추가
+     * 반환 시점에 레코드가 로그에 기록됨 (syncOnAppend이면 디스크까지)
+     */
+    fun append(key: String, payload: String): OutboxRecord = synchronized(appendLock) {
+        val record = OutboxRecord(nextSequence, key, payload)
+        val body = encode(record)
+        val buffer = ByteBuffer.allocate(HEADER_BYTES + body.size)
+            .putInt(body.size)
+            .putInt(crc(body))
+            .put(body)
+            .flip()
+        var position = endOffset
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position)
+        }
+        if (syncOnAppend) channel.force(false)
+        endOffset = position
+        nextSequence++
+        record
+    }
+
+    /**
+     * fromOffset부터 최대 maxRecords개 읽기
+     */
+    fun read(fromOffset: Long, maxRecords: Int): List<OutboxEntry> {
+        val end = endOffset
+        val entries = ArrayList<OutboxEntry>()
+        var position = fromOffset
+        val header = ByteBuffer.allocate(HEADER_BYTES)
+        while (position < end && entries.size < maxRecords) {
+            readFully(header.clear(), position)
+            val length = header.getInt(0)
+            val body = ByteBuffer.allocate(length)
+            readFully(body, position + HEADER_BYTES)
+            position += HEADER_BYTES + length
+            entries.add(OutboxEntry(decode(body.array()), position))
+        }
+        return entries
+    }
+
+    /**
+     * 전달 위치 기록
+     */
+    fun commit(offset: Long, sequence: Long) {
+        val next = OutboxCheckpoint(offset, sequence)
+        val temp = File(checkpointFile.parentFile, "${checkpointFile.name}.tmp")
+        FileChannel.open(
+            temp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+        ).use { file ->
+            val buffer = ByteBuffer.wrap("${next.offset} ${next.sequence}".toByteArray())
+            while (buffer.hasRemaining()) file.write(buffer)
+            // 이동하기 전에 내용을 디스크에 (안 하면 이동만 남고 내용은 빈 파일일 수 있음)
+            file.force(true)
+        }
+        Files.move(temp.toPath(), checkpointFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING)
+        syncDirectory()
+        checkpoint = next
+    }
+
+    /**
+     * 모든 레코드가 전달되었고 로그가 minBytes 이상이면 로그를 비움
+     * 체크포인트보다 먼저 로그를 자르므로, 그 사이에 죽으면 다음 시작 때 체크포인트가 로그 끝으로 당겨짐
+     *
+     * @return 압축했는지
+     */
+    fun compactIfDrained(minBytes: Long): Boolean = synchronized(appendLock) {
+        if (endOffset < minBytes || checkpoint.offset != endOffset) return false
+        channel.truncate(0)
+        // 0 위치 체크포인트가 잘리지 않은 로그와 함께 남으면 모든 레코드가 다시 전달되므로, 자른 것을 먼저 디스크에
+        channel.force(true)
+        endOffset = 0
+        commit(0, checkpoint.sequence)
+        true
+    }
+
+    override fun close() {
+        synchronized(appendLock) {
+            if (!channel.isOpen) return
+            fileLock.release()
+            channel.close()
+        }
+    }
+
+    /**
+     * 체크포인트를 읽고, 로그를 처음부터 검증하며 유효한 끝을 찾음
+     */
+    private fun recover() {
+        val saved = readCheckpoint()
+
+        val size = channel.size()
+        val header = ByteBuffer.allocate(HEADER_BYTES)
+        var position = 0L
+        var lastSequence = saved.sequence
+        while (position + HEADER_BYTES <= size) {
+            readFully(header.clear(), position)
+            val length = header.getInt(0)
+            val checksum = header.getInt(4)
+            if (length <= 0 || position + HEADER_BYTES + length > size) break
+            val body = ByteBuffer.allocate(length)
+            readFully(body, position + HEADER_BYTES)
+            if (crc(body.array()) != checksum) break
+            lastSequence = decode(body.array()).sequence
+            position += HEADER_BYTES + length
+        }
+        if (position < size) {
+            println("[Outbox] 끊긴 레코드 ${size - position}바이트를 잘라냄 (offset $position)")
+            channel.truncate(position)
+        }
+        endOffset = position
+        nextSequence = lastSequence + 1
+        // 압축 도중 종료: 로그는 잘렸는데 체크포인트가 예전 위치를 가리킴
+        checkpoint = if (saved.offset > position) OutboxCheckpoint(position, lastSequence) else saved
+    }
+
+    /**
+     * @return 저장된 체크포인트 (없거나 읽을 수 없으면 처음부터 - 다시 전달되는 레코드는 at-least-once 범위)
+     */
+    private fun readCheckpoint(): OutboxCheckpoint {
+        if (!checkpointFile.exists()) return OutboxCheckpoint(0, 0)
+        val text = checkpointFile.readText().trim()
+        val values = text.split(" ").mapNotNull(String::toLongOrNull)
+        if (values.size != 2 || values.any { it < 0 }) {
+            println("[Outbox] 체크포인트를 읽을 수 없어 처음부터 다시 전달함: '$text'")
+            return OutboxCheckpoint(0, 0)
+        }
+        return OutboxCheckpoint(values[0], values[1])
+    }
+
+    /**
+     * 이동(rename) 자체를 디스크에 기록
+     * 디렉터리를 열 수 없는 플랫폼(Windows)에서는 건너뜀
+     */
+    private fun syncDirectory() {
+        try {
+            FileChannel.open(checkpointFile.parentFile.toPath(), StandardOpenOption.READ).use { it.force(true) }
+        } catch (e: IOException) {
+            // 디렉터리 force를 지원하지 않음 - 이동의 원자성만 보장됨
+        }
+    }
+
+    private fun readFully(buffer: ByteBuffer, position: Long) {
+        var offset = position
+        while (buffer.hasRemaining()) {
+            val read = channel.read(buffer, offset)
+            check(read >= 0) { "outbox 로그가 예상보다 짧습니다: $logFile" }
+            offset += read
+        }
+    }
+
+    private fun encode(record: OutboxRecord): ByteArray {
+        val bytes = ByteArrayOutputStream(64 + record.payload.length * 3)
+        DataOutputStream(bytes).use {
+            it.writeLong(record.sequence)
+            it.writeUTF(record.key)
+            it.writeUTF(record.payload)
+        }
+        return bytes.toByteArray()
+    }
+
+    private fun decode(body: ByteArray): OutboxRecord =
+        DataInputStream(body.inputStream()).use {
+            OutboxRecord(it.readLong(), it.readUTF(), it.readUTF())
+        }
+
+    private fun crc(body: ByteArray): Int = CRC32().apply { update(body) }.value.toInt()
+
+    companion object {
+        private const val HEADER_BYTES = 8
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.reflection.proxy
+
+import org.objectweb.asm.ClassWriter
+import org.objectweb.asm.Label
+import org.objectweb.asm.MethodVisitor
+import org.objectweb.asm.Opcodes.*
+import org.objectweb.asm.Type
+import java.lang.invoke.MethodHandles
+import java.lang.reflect.Method
+
+/**
+ * 인터페이스 기반 프록시 클래스를 런타임에 생성 (Hidden Class, JDK 15+)
+ *
+ * java.lang.reflect.Proxy와의 차이:
+ * - JDK Proxy: 모든 호출이 InvocationHandler.invoke(proxy, Method, args) -> Method.invoke(target, args)
+ * - 여기서는 메서드마다 바이트코드를 생성
+ *   - 인터셉터가 없는 메서드: 대상 객체를 invokeinterface로 바로 호출
+ *   - 인터셉터가 있는 메서드: InterceptorChain을 거친 뒤 dispatch()의 tableswitch에서 직접 호출
+ *
+ * 생성되는 클래스 (자바로 표현하면)
+ *   final class HiddenClassProxy implements UserRepository, ProxyDispatcher {
+ *       private final Object target;
+ *       private final InterceptorChain chain;
+ *
+ *       public User save(User user) {               // 인터셉터 있음
+ *           return (User) chain.invoke(this, 0, new Object[] { user });
+ *       }
+ *       public User findById(long id) {             // 인터셉터 없음
+ *           return ((UserRepository) target).findById(id);
+ *       }
+ *       public Object dispatch(int index, Object[] args) {
+ *           switch (index) {
+ *               case 0: return ((UserRepository) target).save((User) args[0]);
+ *               case 1: return ((UserRepository) target).findById(((Long) args[0]).longValue());
+ *           }
+ *       }
+ *   }
+ *
+ * Hidden Class는 이름으로 조회할 수 없고 클래스로더에 등록되지 않으므로
+ * 프록시 타입을 다 쓰면 GC로 함께 회수될 수 있음 (Spring / Byte Buddy도 같은 기법 사용)
+ */
+internal object HiddenClassProxyGenerator {
+
+    private val lookup = MethodHandles.lookup()
+
+    // 이 패키지(lookup 클래스의 패키지)에만 Hidden Class를 정의할 수 있음
+    private val PROXY_NAME = Type.getInternalName(HiddenClassProxyGenerator::class.java)
+        .substringBeforeLast('/') + "/HiddenClassProxy"
+    private val OBJECT = Type.getInternalName(Any::class.java)
+    private val CHAIN = Type.getInternalName(InterceptorChain::class.java)
+    private val DISPATCHER = Type.getInternalName(ProxyDispatcher::class.java)
+
+    /**
+     * @param interfaces 프록시가 구현할 public 인터페이스
+     * @param methods 프록시 메서드 (인덱스 = dispatch 인덱스)
+     * @param intercepted methods[i]에 인터셉터가 있는지
+     * @return (Object target, InterceptorChain chain) 생성자를 가진 Hidden Class
+     */
+    fun generate(interfaces: List<Class<*>>, methods: List<Method>, intercepted: BooleanArray): Class<*> {
+        val cw = object : ClassWriter(COMPUTE_FRAMES or COMPUTE_MAXS) {
+            // 분기마다 바로 return 하므로 타입 병합은 Object로 충분 (클래스 로딩 없이 프레임 계산)
+            override fun getCommonSuperClass(type1: String, type2: String) = OBJECT
+        }
+        val interfaceNames = interfaces.map { Type.getInternalName(it) } + DISPATCHER
+        cw.visit(V17, ACC_PUBLIC or ACC_FINAL or ACC_SUPER, PROXY_NAME, null, OBJECT, interfaceNames.toTypedArray())
+        cw.visitField(ACC_PRIVATE or ACC_FINAL, "target", "L$OBJECT;", null, null).visitEnd()
+        cw.visitField(ACC_PRIVATE or ACC_FINAL, "chain", "L$CHAIN;", null, null).visitEnd()
+
+        writeConstructor(cw)
+        methods.forEachIndexed { index, method ->
+            if (intercepted[index]) writeIntercepted(cw, method, index) else writeDirect(cw, method)
+        }
+        writeDispatch(cw, methods)
+        writeToString(cw)
+        cw.visitEnd()
+
+        return lookup.defineHiddenClass(cw.toByteArray(), true).lookupClass()
+    }
+
+    private fun writeConstructor(cw: ClassWriter) {
+        val mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(L$OBJECT;L$CHAIN;)V", null, null)
+        mv.visitCode()
+        mv.visitVarInsn(ALOAD, 0)
+        mv.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false)
+        mv.visitVarInsn(ALOAD, 0)
+        mv.visitVarInsn(ALOAD, 1)
+        mv.visitFieldInsn(PUTFIELD, PROXY_NAME, "target", "L$OBJECT;")
+        mv.visitVarInsn(ALOAD, 0)
+        mv.visitVarInsn(ALOAD, 2)
+        mv.visitFieldInsn(PUTFIELD, PROXY_NAME, "chain", "L$CHAIN;")
+        mv.visitInsn(RETURN)
+        mv.visitMaxs(0, 0)
+        mv.visitEnd()
+    }
+
+    /**
+     * 인터셉터가 없는 메서드: ((Interface) target).method(args...)
+     */
+    private fun writeDirect(cw: ClassWriter, method: Method) {
+        val type = Type.getType(method)
+        val mv = cw.visitMethod(ACC_PUBLIC, method.name, type.descriptor, null, null)
+        mv.visitCode()
+        loadTarget(mv, method)
+        var slot = 1
+        type.argumentTypes.forEach { arg ->
+            mv.visitVarInsn(arg.getOpcode(ILOAD), slot)
+            slot += arg.size
+        }
+        invokeTarget(mv, method)
+        mv.visitInsn(type.returnType.getOpcode(IRETURN))
+        mv.visitMaxs(0, 0)
+        mv.visitEnd()
+    }
+
+    /**
+     * 인터셉터가 있는 메서드: chain.invoke(this, index, new Object[] { args... })
+     */
+    private fun writeIntercepted(cw: ClassWriter, method: Method, index: Int) {
+        val type = Type.getType(method)
+        val mv = cw.visitMethod(ACC_PUBLIC, method.name, type.descriptor, null, null)
+        mv.visitCode()
+        mv.visitVarInsn(ALOAD, 0)
+        mv.visitFieldInsn(GETFIELD, PROXY_NAME, "chain", "L$CHAIN;")
+        mv.visitVarInsn(ALOAD, 0)
+        mv.visitLdcInsn(index)
+        mv.visitLdcInsn(type.argumentTypes.size)
+        mv.visitTypeInsn(ANEWARRAY, OBJECT)
+        var slot = 1
+        type.argumentTypes.forEachIndexed { i, arg ->
+            mv.visitInsn(DUP)
+            mv.visitLdcInsn(i)
+            mv.visitVarInsn(arg.getOpcode(ILOAD), slot)
+            box(mv, arg)
+            mv.visitInsn(AASTORE)
+            slot += arg.size
+        }
+        mv.visitMethodInsn(INVOKEVIRTUAL, CHAIN, "invoke", "(L$DISPATCHER;I[L$OBJECT;)L$OBJECT;", false)
+        if (type.returnType.sort == Type.VOID) {
+            mv.visitInsn(POP)
+        } else {
+            unbox(mv, type.returnType)
+        }
+        mv.visitInsn(type.returnType.getOpcode(IRETURN))
+        mv.visitMaxs(0, 0)
+        mv.visitEnd()
+    }
+
+    /**
+     * 인터셉터 체인의 마지막 단계: switch (index) { case i: return ((Interface) target).method(args[0], ...) }
+     */
+    private fun writeDispatch(cw: ClassWriter, methods: List<Method>) {
+        val mv = cw.visitMethod(ACC_PUBLIC, "dispatch", "(I[L$OBJECT;)L$OBJECT;", null, null)
+        mv.visitCode()
+        val unknown = Label()
+        if (methods.isNotEmpty()) {
+            val cases = Array(methods.size) { Label() }
+            mv.visitVarInsn(ILOAD, 1)
+            mv.visitTableSwitchInsn(0, methods.size - 1, unknown, *cases)
+            methods.forEachIndexed { index, method ->
+                val type = Type.getType(method)
+                mv.visitLabel(cases[index])
+                loadTarget(mv, method)
+                type.argumentTypes.forEachIndexed { i, arg ->
+                    mv.visitVarInsn(ALOAD, 2)
+                    mv.visitLdcInsn(i)
+                    mv.visitInsn(AALOAD)
+                    unbox(mv, arg)
+                }
+                invokeTarget(mv, method)
+                if (type.returnType.sort == Type.VOID) mv.visitInsn(ACONST_NULL) else box(mv, type.returnType)
+                mv.visitInsn(ARETURN)
+            }
+        }
+        mv.visitLabel(unknown)
+        val exception = Type.getInternalName(IllegalArgumentException::class.java)
+        mv.visitTypeInsn(NEW, exception)
+        mv.visitInsn(DUP)
+        mv.visitLdcInsn("알 수 없는 프록시 메서드 인덱스")
+        mv.visitMethodInsn(INVOKESPECIAL, exception, "<init>", "(Ljava/lang/String;)V", false)
+        mv.visitInsn(ATHROW)
+        mv.visitMaxs(0, 0)
+        mv.visitEnd()
+    }
+
+    private fun writeToString(cw: ClassWriter) {
+        val mv = cw.visitMethod(ACC_PUBLIC, "toString", "()Ljava/lang/String;", null, null)
+        mv.visitCode()
+        mv.visitVarInsn(ALOAD, 0)
+        mv.visitFieldInsn(GETFIELD, PROXY_NAME, "target", "L$OBJECT;")
+        mv.visitMethodInsn(INVOKEVIRTUAL, OBJECT, "toString", "()Ljava/lang/String;", false)
+        mv.visitInsn(ARETURN)
+        mv.visitMaxs(0, 0)
+        mv.visitEnd()
+    }
+
+    private fun loadTarget(mv: MethodVisitor, method: Method) {
+        mv.visitVarInsn(ALOAD, 0)
+        mv.visitFieldInsn(GETFIELD, PROXY_NAME, "target", "L$OBJECT;")
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(method.declaringClass))
+    }
+
+    private fun invokeTarget(mv: MethodVisitor, method: Method) {
+        val owner = Type.getInternalName(method.declaringClass)
+        mv.visitMethodInsn(INVOKEINTERFACE, owner, method.name, Type.getMethodDescriptor(method), true)
+    }
+
+    /**
+     * 원시 타입 -> 래퍼 (int -> Integer.valueOf)
+     */
+    private fun box(mv: MethodVisitor, type: Type) {
+        val wrapper = wrapperOf(type) ?: return
+        mv.visitMethodInsn(INVOKESTATIC, wrapper, "valueOf", "(${type.descriptor})L$wrapper;", false)
+    }
+
+    /**
+     * Object -> 원시 타입이면 래퍼의 xxxValue(), 참조 타입이면 checkcast
+     */
+    private fun unbox(mv: MethodVisitor, type: Type) {
+        val wrapper = wrapperOf(type)
+        if (wrapper == null) {
+            if (type.internalName != OBJECT) mv.visitTypeInsn(CHECKCAST, type.internalName)
+            return
+        }
+        mv.visitTypeInsn(CHECKCAST, wrapper)
+        mv.visitMethodInsn(INVOKEVIRTUAL, wrapper, "${type.className}Value", "()${type.descriptor}", false)
+    }
+
+    private fun wrapperOf(type: Type): String? = when (type.sort) {
+        Type.BOOLEAN -> "java/lang/Boolean"
+        Type.CHAR -> "java/lang/Character"
+        Type.BYTE -> "java/lang/Byte"
+        Type.SHORT -> "java/lang/Short"
+        Type.INT -> "java/lang/Integer"
+        Type.FLOAT -> "java/lang/Float"
+        Type.LONG -> "java/lang/Long"
+        Type.DOUBLE -> "java/lang/Double"
+        else -> null
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.reflection.proxy
+
+import java.lang.reflect.Method
+
+/**
+ * 생성된 프록시 클래스가 구현하는 인터페이스
+ * index번째 메서드를 대상 객체에 직접 호출 (invokeinterface, Reflection 없음)
+ */
+interface ProxyDispatcher {
+    fun dispatch(index: Int, arguments: Array<Any?>): Any?
+}
+
+/**
+ * 프록시 인스턴스 하나의 인터셉터 체인
+ *
+ * 프록시 메서드는 인터셉터가 있는 메서드만 이 체인을 거치고,
+ * 인터셉터가 없는 메서드는 생성된 코드가 대상 객체를 바로 호출함
+ *
+ * @param methods 프록시 메서드 인덱스 -> 인터페이스 메서드 (MethodInvocation.method로 노출)
+ * @param interceptors 프록시 메서드 인덱스 -> 순서대로 적용할 인터셉터
+ */
+class InterceptorChain internal constructor(
+    private val target: Any,
+    private val methods: Array<Method>,
+    private val interceptors: Array<Array<MethodInterceptor>>
+) {
+    fun invoke(proxy: ProxyDispatcher, index: Int, arguments: Array<Any?>): Any? {
+        return ChainedInvocation(target, methods[index], arguments, interceptors[index], proxy, index).proceed()
+    }
+
+    private class ChainedInvocation(
+        override val target: Any,
+        override val method: Method,
+        override val arguments: Array<Any?>,
+        private val interceptors: Array<MethodInterceptor>,
+        private val dispatcher: ProxyDispatcher,
+        private val index: Int
+    ) : MethodInvocation {
+        private var position = 0
+
+        override fun proceed(): Any? {
+            if (position < interceptors.size) {
+                return interceptors[position++].invoke(this)
+            }
+            return dispatcher.dispatch(index, arguments)
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.reflection.proxy
+
+import java.lang.reflect.Method
+
+/**
+ * 메서드 호출 가로채기 (AOP Alliance의 MethodInterceptor, Spring @Around와 같은 역할)
+ *
+ * 예) 실행 시간 측정
+ *   MethodInterceptor { invocation ->
+ *       val start = System.nanoTime()
+ *       try { invocation.proceed() } finally { println(System.nanoTime() - start) }
+ *   }
+ */
+fun interface MethodInterceptor {
+    fun invoke(invocation: MethodInvocation): Any?
+}
+
+/**
+ * 가로챈 메서드 호출
+ * proceed()는 다음 인터셉터를, 마지막이면 실제 대상 메서드를 호출함
+ */
+interface MethodInvocation {
+    val target: Any
+    val method: Method
+    val arguments: Array<Any?>
+
+    fun proceed(): Any?
+}
+
+/**
+ * 어떤 메서드를 가로챌지
+ *
+ * @param targetClass 프록시로 감쌀 Bean의 구현 클래스
+ * @param method 인터페이스 메서드
+ */
+fun interface Pointcut {
+    fun matches(targetClass: Class<*>, method: Method): Boolean
+
+    companion object {
+        val ALL = Pointcut { _, _ -> true }
+    }
+}
+
+/**
+ * Pointcut + MethodInterceptor (Spring의 Advisor)
+ * order가 작을수록 바깥쪽(먼저 실행, 나중에 끝남)
+ */
+class Advisor(
+    val pointcut: Pointcut,
+    val interceptor: MethodInterceptor,
+    val order: Int = 0
+)
@@ -0,0 +1,106 @@
+package com.example.reflection.proxy
+
+import com.example.reflection.BeanDefinition
+import com.example.reflection.BeanPostProcessor
+import org.objectweb.asm.Type
+import java.lang.reflect.Constructor
+import java.lang.reflect.Method
+import java.lang.reflect.Modifier
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Advisor가 하나라도 적용되는 Bean을 Hidden Class 프록시로 감싸는 후처리기
+ * (Spring의 AbstractAutoProxyCreator와 같은 역할, 인터페이스 기반 프록시만 지원)
+ *
+ * 01-aop의 Aspect(시간 측정, 로깅, 보안)를 ReflectionContainer에서 쓰는 방법
+ *   ReflectionContainer("com.example.app", beanPostProcessors = listOf(
+ *       ProxyBeanPostProcessor(listOf(Advisor(Pointcut.ALL, timingInterceptor)))
+ *   ))
+ *
+ * 프록시 클래스는 Bean 클래스마다 한 번만 생성하고 (PROTOTYPE Bean도 재사용),
+ * 인스턴스마다 대상 객체와 InterceptorChain만 새로 만듦
+ */
+class ProxyBeanPostProcessor(advisors: List<Advisor>) : BeanPostProcessor {
+
+    private val advisors = advisors.sortedBy { it.order }
+
+    /**
+     * Bean 클래스별 프록시 정보 (Advisor가 적용되지 않는 클래스는 NONE)
+     */
+    private class ProxyType(
+        val constructor: Constructor<*>?,
+        val methods: Array<Method>,
+        val interceptors: Array<Array<MethodInterceptor>>
+    )
+
+    private val proxyTypes = ConcurrentHashMap<Class<*>, ProxyType>()
+
+    override fun postProcessAfterInitialization(bean: Any, definition: BeanDefinition): Any {
+        val proxyType = proxyTypes.computeIfAbsent(bean.javaClass) { createProxyType(it) }
+        val constructor = proxyType.constructor ?: return bean
+
+        return constructor.newInstance(bean, InterceptorChain(bean, proxyType.methods, proxyType.interceptors))
+    }
+
+    private fun createProxyType(beanClass: Class<*>): ProxyType {
+        val interfaces = proxyableInterfaces(beanClass)
+        val methods = interfaceMethods(interfaces)
+        val interceptors = methods.map { method ->
+            advisors.filter { it.pointcut.matches(beanClass, method) }.map { it.interceptor }.toTypedArray()
+        }
+        if (interceptors.all { it.isEmpty() }) return NONE
+
+        val intercepted = BooleanArray(methods.size) { interceptors[it].isNotEmpty() }
+        val proxyClass = HiddenClassProxyGenerator.generate(interfaces, methods, intercepted)
+        val constructor = proxyClass.getConstructor(Any::class.java, InterceptorChain::class.java)
+        return ProxyType(constructor, methods.toTypedArray(), interceptors.toTypedArray())
+    }
+
+    /**
+     * 프록시가 구현할 인터페이스: Bean이 구현한 모든 public 인터페이스 중
+     * 프록시 클래스(이 클래스로더)에서 볼 수 있는 것
+     */
+    private fun proxyableInterfaces(beanClass: Class<*>): List<Class<*>> {
+        val result = LinkedHashSet<Class<*>>()
+        var current: Class<*>? = beanClass
+        while (current != null) {
+            current.interfaces.forEach { collectInterfaces(it, result) }
+            current = current.superclass
+        }
+        return result.filter { Modifier.isPublic(it.modifiers) && isVisible(it) }
+    }
+
+    private fun collectInterfaces(type: Class<*>, result: MutableSet<Class<*>>) {
+        if (result.add(type)) type.interfaces.forEach { collectInterfaces(it, result) }
+    }
+
+    private fun isVisible(type: Class<*>): Boolean = try {
+        Class.forName(type.name, false, ProxyBeanPostProcessor::class.java.classLoader) == type
+    } catch (e: ClassNotFoundException) {
+        false
+    }
+
+    /**
+     * 인터페이스 메서드 (이름 + 시그니처가 같으면 하나로, Object 메서드는 제외)
+     */
+    private fun interfaceMethods(interfaces: List<Class<*>>): List<Method> {
+        val methods = LinkedHashMap<String, Method>()
+        interfaces.forEach { type ->
+            type.methods.filter { !Modifier.isStatic(it.modifiers) && !isObjectMethod(it) }.forEach { method ->
+                methods.putIfAbsent(method.name + Type.getMethodDescriptor(method), method)
+            }
+        }
+        return methods.values.toList()
+    }
+
+    private fun isObjectMethod(method: Method): Boolean = try {
+        Any::class.java.getMethod(method.name, *method.parameterTypes)
+        true
+    } catch (e: NoSuchMethodException) {
+        false
+    }
+
+    companion object {
+        private val NONE = ProxyType(null, emptyArray(), emptyArray())
+    }
+}
@@ -0,0 +1,410 @@
+package com.example.reflection.schedule
+
+import com.example.reflection.BeanDefinition
+import com.example.reflection.LifecycleCallback
+import com.example.reflection.annotation.Scheduled
+import com.example.reflection.annotation.ScopeType
+import com.example.reflection.event.MpscQueue
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * 해시드 타이밍 휠 스케줄러 (Netty의 HashedWheelTimer와 같은 구조)
+ *
+ * ScheduledThreadPoolExecutor는 예약된 작업을 락으로 보호되는 힙(우선순위 큐)에 넣으므로
+ * 작업이 수천 개가 되면 예약 / 취소마다 O(log n) + 락 경합이 생김
+ *
+ * 타이밍 휠:
+ *   wheel[0] wheel[1] ... wheel[n-1]   (한 칸 = tickMillis)
+ *   작업은 "몇 번째 칸, 몇 바퀴 뒤"로 변환되어 해당 칸의 연결 리스트에 들어감
+ *   틱 스레드가 tickMillis마다 한 칸씩 이동하며 남은 바퀴가 0인 작업을 실행
+ *
+ * - 예약: 락 없는 MPSC 큐에 넣기만 함 (O(1)), 틱 스레드가 다음 틱에 칸으로 옮김
+ * - 취소: 상태를 CAS로 바꾸고 취소 큐에 넣음 (O(1)), 틱 스레드가 이중 연결 리스트에서 제거
+ * - 정밀도: 최대 한 틱의 지연 (예정 시각보다 한 틱 이상 늦으면 late fire로 집계)
+ * - 실행: 틱 스레드가 아닌 고정 크기 워커 풀에서 실행 (작업이 느려도 틱이 밀리지 않음)
+ *
+ * 틱 스레드와 워커 스레드는 첫 예약 때 시작함 (@Scheduled가 없는 컨테이너는 스레드를 만들지 않음)
+ *
+ * @param tickMillis 한 칸의 시간 (정밀도)
+ * @param wheelSize 칸 수 (2의 거듭제곱으로 올림)
+ * @param workerThreads 작업 실행 스레드 수
+ */
+class HashedWheelTimer(
+    tickMillis: Long = 10,
+    wheelSize: Int = 512,
+    workerThreads: Int = 4
+) : TaskScheduler {
+
+    private val tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis)
+    private val wheel = Array(Integer.highestOneBit(maxOf(1, wheelSize) * 2 - 1)) { Bucket() }
+    private val mask = wheel.size - 1L
+
+    private val newTimeouts = MpscQueue<Timeout>()
+    private val cancelledTimeouts = MpscQueue<Timeout>()
+
+    // 모든 예정 시각(deadline)은 이 시각 기준 상대 시간 (ns)
+    @Volatile
+    private var startNanos = 0L
+
+    @Volatile
+    private var started = false
+
+    @Volatile
+    private var closed = false
+
+    private val ticker = Thread(::tickLoop, "scheduler-tick").apply { isDaemon = true }
+
+    private val threadIds = AtomicInteger()
+    private val workers = ThreadPoolExecutor(
+        workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS, LinkedBlockingQueue()
+    ) { task -> Thread(task, "scheduler-${threadIds.incrementAndGet()}").apply { isDaemon = true } }
+
+    private val fired = LongAdder()
+    private val lateFires = LongAdder()
+    private val failed = LongAdder()
+    private val cancelled = LongAdder()
+    private val pending = LongAdder()
+    private val driftSum = LongAdder()
+    private val maxDrift = AtomicLong()
+
+    override fun schedule(delayMillis: Long, task: Runnable): ScheduledTask =
+        Timeout(task, periodNanos = 0, fixedRate = false).also { enqueue(it, delayMillis) }
+
+    override fun scheduleAtFixedRate(initialDelayMillis: Long, periodMillis: Long, task: Runnable): ScheduledTask {
+        require(periodMillis > 0) { "periodMillis는 0보다 커야 합니다: $periodMillis" }
+        return Timeout(task, TimeUnit.MILLISECONDS.toNanos(periodMillis), fixedRate = true)
+            .also { enqueue(it, initialDelayMillis) }
+    }
+
+    override fun scheduleWithFixedDelay(initialDelayMillis: Long, delayMillis: Long, task: Runnable): ScheduledTask {
+        require(delayMillis > 0) { "delayMillis는 0보다 커야 합니다: $delayMillis" }
+        return Timeout(task, TimeUnit.MILLISECONDS.toNanos(delayMillis), fixedRate = false)
+            .also { enqueue(it, initialDelayMillis) }
+    }
+
+    /**
+     * @Scheduled 메서드 하나를 등록한 주기 작업 (task로 취소할 수 있음)
+     */
+    class ScheduledMethod internal constructor(val description: String, val task: ScheduledTask) {
+        override fun toString() = description
+    }
+
+    /**
+     * bean의 @Scheduled 메서드를 주기 작업으로 등록
+     *
+     * @return 등록된 작업 (없으면 빈 목록)
+     */
+    fun register(bean: Any, beanClass: Class<*> = bean.javaClass): List<ScheduledMethod> {
+        return scheduledMethods.get(beanClass).map { (method, scheduled) ->
+            val task = Runnable {
+                try {
+                    method.invoke(bean)
+                } catch (e: InvocationTargetException) {
+                    throw e.targetException
+                }
+            }
+            if (scheduled.fixedRateMillis > 0) {
+                ScheduledMethod(
+                    "${beanClass.simpleName}.${method.name}() fixedRate=${scheduled.fixedRateMillis}ms",
+                    scheduleAtFixedRate(scheduled.initialDelayMillis, scheduled.fixedRateMillis, task)
+                )
+            } else {
+                ScheduledMethod(
+                    "${beanClass.simpleName}.${method.name}() fixedDelay=${scheduled.fixedDelayMillis}ms",
+                    scheduleWithFixedDelay(scheduled.initialDelayMillis, scheduled.fixedDelayMillis, task)
+                )
+            }
+        }
+    }
+
+    fun stats(): SchedulerStats {
+        val firedCount = fired.sum()
+        return SchedulerStats(
+            fired = firedCount,
+            lateFires = lateFires.sum(),
+            failed = failed.sum(),
+            cancelled = cancelled.sum(),
+            meanDriftMicros = if (firedCount == 0L) 0.0 else driftSum.sum() / 1e3 / firedCount,
+            maxDriftMicros = maxDrift.get() / 1e3,
+            pending = pending.sum()
+        )
+    }
+
+    /**
+     * 틱 스레드와 워커 종료 (실행 중인 작업은 인터럽트, 남은 예약은 버림)
+     */
+    fun close() {
+        closed = true
+        if (started) LockSupport.unpark(ticker)
+        workers.shutdownNow()
+    }
+
+    private fun enqueue(timeout: Timeout, delayMillis: Long) {
+        check(!closed) { "스케줄러가 종료되었습니다" }
+        ensureStarted()
+        timeout.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxOf(0, delayMillis)) - startNanos
+        pending.increment()
+        newTimeouts.offer(timeout)
+    }
+
+    private fun ensureStarted() {
+        if (started) return
+        synchronized(this) {
+            if (started) return
+            startNanos = System.nanoTime()
+            ticker.start()
+            started = true
+        }
+    }
+
+    // ===== 틱 스레드 =====
+
+    private fun tickLoop() {
+        var tick = 0L
+        while (true) {
+            val now = waitForNextTick(tick)
+            if (now < 0) break
+            removeCancelled()
+            transferNewTimeouts(tick)
+            wheel[(tick and mask).toInt()].expire(now)
+            tick++
+        }
+    }
+
+    /**
+     * 다음 틱 시각까지 대기
+     * @return 현재 상대 시각, 종료되었으면 -1
+     */
+    private fun waitForNextTick(tick: Long): Long {
+        val target = tickNanos * (tick + 1)
+        while (true) {
+            if (closed) return -1
+            val now = System.nanoTime() - startNanos
+            if (now >= target) return now
+            LockSupport.parkNanos(target - now)
+        }
+    }
+
+    private fun removeCancelled() {
+        while (true) {
+            val timeout = cancelledTimeouts.poll() ?: return
+            timeout.bucket?.remove(timeout)
+        }
+    }
+
+    /**
+     * 새 예약을 칸으로 옮김 (한 틱에 너무 오래 머물지 않도록 최대 MAX_TRANSFER_PER_TICK개)
+     */
+    private fun transferNewTimeouts(tick: Long) {
+        repeat(MAX_TRANSFER_PER_TICK) {
+            val timeout = newTimeouts.poll() ?: return
+            if (timeout.state != ST_WAITING) return@repeat
+
+            val calculated = timeout.deadline / tickNanos
+            timeout.remainingRounds = (calculated - tick) / wheel.size
+            // 이미 지난 예정 시각이면 이번 틱에 실행
+            val ticks = maxOf(calculated, tick)
+            wheel[(ticks and mask).toInt()].add(timeout)
+        }
+    }
+
+    // ===== 워커 스레드 =====
+
+    private fun run(timeout: Timeout) {
+        val drift = System.nanoTime() - startNanos - timeout.deadline
+        fired.increment()
+        driftSum.add(drift)
+        maxDrift.accumulateAndGet(drift, ::maxOf)
+        if (drift > timeout.maxDriftNanos) timeout.maxDriftNanos = drift
+        if (drift > tickNanos) lateFires.increment()
+
+        try {
+            timeout.body.run()
+        } catch (e: Throwable) {
+            failed.increment()
+            println("[Scheduler] 작업 실패: $e")
+        }
+        timeout.runs++
+
+        if (timeout.periodNanos == 0L || closed) return
+        // 실행 중에 취소되지 않았으면 같은 노드를 다음 예정 시각으로 다시 예약
+        timeout.deadline = if (timeout.fixedRate) {
+            timeout.deadline + timeout.periodNanos
+        } else {
+            System.nanoTime() - startNanos + timeout.periodNanos
+        }
+        pending.increment()
+        if (STATE.compareAndSet(timeout, ST_RUNNING, ST_WAITING)) {
+            newTimeouts.offer(timeout)
+        } else {
+            pending.decrement()
+        }
+    }
+
+    // ===== 자료 구조 =====
+
+    /**
+     * 예약 한 건 = 작업 핸들 + 휠 칸의 이중 연결 리스트 노드
+     * 주기 작업은 실행이 끝나면 같은 노드를 다시 예약하므로 실행마다 객체를 만들지 않음
+     *
+     * state는 여러 스레드가 CAS로 바꾸고 (WAITING -> RUNNING -> WAITING ... 또는 CANCELLED),
+     * 연결 필드(remainingRounds, bucket, prev, next)는 틱 스레드만 사용
+     * runs / maxDriftNanos는 실행 중인 워커 하나만 씀 (같은 작업은 동시에 실행되지 않음)
+     */
+    private inner class Timeout(
+        val body: Runnable,
+        val periodNanos: Long,
+        val fixedRate: Boolean
+    ) : ScheduledTask {
+        @JvmField
+        @Volatile
+        var state = ST_WAITING
+
+        @Volatile
+        var deadline = 0L
+
+        var remainingRounds = 0L
+        var bucket: Bucket? = null
+        var prev: Timeout? = null
+        var next: Timeout? = null
+
+        @Volatile
+        override var runs = 0L
+
+        @Volatile
+        override var maxDriftNanos = 0L
+
+        override val isCancelled: Boolean get() = state == ST_CANCELLED
+
+        override fun cancel(): Boolean {
+            while (true) {
+                when (state) {
+                    ST_CANCELLED -> return false
+                    ST_WAITING -> if (STATE.compareAndSet(this, ST_WAITING, ST_CANCELLED)) {
+                        pending.decrement()
+                        cancelled.increment()
+                        cancelledTimeouts.offer(this)
+                        return true
+                    }
+                    // 실행 중인 단발 작업은 취소할 수 없고, 주기 작업은 이후 실행만 취소
+                    else -> if (periodNanos == 0L) {
+                        return false
+                    } else if (STATE.compareAndSet(this, ST_RUNNING, ST_CANCELLED)) {
+                        cancelled.increment()
+                        return true
+                    }
+                }
+            }
+        }
+
+        fun expire() {
+            if (!STATE.compareAndSet(this, ST_WAITING, ST_RUNNING)) return
+            pending.decrement()
+            try {
+                workers.execute { run(this) }
+            } catch (e: RejectedExecutionException) {
+                // close() 이후에 만료된 예약은 버림
+            }
+        }
+    }
+
+    private inner class Bucket {
+        private var head: Timeout? = null
+        private var tail: Timeout? = null
+
+        fun add(timeout: Timeout) {
+            timeout.bucket = this
+            if (head == null) {
+                head = timeout
+                tail = timeout
+            } else {
+                tail!!.next = timeout
+                timeout.prev = tail
+                tail = timeout
+            }
+        }
+
+        /**
+         * 남은 바퀴가 0인 예약 실행, 나머지는 한 바퀴 차감
+         */
+        fun expire(now: Long) {
+            var timeout = head
+            while (timeout != null) {
+                val next = timeout.next
+                when {
+                    timeout.state == ST_CANCELLED -> remove(timeout)
+                    timeout.remainingRounds <= 0 -> {
+                        remove(timeout)
+                        check(timeout.deadline <= now) { "예정 시각 이전에 만료될 수 없습니다" }
+                        timeout.expire()
+                    }
+                    else -> timeout.remainingRounds--
+                }
+                timeout = next
+            }
+        }
+
+        fun remove(timeout: Timeout) {
+            if (timeout.bucket !== this) return
+            val prev = timeout.prev
+            val next = timeout.next
+            if (prev != null) prev.next = next else head = next
+            if (next != null) next.prev = prev else tail = prev
+            timeout.prev = null
+            timeout.next = null
+            timeout.bucket = null
+        }
+    }
+
+    companion object {
+        private const val ST_WAITING = 0
+        private const val ST_RUNNING = 1
+        private const val ST_CANCELLED = 2
+        private const val MAX_TRANSFER_PER_TICK = 100_000
+
+        private val STATE = AtomicIntegerFieldUpdater.newUpdater(Timeout::class.java, "state")
+
+        // 클래스별 @Scheduled 메서드 (클래스마다 한 번만 탐색)
+        private val scheduledMethods = object : ClassValue<List<Pair<Method, Scheduled>>>() {
+            override fun computeValue(type: Class<*>): List<Pair<Method, Scheduled>> {
+                return generateSequence(type) { it.superclass }
+                    .flatMap { it.declaredMethods.asSequence() }
+                    .mapNotNull { method -> method.getAnnotation(Scheduled::class.java)?.let { method to it } }
+                    .onEach { (method, scheduled) ->
+                        check(method.parameterCount == 0) {
+                            "${type.simpleName}.${method.name}: @Scheduled 메서드는 파라미터가 없어야 합니다"
+                        }
+                        check((scheduled.fixedRateMillis > 0) != (scheduled.fixedDelayMillis > 0)) {
+                            "${type.simpleName}.${method.name}: fixedRateMillis와 fixedDelayMillis 중 하나만 지정해야 합니다"
+                        }
+                        method.isAccessible = true
+                    }
+                    .toList()
+            }
+        }
+
+        /**
+         * 컨테이너가 스캔 결과에 추가하는 내장 Bean 정의
+         * HashedWheelTimer / TaskScheduler 타입으로 주입받을 수 있고, 컨테이너 종료 시 닫힘
+         */
+        fun definition(timer: HashedWheelTimer) = BeanDefinition(
+            beanClass = HashedWheelTimer::class,
+            dependencies = emptyList(),
+            parameterNames = emptyList(),
+            scope = ScopeType.SINGLETON,
+            lazy = false,
+            exposedTypes = listOf(HashedWheelTimer::class.java, TaskScheduler::class.java),
+            destroy = LifecycleCallback("close") { (it as HashedWheelTimer).close() }
+        ) { timer }
+    }
+}
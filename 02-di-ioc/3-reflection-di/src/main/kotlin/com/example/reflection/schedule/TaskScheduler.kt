@@ -0,0 +1,59 @@
+package com.example.reflection.schedule
+
+/**
+ * 작업 예약 (Spring의 TaskScheduler와 유사)
+ * 생성자에서 @Inject로 주입받거나, @Scheduled 메서드로 선언해서 사용
+ */
+interface TaskScheduler {
+
+    fun schedule(delayMillis: Long, task: Runnable): ScheduledTask
+
+    /**
+     * 예정 시각 기준 주기 실행: n번째 실행 예정 시각 = 첫 예정 시각 + n * period
+     * 실행이 주기보다 오래 걸리면 다음 실행은 늦게(late fire) 바로 이어서 실행됨
+     */
+    fun scheduleAtFixedRate(initialDelayMillis: Long, periodMillis: Long, task: Runnable): ScheduledTask
+
+    /**
+     * 종료 시각 기준 주기 실행: 다음 실행 예정 시각 = 이전 실행이 끝난 시각 + delay
+     */
+    fun scheduleWithFixedDelay(initialDelayMillis: Long, delayMillis: Long, task: Runnable): ScheduledTask
+}
+
+/**
+ * 예약된 작업 핸들
+ */
+interface ScheduledTask {
+
+    /**
+     * 예약 취소 (주기 작업이면 이후 실행도 모두 취소)
+     * @return 이번 호출로 취소되었는지 (이미 실행 / 취소된 단발 작업이면 false)
+     */
+    fun cancel(): Boolean
+
+    val isCancelled: Boolean
+
+    /** 지금까지 실행된 횟수 */
+    val runs: Long
+
+    /** 예정 시각 대비 실제 시작 시각의 최대 지연 (ns) */
+    val maxDriftNanos: Long
+}
+
+/**
+ * 스케줄러 통계
+ *
+ * @property fired 실행된 작업 수
+ * @property lateFires 예정 시각보다 한 틱 이상 늦게 시작된 실행 수
+ * @property meanDriftMicros 예정 시각 대비 실제 시작 시각의 평균 지연
+ * @property pending 예약되어 아직 실행 / 취소되지 않은 작업 수
+ */
+data class SchedulerStats(
+    val fired: Long,
+    val lateFires: Long,
+    val failed: Long,
+    val cancelled: Long,
+    val meanDriftMicros: Double,
+    val maxDriftMicros: Double,
+    val pending: Long
+)
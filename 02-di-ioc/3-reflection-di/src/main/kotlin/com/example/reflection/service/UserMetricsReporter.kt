@@ -0,0 +1,20 @@
+package com.example.reflection.service
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.Scheduled
+import com.example.reflection.repository.UserRepository
+
+/**
+ * 사용자 수 메트릭을 주기적으로 내보내는 작업
+ * (Spring의 @Scheduled(fixedRate = ...)와 같은 구조, 내장 스케줄러가 워커 스레드에서 실행)
+ */
+@Component
+class UserMetricsReporter(
+    @Inject private val userRepository: UserRepository
+) {
+    @Scheduled(fixedRateMillis = 100, initialDelayMillis = 100)
+    fun report() {
+        println("[Metrics] 등록된 사용자: ${userRepository.findAll().size}명")
+    }
+}
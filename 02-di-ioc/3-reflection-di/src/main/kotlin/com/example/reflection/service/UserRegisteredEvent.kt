@@ -0,0 +1,10 @@
+package com.example.reflection.service
+
+import com.example.reflection.model.User
+
+/**
+ * 사용자 등록 완료 이벤트
+ * UserService가 발행하고, 후속 작업은 구독자가 처리함
+ * (가입 환영 알림은 유실되지 않도록 이벤트가 아닌 NotificationOutbox로 보냄)
+ */
+data class UserRegisteredEvent(val user: User)
@@ -2,8 +2,11 @@ package com.example.reflection.service
 
 import com.example.reflection.annotation.Component
 import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.PostConstruct
+import com.example.reflection.annotation.PreDestroy
+import com.example.reflection.event.EventPublisher
 import com.example.reflection.model.User
-import com.example.reflection.notification.NotificationService
+import com.example.reflection.outbox.NotificationOutbox
 import com.example.reflection.repository.UserRepository
 
 /**
@@ -14,24 +17,40 @@ import com.example.reflection.repository.UserRepository
  * 2. @Inject로 의존성 자동 주입
  * 3. 의존성 연결 코드 불필요
  * 4. 순수하게 비즈니스 로직에만 집중
+ * 5. @PostConstruct/@PreDestroy로 Lifecycle 관리
+ * 6. 가입 환영 알림은 NotificationOutbox 로그에 append만 함 (릴레이가 NotificationDispatcher로 전달하고, 전송은 백그라운드에서 배치로 처리)
+ *    저장 직후 프로세스가 죽어도 알림이 로그에 남아 다음 시작 때 전달됨
+ * 7. 가입 사실은 UserRegisteredEvent로 발행 (다른 구독자용)
  *
  * 여전히 남은 문제:
  * 1. 같은 인터페이스의 구현체가 여러 개면 선택 불가
- * 2. Scope 관리 불가 (모두 싱글톤)
- * 3. Lifecycle 콜백 없음 (초기화/소멸)
- * 4. AOP, 트랜잭션 등 고급 기능 없음
+ * 2. 선언적 AOP(@Aspect), 트랜잭션 등 고급 기능 없음
  */
 @Component
 class UserService(
     @Inject private val userRepository: UserRepository,
-    @Inject private val notificationService: NotificationService
+    @Inject private val eventPublisher: EventPublisher,
+    @Inject private val notificationOutbox: NotificationOutbox
 ) {
+    @PostConstruct
+    fun init() {
+        println("[UserService] 초기화됨 (@PostConstruct)")
+    }
+
+    @PreDestroy
+    fun destroy() {
+        println("[UserService] 종료됨 (@PreDestroy)")
+    }
+
     fun registerUser(name: String, email: String): User {
         println("\n=== 사용자 등록 시작 ===")
 
         val user = User(name = name, email = email)
         val saved = userRepository.save(user)
-        notificationService.send("환영합니다, ${saved.name}님!")
+        // 멱등 키: 같은 이메일로 환영 알림이 두 번 가지 않도록
+        // (ID는 메모리 저장소라 재시작하면 1부터 다시 시작하므로 키로 쓰지 않음)
+        notificationOutbox.append("welcome:${saved.email}", "환영합니다, ${saved.name}님!")
+        eventPublisher.publish(UserRegisteredEvent(saved))
 
         println("=== 사용자 등록 완료 ===\n")
         return saved
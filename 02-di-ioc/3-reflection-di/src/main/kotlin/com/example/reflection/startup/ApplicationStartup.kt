@@ -0,0 +1,69 @@
+package com.example.reflection.startup
+
+/**
+ * 컨테이너 시작 과정 계측 (Spring의 ApplicationStartup / StartupStep과 같은 구조)
+ *
+ * 컨테이너는 시작 단계마다 start()로 StartupStep을 열고 end()로 닫음
+ * - container.scan       패키지 스캔 (클래스 로딩)
+ * - bean.scan            Bean 하나의 생성자 / 어노테이션 분석
+ * - container.graph      의존성 그래프 구성, 순환 검사, 위상 정렬
+ * - container.wave       웨이브 하나의 Bean 생성
+ * - bean.instantiate     Bean 하나의 생성 (의존성 조회 + 생성자 호출)
+ * - bean.constructor     생성자 호출만
+ * - bean.init            @PostConstruct 콜백
+ *
+ * 기본값 DEFAULT는 아무것도 기록하지 않음 - 공유된 빈 StartupStep을 돌려주므로
+ * 계측을 끄면 호출 비용은 가상 메서드 호출 몇 번뿐
+ */
+interface ApplicationStartup {
+
+    fun start(name: String): StartupStep
+
+    companion object {
+        const val CONTAINER_SCAN = "container.scan"
+        const val BEAN_SCAN = "bean.scan"
+        const val CONTAINER_GRAPH = "container.graph"
+        const val CONTAINER_WAVE = "container.wave"
+        const val BEAN_INSTANTIATE = "bean.instantiate"
+        const val BEAN_CONSTRUCTOR = "bean.constructor"
+        const val BEAN_INIT = "bean.init"
+
+        const val TAG_BEAN_CLASS = "beanClass"
+        const val TAG_DEPENDENCIES = "dependencies"
+
+        val DEFAULT: ApplicationStartup = object : ApplicationStartup {
+            override fun start(name: String): StartupStep = NoOpStartupStep
+        }
+    }
+}
+
+/**
+ * 시작 과정의 한 단계
+ * 같은 스레드에서 열려 있는 단계 안에서 시작하면 그 단계가 parent가 됨
+ */
+interface StartupStep {
+    val id: Long
+    val parentId: Long?
+    val name: String
+
+    fun tag(key: String, value: String): StartupStep
+
+    /**
+     * 값을 만드는 비용이 있는 태그 - 기록 중일 때만 value를 호출
+     */
+    fun tag(key: String, value: () -> String): StartupStep
+
+    fun end()
+}
+
+private object NoOpStartupStep : StartupStep {
+    override val id: Long = 0
+    override val parentId: Long? = null
+    override val name: String = "noop"
+
+    override fun tag(key: String, value: String): StartupStep = this
+
+    override fun tag(key: String, value: () -> String): StartupStep = this
+
+    override fun end() {}
+}
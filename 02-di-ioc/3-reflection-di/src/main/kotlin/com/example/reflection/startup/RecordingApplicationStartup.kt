@@ -0,0 +1,174 @@
+package com.example.reflection.startup
+
+import com.example.reflection.startup.ApplicationStartup.Companion.BEAN_CONSTRUCTOR
+import com.example.reflection.startup.ApplicationStartup.Companion.BEAN_INSTANTIATE
+import com.example.reflection.startup.ApplicationStartup.Companion.TAG_BEAN_CLASS
+import com.example.reflection.startup.ApplicationStartup.Companion.TAG_DEPENDENCIES
+import java.io.File
+import java.util.Locale
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 시작 단계를 메모리에 기록하는 ApplicationStartup (Spring의 BufferingApplicationStartup과 유사)
+ *
+ * 기록한 타임라인은
+ * - toChromeTrace(): chrome://tracing, Perfetto에서 열 수 있는 JSON (스레드별 타임라인 + critical path 트랙)
+ * - criticalPath(): 시작 시간을 결정한 Bean 생성 경로
+ * - printSummary(): 가장 오래 걸린 Bean과 critical path 출력
+ *
+ * 여러 스레드(웨이브 병렬 생성)에서 동시에 기록해도 안전함
+ */
+class RecordingApplicationStartup : ApplicationStartup {
+
+    /**
+     * 끝난 시작 단계
+     *
+     * @property startNanos 기록 시작 시점 기준 상대 시간
+     * @property injectionDepth 같은 스레드에서 생성 중이던 상위 Bean 수 (Bean 생성 중 의존성을 새로 생성하면 1씩 증가)
+     */
+    class RecordedStep(
+        val id: Long,
+        val parentId: Long?,
+        val name: String,
+        val tags: Map<String, String>,
+        val threadId: Long,
+        val threadName: String,
+        val injectionDepth: Int,
+        val startNanos: Long,
+        val endNanos: Long
+    ) {
+        val durationNanos: Long get() = endNanos - startNanos
+    }
+
+    private val origin = System.nanoTime()
+    private val ids = AtomicLong()
+    private val recorded = ConcurrentLinkedQueue<RecordedStep>()
+    private val current = ThreadLocal.withInitial { ArrayDeque<Step>() }
+
+    override fun start(name: String): StartupStep {
+        val stack = current.get()
+        val injectionDepth = stack.count { it.name == BEAN_INSTANTIATE }
+        val step = Step(ids.incrementAndGet(), stack.lastOrNull()?.id, name, injectionDepth)
+        stack.addLast(step)
+        return step
+    }
+
+    private inner class Step(
+        override val id: Long,
+        override val parentId: Long?,
+        override val name: String,
+        private val injectionDepth: Int
+    ) : StartupStep {
+        private val tags = LinkedHashMap<String, String>()
+        private val startNanos = System.nanoTime()
+
+        override fun tag(key: String, value: String): StartupStep {
+            tags[key] = value
+            return this
+        }
+
+        override fun tag(key: String, value: () -> String): StartupStep = tag(key, value())
+
+        override fun end() {
+            val endNanos = System.nanoTime()
+            current.get().remove(this)
+            val thread = Thread.currentThread()
+            recorded.add(
+                RecordedStep(
+                    id, parentId, name, tags, thread.id, thread.name, injectionDepth,
+                    startNanos - origin, endNanos - origin
+                )
+            )
+        }
+    }
+
+    /**
+     * 끝난 단계들 (시작 시간 순)
+     */
+    fun timeline(): List<RecordedStep> = recorded.sortedBy { it.startNanos }
+
+    /**
+     * Critical path: 가장 늦게 끝난 Bean에서 시작해
+     * "가장 늦게 끝난 의존성"을 따라 내려간 경로 (의존성 쪽부터 순서대로)
+     *
+     * 이 경로 위의 Bean 생성이 빨라지지 않으면 병렬 생성을 해도 시작 시간이 줄지 않음
+     */
+    fun criticalPath(): List<RecordedStep> {
+        val beans = recorded.filter { it.name == BEAN_INSTANTIATE }
+            .associateBy { it.tags[TAG_BEAN_CLASS] }
+        var step = beans.values.maxByOrNull { it.endNanos } ?: return emptyList()
+
+        val path = mutableListOf(step)
+        while (true) {
+            val dependencies = step.tags[TAG_DEPENDENCIES].orEmpty().split(",").filter { it.isNotEmpty() }
+            step = dependencies.mapNotNull { beans[it] }.maxByOrNull { it.endNanos } ?: break
+            path.add(step)
+        }
+        return path.reversed()
+    }
+
+    /**
+     * Chrome trace event format (JSON)
+     * - 스레드마다 한 줄: 각 단계가 "X"(complete) 이벤트
+     * - tid 0 "critical path" 줄: critical path 위의 Bean 생성만 따로 표시
+     */
+    fun toChromeTrace(): String {
+        val events = mutableListOf<String>()
+        val threads = recorded.associate { it.threadId to it.threadName }
+
+        events += metadata(0, "critical path")
+        threads.forEach { (tid, threadName) -> events += metadata(tid, threadName) }
+        timeline().forEach { events += event(it, it.threadId) }
+        criticalPath().forEach { events += event(it, 0) }
+
+        return events.joinToString(",\n", "{\"traceEvents\": [\n", "\n]}\n")
+    }
+
+    fun writeChromeTrace(file: File): File {
+        file.parentFile?.mkdirs()
+        file.writeText(toChromeTrace())
+        return file
+    }
+
+    /**
+     * 가장 오래 걸린 Bean 생성과 critical path 출력
+     */
+    fun printSummary(top: Int = 5) {
+        val beans = recorded.filter { it.name == BEAN_INSTANTIATE }
+        println("=== 시작 타임라인 (상위 $top 개 Bean) ===")
+        beans.sortedByDescending { it.durationNanos }.take(top).forEach {
+            println("  %-32s %8.2fms (생성자 %s, 주입 깊이 %d, +%.2fms)".format(
+                it.tags[TAG_BEAN_CLASS]?.substringAfterLast('.'),
+                it.durationNanos / 1e6,
+                constructorTimeOf(it)?.let { nanos -> "%.2fms".format(nanos / 1e6) } ?: "-",
+                it.injectionDepth,
+                it.startNanos / 1e6
+            ))
+        }
+        println("critical path: " + criticalPath().joinToString(" -> ") {
+            it.tags[TAG_BEAN_CLASS]?.substringAfterLast('.') ?: it.name
+        })
+        println()
+    }
+
+    private fun constructorTimeOf(step: RecordedStep): Long? =
+        recorded.firstOrNull { it.parentId == step.id && it.name == BEAN_CONSTRUCTOR }?.durationNanos
+
+    private fun metadata(tid: Long, threadName: String) =
+        """{"name": "thread_name", "ph": "M", "pid": 1, "tid": $tid, "args": {"name": "${escape(threadName)}"}}"""
+
+    private fun event(step: RecordedStep, tid: Long): String {
+        val ids = listOfNotNull("id" to step.id.toString(), step.parentId?.let { "parentId" to it.toString() })
+        val args = (step.tags + ids)
+            .plus("injectionDepth" to step.injectionDepth.toString())
+            .entries.joinToString(", ") { (key, value) -> "\"${escape(key)}\": \"${escape(value)}\"" }
+        val label = step.tags[TAG_BEAN_CLASS]?.substringAfterLast('.') ?: step.name
+        return """{"name": "${escape(label)}", "cat": "${step.name}", "ph": "X", "pid": 1, "tid": $tid, """ +
+            """"ts": ${micros(step.startNanos)}, "dur": ${micros(step.durationNanos)}, "args": {$args}}"""
+    }
+
+    private fun escape(value: String) = value.replace("\\", "\\\\").replace("\"", "\\\"")
+
+    private fun micros(nanos: Long) = "%.3f".format(Locale.ROOT, nanos / 1e3)
+}
@@ -0,0 +1,179 @@
+package com.example.reflection.trace
+
+import java.io.File
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * 끝난 호출 하나
+ *
+ * 부모 span을 직접 참조하므로 ID 없이 경로(루트 -> 자신)를 복원할 수 있음
+ * (부모가 저장소에서 밀려나도 참조로 경로는 남음)
+ *
+ * @property startNanos System.nanoTime 기준 시작 시각
+ */
+class Span internal constructor(
+    val name: String,
+    val parent: Span?,
+    val startNanos: Long
+) {
+    /** 호출 시간 (끝나기 전에는 -1) */
+    @Volatile
+    var durationNanos: Long = -1
+        internal set
+
+    /**
+     * 루트부터 이 span까지의 이름
+     */
+    fun path(): List<String> {
+        val names = ArrayList<String>()
+        var span: Span? = this
+        while (span != null) {
+            names.add(span.name)
+            span = span.parent
+        }
+        return names.asReversed()
+    }
+}
+
+/**
+ * 끝난 span을 담는 고정 크기 링 버퍼 (락 없음)
+ *
+ * 기록 = 커서 getAndIncrement 한 번 + 배열 칸에 쓰기
+ * 가득 차면 가장 오래된 span을 덮어쓰므로 메모리는 capacity개로 제한됨
+ * 내보낼 때는 그 순간의 칸들을 읽어 같은 경로끼리 합친 호출 트리(CallTree)를 만듦
+ *
+ * @param capacity 보관할 span 수 (2의 거듭제곱)
+ */
+class SpanStore(val capacity: Int = 4_096) {
+
+    init {
+        require(capacity > 0 && capacity and (capacity - 1) == 0) { "capacity는 2의 거듭제곱이어야 합니다: $capacity" }
+    }
+
+    private val mask = capacity - 1L
+    private val slots = AtomicReferenceArray<Span?>(capacity)
+    private val cursor = AtomicLong()
+
+    fun add(span: Span) {
+        slots.set((cursor.getAndIncrement() and mask).toInt(), span)
+    }
+
+    /** 지금까지 기록한 span 수 */
+    val recorded: Long get() = cursor.get()
+
+    /** 덮어써서 잃은 span 수 */
+    val overwritten: Long get() = maxOf(0, cursor.get() - capacity)
+
+    /**
+     * 지금 보관 중인 span (순서 없음)
+     */
+    fun snapshot(): List<Span> {
+        val spans = ArrayList<Span>(capacity)
+        for (i in 0 until capacity) {
+            slots.get(i)?.let(spans::add)
+        }
+        return spans
+    }
+
+    fun callTree(): CallTree = CallTree.of(snapshot())
+
+    fun clear() {
+        for (i in 0 until capacity) {
+            slots.set(i, null)
+        }
+    }
+
+    /**
+     * collapsed stack 형식 파일 쓰기 (flamegraph.pl, speedscope, async-profiler 변환기에서 열 수 있음)
+     */
+    fun writeFlameGraph(file: File): File {
+        file.parentFile?.mkdirs()
+        file.writeText(callTree().toCollapsedStacks())
+        return file
+    }
+}
+
+/**
+ * 같은 경로(루트 -> 자식 -> ...)의 span을 합친 호출 트리
+ *
+ * self 시간 = 경로의 전체 시간 - 자식 경로의 전체 시간
+ * 부모 span이 아직 안 끝났거나 저장소에서 밀려났으면 부모의 전체 시간을 모르므로 self는 0으로 봄
+ */
+class CallTree private constructor(val roots: List<Node>) {
+
+    class Node(val name: String) {
+        var count = 0
+            internal set
+        var totalNanos = 0L
+            internal set
+        internal var childNanos = 0L
+        internal val childMap = LinkedHashMap<String, Node>()
+
+        val children: Collection<Node> get() = childMap.values
+        val selfNanos: Long get() = maxOf(0, totalNanos - childNanos)
+
+        internal fun child(name: String) = childMap.getOrPut(name) { Node(name) }
+    }
+
+    /**
+     * collapsed stack: 경로마다 "루트;자식;손자 self시간(ns)" 한 줄
+     */
+    fun toCollapsedStacks(): String {
+        val lines = StringBuilder()
+        fun visit(node: Node, prefix: String) {
+            val path = if (prefix.isEmpty()) node.name else "$prefix;${node.name}"
+            if (node.selfNanos > 0) lines.append(path).append(' ').append(node.selfNanos).append('\n')
+            node.children.forEach { visit(it, path) }
+        }
+        roots.forEach { visit(it, "") }
+        return lines.toString()
+    }
+
+    /**
+     * 들여쓰기 트리로 출력 (호출 수, 평균 / self 시간)
+     */
+    fun print() {
+        fun visit(node: Node, depth: Int) {
+            println("  %-48s %6d회 평균 %8.3fms  self %8.3fms".format(
+                "  ".repeat(depth) + node.name,
+                node.count,
+                if (node.count == 0) 0.0 else node.totalNanos / 1e6 / node.count,
+                node.selfNanos / 1e6
+            ))
+            node.children.sortedByDescending { it.totalNanos }.forEach { visit(it, depth + 1) }
+        }
+        roots.sortedByDescending { it.totalNanos }.forEach { visit(it, 0) }
+    }
+
+    fun find(vararg path: String): Node? {
+        var nodes: Collection<Node> = roots
+        var found: Node? = null
+        for (name in path) {
+            found = nodes.firstOrNull { it.name == name } ?: return null
+            nodes = found.children
+        }
+        return found
+    }
+
+    companion object {
+        fun of(spans: List<Span>): CallTree {
+            val roots = LinkedHashMap<String, Node>()
+            for (span in spans) {
+                val duration = span.durationNanos
+                if (duration < 0) continue
+                val path = span.path()
+                var node = roots.getOrPut(path[0]) { Node(path[0]) }
+                var parent: Node? = null
+                for (i in 1 until path.size) {
+                    parent = node
+                    node = node.child(path[i])
+                }
+                node.count++
+                node.totalNanos += duration
+                parent?.let { it.childNanos += duration }
+            }
+            return CallTree(roots.values.toList())
+        }
+    }
+}
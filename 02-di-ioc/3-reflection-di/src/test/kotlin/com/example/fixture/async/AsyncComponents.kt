@@ -0,0 +1,73 @@
+package com.example.fixture.async
+
+import com.example.reflection.annotation.Async
+import com.example.reflection.annotation.Component
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @Async 테스트용 컴포넌트
+ * 블로킹 I/O를 흉내 내는 리포트 생성기 - gate가 열릴 때까지 블로킹함
+ */
+interface ReportGenerator {
+    fun generate(id: Int): CompletableFuture<String>
+
+    // 인터페이스 메서드에 붙인 @Async
+    @Async
+    fun warmUp()
+
+    fun describe(): String
+}
+
+@Component
+class SlowReportGenerator : ReportGenerator {
+    // 구현 메서드에 붙인 @Async
+    @Async
+    override fun generate(id: Int): CompletableFuture<String> {
+        blockOnIo()
+        check(id >= 0) { "잘못된 리포트 ID: $id" }
+        return CompletableFuture.completedFuture("report-$id@${Thread.currentThread().name}")
+    }
+
+    override fun warmUp() {
+        blockOnIo()
+        warmUps.add(Thread.currentThread().name)
+    }
+
+    override fun describe() = "caller=${Thread.currentThread().name}"
+
+    private fun blockOnIo() {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), ::maxOf)
+        try {
+            // 호출 스레드에서 실행되는 잘못된 경우에도 테스트가 멈추지 않도록 제한 시간을 둠
+            gate.await(IO_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        } finally {
+            running.decrementAndGet()
+        }
+    }
+
+    companion object {
+        private const val IO_TIMEOUT_SECONDS = 5L
+
+        // 열릴 때까지 generate / warmUp이 블로킹함 (기본: 열려 있음)
+        @Volatile
+        var gate = CountDownLatch(0)
+
+        // 지금 블로킹 중인 호출 수와 그 최댓값
+        val running = AtomicInteger()
+        val maxRunning = AtomicInteger()
+
+        // warmUp을 실행한 스레드 이름 (프록시 뒤의 원본 객체에서 기록)
+        val warmUps = LinkedBlockingQueue<String>()
+
+        fun reset(gate: CountDownLatch) {
+            this.gate = gate
+            running.set(0)
+            maxRunning.set(0)
+            warmUps.clear()
+        }
+    }
+}
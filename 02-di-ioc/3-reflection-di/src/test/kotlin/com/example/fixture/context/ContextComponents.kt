@@ -0,0 +1,24 @@
+package com.example.fixture.context
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.PostConstruct
+
+/**
+ * 초기화 콜백이 호출 스레드의 문맥을 보는지 확인하는 컴포넌트
+ */
+object StartupContext {
+    // 컨테이너를 만드는 스레드가 설정하는 값 (예: 테넌트 ID, MDC)
+    val tenant = ThreadLocal<String>()
+}
+
+@Component
+class TenantAwareCache {
+    var initThread: Thread? = null
+    var initTenant: String? = null
+
+    @PostConstruct
+    fun warmUp() {
+        initThread = Thread.currentThread()
+        initTenant = StartupContext.tenant.get()
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.fixture.cycle
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+
+/**
+ * 순환 의존성 테스트용 컴포넌트
+ * CycleA -> CycleB -> CycleC -> CycleA
+ */
+@Component
+class CycleA(@Inject val b: CycleB)
+
+@Component
+class CycleB(@Inject val c: CycleC)
+
+@Component
+class CycleC(@Inject val a: CycleA)
@@ -0,0 +1,58 @@
+package com.example.fixture.event
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.Subscribe
+import com.example.reflection.event.EventPublisher
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * 이벤트 버스 테스트용 컴포넌트
+ * 주문 이벤트를 발행하는 OrderService, 모든 주문 이벤트를 동기로 받는 OrderAudit,
+ * 주문 생성 이벤트만 비동기로 받는 OrderMailer
+ */
+open class OrderEvent(val orderId: Int)
+
+class OrderPlaced(orderId: Int, val producer: Int = 0) : OrderEvent(orderId)
+
+class OrderCancelled(orderId: Int) : OrderEvent(orderId)
+
+@Component
+class OrderService(
+    @Inject private val publisher: EventPublisher
+) {
+    fun place(orderId: Int, producer: Int = 0) = publisher.publish(OrderPlaced(orderId, producer))
+
+    fun cancel(orderId: Int) = publisher.publish(OrderCancelled(orderId))
+}
+
+@Component
+class OrderAudit {
+    val seen = CopyOnWriteArrayList<String>()
+    val threads = CopyOnWriteArrayList<String>()
+
+    @Subscribe
+    fun onOrderEvent(event: OrderEvent) {
+        if (event.orderId < 0) throw IllegalArgumentException("잘못된 주문 번호: ${event.orderId}")
+        seen += "${event.javaClass.simpleName}:${event.orderId}"
+        threads += Thread.currentThread().name
+    }
+}
+
+@Component
+class OrderMailer {
+    val received = ConcurrentLinkedQueue<OrderPlaced>()
+    val threads = ConcurrentLinkedQueue<String>()
+
+    @Subscribe(async = true)
+    fun onOrderPlaced(event: OrderPlaced) {
+        if (event.orderId == FAILING_ORDER) throw IllegalStateException("메일 서버 오류")
+        received += event
+        threads += Thread.currentThread().name
+    }
+
+    companion object {
+        const val FAILING_ORDER = 13
+    }
+}
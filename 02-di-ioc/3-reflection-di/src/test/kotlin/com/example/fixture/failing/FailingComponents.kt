@@ -0,0 +1,44 @@
+package com.example.fixture.failing
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.PostConstruct
+import com.example.reflection.annotation.PreDestroy
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * 시작 실패 정리 테스트용 컴포넌트
+ * 커넥션 -> 커넥션 풀 -> 초기화가 실패하는 서비스 순서로 생성됨
+ */
+object FailingEvents {
+    val events = CopyOnWriteArrayList<String>()
+}
+
+@Component
+class Connection {
+    @PreDestroy
+    fun close() {
+        FailingEvents.events += "destroy:Connection"
+    }
+}
+
+@Component
+class ConnectionPool(@Inject val connection: Connection) {
+    @PreDestroy
+    fun close() {
+        FailingEvents.events += "destroy:ConnectionPool"
+    }
+}
+
+@Component
+class BrokenService(@Inject val pool: ConnectionPool) {
+    @PostConstruct
+    fun start() {
+        throw IllegalStateException("설정 누락")
+    }
+
+    @PreDestroy
+    fun close() {
+        FailingEvents.events += "destroy:BrokenService"
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.fixture.hanging
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.PostConstruct
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * 초기화 콜백이 제한 시간 안에 끝나지 않는 컴포넌트 (컨테이너 시작 실패 테스트용)
+ * 열리지 않는 latch를 기다리다가 감시 스레드의 interrupt로 깨어남
+ */
+@Component
+class HangingInit {
+    @PostConstruct(timeoutMillis = 100)
+    fun connect() {
+        try {
+            NEVER.await(10, TimeUnit.SECONDS)
+        } catch (e: InterruptedException) {
+            interrupted = true
+            throw e
+        }
+    }
+
+    companion object {
+        private val NEVER = CountDownLatch(1)
+
+        @Volatile
+        var interrupted = false
+    }
+}
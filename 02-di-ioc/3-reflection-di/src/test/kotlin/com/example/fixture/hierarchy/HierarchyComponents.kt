@@ -0,0 +1,22 @@
+package com.example.fixture.hierarchy
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+
+/**
+ * 상위 타입 인덱스 테스트용 컴포넌트
+ * KoreanGreeter -> BaseGreeter -> Greeter
+ */
+interface Greeter {
+    fun greet(name: String): String
+}
+
+abstract class BaseGreeter : Greeter
+
+@Component
+class KoreanGreeter : BaseGreeter() {
+    override fun greet(name: String) = "안녕하세요, ${name}님"
+}
+
+@Component
+class Welcome(@Inject val greeter: BaseGreeter)
@@ -0,0 +1,114 @@
+package com.example.fixture.lifecycle
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.PostConstruct
+import com.example.reflection.annotation.PreDestroy
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Lifecycle 콜백 테스트용 컴포넌트
+ * 초기화가 느린(캐시 워밍업 등) 독립적인 Bean 2개, 이들을 주입받는 Bean 1개,
+ * 종료 콜백이 끝나지 않는 Bean 1개
+ */
+const val HANGING_DESTROY_TIMEOUT_MILLIS = 100L
+
+object LifecycleEvents {
+    private const val BLOCK_TIMEOUT_SECONDS = 5L
+
+    val events = CopyOnWriteArrayList<String>()
+
+    // 열릴 때까지 느린 초기화 콜백이 블로킹함 (기본: 열려 있음)
+    @Volatile
+    var initGate = CountDownLatch(0)
+
+    // 지금 초기화 중인 Bean 수와 그 최댓값
+    val initRunning = AtomicInteger()
+    val maxInitRunning = AtomicInteger()
+
+    fun reset(initGate: CountDownLatch) {
+        events.clear()
+        this.initGate = initGate
+        initRunning.set(0)
+        maxInitRunning.set(0)
+    }
+
+    fun blockInit() {
+        maxInitRunning.accumulateAndGet(initRunning.incrementAndGet(), ::maxOf)
+        try {
+            initGate.await(BLOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        } finally {
+            initRunning.decrementAndGet()
+        }
+    }
+}
+
+@Component
+class WarmCacheA {
+    @PostConstruct
+    fun warmUp() {
+        LifecycleEvents.blockInit()
+        LifecycleEvents.events += "init:WarmCacheA"
+    }
+
+    @PreDestroy
+    fun close() {
+        LifecycleEvents.events += "destroy:WarmCacheA"
+    }
+}
+
+@Component
+class WarmCacheB {
+    @PostConstruct
+    fun warmUp() {
+        LifecycleEvents.blockInit()
+        LifecycleEvents.events += "init:WarmCacheB"
+    }
+
+    @PreDestroy
+    fun close() {
+        LifecycleEvents.events += "destroy:WarmCacheB"
+    }
+}
+
+@Component
+class CacheClient(
+    @Inject val a: WarmCacheA,
+    @Inject val b: WarmCacheB
+) {
+    @PostConstruct
+    fun init() {
+        LifecycleEvents.events += "init:CacheClient"
+    }
+
+    @PreDestroy
+    fun close() {
+        LifecycleEvents.events += "destroy:CacheClient"
+    }
+}
+
+@Component
+class HangingShutdown {
+    @PreDestroy(timeoutMillis = HANGING_DESTROY_TIMEOUT_MILLIS)
+    fun close() {
+        // release가 열려야 정상 종료됨 - 열리지 않으면 interrupt될 때까지 블로킹
+        release.await(10, TimeUnit.SECONDS)
+        completed = true
+    }
+
+    companion object {
+        @Volatile
+        var release = CountDownLatch(1)
+
+        @Volatile
+        var completed = false
+
+        fun reset() {
+            release = CountDownLatch(1)
+            completed = false
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.fixture.proxy
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+
+/**
+ * 프록시 테스트용 컴포넌트
+ * 원시 타입 / 참조 타입 / void 반환 메서드를 모두 가진 인터페이스
+ */
+interface Calculator {
+    fun add(a: Int, b: Int): Int
+    fun average(values: LongArray): Double
+    fun describe(label: String): String
+    fun reset()
+}
+
+@Component
+class SimpleCalculator : Calculator {
+    override fun add(a: Int, b: Int) = a + b
+    override fun average(values: LongArray) = values.average()
+    override fun describe(label: String) = "calculator:$label"
+    override fun reset() {}
+}
+
+@Component
+class CalculatorClient(@Inject val calculator: Calculator)
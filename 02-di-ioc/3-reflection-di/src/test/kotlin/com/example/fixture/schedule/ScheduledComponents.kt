@@ -0,0 +1,37 @@
+package com.example.fixture.schedule
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Scheduled
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 스케줄러 테스트용 컴포넌트
+ * 메트릭 flush(fixedRate), 캐시 만료(fixedDelay)를 흉내냄
+ * 테스트가 고정 시간 대신 실행 횟수를 기다릴 수 있도록 처음 AWAITED_RUNS번의 실행마다 래치를 내림
+ */
+const val AWAITED_RUNS = 5
+
+@Component
+class MetricsFlusher {
+    val flushes = AtomicInteger()
+    val flushed = CountDownLatch(AWAITED_RUNS)
+
+    @Scheduled(fixedRateMillis = 20)
+    fun flush() {
+        flushes.incrementAndGet()
+        flushed.countDown()
+    }
+}
+
+@Component
+class CacheExpiry {
+    val sweeps = AtomicInteger()
+    val swept = CountDownLatch(AWAITED_RUNS)
+
+    @Scheduled(fixedDelayMillis = 30, initialDelayMillis = 50)
+    fun sweep() {
+        sweeps.incrementAndGet()
+        swept.countDown()
+    }
+}
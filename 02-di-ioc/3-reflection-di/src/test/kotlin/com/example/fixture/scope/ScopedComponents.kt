@@ -0,0 +1,36 @@
+package com.example.fixture.scope
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.Lazy
+import com.example.reflection.annotation.Scope
+import com.example.reflection.annotation.ScopeType
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 스코프 테스트용 컴포넌트
+ */
+@Component
+class EagerBean
+
+@Lazy
+@Component
+class LazyBean(@Inject val eager: EagerBean) {
+    init { created.incrementAndGet() }
+
+    companion object {
+        val created = AtomicInteger()
+    }
+}
+
+@Scope(ScopeType.PROTOTYPE)
+@Component
+class PrototypeBean(@Inject val eager: EagerBean)
+
+@Scope(ScopeType.THREAD)
+@Component
+class ThreadBean
+
+@Scope(ScopeType.REQUEST)
+@Component
+class RequestBean
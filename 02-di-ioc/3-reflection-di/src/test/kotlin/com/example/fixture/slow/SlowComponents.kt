@@ -0,0 +1,68 @@
+package com.example.fixture.slow
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 병렬 생성 테스트용 컴포넌트
+ * 생성자가 느린(캐시 워밍업, 커넥션 생성 등) 독립적인 Bean 4개와
+ * 이들을 모두 주입받는 Bean 1개 - 느린 생성자는 gate가 열릴 때까지 블로킹함
+ */
+object SlowConstruction {
+    private const val BLOCK_TIMEOUT_SECONDS = 5L
+
+    // 열릴 때까지 느린 생성자가 블로킹함 (기본: 열려 있음)
+    @Volatile
+    var gate = CountDownLatch(0)
+
+    // 지금 생성자 안에 있는 Bean 수와 그 최댓값
+    val running = AtomicInteger()
+    val maxRunning = AtomicInteger()
+
+    fun reset(gate: CountDownLatch) {
+        this.gate = gate
+        running.set(0)
+        maxRunning.set(0)
+    }
+
+    fun block() {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), ::maxOf)
+        try {
+            // 순차 생성처럼 gate를 열 스레드가 없는 경우에도 테스트가 멈추지 않도록 제한 시간을 둠
+            gate.await(BLOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        } finally {
+            running.decrementAndGet()
+        }
+    }
+}
+
+@Component
+class SlowA {
+    init { SlowConstruction.block() }
+}
+
+@Component
+class SlowB {
+    init { SlowConstruction.block() }
+}
+
+@Component
+class SlowC {
+    init { SlowConstruction.block() }
+}
+
+@Component
+class SlowD {
+    init { SlowConstruction.block() }
+}
+
+@Component
+class SlowAggregate(
+    @Inject val a: SlowA,
+    @Inject val b: SlowB,
+    @Inject val c: SlowC,
+    @Inject val d: SlowD
+)
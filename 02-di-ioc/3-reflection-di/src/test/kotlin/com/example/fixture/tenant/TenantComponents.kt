@@ -0,0 +1,56 @@
+package com.example.fixture.tenant
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.PreDestroy
+import com.example.reflection.annotation.Scope
+import com.example.reflection.annotation.ScopeType
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 자식 컨테이너 테스트용 컴포넌트
+ * 모든 테넌트가 공유하는 SharedCache, 테넌트마다 달라지는 TenantConfig,
+ * 설정을 주입받아 테넌트별로 다시 생성되는 TenantGreeter
+ */
+interface TenantConfig {
+    val tenantId: String
+}
+
+@Component
+class DefaultTenantConfig : TenantConfig {
+    override val tenantId = "default"
+}
+
+/**
+ * 자식 컨테이너에 instance()로 등록하는 테넌트 설정 (@Component 아님)
+ */
+class FixedTenantConfig(override val tenantId: String) : TenantConfig
+
+@Component
+class SharedCache {
+    init { created.incrementAndGet() }
+
+    companion object {
+        val created = AtomicInteger()
+    }
+}
+
+@Component
+class TenantGreeter(
+    @Inject val config: TenantConfig,
+    @Inject val cache: SharedCache
+) {
+    var closed = false
+        private set
+
+    fun greet() = "hello, ${config.tenantId}"
+
+    @PreDestroy
+    fun close() {
+        closed = true
+    }
+}
+
+@Component
+@Scope(ScopeType.PROTOTYPE)
+class TenantRequest
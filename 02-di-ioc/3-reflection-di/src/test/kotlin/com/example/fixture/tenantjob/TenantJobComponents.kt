@@ -0,0 +1,87 @@
+package com.example.fixture.tenantjob
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+import com.example.reflection.annotation.PostConstruct
+import com.example.reflection.annotation.PreDestroy
+import com.example.reflection.annotation.Scheduled
+import com.example.reflection.annotation.Subscribe
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 자식 컨테이너 시작 실패 / 이벤트 구독 / 주기 작업 테스트용 컴포넌트
+ * 작업 저장소 -> 작업 큐 -> 작업 실행기 순서로 생성되며,
+ * 테넌트 설정에 따라 작업 실행기의 초기화가 실패함 (부모의 기본 설정은 성공)
+ * JobAudit은 자기 테넌트의 작업 제출 이벤트만 기록하고, JobPoller는 10ms마다 작업을 확인함
+ */
+object TenantJobEvents {
+    val events = CopyOnWriteArrayList<String>()
+}
+
+class JobSubmitted(val tenantId: String, val jobId: Int)
+
+interface JobConfig {
+    val tenantId: String
+    val failOnStart: Boolean
+}
+
+@Component
+class DefaultJobConfig : JobConfig {
+    override val tenantId = "default"
+    override val failOnStart = false
+}
+
+/**
+ * 자식 컨테이너에 instance()로 등록하는 테넌트 설정 (@Component 아님)
+ */
+class FixedJobConfig(override val tenantId: String, override val failOnStart: Boolean = false) : JobConfig
+
+@Component
+class JobStore(@Inject val config: JobConfig) {
+    @PreDestroy
+    fun close() {
+        TenantJobEvents.events += "destroy:JobStore:${config.tenantId}"
+    }
+}
+
+@Component
+class JobQueue(@Inject val store: JobStore, @Inject val config: JobConfig) {
+    @PreDestroy
+    fun close() {
+        TenantJobEvents.events += "destroy:JobQueue:${config.tenantId}"
+    }
+}
+
+@Component
+class JobRunner(@Inject val queue: JobQueue, @Inject val config: JobConfig) {
+    @PostConstruct
+    fun start() {
+        check(!config.failOnStart) { "${config.tenantId}: 작업 실행기 설정 누락" }
+    }
+
+    @PreDestroy
+    fun close() {
+        TenantJobEvents.events += "destroy:JobRunner:${config.tenantId}"
+    }
+}
+
+@Component
+class JobAudit(@Inject val config: JobConfig) {
+    val seen = CopyOnWriteArrayList<Int>()
+
+    @Subscribe
+    fun onJobSubmitted(event: JobSubmitted) {
+        if (event.tenantId == config.tenantId) seen += event.jobId
+    }
+}
+
+@Component
+class JobPoller(@Inject val config: JobConfig) {
+    val polls = AtomicInteger()
+
+    @Scheduled(fixedRateMillis = 10)
+    fun poll() {
+        polls.incrementAndGet()
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.fixture.trace
+
+import com.example.reflection.annotation.Component
+import com.example.reflection.annotation.Inject
+
+/**
+ * 트레이싱 테스트용 컴포넌트
+ * 서비스 -> 저장소 -> 알림 호출 구조 (모두 인터페이스라 프록시로 감쌀 수 있음)
+ */
+interface Checkout {
+    fun checkout(orderId: Long)
+}
+
+interface Ledger {
+    fun record(orderId: Long)
+}
+
+interface Mailer {
+    fun send(orderId: Long)
+}
+
+@Component
+class SimpleCheckout(
+    @Inject private val ledger: Ledger,
+    @Inject private val mailer: Mailer
+) : Checkout {
+    override fun checkout(orderId: Long) {
+        ledger.record(orderId)
+        mailer.send(orderId)
+    }
+}
+
+@Component
+class SlowLedger : Ledger {
+    override fun record(orderId: Long) {
+        Thread.sleep(LEDGER_MILLIS)
+    }
+
+    companion object {
+        const val LEDGER_MILLIS = 20L
+    }
+}
+
+@Component
+class FastMailer : Mailer {
+    override fun send(orderId: Long) {}
+}
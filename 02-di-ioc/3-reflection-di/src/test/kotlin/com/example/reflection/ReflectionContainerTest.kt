@@ -0,0 +1,508 @@
+package com.example.reflection
+
+import com.example.fixture.cycle.CycleA
+import com.example.fixture.cycle.CycleB
+import com.example.fixture.cycle.CycleC
+import com.example.fixture.context.StartupContext
+import com.example.fixture.context.TenantAwareCache
+import com.example.fixture.failing.BrokenService
+import com.example.fixture.failing.FailingEvents
+import com.example.fixture.hanging.HangingInit
+import com.example.fixture.hierarchy.BaseGreeter
+import com.example.fixture.proxy.Calculator
+import com.example.fixture.proxy.CalculatorClient
+import com.example.fixture.proxy.SimpleCalculator
+import com.example.fixture.hierarchy.Greeter
+import com.example.fixture.hierarchy.KoreanGreeter
+import com.example.fixture.hierarchy.Welcome
+import com.example.fixture.lifecycle.CacheClient
+import com.example.fixture.lifecycle.HANGING_DESTROY_TIMEOUT_MILLIS
+import com.example.fixture.lifecycle.HangingShutdown
+import com.example.fixture.lifecycle.LifecycleEvents
+import com.example.fixture.lifecycle.WarmCacheA
+import com.example.fixture.scope.EagerBean
+import com.example.fixture.scope.LazyBean
+import com.example.fixture.scope.PrototypeBean
+import com.example.fixture.scope.RequestBean
+import com.example.fixture.scope.ThreadBean
+import com.example.fixture.slow.SlowA
+import com.example.fixture.slow.SlowAggregate
+import com.example.fixture.slow.SlowB
+import com.example.fixture.slow.SlowC
+import com.example.fixture.slow.SlowConstruction
+import com.example.fixture.slow.SlowD
+import com.example.fixture.tenant.FixedTenantConfig
+import com.example.fixture.tenant.SharedCache
+import com.example.fixture.tenant.TenantConfig
+import com.example.fixture.tenant.TenantGreeter
+import com.example.fixture.tenant.TenantRequest
+import com.example.fixture.tenantjob.FixedJobConfig
+import com.example.fixture.tenantjob.JobQueue
+import com.example.fixture.tenantjob.JobRunner
+import com.example.fixture.tenantjob.JobStore
+import com.example.fixture.tenantjob.TenantJobEvents
+import com.example.reflection.notification.NotificationService
+import com.example.reflection.proxy.Advisor
+import com.example.reflection.proxy.MethodInterceptor
+import com.example.reflection.proxy.Pointcut
+import com.example.reflection.proxy.ProxyBeanPostProcessor
+import com.example.reflection.repository.UserRepository
+import com.example.reflection.service.UserService
+import com.example.reflection.startup.ApplicationStartup
+import com.example.reflection.startup.RecordingApplicationStartup
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.lang.reflect.Proxy
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * ReflectionContainer 자체의 동작 테스트
+ *
+ * - 의존성 그래프 / 위상 정렬
+ * - 상위 타입 인덱스
+ * - 순환 의존성 감지
+ * - 독립적인 Bean 병렬 생성
+ * - @Lazy, PROTOTYPE / THREAD / REQUEST 스코프
+ * - 시작 과정 계측 (ApplicationStartup)
+ * - BeanPostProcessor / Hidden Class 프록시
+ * - @PostConstruct / @PreDestroy (병렬 실행, 타임아웃, 호출 스레드의 문맥, 시작 실패 시 정리)
+ * - 자식 컨테이너 (테넌트별 재정의, 부모 체인 조회)
+ */
+class ReflectionContainerTest {
+
+    @Test
+    @DisplayName("인터페이스 타입으로 주입된 Bean과 조회한 Bean은 같은 인스턴스다")
+    fun `interface beans should be singletons shared with dependents`() {
+        // when
+        val container = ReflectionContainer("com.example.reflection")
+
+        // then
+        val repository = container.getBean<UserRepository>()
+        val notificationService = container.getBean<NotificationService>()
+        assertSame(repository, container.getBean<UserRepository>())
+        assertNotNull(notificationService)
+        assertNotNull(container.getBean<UserService>())
+        container.close()
+    }
+
+    @Test
+    @DisplayName("부모 클래스나 간접 구현한 인터페이스 타입으로도 조회하고 주입받을 수 있다")
+    fun `beans should be resolvable by any supertype`() {
+        val container = ReflectionContainer("com.example.fixture.hierarchy")
+
+        val greeter = container.getBean<KoreanGreeter>()
+
+        assertSame(greeter, container.getBean<BaseGreeter>())
+        assertSame(greeter, container.getBean<Greeter>())
+        assertSame(greeter, container.getBean<Welcome>().greeter)
+    }
+
+    @Test
+    @DisplayName("순환 의존성이 있으면 전체 순환 경로를 포함한 예외가 발생한다")
+    fun `circular dependency should be reported with full path`() {
+        // when
+        val exception = assertThrows(CircularDependencyException::class.java) {
+            ReflectionContainer("com.example.fixture.cycle")
+        }
+
+        // then
+        val cycle = exception.cycle
+        assertEquals(4, cycle.size)
+        assertEquals(cycle.first(), cycle.last())
+        assertEquals(setOf(CycleA::class, CycleB::class, CycleC::class), cycle.toSet())
+        assertTrue(exception.message!!.contains(" -> "))
+    }
+
+    @Test
+    @DisplayName("독립적인 Bean은 병렬로 생성되어 느린 생성자가 있어도 서로를 기다리지 않는다")
+    fun `independent beans should be created in parallel`() {
+        // given: 순차 생성에서는 한 번에 생성자 하나만 실행됨
+        SlowConstruction.reset(CountDownLatch(0))
+        val sequential = ReflectionContainer("com.example.fixture.slow", verbose = false, parallelism = 1)
+        assertEquals(1, SlowConstruction.maxRunning.get())
+
+        // when: 4개 스레드로 병렬 생성 - gate를 닫아 두면 느린 생성자 4개가 모두 동시에 블로킹해야 함
+        val gate = CountDownLatch(1)
+        SlowConstruction.reset(gate)
+        val starting = CompletableFuture.supplyAsync {
+            ReflectionContainer("com.example.fixture.slow", verbose = false, parallelism = 4)
+        }
+        awaitValue(SlowConstruction.running, 4)
+        gate.countDown()
+        val parallel = starting.get(5, TimeUnit.SECONDS)
+
+        // then
+        assertEquals(4, SlowConstruction.maxRunning.get())
+        assertSame(parallel.getBean<SlowA>(), parallel.getBean<SlowAggregate>().a)
+        assertSame(sequential.getBean<SlowA>(), sequential.getBean<SlowAggregate>().a)
+    }
+
+    @Test
+    @DisplayName("@Lazy Bean은 처음 조회할 때 생성되고 동시에 조회해도 하나의 인스턴스만 공개된다")
+    fun `lazy bean should be created on first lookup and published once`() {
+        // given: 시작 시점에는 생성되지 않음
+        val createdBefore = LazyBean.created.get()
+        val container = ReflectionContainer("com.example.fixture.scope")
+        assertEquals(createdBefore, LazyBean.created.get())
+
+        // when: 8개 스레드가 동시에 첫 조회
+        val executor = Executors.newFixedThreadPool(8)
+        val start = CountDownLatch(1)
+        val futures = (1..8).map {
+            executor.submit<LazyBean> {
+                start.await()
+                container.getBean()
+            }
+        }
+        start.countDown()
+        val instances = futures.map { it.get(5, TimeUnit.SECONDS) }
+        executor.shutdown()
+
+        // then
+        assertTrue(LazyBean.created.get() > createdBefore)
+        assertEquals(1, instances.toSet().size)
+        assertSame(instances.first(), container.getBean<LazyBean>())
+        assertSame(container.getBean<EagerBean>(), instances.first().eager)
+    }
+
+    @Test
+    @DisplayName("PROTOTYPE Bean은 조회할 때마다 새 인스턴스가 생성된다")
+    fun `prototype bean should be created on every lookup`() {
+        val container = ReflectionContainer("com.example.fixture.scope")
+
+        val first = container.getBean<PrototypeBean>()
+        val second = container.getBean<PrototypeBean>()
+
+        assertNotSame(first, second)
+        assertSame(first.eager, second.eager)
+    }
+
+    @Test
+    @DisplayName("THREAD Bean은 같은 스레드에서는 같고 다른 스레드에서는 다른 인스턴스다")
+    fun `thread scoped bean should be shared within a thread only`() {
+        val container = ReflectionContainer("com.example.fixture.scope")
+
+        val mine = container.getBean<ThreadBean>()
+        var other: ThreadBean? = null
+        val thread = Thread { other = container.getBean() }
+        thread.start()
+        thread.join()
+
+        assertSame(mine, container.getBean<ThreadBean>())
+        assertNotNull(other)
+        assertNotSame(mine, other)
+    }
+
+    @Test
+    @DisplayName("REQUEST Bean은 request scope 블록 안에서만 조회할 수 있다")
+    fun `request scoped bean should live within a request block`() {
+        val container = ReflectionContainer("com.example.fixture.scope")
+
+        assertThrows(IllegalStateException::class.java) {
+            container.getBean<RequestBean>()
+        }
+
+        val (first, again) = container.runInRequestScope {
+            container.getBean<RequestBean>() to container.getBean<RequestBean>()
+        }
+        val next = container.runInRequestScope { container.getBean<RequestBean>() }
+
+        assertSame(first, again)
+        assertNotSame(first, next)
+    }
+
+    @Test
+    @DisplayName("시작 과정을 기록하면 Bean별 생성 시간과 시작 시간을 결정한 critical path를 알 수 있다")
+    fun `startup recording should expose per-bean timeline and critical path`() {
+        // given
+        val startup = RecordingApplicationStartup()
+
+        // when
+        ReflectionContainer("com.example.fixture.slow", parallelism = 4, verbose = false, applicationStartup = startup)
+
+        // then: 모든 컴포넌트의 생성 단계와 그 안의 생성자 호출 단계가 기록됨 (내장 Bean 제외)
+        val timeline = startup.timeline()
+        val instantiations = timeline.filter {
+            it.name == ApplicationStartup.BEAN_INSTANTIATE &&
+                it.tags[ApplicationStartup.TAG_BEAN_CLASS]!!.startsWith("com.example.fixture")
+        }
+        assertEquals(5, instantiations.size)
+        instantiations.forEach { step ->
+            val constructor = timeline.single { it.parentId == step.id && it.name == ApplicationStartup.BEAN_CONSTRUCTOR }
+            assertTrue(constructor.durationNanos <= step.durationNanos)
+        }
+        assertEquals(5, timeline.count { it.name == ApplicationStartup.BEAN_SCAN })
+
+        // critical path: 가장 늦게 끝난 느린 Bean -> SlowAggregate
+        val path = startup.criticalPath().map { it.tags[ApplicationStartup.TAG_BEAN_CLASS] }
+        assertEquals(2, path.size)
+        assertEquals(SlowAggregate::class.java.name, path.last())
+        assertTrue(path.first() in listOf(SlowA::class, SlowB::class, SlowC::class, SlowD::class).map { it.java.name })
+
+        val trace = startup.toChromeTrace()
+        assertTrue(trace.startsWith("{\"traceEvents\": ["))
+        assertTrue(trace.contains("\"critical path\""))
+    }
+
+    @Test
+    @DisplayName("Advisor가 적용되는 Bean은 순서대로 인터셉터를 거치는 프록시로 주입된다")
+    fun `advised beans should be proxied with an ordered interceptor chain`() {
+        // given: add / average / reset에만 적용되는 인터셉터 2개 (order가 작은 쪽이 바깥)
+        val calls = mutableListOf<String>()
+        val pointcut = Pointcut { _, method -> method.name != "describe" }
+        val outer = MethodInterceptor { invocation ->
+            calls += "outer:${invocation.method.name}"
+            invocation.proceed()
+        }
+        val inner = MethodInterceptor { invocation ->
+            calls += "inner:${invocation.method.name}"
+            if (invocation.method.name == "add") (invocation.proceed() as Int) * 10 else invocation.proceed()
+        }
+        val processor = ProxyBeanPostProcessor(listOf(Advisor(pointcut, inner, order = 2), Advisor(pointcut, outer, order = 1)))
+
+        // when
+        val container = ReflectionContainer("com.example.fixture.proxy", verbose = false, beanPostProcessors = listOf(processor))
+        val calculator = container.getBean<Calculator>()
+
+        // then: 원시 타입 인자 / 반환값, 배열, void 모두 그대로 전달됨
+        assertEquals(30, calculator.add(1, 2))
+        assertEquals(2.0, calculator.average(longArrayOf(1, 2, 3)))
+        calculator.reset()
+        assertEquals(listOf("outer:add", "inner:add", "outer:average", "inner:average", "outer:reset", "inner:reset"), calls)
+
+        // 인터셉터가 없는 메서드는 체인을 거치지 않고 바로 호출
+        assertEquals("calculator:x", calculator.describe("x"))
+        assertEquals(6, calls.size)
+
+        // JDK Proxy가 아닌 Hidden Class, 다른 Bean에는 같은 프록시가 주입됨
+        assertFalse(Proxy.isProxyClass(calculator.javaClass))
+        assertTrue(calculator.javaClass.isHidden)
+        assertSame(calculator, container.getBean<CalculatorClient>().calculator)
+
+        // 구현 클래스 타입으로는 조회 불가 (프록시는 인터페이스만 구현)
+        assertThrows(IllegalStateException::class.java) { container.getBean<SimpleCalculator>() }
+    }
+
+    @Test
+    @DisplayName("같은 웨이브의 초기화 콜백은 병렬로, 종료 콜백은 생성의 역순으로 실행된다")
+    fun `lifecycle callbacks should run in parallel per wave and destroy in reverse order`() {
+        // given: gate가 열릴 때까지 초기화가 끝나지 않는 독립적인 Bean 2개
+        val gate = CountDownLatch(1)
+        LifecycleEvents.reset(gate)
+
+        // when
+        val starting = CompletableFuture.supplyAsync {
+            ReflectionContainer("com.example.fixture.lifecycle", verbose = false, parallelism = 4)
+        }
+        awaitValue(LifecycleEvents.initRunning, 2)
+        gate.countDown()
+        val container = starting.get(5, TimeUnit.SECONDS)
+
+        // then: 두 초기화가 동시에 진행되었고, 의존하는 Bean은 의존 대상의 초기화가 끝난 뒤 초기화됨
+        assertEquals(2, LifecycleEvents.maxInitRunning.get())
+        assertEquals(
+            setOf("init:WarmCacheA", "init:WarmCacheB"),
+            LifecycleEvents.events.take(2).toSet()
+        )
+        assertEquals("init:CacheClient", LifecycleEvents.events.last())
+        assertSame(container.getBean<WarmCacheA>(), container.getBean<CacheClient>().a)
+
+        // when
+        LifecycleEvents.events.clear()
+        container.close()
+
+        // then: CacheClient가 먼저 종료되고, 의존 대상들은 그 다음에 종료됨
+        assertEquals("destroy:CacheClient", LifecycleEvents.events.first())
+        assertEquals(
+            setOf("destroy:WarmCacheA", "destroy:WarmCacheB"),
+            LifecycleEvents.events.drop(1).toSet()
+        )
+    }
+
+    @Test
+    @DisplayName("종료 콜백이 제한 시간을 넘기면 보고서에 기록하고 나머지 종료를 계속한다")
+    fun `destroy timeout should be reported without blocking shutdown`() {
+        // given
+        LifecycleEvents.reset(CountDownLatch(0))
+        HangingShutdown.reset()
+        val container = ReflectionContainer("com.example.fixture.lifecycle", verbose = false)
+
+        // when: release를 열지 않은 채 종료
+        try {
+            container.close()
+
+            // then: 끝나지 않은 콜백을 기다리지 않고 close()가 반환됨
+            assertFalse(HangingShutdown.completed)
+        } finally {
+            HangingShutdown.release.countDown()
+        }
+        val destroys = container.lifecycleReport().entries.filter { it.phase == LifecyclePhase.DESTROY }
+        val hanging = destroys.single { it.beanClass == HangingShutdown::class }
+        assertEquals(LifecycleReport.Outcome.TIMED_OUT, hanging.outcome)
+        assertTrue(hanging.durationNanos >= TimeUnit.MILLISECONDS.toNanos(HANGING_DESTROY_TIMEOUT_MILLIS))
+        assertTrue(destroys.filter { it.beanClass != HangingShutdown::class }.all { it.outcome == LifecycleReport.Outcome.OK })
+        assertTrue("destroy:CacheClient" in LifecycleEvents.events)
+    }
+
+    @Test
+    @DisplayName("초기화 콜백이 제한 시간을 넘기면 컨테이너 시작이 실패한다")
+    fun `init timeout should fail container startup`() {
+        // given
+        HangingInit.interrupted = false
+
+        // when
+        val exception = assertThrows(IllegalStateException::class.java) {
+            ReflectionContainer("com.example.fixture.hanging", verbose = false)
+        }
+
+        // then: 감시 스레드가 콜백을 interrupt해서 깨웠고, 원인은 제한 시간 초과
+        val causes = generateSequence<Throwable>(exception) { it.cause }.toList()
+        val messages = causes.map { it.message.orEmpty() }
+        assertTrue(messages.any { "${HangingInit::class.simpleName}.connect() 초기화 실패" in it }) { messages.toString() }
+        assertTrue(causes.any { it is TimeoutException }) { causes.toString() }
+        assertTrue(HangingInit.interrupted)
+    }
+
+    @Test
+    @DisplayName("초기화 콜백은 Bean을 만드는 스레드에서 실행되어 그 스레드의 ThreadLocal을 본다")
+    fun `init callback should run on the creating thread`() {
+        // given: 컨테이너를 만드는 스레드의 문맥
+        StartupContext.tenant.set("acme")
+        try {
+            // when: 호출 스레드에서 순차 생성
+            val container = ReflectionContainer("com.example.fixture.context", verbose = false, parallelism = 1)
+
+            // then
+            val cache = container.getBean<TenantAwareCache>()
+            assertSame(Thread.currentThread(), cache.initThread)
+            assertEquals("acme", cache.initTenant)
+            assertFalse(Thread.currentThread().isInterrupted)
+            container.close()
+        } finally {
+            StartupContext.tenant.remove()
+        }
+    }
+
+    @Test
+    @DisplayName("시작 중 초기화가 실패하면 이미 생성된 Bean을 생성의 역순으로 종료한다")
+    fun `startup failure should destroy created beans in reverse order`() {
+        // given
+        FailingEvents.events.clear()
+
+        // when
+        val exception = assertThrows(IllegalStateException::class.java) {
+            ReflectionContainer("com.example.fixture.failing", verbose = false)
+        }
+
+        // then: 실패한 Bean은 종료 대상이 아니고, 의존하는 쪽이 먼저 종료됨
+        assertTrue(exception.message!!.contains("${BrokenService::class.simpleName}.start() 초기화 실패"))
+        assertEquals(listOf("destroy:ConnectionPool", "destroy:Connection"), FailingEvents.events)
+    }
+
+    @Test
+    @DisplayName("자식 컨테이너는 선언한 Bean만 재정의하고 나머지는 부모 체인에서 물려받는다")
+    fun `child container should override declared beans and inherit the rest`() {
+        // given
+        val parent = ReflectionContainer("com.example.fixture.tenant", verbose = false)
+
+        // when: 테넌트 설정을 재정의하고, 설정을 주입받는 TenantGreeter만 자식 안에서 다시 생성
+        val child = parent.createChild("acme") {
+            instance(FixedTenantConfig("acme"))
+            component(TenantGreeter::class)
+        }
+        val grandchild = child.createChild("acme-eu") { instance(FixedTenantConfig("acme-eu")) }
+
+        // then: 재정의한 Bean은 자식의 것, 나머지 싱글톤은 부모와 같은 인스턴스
+        assertEquals("acme", child.getBean<TenantConfig>().tenantId)
+        assertEquals("hello, acme", child.getBean<TenantGreeter>().greet())
+        assertSame(parent.getBean<SharedCache>(), child.getBean<TenantGreeter>().cache)
+        assertSame(parent.getBean<SharedCache>(), child.getBean<SharedCache>())
+
+        // 부모는 자식의 재정의를 볼 수 없음
+        assertEquals("hello, default", parent.getBean<TenantGreeter>().greet())
+
+        // 손자는 자기 설정 + 자식의 TenantGreeter (자식 체인 조회)
+        assertEquals("acme-eu", grandchild.getBean<TenantConfig>().tenantId)
+        assertSame(child.getBean<TenantGreeter>(), grandchild.getBean<TenantGreeter>())
+
+        // 부모의 PROTOTYPE Bean은 캐시하지 않고 매번 부모에게 위임
+        assertNotSame(child.getBean<TenantRequest>(), child.getBean<TenantRequest>())
+
+        // 부모에 없는 컴포넌트는 선언할 수 없음
+        assertThrows(IllegalStateException::class.java) {
+            parent.createChild("invalid") { component(FixedTenantConfig::class) }
+        }
+    }
+
+    @Test
+    @DisplayName("테넌트 1,000개를 만들어도 부모의 스캔 / 공유 싱글톤 생성은 한 번뿐이다")
+    fun `many children should share the parent scan and singletons`() {
+        // given
+        val createdBefore = SharedCache.created.get()
+        val parent = ReflectionContainer("com.example.fixture.tenant", verbose = false)
+
+        // when
+        val children = (0 until 1_000).map { i ->
+            parent.createChild("tenant-$i") {
+                instance(FixedTenantConfig("tenant-$i"))
+                component(TenantGreeter::class)
+            }
+        }
+
+        // then
+        assertEquals(1, SharedCache.created.get() - createdBefore)
+        assertEquals("hello, tenant-999", children.last().getBean<TenantGreeter>().greet())
+        assertEquals(1_000, children.map { it.getBean<TenantGreeter>() }.toSet().size)
+
+        // 자식을 닫으면 자식이 만든 Bean의 @PreDestroy만 호출
+        val greeters = children.map { it.getBean<TenantGreeter>() }
+        children.forEach { it.close() }
+        assertTrue(greeters.all { it.closed })
+        assertFalse(parent.getBean<TenantGreeter>().closed)
+    }
+
+    @Test
+    @DisplayName("자식 컨테이너 생성 중 초기화가 실패하면 이미 생성한 자식의 Bean을 생성 역순으로 종료한다")
+    fun `failed child startup should destroy the beans it already created`() {
+        // given
+        TenantJobEvents.events.clear()
+        val parent = ReflectionContainer("com.example.fixture.tenantjob", verbose = false)
+
+        // when: 테넌트 설정 때문에 마지막 JobRunner의 @PostConstruct가 실패
+        val exception = assertThrows(IllegalStateException::class.java) {
+            parent.createChild("acme") {
+                instance(FixedJobConfig("acme", failOnStart = true))
+                component(JobStore::class)
+                component(JobQueue::class)
+                component(JobRunner::class)
+            }
+        }
+
+        // then: 실패한 Bean은 종료 대상이 아니고, 자식이 만든 Bean만 의존하는 쪽부터 종료됨
+        assertTrue(exception.message!!.contains("${JobRunner::class.simpleName}.start() 초기화 실패"))
+        assertEquals(listOf("destroy:JobQueue:acme", "destroy:JobStore:acme"), TenantJobEvents.events)
+
+        // 부모의 Bean은 그대로 사용 가능
+        assertEquals("default", parent.getBean<JobRunner>().config.tenantId)
+        parent.close()
+        assertEquals(
+            listOf("destroy:JobRunner:default", "destroy:JobQueue:default", "destroy:JobStore:default"),
+            TenantJobEvents.events.drop(2)
+        )
+    }
+
+    private fun awaitValue(counter: AtomicInteger, expected: Int) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2)
+        while (counter.get() < expected && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000)
+        }
+        assertEquals(expected, counter.get())
+    }
+}
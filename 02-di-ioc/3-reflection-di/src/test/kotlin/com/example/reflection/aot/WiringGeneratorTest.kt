@@ -0,0 +1,47 @@
+package com.example.reflection.aot
+
+import com.example.reflection.CircularDependencyException
+import com.example.reflection.ReflectionContainer
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+/**
+ * WiringGenerator (AOT wiring 코드 생성) 테스트
+ */
+class WiringGeneratorTest {
+
+    @Test
+    @DisplayName("생성된 코드는 의존성이 먼저 생성되도록 위상 정렬 순서로 생성자를 호출한다")
+    fun `generated wiring should call constructors in topological order`() {
+        // when
+        val source = WiringGenerator("com.example.reflection").generate()
+
+        // then
+        assertTrue(source.contains("package com.example.reflection.generated"))
+        assertTrue(source.contains("class ${AotWiring.CLASS_SIMPLE_NAME} : AotWiring"))
+
+        val repository = source.indexOf("com.example.reflection.repository.UserRepositoryImpl(")
+        val notification = source.indexOf("com.example.reflection.notification.EmailNotificationService(")
+        val userService = source.indexOf("com.example.reflection.service.UserService(")
+        assertTrue(repository >= 0 && notification >= 0 && userService >= 0)
+        assertTrue(repository < userService)
+        assertTrue(notification < userService)
+    }
+
+    @Test
+    @DisplayName("순환 의존성이 있으면 코드 생성(빌드)이 실패한다")
+    fun `generation should fail on circular dependency`() {
+        assertThrows(CircularDependencyException::class.java) {
+            WiringGenerator("com.example.fixture.cycle").generate()
+        }
+    }
+
+    @Test
+    @DisplayName("생성된 wiring이 없으면 런타임 스캔으로 시작한다")
+    fun `container should fall back to scanning without generated wiring`() {
+        val container = ReflectionContainer("com.example.fixture.hierarchy", verbose = false)
+
+        assertFalse(container.usesGeneratedWiring)
+    }
+}
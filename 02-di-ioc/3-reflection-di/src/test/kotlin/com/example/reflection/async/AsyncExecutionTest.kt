@@ -0,0 +1,125 @@
+package com.example.reflection.async
+
+import com.example.fixture.async.ReportGenerator
+import com.example.fixture.async.SlowReportGenerator
+import com.example.reflection.ReflectionContainer
+import com.example.reflection.getBean
+import com.example.reflection.proxy.ProxyBeanPostProcessor
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * @Async 프록시 + 실행 모드 테스트
+ *
+ * - CompletableFuture 반환 메서드는 바로 반환되고 실행기 스레드에서 실행됨
+ * - Unit 반환 메서드는 실행만 넘기고 바로 반환
+ * - 메서드의 예외는 핸들로 전달됨
+ * - VIRTUAL 모드는 가상 스레드를 지원하지 않는 JVM에서 플랫폼 스레드로 대체됨
+ */
+class AsyncExecutionTest {
+
+    private val executor = TaskExecutors.create(ExecutionMode.PLATFORM, "async-test-", platformThreads = 32)
+
+    private val container = ReflectionContainer(
+        "com.example.fixture.async",
+        verbose = false,
+        beanPostProcessors = listOf(ProxyBeanPostProcessor(listOf(AsyncExecutionInterceptor.advisor(executor))))
+    )
+
+    @AfterEach
+    fun tearDown() {
+        SlowReportGenerator.gate.countDown()
+        container.close()
+        executor.shutdownNow()
+    }
+
+    @Test
+    @DisplayName("@Async 메서드는 바로 반환되고, 블로킹 호출 32개가 실행기 스레드에서 동시에 실행된다")
+    fun `async method should run concurrently on executor threads`() {
+        // given: 열어 줄 때까지 블로킹하는 I/O
+        val gate = CountDownLatch(1)
+        SlowReportGenerator.reset(gate)
+        val generator = container.getBean<ReportGenerator>()
+
+        // when: I/O가 막힌 동안 32번 호출
+        val handles = (0 until 32).map { generator.generate(it) }
+
+        // then: 호출은 모두 반환되었고, 32개가 실행기 스레드에서 동시에 블로킹 중
+        assertTrue(handles.none { it.isDone })
+        awaitRunning(32)
+        gate.countDown()
+        val reports = CompletableFuture.allOf(*handles.toTypedArray())
+            .thenApply { handles.map { it.join() } }
+            .get(2, TimeUnit.SECONDS)
+        assertEquals(32, SlowReportGenerator.maxRunning.get())
+        assertEquals((0 until 32).map { "report-$it" }, reports.map { it.substringBefore('@') })
+        assertTrue(reports.all { it.substringAfter('@').startsWith("async-test-") })
+
+        // @Async가 없는 메서드는 호출 스레드에서 실행
+        assertEquals("caller=${Thread.currentThread().name}", generator.describe())
+    }
+
+    @Test
+    @DisplayName("Unit을 반환하는 @Async 메서드는 실행만 넘기고 바로 반환된다")
+    fun `void async method should return immediately`() {
+        // given: 열어 줄 때까지 블로킹하는 I/O
+        val gate = CountDownLatch(1)
+        SlowReportGenerator.reset(gate)
+        val generator = container.getBean<ReportGenerator>()
+
+        // when: I/O가 막힌 동안 호출
+        generator.warmUp()
+
+        // then: 원본 메서드가 끝나기 전에 반환되고, 원본 메서드는 실행기 스레드에서 끝남
+        assertTrue(SlowReportGenerator.warmUps.isEmpty())
+        gate.countDown()
+        val worker = SlowReportGenerator.warmUps.poll(1, TimeUnit.SECONDS)
+        assertNotNull(worker)
+        assertTrue(worker!!.startsWith("async-test-"))
+    }
+
+    @Test
+    @DisplayName("@Async 메서드에서 발생한 예외는 반환된 핸들로 전달된다")
+    fun `exception should complete the handle exceptionally`() {
+        // given
+        val generator = container.getBean<ReportGenerator>()
+
+        // when
+        val handle = generator.generate(-1)
+
+        // then
+        val error = assertThrows(ExecutionException::class.java) { handle.get(1, TimeUnit.SECONDS) }
+        assertTrue(error.cause is IllegalStateException)
+        assertEquals("잘못된 리포트 ID: -1", error.cause?.message)
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 모드는 JDK 21 이상이면 가상 스레드, 아니면 플랫폼 스레드에서 실행된다")
+    fun `virtual mode should fall back to platform threads when unsupported`() {
+        // given
+        val virtual = TaskExecutors.create(ExecutionMode.VIRTUAL, "vt-")
+
+        // when
+        val thread = CompletableFuture.supplyAsync({ Thread.currentThread() }, virtual).get(1, TimeUnit.SECONDS)
+        virtual.shutdown()
+
+        // then
+        assertEquals(TaskExecutors.virtualThreadsSupported, TaskExecutors.isVirtual(thread))
+        assertTrue(thread.name.startsWith("vt-"))
+    }
+
+    private fun awaitRunning(expected: Int) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2)
+        while (SlowReportGenerator.running.get() < expected && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000)
+        }
+        assertEquals(expected, SlowReportGenerator.running.get())
+    }
+}
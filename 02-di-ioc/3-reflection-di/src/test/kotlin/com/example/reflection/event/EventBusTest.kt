@@ -0,0 +1,141 @@
+package com.example.reflection.event
+
+import com.example.fixture.event.OrderAudit
+import com.example.fixture.event.OrderMailer
+import com.example.fixture.event.OrderService
+import com.example.fixture.tenantjob.FixedJobConfig
+import com.example.fixture.tenantjob.JobAudit
+import com.example.fixture.tenantjob.JobSubmitted
+import com.example.reflection.ReflectionContainer
+import com.example.reflection.getBean
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * 내장 EventBus 테스트
+ *
+ * - 컨테이너가 @Subscribe 메서드를 찾아 등록
+ * - 동기 구독자는 발행 스레드, 비동기 구독자는 이벤트 스레드에서 호출
+ * - 여러 생산자가 동시에 발행해도 구독자별 순서 유지, 유실 없음
+ * - 구독자 예외 처리
+ * - 자식 컨테이너가 생성한 구독자의 등록 / 해제
+ */
+class EventBusTest {
+
+    @Test
+    @DisplayName("컨테이너가 @Subscribe 메서드를 찾아 이벤트 타입별로 전달한다")
+    fun `container should register subscribers and dispatch by event type`() {
+        // given
+        val container = ReflectionContainer("com.example.fixture.event", verbose = false)
+        val orders = container.getBean<OrderService>()
+
+        // when
+        orders.place(1)
+        orders.cancel(2)
+        assertTrue(container.eventBus.awaitIdle(5_000))
+
+        // then: OrderAudit은 상위 타입(OrderEvent)으로 두 이벤트 모두 발행 스레드에서 받음
+        val audit = container.getBean<OrderAudit>()
+        assertEquals(listOf("OrderPlaced:1", "OrderCancelled:2"), audit.seen)
+        assertTrue(audit.threads.all { it == Thread.currentThread().name })
+
+        // OrderMailer는 OrderPlaced만 이벤트 스레드에서 받음
+        val mailer = container.getBean<OrderMailer>()
+        assertEquals(listOf(1), mailer.received.map { it.orderId })
+        assertTrue(mailer.threads.all { it.startsWith("event-") })
+
+        assertEquals(EventBus.Stats(published = 2, delivered = 1, failed = 0, pending = 0), container.eventBus.stats())
+        container.close()
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발행해도 비동기 구독자는 모든 이벤트를 생산자별 순서대로 받는다")
+    fun `async subscriber should receive all events in per-producer order`() {
+        // given
+        val container = ReflectionContainer("com.example.fixture.event", verbose = false)
+        val orders = container.getBean<OrderService>()
+        val producers = 4
+        val perProducer = 20_000
+        val start = CountDownLatch(1)
+        val pool = Executors.newFixedThreadPool(producers)
+
+        // when
+        repeat(producers) { producer ->
+            pool.execute {
+                start.await()
+                // 0은 FAILING_ORDER(13)와 겹치지 않도록 100부터
+                for (i in 0 until perProducer) orders.place(100 + i, producer)
+            }
+        }
+        start.countDown()
+        pool.shutdown()
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS))
+        assertTrue(container.eventBus.awaitIdle(30_000))
+
+        // then
+        val received = container.getBean<OrderMailer>().received.toList()
+        assertEquals(producers * perProducer, received.size)
+        received.groupBy { it.producer }.values.forEach { events ->
+            assertEquals((0 until perProducer).map { 100 + it }, events.map { it.orderId })
+        }
+        container.close()
+    }
+
+    @Test
+    @DisplayName("동기 구독자의 예외는 발행자에게 전달되고, 비동기 구독자의 예외는 기록 후 다음 이벤트를 계속 처리한다")
+    fun `subscriber failures should be isolated by delivery mode`() {
+        // given
+        val container = ReflectionContainer("com.example.fixture.event", verbose = false)
+        val orders = container.getBean<OrderService>()
+
+        // when / then: 동기 구독자(OrderAudit)의 예외
+        assertThrows(IllegalArgumentException::class.java) { orders.cancel(-1) }
+
+        // when: 비동기 구독자(OrderMailer)의 예외
+        orders.place(OrderMailer.FAILING_ORDER)
+        orders.place(14)
+        assertTrue(container.eventBus.awaitIdle(5_000))
+
+        // then
+        assertEquals(listOf(14), container.getBean<OrderMailer>().received.map { it.orderId })
+        assertEquals(1, container.eventBus.stats().failed)
+        container.close()
+    }
+
+    @Test
+    @DisplayName("자식 컨테이너가 생성한 구독자는 이벤트를 받고, 자식을 닫으면 구독이 해제된다")
+    fun `child created subscriber should receive events until the child is closed`() {
+        // given: JobAudit을 테넌트 설정과 함께 자식 안에서 다시 생성
+        val parent = ReflectionContainer("com.example.fixture.tenantjob", verbose = false)
+        val child = parent.createChild("acme") {
+            instance(FixedJobConfig("acme"))
+            component(JobAudit::class)
+        }
+        val childAudit = child.getBean<JobAudit>()
+        val parentAudit = parent.getBean<JobAudit>()
+        assertNotSame(parentAudit, childAudit)
+
+        // when: 부모의 버스로 발행
+        parent.eventBus.publish(JobSubmitted("acme", 1))
+        parent.eventBus.publish(JobSubmitted("default", 2))
+
+        // then: 부모 / 자식의 구독자가 각자 자기 테넌트의 이벤트를 받음
+        assertEquals(listOf(1), childAudit.seen)
+        assertEquals(listOf(2), parentAudit.seen)
+
+        // when: 자식을 닫은 뒤 발행
+        child.close()
+        parent.eventBus.publish(JobSubmitted("acme", 3))
+        parent.eventBus.publish(JobSubmitted("default", 4))
+
+        // then: 닫힌 자식의 구독자는 더 이상 받지 않음
+        assertEquals(listOf(1), childAudit.seen)
+        assertEquals(listOf(2, 4), parentAudit.seen)
+        assertEquals(1, parent.eventBus.subscribers().size)
+        parent.close()
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.reflection.outbox
+
+import com.example.reflection.notification.DispatcherOptions
+import com.example.reflection.notification.NotificationDispatcher
+import com.example.reflection.notification.StubNotificationSink
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.io.File
+import java.nio.file.Files
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * 알림 outbox 테스트
+ *
+ * - append는 게이트웨이 지연을 기다리지 않고, 릴레이가 전달 후 체크포인트를 남김
+ * - 전달 전에 종료되면(프로세스 종료) 다음 시작 때 남은 레코드를 전달, 끊긴 꼬리는 잘라냄
+ * - 읽을 수 없는 체크포인트는 처음부터 다시 전달
+ * - 같은 멱등 키는 재시작 후에도 한 번만 전달
+ * - 계속 실패하는 레코드는 재시도 후 dead letter로 옮기고 다음 레코드로 진행
+ * - 종료 시 전달 대기는 closeTimeoutMillis에서 끝나고, 로그는 릴레이가 끝난 뒤 닫힘
+ *
+ * 디스패처는 기본 설정(워커 2개)이므로 배치끼리 순서가 바뀔 수 있음 - 전달 순서는 보장하지 않으므로 내용만 비교
+ */
+class NotificationOutboxTest {
+
+    private val directory: File = Files.createTempDirectory("outbox-test").toFile()
+    private val closeables = mutableListOf<AutoCloseable>()
+
+    @AfterEach
+    fun tearDown() {
+        closeables.asReversed().forEach { it.close() }
+        directory.deleteRecursively()
+    }
+
+    private fun open(sink: StubNotificationSink, options: OutboxOptions = OutboxOptions(directory)): NotificationOutbox {
+        val dispatcher = NotificationDispatcher(sink, DispatcherOptions(lingerMillis = 1)).also { closeables.add(it) }
+        return NotificationOutbox(dispatcher, options).also { closeables.add(it) }
+    }
+
+    private fun awaitPending(outbox: NotificationOutbox, expected: Long) {
+        val deadline = System.nanoTime() + 2_000_000_000L
+        while (outbox.stats().pending != expected && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000)
+        }
+        assertEquals(expected, outbox.stats().pending)
+    }
+
+    @Test
+    @DisplayName("append는 게이트웨이 전송을 기다리지 않고, 릴레이가 전달한 뒤 체크포인트를 남긴다")
+    fun `append should return before delivery and relay should checkpoint`() {
+        // given: 열어 줄 때까지 멈춰 있는 게이트웨이
+        val gate = CountDownLatch(1)
+        val sink = StubNotificationSink(gate = gate)
+        val outbox = open(sink)
+
+        // when: 게이트웨이가 멈춘 동안 append
+        val records = (1..10).map { outbox.append("welcome:$it", "환영합니다 $it") }
+
+        // then: 하나도 전달되지 않았어도 append는 모두 반환됨
+        assertEquals((1L..10L).toList(), records.map { it.sequence })
+        assertEquals(0, outbox.stats().delivered)
+        assertEquals(10, outbox.stats().pending)
+
+        // when: 게이트웨이가 풀리면
+        gate.countDown()
+
+        // then
+        awaitPending(outbox, 0)
+        assertEquals((1..10).map { "환영합니다 $it" }.toSet(), sink.messages.toSet())
+        assertEquals(10, sink.messages.size)
+        assertEquals(10, outbox.stats().delivered)
+    }
+
+    @Test
+    @DisplayName("전달 전에 종료되면 다음 시작 때 남은 레코드를 전달하고, append 도중 끊긴 꼬리는 잘라낸다")
+    fun `undelivered records should survive restart`() {
+        // given: 게이트웨이 장애 중에 기록된 알림 3건
+        val broken = StubNotificationSink(failing = true)
+        val first = open(broken)
+        (1..3).forEach { first.append("welcome:$it", "환영합니다 $it") }
+        first.close()
+        // append 도중 죽은 것처럼 반쯤 쓰인 레코드
+        File(directory, "outbox.log").appendBytes(byteArrayOf(0, 0, 0, 40, 1, 2, 3))
+
+        // when: 게이트웨이가 복구된 뒤 다시 시작
+        val sink = StubNotificationSink()
+        val restarted = open(sink)
+
+        // then
+        awaitPending(restarted, 0)
+        assertEquals(setOf("환영합니다 1", "환영합니다 2", "환영합니다 3"), sink.messages.toSet())
+        assertEquals(3, sink.messages.size)
+        assertEquals(4, restarted.append("welcome:4", "환영합니다 4").sequence)
+    }
+
+    @Test
+    @DisplayName("체크포인트 파일을 읽을 수 없으면 시작은 하고, 로그의 처음부터 다시 전달한다")
+    fun `unreadable checkpoint should fall back to the start of the log`() {
+        // given: 모두 전달되어 체크포인트가 남은 로그
+        val first = open(StubNotificationSink())
+        (1..3).forEach { first.append("welcome:$it", "환영합니다 $it") }
+        awaitPending(first, 0)
+        first.close()
+        // 전원 장애로 이동만 디스크에 남고 내용은 비어 버린 체크포인트
+        File(directory, "outbox.checkpoint").writeText("")
+
+        // when
+        val sink = StubNotificationSink()
+        val restarted = open(sink)
+
+        // then: 예외 없이 시작하고, at-least-once로 다시 전달
+        awaitPending(restarted, 0)
+        assertEquals(setOf("환영합니다 1", "환영합니다 2", "환영합니다 3"), sink.messages.toSet())
+        assertEquals(4, restarted.append("welcome:4", "환영합니다 4").sequence)
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 기록한 알림은 재시작 후에도 한 번만 전달된다")
+    fun `same idempotency key should be delivered once`() {
+        // given
+        val sink = StubNotificationSink()
+        val first = open(sink)
+        first.append("welcome:1", "환영합니다 1")
+        first.append("welcome:1", "환영합니다 1")
+        awaitPending(first, 0)
+        assertEquals(1, first.stats().duplicates)
+        first.close()
+
+        // when: 재시작 후 같은 키로 다시 기록 (예: 등록 요청 재시도)
+        val restarted = open(sink)
+        restarted.append("welcome:1", "환영합니다 1")
+        restarted.append("welcome:2", "환영합니다 2")
+
+        // then
+        awaitPending(restarted, 0)
+        assertEquals(listOf("환영합니다 1", "환영합니다 2"), sink.messages.sorted())
+        assertEquals(1, restarted.stats().duplicates)
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 레코드는 maxAttempts번 재시도한 뒤 dead letter로 옮기고 다음 레코드를 전달한다")
+    fun `poison record should be dead lettered after max attempts`() {
+        // given
+        val sink = StubNotificationSink(failing = true)
+        val outbox = open(sink, OutboxOptions(directory, maxAttempts = 3, initialBackoffMillis = 1))
+
+        // when
+        outbox.append("welcome:1", "환영합니다 1")
+        awaitPending(outbox, 0)
+        sink.failing = false
+        outbox.append("welcome:2", "환영합니다 2")
+
+        // then
+        awaitPending(outbox, 0)
+        val stats = outbox.stats()
+        assertEquals(1, stats.deadLettered)
+        assertEquals(2, stats.retries)
+        assertEquals(listOf("환영합니다 2"), sink.messages)
+        assertEquals("1\twelcome:1\t환영합니다 1", File(directory, "outbox.dead").readText().trim())
+    }
+
+    @Test
+    @DisplayName("종료 시 게이트웨이가 멈춰 있으면 closeTimeoutMillis 뒤 릴레이가 끝나고, 남은 레코드는 다음 시작 때 전달된다")
+    fun `close should stop waiting for delivery at close timeout`() {
+        // given: 멈춘 게이트웨이, 전달 제한 시간(10초)보다 짧은 종료 제한 시간
+        val gate = CountDownLatch(1)
+        val stuck = StubNotificationSink(gate = gate)
+        val first = open(stuck, OutboxOptions(directory, closeTimeoutMillis = 100))
+        first.append("welcome:1", "환영합니다 1")
+        val deadline = System.nanoTime() + 2_000_000_000L
+        while (stuck.calls == 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000)
+        }
+        assertEquals(1, stuck.calls)
+
+        try {
+            // when: 전달을 기다리는 중에 종료
+            first.close()
+
+            // then: 릴레이가 끝나고 로그가 닫혔으므로 같은 디렉터리를 다시 열 수 있고, 레코드는 남아 있음
+            val sink = StubNotificationSink()
+            val restarted = open(sink)
+            awaitPending(restarted, 0)
+            assertEquals(listOf("환영합니다 1"), sink.messages)
+            assertEquals(0, first.stats().delivered)
+        } finally {
+            gate.countDown()
+        }
+    }
+}
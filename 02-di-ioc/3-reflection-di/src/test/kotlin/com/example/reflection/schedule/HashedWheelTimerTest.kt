@@ -0,0 +1,165 @@
+package com.example.reflection.schedule
+
+import com.example.fixture.schedule.AWAITED_RUNS
+import com.example.fixture.schedule.CacheExpiry
+import com.example.fixture.schedule.MetricsFlusher
+import com.example.fixture.tenantjob.FixedJobConfig
+import com.example.fixture.tenantjob.JobPoller
+import com.example.reflection.ReflectionContainer
+import com.example.reflection.getBean
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * 내장 스케줄러(HashedWheelTimer) 테스트
+ *
+ * - 컨테이너가 @Scheduled 메서드를 찾아 주기 작업으로 등록
+ * - 단발 예약 / 취소
+ * - 대량 예약 + 취소
+ * - 주기보다 오래 걸리는 작업의 late fire 집계
+ * - 자식 컨테이너가 생성한 Bean의 주기 작업 등록 / 취소
+ */
+class HashedWheelTimerTest {
+
+    @Test
+    @DisplayName("컨테이너가 @Scheduled 메서드를 fixedRate / fixedDelay 주기로 실행한다")
+    fun `container should run scheduled methods periodically`() {
+        // given
+        val container = ReflectionContainer("com.example.fixture.schedule", verbose = false)
+        val flusher = container.getBean<MetricsFlusher>()
+        val expiry = container.getBean<CacheExpiry>()
+
+        // when: 두 작업이 각각 AWAITED_RUNS번 실행될 때까지 대기
+        assertTrue(flusher.flushed.await(2, TimeUnit.SECONDS)) { "flush 횟수: ${flusher.flushes.get()}" }
+        assertTrue(expiry.swept.await(2, TimeUnit.SECONDS)) { "sweep 횟수: ${expiry.sweeps.get()}" }
+        container.close()
+
+        // then: 실행 통계는 Bean이 센 실행 횟수를 모두 포함 (닫는 순간 시작된 실행은 통계에만 있을 수 있음)
+        val flushes = flusher.flushes.get()
+        val sweeps = expiry.sweeps.get()
+        assertTrue(flushes >= AWAITED_RUNS && sweeps >= AWAITED_RUNS)
+        val stats = container.scheduler.stats()
+        assertTrue(stats.fired >= flushes + sweeps) { "$stats, flush=$flushes, sweep=$sweeps" }
+        assertEquals(0, stats.failed)
+    }
+
+    @Test
+    @DisplayName("취소한 예약은 실행되지 않고, 이미 실행된 예약은 취소할 수 없다")
+    fun `cancelled task should not fire`() {
+        // given
+        val timer = HashedWheelTimer(tickMillis = 5)
+        val fired = CountDownLatch(1)
+        val passed = CountDownLatch(1)
+        val cancelledRuns = AtomicInteger()
+
+        // when: 취소한 예약보다 늦은 시각의 예약이 실행되면 취소한 예약의 칸은 이미 지나감
+        val cancelled = timer.schedule(50) { cancelledRuns.incrementAndGet() }
+        val kept = timer.schedule(20) { fired.countDown() }
+        timer.schedule(100) { passed.countDown() }
+        assertTrue(cancelled.cancel())
+
+        // then
+        assertTrue(fired.await(1, TimeUnit.SECONDS))
+        assertTrue(passed.await(1, TimeUnit.SECONDS))
+        assertEquals(0, cancelledRuns.get())
+        assertFalse(kept.cancel())
+        assertEquals(1, kept.runs)
+        assertFalse(cancelled.cancel())
+        timer.close()
+    }
+
+    @Test
+    @DisplayName("예약 10,000개 중 절반을 취소하면 나머지 절반만 정확히 실행된다")
+    fun `mass schedule and cancel should fire only the remaining tasks`() {
+        // given
+        val timer = HashedWheelTimer(tickMillis = 5, wheelSize = 64)
+        val count = 10_000
+        val done = CountDownLatch(count / 2)
+        val runs = AtomicInteger()
+
+        // when: 0.1~1초 사이에 고르게 흩어진 예약 (휠을 여러 바퀴 도는 예약 포함)
+        val tasks = (0 until count).map { i ->
+            timer.schedule(100L + i % 900) {
+                runs.incrementAndGet()
+                done.countDown()
+            }
+        }
+        tasks.filterIndexed { i, _ -> i % 2 == 1 }.forEach { assertTrue(it.cancel()) }
+
+        // then: 남은 예약이 모두 실행된 시점에 대기 중인 예약이 없으므로 취소한 예약은 더 실행될 수 없음
+        assertTrue(done.await(5, TimeUnit.SECONDS))
+        assertEquals(count / 2, runs.get())
+        assertTrue(tasks.filterIndexed { i, _ -> i % 2 == 1 }.all { it.isCancelled })
+        val stats = timer.stats()
+        assertEquals(count / 2L, stats.fired)
+        assertEquals(count / 2L, stats.cancelled)
+        assertEquals(0, stats.pending)
+        timer.close()
+    }
+
+    @Test
+    @DisplayName("주기보다 오래 걸리는 fixedRate 작업은 겹치지 않고 late fire로 집계된다")
+    fun `slow fixed rate task should be reported as late`() {
+        // given
+        val timer = HashedWheelTimer(tickMillis = 5)
+        val running = AtomicInteger()
+        val overlaps = AtomicInteger()
+        val completed = CountDownLatch(3)
+
+        // when: 10ms 주기인데 실행에 30ms, 세 번 실행될 때까지 대기
+        val task = timer.scheduleAtFixedRate(0, 10) {
+            if (running.incrementAndGet() > 1) overlaps.incrementAndGet()
+            Thread.sleep(30)
+            running.decrementAndGet()
+            completed.countDown()
+        }
+        assertTrue(completed.await(2, TimeUnit.SECONDS))
+        task.cancel()
+        timer.close()
+
+        // then: 두 번째 실행부터는 앞 실행이 끝난 뒤(예정 시각 + 20ms 이상)에 시작됨
+        assertEquals(0, overlaps.get())
+        assertTrue(timer.stats().lateFires >= 2) { timer.stats().toString() }
+        assertTrue(task.maxDriftNanos > TimeUnit.MILLISECONDS.toNanos(20))
+    }
+
+    @Test
+    @DisplayName("자식 컨테이너가 생성한 Bean의 @Scheduled 메서드는 실행되고, 자식을 닫으면 취소된다")
+    fun `child created scheduled bean should run until the child is closed`() {
+        // given: JobPoller를 테넌트 설정과 함께 자식 안에서 다시 생성
+        val parent = ReflectionContainer("com.example.fixture.tenantjob", verbose = false)
+        val child = parent.createChild("acme") {
+            instance(FixedJobConfig("acme"))
+            component(JobPoller::class)
+        }
+        val childPoller = child.getBean<JobPoller>()
+        val parentPoller = parent.getBean<JobPoller>()
+        assertNotSame(parentPoller, childPoller)
+
+        // when / then: 자식의 주기 작업도 부모의 스케줄러에서 실행됨
+        awaitAtLeast(childPoller.polls, 3)
+
+        // when: 자식을 닫고 부모의 작업이 몇 번 더 실행될 때까지 대기
+        child.close()
+        val pollsAtClose = childPoller.polls.get()
+        awaitAtLeast(parentPoller.polls, parentPoller.polls.get() + 3)
+
+        // then: 자식의 작업만 취소됨 (닫는 순간 실행 중이던 한 번은 끝까지 실행될 수 있음)
+        assertTrue(childPoller.polls.get() <= pollsAtClose + 1) { "닫은 뒤 poll 횟수: ${childPoller.polls.get()}" }
+        assertEquals(1, parent.scheduler.stats().cancelled)
+        parent.close()
+    }
+
+    private fun awaitAtLeast(counter: AtomicInteger, expected: Int) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2)
+        while (counter.get() < expected && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000)
+        }
+        assertTrue(counter.get() >= expected) { "기대: $expected 이상, 실제: ${counter.get()}" }
+    }
+}
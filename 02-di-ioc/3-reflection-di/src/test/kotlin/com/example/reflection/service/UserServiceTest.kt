@@ -2,6 +2,7 @@ package com.example.reflection.service
 
 import com.example.reflection.ReflectionContainer
 import com.example.reflection.getBean
+import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.Assertions.*
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -26,6 +27,12 @@ class UserServiceTest {
         userService = container.getBean()
     }
 
+    @AfterEach
+    fun tearDown() {
+        // 알림 outbox 로그 파일 락 해제
+        container.close()
+    }
+
     @Test
     @DisplayName("사용자를 등록하면 ID가 자동 할당된다")
     fun `registerUser should assign id automatically`() {
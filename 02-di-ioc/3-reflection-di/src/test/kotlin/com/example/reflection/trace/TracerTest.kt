@@ -0,0 +1,105 @@
+package com.example.reflection.trace
+
+import com.example.fixture.trace.Checkout
+import com.example.fixture.trace.SlowLedger
+import com.example.reflection.ReflectionContainer
+import com.example.reflection.getBean
+import com.example.reflection.proxy.ProxyBeanPostProcessor
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+/**
+ * span 트레이싱 테스트
+ *
+ * - 프록시 호출이 부모/자식 span으로 기록되고 경로별로 합쳐짐
+ * - 샘플링은 트레이스 단위 (기록하지 않은 트레이스의 자식은 기록하지 않음)
+ * - 저장소는 capacity를 넘으면 오래된 span을 덮어씀
+ */
+class TracerTest {
+
+    private fun container(tracer: Tracer) = ReflectionContainer(
+        "com.example.fixture.trace",
+        verbose = false,
+        beanPostProcessors = listOf(ProxyBeanPostProcessor(listOf(tracer.advisor())))
+    )
+
+    @Test
+    @DisplayName("서비스 -> 저장소 -> 알림 호출이 호출 트리와 collapsed stack으로 내보내진다")
+    fun `nested calls should be exported as call tree and collapsed stacks`() {
+        // given
+        val tracer = Tracer(TracingOptions(sampleRate = 1.0))
+        container(tracer).use { container ->
+            val checkout = container.getBean<Checkout>()
+
+            // when
+            repeat(3) { checkout.checkout(it.toLong()) }
+        }
+
+        // then: 느린 쪽(Ledger.record)이 checkout 시간의 대부분
+        val tree = tracer.callTree()
+        val root = tree.find("Checkout.checkout")!!
+        val ledger = tree.find("Checkout.checkout", "Ledger.record")!!
+        val mailer = tree.find("Checkout.checkout", "Mailer.send")!!
+        assertEquals(3, root.count)
+        assertEquals(3, ledger.count)
+        assertEquals(3, mailer.count)
+        assertTrue(ledger.totalNanos >= 3 * SlowLedger.LEDGER_MILLIS * 1_000_000)
+        assertTrue(ledger.totalNanos > root.totalNanos * 9 / 10) { "ledger ${ledger.totalNanos} / checkout ${root.totalNanos}" }
+
+        val stacks = tree.toCollapsedStacks().lines().filter { it.isNotEmpty() }
+        assertTrue(stacks.any { it.startsWith("Checkout.checkout;Ledger.record ") }) { stacks.joinToString("\n") }
+        assertTrue(stacks.all { it.substringAfterLast(' ').toLong() > 0 })
+        assertEquals(Tracer.Stats(traces = 3, sampledTraces = 3, spans = 9, overwritten = 0), tracer.stats())
+    }
+
+    @Test
+    @DisplayName("샘플링은 트레이스 단위 - 기록한 트레이스는 자식까지 모두, 기록하지 않은 트레이스는 자식도 건너뛴다")
+    fun `sampling should keep or drop whole traces`() {
+        // given
+        val tracer = Tracer(TracingOptions(sampleRate = 0.5))
+
+        // when: 루트 1,000개, 각각 자식 2개
+        repeat(1_000) {
+            tracer.inSpan("root") {
+                tracer.inSpan("child") {}
+                tracer.inSpan("child") {}
+            }
+        }
+
+        // then
+        val stats = tracer.stats()
+        assertEquals(1_000, stats.traces)
+        assertTrue(stats.sampledTraces in 350..650) { "sampled ${stats.sampledTraces}" }
+        assertEquals(stats.sampledTraces * 3, stats.spans)
+        val spans = tracer.store.snapshot()
+        assertTrue(spans.filter { it.name == "child" }.all { it.parent?.name == "root" })
+    }
+
+    @Test
+    @DisplayName("sampleRate 0이면 아무것도 기록하지 않는다")
+    fun `zero sample rate should record nothing`() {
+        val tracer = Tracer(TracingOptions(sampleRate = 0.0))
+
+        repeat(100) { tracer.inSpan("root") { tracer.inSpan("child") {} } }
+
+        assertEquals(Tracer.Stats(traces = 100, sampledTraces = 0, spans = 0, overwritten = 0), tracer.stats())
+        assertTrue(tracer.callTree().roots.isEmpty())
+    }
+
+    @Test
+    @DisplayName("저장소는 capacity를 넘으면 오래된 span을 덮어쓰고, 부모가 밀려나도 경로는 유지된다")
+    fun `store should be bounded and keep paths of evicted parents`() {
+        // given
+        val tracer = Tracer(TracingOptions(sampleRate = 1.0, capacity = 8))
+
+        // when: 한 루트 아래 자식 20개 (루트는 마지막에 기록)
+        tracer.inSpan("root") { repeat(20) { tracer.inSpan("child") {} } }
+
+        // then
+        assertEquals(8, tracer.store.snapshot().size)
+        assertEquals(21 - 8L, tracer.stats().overwritten)
+        val child = tracer.callTree().find("root", "child")!!
+        assertEquals(7, child.count)
+    }
+}
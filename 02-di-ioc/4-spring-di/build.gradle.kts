@@ -25,4 +25,10 @@ kotlin {
 
 tasks.test {
     useJUnitPlatform()
+    // 가상 스레드가 캐리어에 고정(pinning)되면 스택 출력 (JDK 21 이상, 그 이하에서는 무시됨)
+    jvmArgs("-Djdk.tracePinnedThreads=full")
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    jvmArgs("-Djdk.tracePinnedThreads=full")
 }
@@ -1,10 +1,22 @@
 package com.example.spring
 
+import com.example.spring.load.LoadGenerator
+import com.example.spring.load.LoadOptions
+import com.example.spring.load.LoadTarget
+import com.example.spring.model.User
+import com.example.spring.notification.FanOutNotificationService
+import com.example.spring.notification.NotificationCoalescer
+import com.example.spring.notification.NotificationDispatcher
+import com.example.spring.repository.UserRepository
 import com.example.spring.service.UserService
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.boot.CommandLineRunner
 import org.springframework.boot.autoconfigure.SpringBootApplication
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
 import org.springframework.boot.runApplication
 import org.springframework.context.annotation.Bean
+import java.io.OutputStream
+import java.io.PrintStream
 
 /**
  * Level 4: Spring Framework
@@ -25,7 +37,13 @@ import org.springframework.context.annotation.Bean
 class SpringDiApplication {
 
     @Bean
-    fun demo(userService: UserService) = CommandLineRunner {
+    @ConditionalOnProperty(name = ["load.enabled"], havingValue = "false", matchIfMissing = true)
+    fun demo(
+        userService: UserService,
+        notificationDispatcher: NotificationDispatcher,
+        notificationService: FanOutNotificationService,
+        notificationCoalescer: NotificationCoalescer
+    ) = CommandLineRunner {
         println("=" * 60)
         println("Level 4: Spring Framework")
         println("=" * 60)
@@ -44,6 +62,12 @@ class SpringDiApplication {
         // 조회
         println("등록된 사용자: ${userService.getAllUsers().size}명")
 
+        // 알림은 백그라운드에서 배치로 전송됨
+        notificationDispatcher.flush(1_000)
+        println("알림: ${notificationDispatcher.stats()}")
+        println("  병합: ${notificationCoalescer.stats()}")
+        notificationService.stats().forEach { println("  채널: $it") }
+
         println()
         println("=" * 60)
         println("Spring의 추가 기능")
@@ -68,6 +92,63 @@ class SpringDiApplication {
         println("Level 4: Spring 완전한 기능 (프로덕션 ready)")
         println("=" * 60)
     }
+
+    /**
+     * load.enabled=true면 데모 대신 고정 도착률 부하 (조회 = getUser, 쓰기 = registerUser)
+     *
+     * load.quiet=true면 부하 중 System.out / System.err 출력을 버리고 끝난 뒤 보고서만 출력
+     * (호출마다 찍는 로그가 콘솔 I/O로 측정을 덮어 버리므로)
+     */
+    @Bean
+    @ConditionalOnProperty(name = ["load.enabled"], havingValue = "true")
+    fun load(
+        userService: UserService,
+        userRepository: UserRepository,
+        loadOptions: LoadOptions,
+        @Value("\${load.quiet:true}") quiet: Boolean,
+        notificationDispatcher: NotificationDispatcher,
+        notificationService: FanOutNotificationService,
+        notificationCoalescer: NotificationCoalescer
+    ) = CommandLineRunner {
+        println("=" * 60)
+        println("Level 4: 부하 생성 - $loadOptions")
+        println("=" * 60)
+
+        val target = object : LoadTarget {
+            override fun read(userId: Long) {
+                userService.getUser(userId)
+            }
+
+            override fun write(userId: Long) {
+                userService.registerUser("Load User", "load-$userId@example.com")
+            }
+        }
+
+        val out = System.out
+        val err = System.err
+        if (quiet) {
+            val discard = PrintStream(OutputStream.nullOutputStream())
+            System.setOut(discard)
+            System.setErr(discard)
+        }
+        val report = try {
+            // 조회할 ID 1 ~ users를 미리 채움 (서비스를 거치지 않으므로 알림 없음)
+            for (i in userRepository.findAll().size + 1..loadOptions.users) {
+                userRepository.save(User(name = "User $i", email = "user$i@example.com"))
+            }
+            LoadGenerator(loadOptions).run(target)
+        } finally {
+            System.setOut(out)
+            System.setErr(err)
+        }
+
+        report.print()
+        notificationDispatcher.flush(1_000)
+        println("알림: ${notificationDispatcher.stats()}")
+        println("  병합: ${notificationCoalescer.stats()}")
+        notificationService.stats().forEach { println("  채널: $it") }
+        println("=" * 60)
+    }
 }
 
 fun main(args: Array<String>) {
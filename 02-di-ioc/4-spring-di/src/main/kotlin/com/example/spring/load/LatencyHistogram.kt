@@ -0,0 +1,63 @@
+package com.example.spring.load
+
+import java.util.concurrent.atomic.AtomicLongArray
+import kotlin.math.ceil
+
+/**
+ * 지연 히스토그램 (로그-선형 구간, 락 없음)
+ *
+ * 값을 약 1us(1024ns) 단위로 바꾼 뒤 2의 거듭제곱 구간마다 8칸으로 나눔 (HdrHistogram과 같은 방식)
+ * - 8us 미만은 1us 단위로 정확하고, 그 위는 상대 오차 12.5% 이하
+ * - 320칸으로 약 1us ~ 수 시간을 덮음
+ * 기록은 칸 번호 계산(비트 연산) + AtomicLongArray 증가 한 번
+ */
+internal class LatencyHistogram {
+
+    private val counts = AtomicLongArray(BUCKETS)
+
+    fun record(nanos: Long) {
+        counts.getAndIncrement(index(nanos))
+    }
+
+    fun snapshot(): LongArray = LongArray(BUCKETS) { counts.get(it) }
+
+    companion object {
+        private const val SUB_BITS = 3
+        const val SUB_COUNT = 1 shl SUB_BITS
+        const val BUCKETS = 320
+
+        fun index(nanos: Long): Int {
+            val units = maxOf(0L, nanos shr 10)
+            if (units < SUB_COUNT) return units.toInt()
+            val exponent = 63 - units.countLeadingZeroBits()
+            val sub = (units ushr (exponent - SUB_BITS)).toInt() and (SUB_COUNT - 1)
+            return minOf(BUCKETS - 1, (exponent - SUB_BITS + 1) * SUB_COUNT + sub)
+        }
+
+        /**
+         * 칸의 상한 (ns, 이 칸의 값은 모두 이보다 작음)
+         */
+        fun upperBound(index: Int): Long {
+            if (index < SUB_COUNT) return (index + 1).toLong() shl 10
+            val exponent = index / SUB_COUNT + SUB_BITS - 1
+            val sub = index % SUB_COUNT
+            return ((SUB_COUNT + sub + 1).toLong() shl (exponent - SUB_BITS)) shl 10
+        }
+
+        /**
+         * 백분위수 (칸의 상한으로 보고하므로 실제 값보다 약간 크게 나옴)
+         *
+         * @return ns, 기록이 없으면 0
+         */
+        fun percentile(counts: LongArray, total: Long, percentile: Double): Long {
+            if (total == 0L) return 0
+            val rank = maxOf(1L, ceil(percentile / 100.0 * total).toLong())
+            var seen = 0L
+            counts.forEachIndexed { i, n ->
+                seen += n
+                if (seen >= rank) return upperBound(i)
+            }
+            return upperBound(counts.size - 1)
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.spring.load
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+
+/**
+ * 부하 생성 모드 설정
+ *
+ * Level 4 (Spring):
+ * - load.enabled=true일 때만 등록됨 (@ConditionalOnProperty) - 이때 데모 대신 부하 생성 러너가 실행됨
+ * - 설정 값은 application.properties의 load.*에서 주입 (@Value)
+ *   ./gradlew bootRun --args='--load.enabled=true --load.rate-per-second=2000'
+ */
+@Configuration
+@ConditionalOnProperty(name = ["load.enabled"], havingValue = "true")
+class LoadConfig {
+
+    @Bean
+    fun loadOptions(
+        @Value("\${load.rate-per-second:500}") ratePerSecond: Double,
+        @Value("\${load.duration-seconds:10}") durationSeconds: Long,
+        @Value("\${load.warmup-seconds:2}") warmupSeconds: Long,
+        @Value("\${load.read-ratio:0.9}") readRatio: Double,
+        @Value("\${load.users:1000}") users: Int,
+        @Value("\${load.zipf-exponent:1.0}") zipfExponent: Double,
+        @Value("\${load.threads:16}") threads: Int,
+        @Value("\${load.virtual-threads:false}") virtualThreads: Boolean
+    ): LoadOptions {
+        return LoadOptions(ratePerSecond, durationSeconds, warmupSeconds, readRatio, users, zipfExponent, threads, virtualThreads)
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.spring.load
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * 부하 생성 설정
+ *
+ * @property ratePerSecond 초당 요청 수 (응답 속도와 관계없이 이 간격으로 요청을 보냄)
+ * @property durationSeconds 측정 구간 길이
+ * @property warmupSeconds 측정 전에 같은 속도로 보내고 버리는 구간 (JIT 컴파일, 캐시 채우기)
+ * @property readRatio 조회 비율 (0 ~ 1, 나머지는 쓰기)
+ * @property users 요청에 쓰는 사용자 ID 범위 (1 ~ users)
+ * @property zipfExponent ID 쏠림 정도 (0이면 균등, 클수록 소수의 ID에 몰림)
+ * @property threads 요청을 실행하는 플랫폼 스레드 수 (가상 스레드를 쓰면 무시)
+ * @property virtualThreads 요청마다 가상 스레드 하나로 실행 (JDK 21 미만이면 플랫폼 스레드로 대체)
+ */
+data class LoadOptions(
+    val ratePerSecond: Double = 500.0,
+    val durationSeconds: Long = 10,
+    val warmupSeconds: Long = 2,
+    val readRatio: Double = 0.9,
+    val users: Int = 1_000,
+    val zipfExponent: Double = 1.0,
+    val threads: Int = 16,
+    val virtualThreads: Boolean = false
+) {
+    init {
+        require(ratePerSecond > 0 && durationSeconds > 0 && warmupSeconds >= 0) {
+            "ratePerSecond > 0, durationSeconds > 0, warmupSeconds >= 0 이어야 합니다: $this"
+        }
+        require(readRatio in 0.0..1.0 && users > 0 && threads > 0) {
+            "0 <= readRatio <= 1, users > 0, threads > 0 이어야 합니다: $this"
+        }
+    }
+}
+
+/**
+ * 부하를 받는 대상 (예: UserService 호출로 연결)
+ *
+ * 예외를 던지면 실패로 집계함 (예외 종류별 개수는 보고서에 나옴)
+ */
+interface LoadTarget {
+
+    /** 조회 요청 (userId: Zipf 분포로 뽑은 사용자 ID) */
+    fun read(userId: Long)
+
+    /** 쓰기 요청 (userId: Zipf 분포로 뽑은 사용자 ID, 요청을 보내는 호출자) */
+    fun write(userId: Long)
+}
+
+/**
+ * 부하 생성기가 읽는 시계와 다음 요청 시각까지의 대기
+ *
+ * 테스트는 가짜 시계로 바꿔 시간을 직접 진행시킴 (실제 시간에 기대는 단언 없이 응답 시간을 검증)
+ */
+internal interface LoadClock {
+
+    fun nanoTime(): Long
+
+    /** 최대 nanos만큼 기다림 (일찍 깨어날 수 있으므로 호출자는 시각을 다시 확인) */
+    fun parkNanos(nanos: Long)
+
+    companion object {
+        val SYSTEM = object : LoadClock {
+            override fun nanoTime() = System.nanoTime()
+            override fun parkNanos(nanos: Long) = LockSupport.parkNanos(nanos)
+        }
+    }
+}
+
+/**
+ * 고정 도착률(open-loop) 부하 생성기
+ *
+ * 생성기 스레드는 i번째 요청을 정확히 start + i / ratePerSecond 시각에 실행기로 넘기고,
+ * 응답을 기다리지 않고 다음 요청 시각까지 잠 - 서비스가 느려져도 요청 속도가 줄지 않으므로
+ * 실제 사용자가 몰리는 상황처럼 실행 대기열이 쌓임
+ *
+ * 응답 시간은 실제 시작 시각이 아니라 의도한 시작 시각부터 잼 (coordinated omission 보정)
+ * 응답을 기다렸다가 다음 요청을 보내는 방식(closed-loop)은 서비스가 멈춘 동안 요청도 멈춰서
+ * 멈춘 시간이 요청 한 건에만 기록되고 p99가 실제보다 훨씬 좋게 나옴
+ *
+ * 요청마다 readRatio 확률로 조회, 나머지는 쓰기이고 ID는 Zipf 분포로 뽑음
+ */
+class LoadGenerator internal constructor(
+    private val options: LoadOptions,
+    private val clock: LoadClock,
+    private val executorOverride: ExecutorService?
+) {
+
+    constructor(options: LoadOptions) : this(options, LoadClock.SYSTEM, null)
+
+    private val ids = ZipfDistribution(options.users, options.zipfExponent)
+
+    /**
+     * 워밍업 + 측정 구간 동안 요청을 보내고, 보낸 요청이 모두 끝날 때까지 (최대 30초) 기다린 뒤 보고서를 만듦
+     */
+    fun run(target: LoadTarget): LoadReport {
+        val reads = Recorder("read")
+        val writes = Recorder("write")
+        val lastCompletion = AtomicLong()
+        val outstanding = AtomicLong()
+
+        val virtualExecutor = if (executorOverride == null && options.virtualThreads) newVirtualThreadExecutor() else null
+        val executorName = when {
+            executorOverride != null -> "주입된 실행기"
+            virtualExecutor != null -> "가상 스레드"
+            options.virtualThreads -> "플랫폼 스레드 ${options.threads}개 (이 JVM은 가상 스레드 미지원: ${Runtime.version()})"
+            else -> "플랫폼 스레드 ${options.threads}개"
+        }
+        val executor = executorOverride ?: virtualExecutor ?: newPlatformExecutor()
+
+        val nanosPerRequest = 1e9 / options.ratePerSecond
+        val start = clock.nanoTime()
+        val measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds)
+        val end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds)
+        var maxLag = 0L
+        try {
+            var i = 0L
+            while (true) {
+                val intended = start + (i++ * nanosPerRequest).toLong()
+                if (intended >= end) break
+                while (true) {
+                    val wait = intended - clock.nanoTime()
+                    if (wait <= 0) break
+                    clock.parkNanos(wait)
+                }
+                maxLag = maxOf(maxLag, clock.nanoTime() - intended)
+
+                val random = ThreadLocalRandom.current()
+                val read = random.nextDouble() < options.readRatio
+                val userId = ids.sample(random.nextDouble()).toLong()
+                val recorder = if (intended < measureFrom) null else if (read) reads else writes
+                outstanding.incrementAndGet()
+                executor.execute {
+                    val started = clock.nanoTime()
+                    val error = try {
+                        if (read) target.read(userId) else target.write(userId)
+                        null
+                    } catch (e: Exception) {
+                        e
+                    }
+                    val finished = clock.nanoTime()
+                    if (recorder != null) {
+                        recorder.record(finished - intended, finished - started, error)
+                        lastCompletion.accumulateAndGet(finished, ::maxOf)
+                    }
+                    outstanding.decrementAndGet()
+                }
+            }
+        } finally {
+            executor.shutdown()
+        }
+        if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow()
+        }
+
+        val measured = reads.count.sum() + writes.count.sum()
+        val elapsedSeconds = (maxOf(end, lastCompletion.get()) - measureFrom) / 1e9
+        return LoadReport(
+            options = options,
+            executor = executorName,
+            completedPerSecond = measured / elapsedSeconds,
+            maxSchedulerLagMillis = maxLag / 1e6,
+            incomplete = outstanding.get(),
+            operations = listOf(reads.report(), writes.report())
+        )
+    }
+
+    private fun newPlatformExecutor(): ExecutorService {
+        val sequence = AtomicInteger()
+        return Executors.newFixedThreadPool(options.threads) { task ->
+            Thread(task, "load-${sequence.incrementAndGet()}").apply { isDaemon = true }
+        }
+    }
+
+    /**
+     * 요청 종류 하나의 측정값 (여러 실행 스레드가 동시에 기록)
+     */
+    private class Recorder(val name: String) {
+        val response = LatencyHistogram()
+        val service = LatencyHistogram()
+        val maxResponse = AtomicLong()
+        val maxService = AtomicLong()
+        val count = LongAdder()
+        val errors = LongAdder()
+        val errorTypes = ConcurrentHashMap<String, LongAdder>()
+
+        fun record(responseNanos: Long, serviceNanos: Long, error: Exception?) {
+            response.record(responseNanos)
+            service.record(serviceNanos)
+            maxResponse.accumulateAndGet(responseNanos, ::maxOf)
+            maxService.accumulateAndGet(serviceNanos, ::maxOf)
+            count.increment()
+            if (error != null) {
+                errors.increment()
+                errorTypes.computeIfAbsent(error.javaClass.simpleName) { LongAdder() }.increment()
+            }
+        }
+
+        fun report(): LoadReport.OperationReport {
+            val total = count.sum()
+            val responseCounts = response.snapshot()
+            return LoadReport.OperationReport(
+                name = name,
+                count = total,
+                errors = errors.sum(),
+                errorTypes = errorTypes.mapValues { it.value.sum() }.toSortedMap(),
+                response = percentiles(responseCounts, total, maxResponse.get()),
+                service = percentiles(service.snapshot(), total, maxService.get()),
+                histogram = bins(responseCounts)
+            )
+        }
+
+        /**
+         * 칸 상한으로 보고하는 백분위수가 실제 최댓값을 넘지 않도록 max로 자름
+         */
+        private fun percentiles(counts: LongArray, total: Long, max: Long): LoadReport.Percentiles {
+            fun at(percentile: Double) = minOf(max, LatencyHistogram.percentile(counts, total, percentile)) / 1e6
+            return LoadReport.Percentiles(at(50.0), at(90.0), at(99.0), at(99.9), max / 1e6)
+        }
+
+        /**
+         * 8칸(2배 구간)씩 묶어 첫 기록 구간부터 마지막 기록 구간까지
+         */
+        private fun bins(counts: LongArray): List<LoadReport.Bin> {
+            val octave = LatencyHistogram.SUB_COUNT
+            val used = counts.indices.filter { counts[it] > 0 }.map { it / octave }
+            if (used.isEmpty()) return emptyList()
+            return (used.first()..used.last()).map { o ->
+                val from = if (o == 0) 0L else LatencyHistogram.upperBound(o * octave - 1)
+                val to = LatencyHistogram.upperBound((o + 1) * octave - 1)
+                LoadReport.Bin(from / 1e6, to / 1e6, (o * octave until (o + 1) * octave).sumOf { counts[it] })
+            }
+        }
+    }
+
+    companion object {
+        private const val DRAIN_TIMEOUT_SECONDS = 30L
+
+        /**
+         * Executors.newVirtualThreadPerTaskExecutor()를 리플렉션으로 호출 (JDK 17로 컴파일하므로)
+         *
+         * @return 가상 스레드를 지원하지 않는 JVM이면 null
+         */
+        private fun newVirtualThreadExecutor(): ExecutorService? = try {
+            Executors::class.java.getMethod("newVirtualThreadPerTaskExecutor").invoke(null) as ExecutorService
+        } catch (e: ReflectiveOperationException) {
+            // JDK 17: 메서드 없음, JDK 19/20: --enable-preview 없이 호출하면 UnsupportedOperationException
+            null
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.spring.load
+
+import kotlin.math.roundToInt
+
+/**
+ * 부하 생성 결과
+ *
+ * 응답 시간은 요청을 "보냈어야 하는" 시각(의도한 시작 시각)부터 잼
+ * 서비스가 느려져 요청이 실행 대기열에 쌓이면 그 대기 시간도 응답 시간에 들어가므로
+ * 느린 구간의 요청이 적게 기록되는 문제(coordinated omission)가 없음
+ * 서비스 시간은 실제로 실행을 시작한 시각부터 잰 값이라, 둘의 차이가 곧 대기열에서 기다린 시간
+ *
+ * @property executor 요청을 실행한 방식 (예: "플랫폼 스레드 16개", "가상 스레드")
+ * @property completedPerSecond 측정 구간 요청이 실제로 처리된 속도 (목표보다 낮으면 서비스가 따라가지 못한 것)
+ * @property maxSchedulerLagMillis 생성기 자신이 의도한 시각보다 늦게 요청을 보낸 최대 시간 (크면 생성기 스레드가 밀린 것)
+ * @property incomplete 종료 대기 시간 안에 끝나지 않은 요청 수 (백분위수에 포함되지 않음)
+ */
+data class LoadReport(
+    val options: LoadOptions,
+    val executor: String,
+    val completedPerSecond: Double,
+    val maxSchedulerLagMillis: Double,
+    val incomplete: Long,
+    val operations: List<OperationReport>
+) {
+
+    /**
+     * @property response 의도한 시작 시각 기준 응답 시간
+     * @property service 실제 시작 시각 기준 서비스 시간
+     * @property errorTypes 예외 클래스 이름별 실패 수
+     * @property histogram 응답 시간 분포 (2배 간격, 비어 있는 앞뒤 구간은 빠짐)
+     */
+    data class OperationReport(
+        val name: String,
+        val count: Long,
+        val errors: Long,
+        val errorTypes: Map<String, Long>,
+        val response: Percentiles,
+        val service: Percentiles,
+        val histogram: List<Bin>
+    )
+
+    data class Percentiles(
+        val p50Millis: Double,
+        val p90Millis: Double,
+        val p99Millis: Double,
+        val p999Millis: Double,
+        val maxMillis: Double
+    ) {
+        override fun toString() =
+            "p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms".format(p50Millis, p90Millis, p99Millis, p999Millis, maxMillis)
+    }
+
+    /** 응답 시간이 fromMillis 이상 toMillis 미만인 요청 수 */
+    data class Bin(val fromMillis: Double, val toMillis: Double, val count: Long)
+
+    fun print() {
+        println(
+            "[부하] 목표 %.1f/s, 처리 %.1f/s, 측정 %d초 (워밍업 %d초), 조회 %.0f%%, 사용자 ID 1~%d (zipf %.2f), %s".format(
+                options.ratePerSecond, completedPerSecond, options.durationSeconds, options.warmupSeconds,
+                options.readRatio * 100, options.users, options.zipfExponent, executor
+            )
+        )
+        println("[부하] 생성기 최대 지연 %.2fms, 미완료 %d건".format(maxSchedulerLagMillis, incomplete))
+        for (operation in operations.filter { it.count > 0 }) {
+            val errorTypes = if (operation.errorTypes.isEmpty()) "" else " ${operation.errorTypes}"
+            println("${operation.name}: ${operation.count}건, 실패 ${operation.errors}건$errorTypes")
+            println("  응답 시간(의도한 시작 기준): ${operation.response}")
+            println("  서비스 시간(실제 시작 기준): ${operation.service}")
+            val largest = operation.histogram.maxOf { it.count }
+            for (bin in operation.histogram) {
+                val bar = "#".repeat((40.0 * bin.count / largest).roundToInt())
+                println(
+                    "  %9.3f ~ %9.3fms | %-40s %d (%.1f%%)".format(
+                        bin.fromMillis, bin.toMillis, bar, bin.count, 100.0 * bin.count / operation.count
+                    )
+                )
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.spring.load
+
+import java.util.concurrent.ThreadLocalRandom
+import kotlin.math.pow
+
+/**
+ * Zipf 분포 (순위 k가 뽑힐 확률이 1 / k^exponent 에 비례)
+ *
+ * 소수의 인기 ID에 요청이 몰리는 실제 트래픽을 흉내 냄
+ * - exponent 0: 균등 분포
+ * - exponent 1: n = 1000이면 상위 1%(10개)가 요청의 약 39%를 차지
+ *
+ * 누적 확률표를 한 번 만들어 두고 이진 탐색으로 뽑으므로 한 번 뽑는 데 O(log n), 할당 없음
+ */
+class ZipfDistribution(size: Int, val exponent: Double) {
+
+    init {
+        require(size > 0 && exponent >= 0) { "size > 0, exponent >= 0 이어야 합니다: $size, $exponent" }
+    }
+
+    private val cumulative = DoubleArray(size).also { table ->
+        var sum = 0.0
+        for (rank in 1..size) {
+            sum += 1.0 / rank.toDouble().pow(exponent)
+            table[rank - 1] = sum
+        }
+        for (i in table.indices) table[i] /= sum
+        table[size - 1] = 1.0
+    }
+
+    val size: Int get() = cumulative.size
+
+    /**
+     * @param uniform [0, 1) 균등 난수
+     * @return 1 ~ size 사이의 순위 (1이 가장 자주 뽑힘)
+     */
+    fun sample(uniform: Double = ThreadLocalRandom.current().nextDouble()): Int {
+        val index = cumulative.binarySearch(uniform)
+        // 정확히 같은 값이 없으면 (-(삽입 위치) - 1): 누적 확률이 uniform보다 큰 첫 칸
+        return minOf(cumulative.size, (if (index >= 0) index + 1 else -index - 1) + 1)
+    }
+
+    /**
+     * 순위 rank가 뽑힐 확률
+     */
+    fun probability(rank: Int): Double {
+        require(rank in 1..cumulative.size) { "rank는 1 ~ ${cumulative.size} 이어야 합니다: $rank" }
+        return if (rank == 1) cumulative[0] else cumulative[rank - 1] - cumulative[rank - 2]
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.spring.notification
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * 서킷 브레이커 설정
+ *
+ * @property windowSize 실패율을 계산할 최근 호출 수 (횟수 기반 슬라이딩 윈도)
+ * @property minimumCalls 윈도에 이만큼 기록되기 전에는 열지 않음
+ * @property failureRateThreshold 이 비율 이상 실패하면 OPEN
+ * @property openMillis OPEN 상태를 유지하는 시간 (지나면 HALF_OPEN)
+ * @property halfOpenCalls HALF_OPEN에서 허용하는 시험 호출 수 (모두 성공하면 CLOSED)
+ */
+data class BreakerSettings(
+    val windowSize: Int = 20,
+    val minimumCalls: Int = 10,
+    val failureRateThreshold: Double = 0.5,
+    val openMillis: Long = 5_000,
+    val halfOpenCalls: Int = 3
+)
+
+/**
+ * 서킷 브레이커 (Resilience4j의 횟수 기반 CircuitBreaker와 같은 상태 전이)
+ *
+ * CLOSED --(실패율 >= threshold)--> OPEN --(openMillis 경과)--> HALF_OPEN
+ * HALF_OPEN --(시험 호출 모두 성공)--> CLOSED, HALF_OPEN --(시험 호출 실패)--> OPEN
+ *
+ * 계속 실패하는 채널을 OPEN으로 떼어 내면, 제한 시간까지 기다렸다 실패하는 호출이 없어지고
+ * 채널의 스레드(bulkhead)도 비워 둘 수 있음
+ */
+class CircuitBreaker(
+    private val settings: BreakerSettings = BreakerSettings(),
+    private val clock: () -> Long = System::nanoTime
+) {
+    enum class State { CLOSED, OPEN, HALF_OPEN }
+
+    init {
+        require(settings.windowSize > 0 && settings.minimumCalls in 1..settings.windowSize && settings.halfOpenCalls > 0) {
+            "windowSize > 0, 1 <= minimumCalls <= windowSize, halfOpenCalls > 0 이어야 합니다: $settings"
+        }
+    }
+
+    // 최근 호출 결과 (true = 실패), 링 버퍼
+    private val window = BooleanArray(settings.windowSize)
+    private var recorded = 0
+    private var next = 0
+    private var failures = 0
+
+    private var openedAt = 0L
+    private var trialsStarted = 0
+    private var trialsSucceeded = 0
+
+    @Volatile
+    var state = State.CLOSED
+        private set
+
+    /** OPEN으로 바뀐 횟수 */
+    var openCount = 0L
+        private set
+
+    /**
+     * 호출 허용 여부 (허용되면 결과를 onSuccess / onFailure / release 중 하나로 알려야 함)
+     */
+    @Synchronized
+    fun tryAcquire(): Boolean {
+        if (state == State.OPEN) {
+            if (clock() - openedAt < TimeUnit.MILLISECONDS.toNanos(settings.openMillis)) return false
+            state = State.HALF_OPEN
+            trialsStarted = 0
+            trialsSucceeded = 0
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsStarted >= settings.halfOpenCalls) return false
+            trialsStarted++
+        }
+        return true
+    }
+
+    @Synchronized
+    fun onSuccess() {
+        when (state) {
+            State.CLOSED -> record(failed = false)
+            State.HALF_OPEN -> if (++trialsSucceeded >= settings.halfOpenCalls) close()
+            State.OPEN -> Unit
+        }
+    }
+
+    @Synchronized
+    fun onFailure() {
+        when (state) {
+            State.CLOSED -> {
+                record(failed = true)
+                if (recorded >= settings.minimumCalls && failures >= settings.failureRateThreshold * recorded) open()
+            }
+            State.HALF_OPEN -> open()
+            State.OPEN -> Unit
+        }
+    }
+
+    /**
+     * 호출이 실행되지 않음 (bulkhead 거절 등) - 결과로 세지 않고 HALF_OPEN 시험 기회만 돌려줌
+     */
+    @Synchronized
+    fun release() {
+        if (state == State.HALF_OPEN && trialsStarted > trialsSucceeded) trialsStarted--
+    }
+
+    private fun record(failed: Boolean) {
+        if (recorded == settings.windowSize) {
+            if (window[next]) failures--
+        } else {
+            recorded++
+        }
+        window[next] = failed
+        if (failed) failures++
+        next = (next + 1) % settings.windowSize
+    }
+
+    private fun open() {
+        state = State.OPEN
+        openedAt = clock()
+        openCount++
+    }
+
+    private fun close() {
+        state = State.CLOSED
+        window.fill(false)
+        recorded = 0
+        next = 0
+        failures = 0
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.spring.notification
+
+import org.springframework.stereotype.Component
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.SynchronousQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * 채널별 전송 정책
+ *
+ * @property timeoutMillis 채널 하나의 전송 제한 시간 (넘으면 기다리지 않고 실패로 처리)
+ * @property maxConcurrent 채널별 동시 전송 수 (bulkhead - 채널마다 전용 스레드, 다 차면 거절)
+ * @property minSuccessfulChannels 이 수 이상의 채널에 전송되어야 성공 (못 미치면 예외 - 디스패처가 실패로 집계)
+ */
+data class ChannelPolicy(
+    val timeoutMillis: Long = 200,
+    val maxConcurrent: Int = 8,
+    val minSuccessfulChannels: Int = 1,
+    val breaker: BreakerSettings = BreakerSettings()
+)
+
+/**
+ * 여러 채널로 동시에 보내는 NotificationService
+ *
+ * @Primary로 채널 하나를 고르는 대신 모든 NotificationChannel Bean에 병렬로 전송함
+ * - 제한 시간: 느린 채널은 timeoutMillis에서 끊으므로 전체 지연 <= timeoutMillis (가장 느린 채널이 지연을 정하지 않음)
+ * - bulkhead: 채널마다 maxConcurrent개의 전용 스레드 - 멈춘 채널이 다른 채널의 스레드를 잡아먹지 않음
+ * - 서킷 브레이커: 계속 실패(제한 시간 초과 포함)하는 채널은 OPEN이 되어 호출하지 않고 건너뜀
+ *
+ * 채널 전송은 메시지 배치 단위 (NotificationDispatcher가 모은 배치를 그대로 전달)
+ *
+ * Level 4 (Spring):
+ * - NotificationService 구현체는 이것 하나이므로 @Primary가 필요 없음
+ * - List<NotificationChannel>로 모든 채널 Bean을 주입받음, ChannelPolicy는 NotificationConfig의 @Bean
+ * - AutoCloseable이라 컨텍스트 종료 시 채널 스레드가 정리됨
+ */
+@Component
+class FanOutNotificationService(
+    channels: List<NotificationChannel>,
+    private val policy: ChannelPolicy = ChannelPolicy()
+) : NotificationService, AutoCloseable {
+
+    /**
+     * 채널별 통계
+     *
+     * @property rejected bulkhead가 가득 차서 거절된 호출 수
+     * @property shortCircuited 서킷 브레이커가 OPEN이라 건너뛴 호출 수
+     * @property meanLatencyMillis 제한 시간 안에 끝난 호출(성공 / 실패)의 평균 시간
+     */
+    data class ChannelStats(
+        val channel: String,
+        val state: CircuitBreaker.State,
+        val calls: Long,
+        val succeeded: Long,
+        val failed: Long,
+        val timedOut: Long,
+        val rejected: Long,
+        val shortCircuited: Long,
+        val meanLatencyMillis: Double,
+        val maxLatencyMillis: Double
+    )
+
+    init {
+        require(channels.isNotEmpty()) { "NotificationChannel이 하나 이상 필요합니다" }
+        require(policy.timeoutMillis > 0 && policy.maxConcurrent > 0) {
+            "timeoutMillis, maxConcurrent는 0보다 커야 합니다: $policy"
+        }
+        require(policy.minSuccessfulChannels in 1..channels.size) {
+            "minSuccessfulChannels는 1 이상 채널 수(${channels.size}) 이하여야 합니다: ${policy.minSuccessfulChannels}"
+        }
+    }
+
+    private val lanes = channels.map(::Lane)
+
+    override fun send(message: String) {
+        sendBatch(listOf(message))
+    }
+
+    override fun sendBatch(messages: List<String>) {
+        val results = lanes.map { it.submit(messages) }
+        val delivered = results.count { it.join() }
+        check(delivered >= policy.minSuccessfulChannels) {
+            "알림 전송 실패: ${lanes.size}개 채널 중 ${delivered}개 성공 (최소 ${policy.minSuccessfulChannels}개 필요)"
+        }
+    }
+
+    fun stats(): List<ChannelStats> = lanes.map { it.stats() }
+
+    override fun close() {
+        lanes.forEach { it.pool.shutdownNow() }
+    }
+
+    /**
+     * 채널 하나의 bulkhead + 서킷 브레이커 + 통계
+     */
+    private inner class Lane(private val channel: NotificationChannel) {
+        val breaker = CircuitBreaker(policy.breaker)
+
+        val pool = ThreadPoolExecutor(
+            policy.maxConcurrent, policy.maxConcurrent, 60, TimeUnit.SECONDS, SynchronousQueue(),
+            daemonThreads("channel-${channel.name.lowercase()}-"), ThreadPoolExecutor.AbortPolicy()
+        ).apply { allowCoreThreadTimeOut(true) }
+
+        private val calls = LongAdder()
+        private val succeeded = LongAdder()
+        private val failed = LongAdder()
+        private val timedOut = LongAdder()
+        private val rejected = LongAdder()
+        private val shortCircuited = LongAdder()
+        private val latencySum = LongAdder()
+        private val completed = LongAdder()
+        private val maxLatency = AtomicLong()
+
+        /**
+         * @return 전송되면 true로 완료 (실패 / 제한 시간 초과 / 거절 / 건너뜀이면 false, 예외로 완료되지 않음)
+         */
+        fun submit(messages: List<String>): CompletableFuture<Boolean> {
+            calls.increment()
+            if (!breaker.tryAcquire()) {
+                shortCircuited.increment()
+                return CompletableFuture.completedFuture(false)
+            }
+
+            val start = System.nanoTime()
+            val call = try {
+                CompletableFuture.runAsync({ channel.sendBatch(messages) }, pool)
+            } catch (e: RejectedExecutionException) {
+                rejected.increment()
+                breaker.release()
+                return CompletableFuture.completedFuture(false)
+            }
+
+            return call.orTimeout(policy.timeoutMillis, TimeUnit.MILLISECONDS).handle { _, error ->
+                val cause = if (error is CompletionException) error.cause ?: error else error
+                when (cause) {
+                    null -> {
+                        record(System.nanoTime() - start)
+                        succeeded.increment()
+                        breaker.onSuccess()
+                    }
+                    is TimeoutException -> {
+                        timedOut.increment()
+                        breaker.onFailure()
+                        println("[FanOut] ${channel.name} 제한 시간(${policy.timeoutMillis}ms) 초과")
+                    }
+                    else -> {
+                        record(System.nanoTime() - start)
+                        failed.increment()
+                        breaker.onFailure()
+                        println("[FanOut] ${channel.name} 전송 실패: $cause")
+                    }
+                }
+                cause == null
+            }
+        }
+
+        fun stats(): ChannelStats {
+            val count = completed.sum()
+            return ChannelStats(
+                channel = channel.name,
+                state = breaker.state,
+                calls = calls.sum(),
+                succeeded = succeeded.sum(),
+                failed = failed.sum(),
+                timedOut = timedOut.sum(),
+                rejected = rejected.sum(),
+                shortCircuited = shortCircuited.sum(),
+                meanLatencyMillis = if (count == 0L) 0.0 else latencySum.sum() / 1e6 / count,
+                maxLatencyMillis = maxLatency.get() / 1e6
+            )
+        }
+
+        private fun record(latencyNanos: Long) {
+            completed.increment()
+            latencySum.add(latencyNanos)
+            maxLatency.accumulateAndGet(latencyNanos, ::maxOf)
+        }
+    }
+
+    private fun daemonThreads(prefix: String): ThreadFactory {
+        val counter = AtomicInteger()
+        return ThreadFactory { task -> Thread(task, prefix + counter.incrementAndGet()).apply { isDaemon = true } }
+    }
+}
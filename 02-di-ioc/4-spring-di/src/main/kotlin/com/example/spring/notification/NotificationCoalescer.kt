@@ -0,0 +1,219 @@
+package com.example.spring.notification
+
+import org.springframework.stereotype.Component
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * 병합 / 중복 제거 설정
+ *
+ * @property windowMillis 수신자별 창 길이 (첫 메시지부터 이 시간 동안 같은 수신자의 메시지를 모음)
+ * @property slots 창을 나누는 칸 수 - 만료 시각은 windowMillis / slots 단위로 처리됨
+ * @property maxRecipients 동시에 추적하는 최대 수신자 수 (넘으면 병합 없이 바로 전송)
+ * @property maxMergedMessages 한 요약 알림에 합치는 최대 메시지 수 (차면 창이 끝나기 전에 바로 전송)
+ */
+data class CoalescingOptions(
+    val windowMillis: Long = 1_000,
+    val slots: Int = 20,
+    val maxRecipients: Int = 100_000,
+    val maxMergedMessages: Int = 20
+)
+
+/**
+ * 수신자별 알림 병합 / 중복 제거 (NotificationDispatcher 앞단)
+ *
+ * 대량 가입이나 재시도로 같은 수신자에게 몇 초 안에 알림이 여러 번 가는 것을 줄임
+ * - 창의 첫 메시지는 바로 전송 (평소 지연 없음)
+ * - 창 안에서 같은 메시지가 다시 오면 버림 (중복 제거)
+ * - 창 안에서 다른 메시지가 오면 모았다가 창이 끝날 때 요약 알림 한 건으로 전송 (병합)
+ * → 수신자 하나에 창마다 최대 2건(첫 메시지 + 요약)만 게이트웨이로 나감
+ *
+ * 만료 처리는 시간 칸 링(타이밍 휠): 수신자 항목은 만료될 칸에 들어가고,
+ * 틱 스레드가 칸이 돌아올 때마다 그 칸의 항목만 꺼내 처리함 (전체 수신자를 훑지 않음)
+ */
+@Component
+class NotificationCoalescer(
+    private val notificationDispatcher: NotificationDispatcher,
+    val options: CoalescingOptions
+) : AutoCloseable {
+
+    /**
+     * @property received send 호출 수
+     * @property sent 디스패처로 넘긴 알림 수 (첫 메시지 + 요약 + 추적 한도 초과)
+     * @property deduplicated 창 안의 같은 메시지라서 버린 수
+     * @property merged 요약 알림에 합쳐진 메시지 수
+     * @property saved 줄어든 전송 수 (received - sent, 아직 창에 모여 있는 메시지 제외)
+     * @property overflow 추적 한도를 넘어 병합 없이 보낸 수
+     */
+    data class Stats(
+        val received: Long,
+        val sent: Long,
+        val deduplicated: Long,
+        val merged: Long,
+        val digests: Long,
+        val saved: Long,
+        val overflow: Long,
+        val activeRecipients: Int
+    )
+
+    init {
+        require(options.windowMillis > 0 && options.slots > 0 && options.maxRecipients > 0 && options.maxMergedMessages > 1) {
+            "windowMillis, slots, maxRecipients는 0보다 크고 maxMergedMessages는 1보다 커야 합니다: $options"
+        }
+    }
+
+    /**
+     * 수신자 하나의 창
+     */
+    private class Entry(val recipient: String, val expiresAtTick: Long) {
+        // 창 안에서 본 메시지 (중복 판정)
+        val seen = HashSet<String>()
+        // 요약으로 보낼 메시지
+        val pending = ArrayList<String>()
+    }
+
+    private val tickNanos = maxOf(TimeUnit.MILLISECONDS.toNanos(options.windowMillis) / options.slots, 1)
+
+    // 아래 상태는 lock으로 보호
+    private val lock = Any()
+    private val entries = HashMap<String, Entry>()
+    // 칸 수 = slots + 1: 지금 칸에 넣은 항목이 한 바퀴 돌기 전에 만료 칸에 도착하도록
+    private val wheel = Array(options.slots + 1) { ArrayList<Entry>() }
+    private var currentTick = 0L
+
+    private val startedAt = System.nanoTime()
+
+    @Volatile
+    private var closed = false
+
+    private val received = LongAdder()
+    private val sent = LongAdder()
+    private val deduplicated = LongAdder()
+    private val merged = LongAdder()
+    private val digests = LongAdder()
+    private val overflow = LongAdder()
+
+    private val ticker = Thread(::tickLoop, "notification-coalescer").apply {
+        isDaemon = true
+        start()
+    }
+
+    /**
+     * 수신자에게 알림 (바로 전송되거나, 버려지거나, 요약에 합쳐짐)
+     */
+    fun send(recipient: String, message: String) {
+        check(!closed) { "NotificationCoalescer가 종료되었습니다" }
+        received.increment()
+        var digest: String? = null
+        synchronized(lock) {
+            val entry = entries[recipient]
+            when {
+                entry == null && entries.size >= options.maxRecipients -> overflow.increment()
+                entry == null -> {
+                    val created = Entry(recipient, currentTick + options.slots)
+                    created.seen.add(message)
+                    entries[recipient] = created
+                    wheel[(created.expiresAtTick % wheel.size).toInt()].add(created)
+                }
+                !entry.seen.add(message) -> {
+                    deduplicated.increment()
+                    return
+                }
+                else -> {
+                    entry.pending.add(message)
+                    if (entry.pending.size < options.maxMergedMessages) return
+                    digest = drain(entry)
+                }
+            }
+        }
+        dispatch(digest ?: message)
+    }
+
+    fun stats(): Stats {
+        val receivedCount = received.sum()
+        val sentCount = sent.sum()
+        val (active, waiting) = synchronized(lock) { entries.size to entries.values.sumOf { it.pending.size } }
+        return Stats(
+            received = receivedCount,
+            sent = sentCount,
+            deduplicated = deduplicated.sum(),
+            merged = merged.sum(),
+            digests = digests.sum(),
+            saved = receivedCount - sentCount - waiting,
+            overflow = overflow.sum(),
+            activeRecipients = active
+        )
+    }
+
+    /**
+     * 틱 스레드를 멈추고, 모여 있던 메시지를 요약으로 모두 전송
+     * (의존하는 NotificationDispatcher보다 먼저 종료되므로 디스패처가 남은 요약까지 전송함)
+     */
+    override fun close() {
+        if (closed) return
+        closed = true
+        LockSupport.unpark(ticker)
+        ticker.join(CLOSE_TIMEOUT_MILLIS)
+        val remaining = synchronized(lock) {
+            wheel.forEach { it.clear() }
+            entries.values.mapNotNull(::drain).also { entries.clear() }
+        }
+        remaining.forEach(::dispatch)
+    }
+
+    private fun tickLoop() {
+        while (!closed) {
+            val dueTick = (System.nanoTime() - startedAt) / tickNanos
+            val digests = ArrayList<String>()
+            synchronized(lock) {
+                while (currentTick < dueTick) {
+                    currentTick++
+                    expire(currentTick, digests)
+                }
+            }
+            digests.forEach(::dispatch)
+            LockSupport.parkNanos(startedAt + (dueTick + 1) * tickNanos - System.nanoTime())
+        }
+    }
+
+    /**
+     * tick에 만료되는 칸의 항목 제거 (같은 칸에 있는 다음 바퀴 항목은 남김)
+     */
+    private fun expire(tick: Long, digests: MutableList<String>) {
+        val bucket = wheel[(tick % wheel.size).toInt()]
+        val iterator = bucket.iterator()
+        while (iterator.hasNext()) {
+            val entry = iterator.next()
+            if (entry.expiresAtTick > tick) continue
+            iterator.remove()
+            entries.remove(entry.recipient)
+            drain(entry)?.let(digests::add)
+        }
+    }
+
+    /**
+     * 모인 메시지를 요약 알림 하나로 만들고 비움 (한 건이면 그대로)
+     */
+    private fun drain(entry: Entry): String? {
+        if (entry.pending.isEmpty()) return null
+        val digest = if (entry.pending.size == 1) {
+            entry.pending[0]
+        } else {
+            merged.add(entry.pending.size.toLong())
+            digests.increment()
+            "알림 ${entry.pending.size}건: ${entry.pending.joinToString(" / ")}"
+        }
+        entry.pending.clear()
+        return digest
+    }
+
+    private fun dispatch(message: String) {
+        sent.increment()
+        notificationDispatcher.submit(message)
+    }
+
+    companion object {
+        private const val CLOSE_TIMEOUT_MILLIS = 1_000L
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.spring.notification
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.scheduling.annotation.EnableAsync
+
+/**
+ * 알림 디스패처 설정
+ *
+ * Level 4 (Spring):
+ * - 설정 값은 application.properties의 notification.dispatcher.*에서 주입 (@Value)
+ * - NotificationService는 모든 채널로 병렬 전송하는 FanOutNotificationService가 주입됨
+ *   (채널별 제한 시간 / bulkhead / 서킷 브레이커 설정은 notification.fanout.*)
+ * - AutoCloseable인 @Bean은 컨텍스트 종료 시 Spring이 close()를 호출하므로 남은 알림이 전송됨
+ * - @EnableAsync: NotificationService.sendBatchAsync의 @Async가 적용되어 워커가 게이트웨이 응답을 기다리지 않음
+ *   (클래스 기반 프록시라 FanOutNotificationService 타입으로도 주입받을 수 있음)
+ * - 수신자별 병합 / 중복 제거 창 설정은 notification.coalescing.* (NotificationCoalescer)
+ */
+@EnableAsync(proxyTargetClass = true)
+@Configuration
+class NotificationConfig {
+
+    @Bean
+    fun channelPolicy(
+        @Value("\${notification.fanout.timeout-millis:200}") timeoutMillis: Long,
+        @Value("\${notification.fanout.max-concurrent:8}") maxConcurrent: Int,
+        @Value("\${notification.fanout.min-successful-channels:1}") minSuccessfulChannels: Int,
+        @Value("\${notification.fanout.breaker.window-size:20}") windowSize: Int,
+        @Value("\${notification.fanout.breaker.minimum-calls:10}") minimumCalls: Int,
+        @Value("\${notification.fanout.breaker.failure-rate-threshold:0.5}") failureRateThreshold: Double,
+        @Value("\${notification.fanout.breaker.open-millis:5000}") openMillis: Long,
+        @Value("\${notification.fanout.breaker.half-open-calls:3}") halfOpenCalls: Int
+    ): ChannelPolicy {
+        return ChannelPolicy(
+            timeoutMillis,
+            maxConcurrent,
+            minSuccessfulChannels,
+            BreakerSettings(windowSize, minimumCalls, failureRateThreshold, openMillis, halfOpenCalls)
+        )
+    }
+
+    @Bean
+    fun coalescingOptions(
+        @Value("\${notification.coalescing.window-millis:1000}") windowMillis: Long,
+        @Value("\${notification.coalescing.slots:20}") slots: Int,
+        @Value("\${notification.coalescing.max-recipients:100000}") maxRecipients: Int,
+        @Value("\${notification.coalescing.max-merged-messages:20}") maxMergedMessages: Int
+    ): CoalescingOptions {
+        return CoalescingOptions(windowMillis, slots, maxRecipients, maxMergedMessages)
+    }
+
+    @Bean
+    fun notificationDispatcher(
+        notificationService: NotificationService,
+        @Value("\${notification.dispatcher.capacity:1024}") capacity: Int,
+        @Value("\${notification.dispatcher.max-batch-size:32}") maxBatchSize: Int,
+        @Value("\${notification.dispatcher.linger-millis:5}") lingerMillis: Long,
+        @Value("\${notification.dispatcher.workers:2}") workers: Int,
+        @Value("\${notification.dispatcher.overflow-policy:BLOCK}") overflowPolicy: OverflowPolicy,
+        @Value("\${notification.dispatcher.max-in-flight-batches:64}") maxInFlightBatches: Int
+    ): NotificationDispatcher {
+        return NotificationDispatcher(
+            notificationService,
+            DispatcherOptions(capacity, maxBatchSize, lingerMillis, workers, overflowPolicy, maxInFlightBatches)
+        )
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.spring.notification
+
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * 큐가 가득 찼을 때의 처리 방식
+ */
+enum class OverflowPolicy {
+    /** 자리가 날 때까지 호출 스레드를 대기시킴 */
+    BLOCK,
+
+    /** 새 메시지를 받지 않음 (핸들이 예외로 완료됨) */
+    REJECT,
+
+    /** 가장 오래된 메시지를 버리고 새 메시지를 넣음 (버린 메시지의 핸들이 예외로 완료됨) */
+    DROP_OLDEST,
+
+    /** 호출 스레드에서 바로 전송 (자연스럽게 호출 속도가 전송 속도로 제한됨) */
+    CALLER_RUNS
+}
+
+/**
+ * 디스패처 설정
+ *
+ * @property capacity 큐에 쌓아 둘 수 있는 최대 메시지 수
+ * @property maxBatchSize 한 번에 전송할 최대 메시지 수
+ * @property lingerMillis 첫 메시지가 들어온 뒤 배치를 채우기 위해 기다리는 최대 시간
+ * @property workers 배치를 모으는 스레드 수
+ * @property maxInFlightBatches 동시에 전송 중일 수 있는 최대 배치 수
+ *   (sendBatchAsync가 비동기로 실행될 때만 의미가 있음, 동기 전송이면 workers개가 상한)
+ */
+data class DispatcherOptions(
+    val capacity: Int = 1_024,
+    val maxBatchSize: Int = 32,
+    val lingerMillis: Long = 5,
+    val workers: Int = 2,
+    val overflowPolicy: OverflowPolicy = OverflowPolicy.BLOCK,
+    val maxInFlightBatches: Int = 64
+)
+
+/**
+ * 비동기 배치 알림 디스패처
+ *
+ * NotificationService 앞에서 메시지를 bounded 큐에 넣고 바로 반환함
+ * 백그라운드 워커가 메시지를 배치로 모아 NotificationService.sendBatchAsync로 전송하므로
+ * 사용자 등록이 이메일/SMS 게이트웨이 왕복을 기다리지 않음
+ * sendBatchAsync가 @Async 프록시로 비동기 실행되면 워커는 전송을 기다리지 않고 다음 배치를 모음
+ * (동시 전송 배치 수는 maxInFlightBatches로 제한)
+ *
+ * 배치 전송 조건: maxBatchSize개가 모이거나, 배치의 첫 메시지 이후 lingerMillis가 지남
+ * (Kafka 프로듀서의 batch.size / linger.ms와 같은 방식)
+ */
+class NotificationDispatcher(
+    private val delegate: NotificationService,
+    val options: DispatcherOptions = DispatcherOptions()
+) : AutoCloseable {
+
+    /**
+     * 전송 통계
+     *
+     * @property queueDepth 지금 큐에 쌓인 메시지 수
+     * @property meanLatencyMillis 큐에 넣은 시각부터 전송 완료까지의 평균 시간
+     */
+    data class Stats(
+        val submitted: Long,
+        val delivered: Long,
+        val failed: Long,
+        val rejected: Long,
+        val dropped: Long,
+        val batches: Long,
+        val queueDepth: Int,
+        val maxQueueDepth: Int,
+        val meanBatchSize: Double,
+        val meanLatencyMillis: Double,
+        val maxLatencyMillis: Double
+    )
+
+    private class Pending(val message: String, val enqueuedAt: Long) {
+        val handle = CompletableFuture<Unit>()
+    }
+
+    init {
+        require(options.capacity > 0 && options.maxBatchSize > 0 && options.workers > 0 && options.maxInFlightBatches > 0) {
+            "capacity, maxBatchSize, workers, maxInFlightBatches는 0보다 커야 합니다: $options"
+        }
+    }
+
+    private val inFlight = Semaphore(options.maxInFlightBatches)
+
+    private val queue = ArrayBlockingQueue<Pending>(options.capacity)
+
+    @Volatile
+    private var closed = false
+
+    private val submitted = LongAdder()
+    private val delivered = LongAdder()
+    private val failed = LongAdder()
+    private val rejected = LongAdder()
+    private val dropped = LongAdder()
+    private val batches = LongAdder()
+    private val latencySum = LongAdder()
+    private val maxLatency = AtomicLong()
+    private val maxQueueDepth = AtomicInteger()
+    // 큐에 들어갔지만 아직 완료되지 않은 메시지 수 (flush에서 사용)
+    private val outstanding = AtomicLong()
+
+    private val workers = List(options.workers) { i ->
+        Thread(::workerLoop, "notification-${i + 1}").apply {
+            isDaemon = true
+            start()
+        }
+    }
+
+    /**
+     * 메시지를 큐에 넣고 바로 반환
+     *
+     * @return 전송이 끝나면 완료되는 핸들 (전송 실패, 거절, 버려짐이면 예외로 완료)
+     */
+    fun submit(message: String): CompletableFuture<Unit> {
+        check(!closed) { "디스패처가 종료되었습니다" }
+        val pending = Pending(message, System.nanoTime())
+        submitted.increment()
+        outstanding.incrementAndGet()
+
+        if (!queue.offer(pending)) {
+            when (options.overflowPolicy) {
+                OverflowPolicy.BLOCK -> queue.put(pending)
+                OverflowPolicy.REJECT -> {
+                    rejected.increment()
+                    complete(pending, IllegalStateException("알림 큐가 가득 찼습니다 (capacity=${options.capacity})"))
+                    return pending.handle
+                }
+                OverflowPolicy.DROP_OLDEST -> while (!queue.offer(pending)) {
+                    val oldest = queue.poll() ?: continue
+                    dropped.increment()
+                    complete(oldest, IllegalStateException("알림 큐가 가득 차 오래된 메시지를 버렸습니다"))
+                }
+                OverflowPolicy.CALLER_RUNS -> {
+                    deliver(listOf(pending))
+                    return pending.handle
+                }
+            }
+        }
+        // 큐에 넣는 사이 close가 시작됐으면 마지막 정리가 이미 끝났을 수 있음 - 직접 꺼내 실패 처리
+        // (remove는 워커 / close와 경쟁해도 한 쪽만 성공하므로 핸들이 두 번 완료되지 않음)
+        if (closed && queue.remove(pending)) {
+            failed.increment()
+            complete(pending, IllegalStateException(CLOSED_MESSAGE))
+            return pending.handle
+        }
+        maxQueueDepth.accumulateAndGet(queue.size, ::maxOf)
+        return pending.handle
+    }
+
+    /**
+     * 지금까지 넣은 메시지가 모두 처리될 때까지 대기
+     *
+     * @return 제한 시간 안에 모두 처리되었는지
+     */
+    fun flush(timeoutMillis: Long): Boolean {
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis)
+        while (outstanding.get() > 0) {
+            if (System.nanoTime() > deadline) return false
+            LockSupport.parkNanos(100_000)
+        }
+        return true
+    }
+
+    fun stats(): Stats {
+        val deliveredCount = delivered.sum()
+        val batchCount = batches.sum()
+        return Stats(
+            submitted = submitted.sum(),
+            delivered = deliveredCount,
+            failed = failed.sum(),
+            rejected = rejected.sum(),
+            dropped = dropped.sum(),
+            batches = batchCount,
+            queueDepth = queue.size,
+            maxQueueDepth = maxQueueDepth.get(),
+            meanBatchSize = if (batchCount == 0L) 0.0 else (deliveredCount + failed.sum()).toDouble() / batchCount,
+            meanLatencyMillis = if (deliveredCount == 0L) 0.0 else latencySum.sum() / 1e6 / deliveredCount,
+            maxLatencyMillis = maxLatency.get() / 1e6
+        )
+    }
+
+    /**
+     * 새 메시지를 받지 않고, 큐에 남은 메시지를 모두 전송한 뒤 워커 종료
+     */
+    override fun close() {
+        if (closed) return
+        closed = true
+        workers.forEach { it.join(CLOSE_TIMEOUT_MILLIS) }
+        // 비동기로 전송 중인 배치가 끝날 때까지 대기
+        if (inFlight.tryAcquire(options.maxInFlightBatches, CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            inFlight.release(options.maxInFlightBatches)
+        }
+        // 워커가 끝난 뒤에도 남은 메시지 (종료와 엇갈린 submit, 제한 시간 초과)
+        // 이 정리 뒤에 큐에 들어간 메시지는 submit이 closed를 다시 확인하고 직접 실패 처리함
+        generateSequence { queue.poll() }.forEach {
+            failed.increment()
+            complete(it, IllegalStateException(CLOSED_MESSAGE))
+        }
+    }
+
+    private fun workerLoop() {
+        val batch = ArrayList<Pending>(options.maxBatchSize)
+        val lingerNanos = TimeUnit.MILLISECONDS.toNanos(options.lingerMillis)
+        while (true) {
+            val first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)
+            if (first == null) {
+                if (closed) return
+                continue
+            }
+
+            // 배치 채우기: maxBatchSize개가 되거나 linger 시간이 지날 때까지
+            batch.add(first)
+            val deadline = first.enqueuedAt + lingerNanos
+            while (batch.size < options.maxBatchSize) {
+                queue.drainTo(batch, options.maxBatchSize - batch.size)
+                if (batch.size >= options.maxBatchSize || closed) break
+                val remaining = deadline - System.nanoTime()
+                if (remaining <= 0) break
+                batch.add(queue.poll(remaining, TimeUnit.NANOSECONDS) ?: break)
+            }
+
+            deliver(batch)
+            batch.clear()
+        }
+    }
+
+    private fun deliver(batch: List<Pending>) {
+        batches.increment()
+        val sending = batch.toList()
+        inFlight.acquire()
+        val result = try {
+            delegate.sendBatchAsync(sending.map { it.message })
+        } catch (e: Exception) {
+            CompletableFuture.failedFuture(e)
+        }
+        result.whenComplete { _, error ->
+            inFlight.release()
+            val cause = if (error is CompletionException) error.cause ?: error else error
+            if (cause != null) println("[Dispatcher] 배치 ${sending.size}건 전송 실패: $cause")
+
+            val now = System.nanoTime()
+            sending.forEach { pending ->
+                if (cause == null) {
+                    val latency = now - pending.enqueuedAt
+                    delivered.increment()
+                    latencySum.add(latency)
+                    maxLatency.accumulateAndGet(latency, ::maxOf)
+                } else {
+                    failed.increment()
+                }
+                complete(pending, cause)
+            }
+        }
+    }
+
+    private fun complete(pending: Pending, error: Throwable?) {
+        outstanding.decrementAndGet()
+        if (error == null) pending.handle.complete(Unit) else pending.handle.completeExceptionally(error)
+    }
+
+    companion object {
+        private const val POLL_MILLIS = 50L
+        private const val CLOSE_TIMEOUT_MILLIS = 5_000L
+        private const val CLOSED_MESSAGE = "디스패처가 종료되어 전송하지 못했습니다"
+    }
+}
@@ -1,40 +1,95 @@
 package com.example.spring.notification
 
-import org.springframework.context.annotation.Primary
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.scheduling.annotation.Async
 import org.springframework.stereotype.Component
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ThreadLocalRandom
 
 /**
  * 알림 서비스 인터페이스
  */
 interface NotificationService {
     fun send(message: String)
+
+    /**
+     * 여러 메시지를 한 번에 전송 (NotificationDispatcher가 배치 단위로 호출)
+     * 게이트웨이가 대량 전송 API를 제공하면 재정의해서 왕복 한 번으로 보냄
+     */
+    fun sendBatch(messages: List<String>) {
+        messages.forEach(::send)
+    }
+
+    /**
+     * 배치 비동기 전송 (NotificationDispatcher가 호출)
+     * @EnableAsync가 켜져 있으면 Spring의 비동기 프록시가 applicationTaskExecutor에서 실행하고 바로 반환함
+     * (spring.threads.virtual.enabled=true이고 JDK 21 이상이면 가상 스레드에서 실행)
+     */
+    @Async
+    fun sendBatchAsync(messages: List<String>): CompletableFuture<Unit> {
+        sendBatch(messages)
+        return CompletableFuture.completedFuture(Unit)
+    }
 }
 
 /**
- * 이메일 알림 서비스
+ * 알림 채널 (이메일, SMS, 푸시 ...)
  *
- * Level 4 (Spring):
- * - @Component로 자동 등록
- * - @Primary로 우선순위 지정 (같은 타입이 여러 개일 때)
- * - Spring이 자동으로 주입
+ * 채널은 NotificationService가 아니므로 @Primary로 하나를 고를 필요가 없음
+ * FanOutNotificationService가 모든 채널 Bean을 List로 주입받아 병렬로 전송함
  */
-@Primary
-@Component
-class EmailNotificationService : NotificationService {
-    override fun send(message: String) {
-        println("[Email] 전송: $message")
+interface NotificationChannel {
+    val name: String
+
+    fun sendBatch(messages: List<String>)
+}
+
+/**
+ * 게이트웨이를 흉내 내는 로컬 채널
+ * 배치마다 latencyMillis만큼 걸리고, failureRate 확률로 실패함
+ * (application.properties의 notification.channels.{채널}.*로 느린 / 실패하는 채널을 재현)
+ */
+abstract class SimulatedChannel(
+    override val name: String,
+    private val latencyMillis: Long,
+    private val failureRate: Double
+) : NotificationChannel {
+
+    override fun sendBatch(messages: List<String>) {
+        if (latencyMillis > 0) Thread.sleep(latencyMillis)
+        check(ThreadLocalRandom.current().nextDouble() >= failureRate) { "$name 게이트웨이 오류" }
+        messages.forEach { println("[$name] 전송: $it") }
     }
 }
 
 /**
- * SMS 알림 서비스
+ * 이메일 채널
  *
- * @Primary를 EmailNotificationService로 옮기면 SMS로 전환됨
- * 또는 @Qualifier("smsNotificationService")로 명시적 선택 가능
+ * Level 4 (Spring):
+ * - @Component로 자동 등록
+ * - 설정 값은 @Value로 주입 (없으면 기본값)
  */
 @Component
-class SmsNotificationService : NotificationService {
-    override fun send(message: String) {
-        println("[SMS] 전송: $message")
-    }
-}
+class EmailNotificationService(
+    @Value("\${notification.channels.email.latency-millis:0}") latencyMillis: Long,
+    @Value("\${notification.channels.email.failure-rate:0.0}") failureRate: Double
+) : SimulatedChannel("Email", latencyMillis, failureRate)
+
+/**
+ * SMS 채널
+ */
+@Component
+class SmsNotificationService(
+    @Value("\${notification.channels.sms.latency-millis:0}") latencyMillis: Long,
+    @Value("\${notification.channels.sms.failure-rate:0.0}") failureRate: Double
+) : SimulatedChannel("SMS", latencyMillis, failureRate)
+
+/**
+ * 푸시 채널
+ * 채널을 추가하려면 NotificationChannel Bean을 하나 더 등록하기만 하면 됨
+ */
+@Component
+class PushNotificationService(
+    @Value("\${notification.channels.push.latency-millis:0}") latencyMillis: Long,
+    @Value("\${notification.channels.push.failure-rate:0.0}") failureRate: Double
+) : SimulatedChannel("Push", latencyMillis, failureRate)
@@ -2,6 +2,8 @@ package com.example.spring.repository
 
 import com.example.spring.model.User
 import org.springframework.stereotype.Repository
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
 
 /**
  * 사용자 저장소 인터페이스
@@ -20,14 +22,15 @@ interface UserRepository {
  * - Spring이 자동으로 Bean 관리
  * - 예외 변환 (DataAccessException) 자동 제공
  * - 트랜잭션 지원
+ * - 부하 생성 모드에서 여러 스레드가 동시에 읽고 쓰므로 ConcurrentHashMap
  */
 @Repository
 class UserRepositoryImpl : UserRepository {
-    private val users = mutableMapOf<Long, User>()
-    private var sequence = 0L
+    private val users = ConcurrentHashMap<Long, User>()
+    private val sequence = AtomicLong()
 
     override fun save(user: User): User {
-        val id = user.id ?: ++sequence
+        val id = user.id ?: sequence.incrementAndGet()
         val saved = user.copy(id = id)
         users[id] = saved
         println("[Repository] 사용자 저장: ${saved.name} (ID: $id)")
@@ -1,7 +1,7 @@
 package com.example.spring.service
 
 import com.example.spring.model.User
-import com.example.spring.notification.NotificationService
+import com.example.spring.notification.NotificationCoalescer
 import com.example.spring.repository.UserRepository
 import jakarta.annotation.PostConstruct
 import jakarta.annotation.PreDestroy
@@ -19,11 +19,13 @@ import org.springframework.stereotype.Service
  * 6. AOP로 횡단 관심사 처리
  * 7. 프로파일별 설정 (@Profile)
  * 8. 테스트 지원 (@MockBean, @SpyBean)
+ * 9. 알림은 NotificationCoalescer를 거쳐 NotificationDispatcher 큐에 넣고 바로 반환
+ *    (같은 수신자의 알림은 창 안에서 중복 제거 / 병합, 설정 / 종료는 Spring이 관리)
  */
 @Service
 class UserService(
     private val userRepository: UserRepository,
-    private val notificationService: NotificationService
+    private val notificationCoalescer: NotificationCoalescer
     // Kotlin에서는 생성자 주입이 기본이므로 @Autowired 불필요
 ) {
     @PostConstruct
@@ -41,7 +43,7 @@ class UserService(
 
         val user = User(name = name, email = email)
         val saved = userRepository.save(user)
-        notificationService.send("환영합니다, ${saved.name}님!")
+        notificationCoalescer.send(saved.email, "환영합니다, ${saved.name}님!")
 
         println("=== 사용자 등록 완료 ===\n")
         return saved
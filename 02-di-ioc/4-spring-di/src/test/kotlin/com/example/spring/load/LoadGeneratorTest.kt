@@ -0,0 +1,133 @@
+package com.example.spring.load
+
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.AbstractExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * LoadGenerator 테스트
+ *
+ * - Zipf 분포는 낮은 순위에 몰림
+ * - 서비스가 멈춘 시간은 그동안 대기열에 쌓인 요청들의 응답 시간에 들어감 (coordinated omission 보정)
+ * - 실패는 예외 종류별로 집계됨
+ */
+class LoadGeneratorTest {
+
+    @Test
+    @DisplayName("Zipf 분포에서 순위 k의 확률은 1/k에 비례하고, exponent 0이면 균등하다")
+    fun `zipf should favor low ranks`() {
+        // given: 1000개, exponent 1 → 1등 확률 = 1 / H(1000)
+        val zipf = ZipfDistribution(1_000, 1.0)
+        val harmonic = (1..1_000).sumOf { 1.0 / it }
+
+        // then
+        assertEquals(1 / harmonic, zipf.probability(1), 1e-12)
+        assertEquals(zipf.probability(1) / 10, zipf.probability(10), 1e-12)
+        assertEquals(1, zipf.sample(0.0))
+        assertEquals(2, zipf.sample(zipf.probability(1)))
+        assertEquals(1_000, zipf.sample(0.999_999_999))
+
+        val uniform = ZipfDistribution(4, 0.0)
+        assertEquals(0.25, uniform.probability(3), 1e-12)
+        assertEquals(3, uniform.sample(0.6))
+    }
+
+    @Test
+    @DisplayName("서비스가 멈춘 동안에도 요청은 계속 보내지고, 대기 시간이 응답 시간에 들어간다")
+    fun `stall should be charged to queued requests`() {
+        // given: 초당 200건(5ms 간격), 가짜 시계, 요청을 하나씩 차례로 실행, 첫 요청이 200ms 멈춤
+        val clock = FakeClock()
+        val stalled = AtomicBoolean()
+        val target = object : LoadTarget {
+            override fun read(userId: Long) {
+                assertTrue(userId in 1..10)
+                if (stalled.compareAndSet(false, true)) clock.advance(TimeUnit.MILLISECONDS.toNanos(200))
+            }
+
+            override fun write(userId: Long) = throw AssertionError("readRatio 1.0이면 쓰기가 없어야 합니다")
+        }
+        val options = LoadOptions(200.0, 1, 0, 1.0, 10, 1.0, 1, false)
+
+        // when
+        val report = LoadGenerator(options, clock, InlineExecutor()).run(target)
+
+        // then: 멈춘 동안 의도한 시각이 지난 40건(200ms, 195ms, ..., 5ms)의 대기 시간이 응답 시간에 들어감
+        val reads = report.operations[0]
+        assertEquals(200, reads.count)
+        assertEquals(0, reads.errors)
+        assertEquals(0, report.incomplete)
+        assertTrue(reads.response.p90Millis > 50) { "응답 시간: ${reads.response}" }
+        assertEquals(200.0, reads.response.maxMillis, 1e-9)
+        // 생성기도 멈춘 요청을 실행하느라 두 번째 요청(5ms)을 200ms에 넘김
+        assertEquals(195.0, report.maxSchedulerLagMillis, 1e-9)
+        // 실행 시간만 재면 멈춘 요청 한 건뿐이라 p90은 히스토그램 첫 칸 (coordinated omission)
+        assertEquals(0.0, reads.service.p90Millis, 0.01) { "서비스 시간: ${reads.service}" }
+        assertEquals(200.0, reads.service.maxMillis, 1e-9)
+        assertEquals(200, reads.histogram.sumOf { it.count })
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 예외 종류별로 집계된다")
+    fun `failures should be counted by type`() {
+        // given: 모두 쓰기, 쓰기는 항상 실패
+        val target = object : LoadTarget {
+            override fun read(userId: Long) = throw AssertionError("readRatio 0이면 조회가 없어야 합니다")
+            override fun write(userId: Long) = throw IllegalStateException("쓰기 실패")
+        }
+
+        // when: 가짜 시계에서 1초 동안 100건
+        val report = LoadGenerator(LoadOptions(100.0, 1, 0, 0.0, 10, 1.0, 2, false), FakeClock(), InlineExecutor()).run(target)
+
+        // then
+        val (reads, writes) = report.operations
+        assertEquals(0, reads.count)
+        assertEquals(100, writes.count)
+        assertEquals(100, writes.errors)
+        assertEquals(mapOf("IllegalStateException" to 100L), writes.errorTypes)
+        assertEquals(100.0, report.completedPerSecond, 1e-9)
+    }
+
+    /**
+     * 대기하면 그만큼 바로 진행되는 시계 (실제로 잠들지 않음)
+     */
+    private class FakeClock : LoadClock {
+        @Volatile
+        private var now = 0L
+
+        override fun nanoTime() = now
+
+        override fun parkNanos(nanos: Long) = advance(nanos)
+
+        fun advance(nanos: Long) {
+            now += nanos
+        }
+    }
+
+    /**
+     * 요청을 생성기 스레드에서 바로 실행 - 앞 요청이 멈추면 뒤 요청은 의도한 시각보다 늦게 시작됨
+     */
+    private class InlineExecutor : AbstractExecutorService() {
+        @Volatile
+        private var shutdown = false
+
+        override fun execute(command: Runnable) = command.run()
+
+        override fun shutdown() {
+            shutdown = true
+        }
+
+        override fun shutdownNow(): List<Runnable> {
+            shutdown = true
+            return emptyList()
+        }
+
+        override fun isShutdown() = shutdown
+
+        override fun isTerminated() = shutdown
+
+        override fun awaitTermination(timeout: Long, unit: TimeUnit) = true
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.spring.notification
+
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * 멀티 채널 fan-out 테스트
+ *
+ * - 채널에 병렬로 전송 (멈춘 채널은 제한 시간에서 끊고 기다리지 않음)
+ * - bulkhead가 가득 차면 거절
+ * - 계속 실패하는 채널은 서킷 브레이커가 차단하고, openMillis 후 시험 호출이 성공하면 복구
+ * - 모든 채널이 실패하면 예외 (디스패처가 실패로 집계)
+ */
+class FanOutNotificationServiceTest {
+
+    // 호출 4개가 실제로 동시에 들어가도록 호출 스레드를 따로 둠 (공용 풀은 CPU 수에 따라 작을 수 있음)
+    private val callers = Executors.newFixedThreadPool(4)
+
+    @Test
+    @DisplayName("모든 채널에 병렬로 전송하고, 느린 채널은 제한 시간에서 끊는다")
+    fun `channels should be called in parallel with per channel timeout`() {
+        // given: Email과 SMS는 서로 만나야 통과 (순차라면 먼저 호출된 쪽이 제한 시간을 넘김)
+        // Push는 테스트가 풀어 줄 때까지 멈춤
+        val email = StubChannel("Email")
+        val sms = StubChannel("SMS")
+        val push = StubChannel("Push")
+        val rendezvous = CountDownLatch(2)
+        email.barrier = rendezvous
+        sms.barrier = rendezvous
+        val stuck = CountDownLatch(2)
+        push.barrier = stuck
+        val service = FanOutNotificationService(listOf(email, sms, push), ChannelPolicy(timeoutMillis = 1_000))
+
+        try {
+            // when
+            service.sendBatch(listOf("환영합니다"))
+
+            // then: 멈춘 Push를 기다리지 않고 반환됨
+            assertEquals(1, stuck.count)
+            assertEquals(listOf("환영합니다"), email.messages)
+            assertEquals(listOf("환영합니다"), sms.messages)
+            assertTrue(push.messages.isEmpty())
+            val stats = service.stats().associateBy { it.channel }
+            assertEquals(1, stats.getValue("Email").succeeded)
+            assertEquals(1, stats.getValue("SMS").succeeded)
+            assertEquals(1, stats.getValue("Push").timedOut)
+        } finally {
+            stuck.countDown()
+            service.close()
+        }
+    }
+
+    @Test
+    @DisplayName("채널의 동시 전송 수가 maxConcurrent에 도달하면 나머지 호출은 거절된다")
+    fun `full bulkhead should reject calls`() {
+        // given: 채널당 스레드 2개, 호출 4개 동시 - 들어간 2개는 테스트가 풀어 줄 때까지 멈춤
+        val slow = StubChannel("Email")
+        val release = CountDownLatch(3)
+        slow.barrier = release
+        val service = FanOutNotificationService(listOf(slow), ChannelPolicy(timeoutMillis = 5_000, maxConcurrent = 2))
+        val ready = CountDownLatch(1)
+
+        // when
+        val calls = (1..4).map { i ->
+            CompletableFuture.runAsync({
+                ready.await()
+                runCatching { service.send("메시지 $i") }
+            }, callers)
+        }
+        ready.countDown()
+        awaitRejected(service, 2)
+        release.countDown()
+        CompletableFuture.allOf(*calls.toTypedArray()).join()
+
+        // then
+        val stats = service.stats().single()
+        assertEquals(2, stats.succeeded)
+        assertEquals(2, stats.rejected)
+        assertEquals(2, slow.invocations.get())
+        service.close()
+        callers.shutdown()
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 채널은 서킷 브레이커가 차단하고, openMillis 뒤 시험 호출이 성공하면 다시 연다")
+    fun `failing channel should be shed by circuit breaker and recover`() {
+        // given
+        val email = StubChannel("Email")
+        val push = StubChannel("Push", failing = true)
+        val breaker = BreakerSettings(windowSize = 4, minimumCalls = 4, failureRateThreshold = 0.5, openMillis = 200, halfOpenCalls = 1)
+        val service = FanOutNotificationService(listOf(email, push), ChannelPolicy(breaker = breaker))
+
+        // when: 4번 실패하면 OPEN, 이후 호출은 채널을 부르지 않음
+        repeat(10) { service.send("메시지 $it") }
+
+        // then
+        var stats = service.stats().associateBy { it.channel }
+        assertEquals(CircuitBreaker.State.OPEN, stats.getValue("Push").state)
+        assertEquals(4, push.invocations.get())
+        assertEquals(6, stats.getValue("Push").shortCircuited)
+        assertEquals(10, email.messages.size)
+
+        // when: 채널 복구 후 openMillis가 지나면 시험 호출 1번으로 CLOSED
+        push.failing = false
+        Thread.sleep(250)
+        service.send("복구 확인")
+
+        // then
+        stats = service.stats().associateBy { it.channel }
+        assertEquals(CircuitBreaker.State.CLOSED, stats.getValue("Push").state)
+        assertEquals(listOf("복구 확인"), push.messages)
+        service.close()
+    }
+
+    @Test
+    @DisplayName("성공한 채널 수가 minSuccessfulChannels보다 적으면 예외가 발생한다")
+    fun `too few successful channels should fail the send`() {
+        // given
+        val email = StubChannel("Email", failing = true)
+        val sms = StubChannel("SMS")
+        val service = FanOutNotificationService(listOf(email, sms), ChannelPolicy(minSuccessfulChannels = 2))
+
+        // when
+        val exception = assertThrows(IllegalStateException::class.java) { service.send("환영합니다") }
+
+        // then
+        assertEquals("알림 전송 실패: 2개 채널 중 1개 성공 (최소 2개 필요)", exception.message)
+        assertEquals(listOf("환영합니다"), sms.messages)
+        service.close()
+    }
+
+    private fun awaitRejected(service: FanOutNotificationService, expected: Long) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2)
+        while (service.stats().single().rejected < expected && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000)
+        }
+        assertEquals(expected, service.stats().single().rejected)
+    }
+}
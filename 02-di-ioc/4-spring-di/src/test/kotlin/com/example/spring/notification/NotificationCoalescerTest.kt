@@ -0,0 +1,124 @@
+package com.example.spring.notification
+
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+/**
+ * NotificationCoalescer 테스트
+ *
+ * - 창의 첫 알림은 바로 전송, 같은 알림은 버림
+ * - 창 안의 다른 알림은 창이 끝날 때 요약 한 건으로 전송
+ * - 추적 수신자 한도를 넘으면 병합 없이 전송
+ * - 종료 시 모여 있던 알림을 전송
+ */
+class NotificationCoalescerTest {
+
+    private val sink = StubNotificationSink()
+    private val dispatcher = NotificationDispatcher(sink, DispatcherOptions(lingerMillis = 1, workers = 1))
+
+    @Test
+    @DisplayName("창 안에서 같은 수신자에게 가는 같은 알림은 한 번만 전송된다")
+    fun `duplicates within window should be dropped`() {
+        // given
+        val coalescer = NotificationCoalescer(dispatcher, CoalescingOptions(windowMillis = 10_000))
+
+        // when
+        repeat(5) { coalescer.send("hong@example.com", "환영합니다, 홍길동님!") }
+        coalescer.send("kim@example.com", "환영합니다, 김철수님!")
+        dispatcher.flush(1_000)
+
+        // then
+        assertEquals(listOf("환영합니다, 홍길동님!", "환영합니다, 김철수님!"), sink.messages)
+        val stats = coalescer.stats()
+        assertEquals(6, stats.received)
+        assertEquals(2, stats.sent)
+        assertEquals(4, stats.deduplicated)
+        assertEquals(4, stats.saved)
+        assertEquals(2, stats.activeRecipients)
+        coalescer.close()
+        dispatcher.close()
+    }
+
+    @Test
+    @DisplayName("창 안의 다른 알림은 모였다가 창이 끝나면 요약 한 건으로 전송된다")
+    fun `distinct messages should be merged into a digest after window`() {
+        // given
+        val coalescer = NotificationCoalescer(dispatcher, CoalescingOptions(windowMillis = 100, slots = 10))
+
+        // when
+        coalescer.send("hong@example.com", "가입 완료")
+        coalescer.send("hong@example.com", "포인트 적립")
+        coalescer.send("hong@example.com", "쿠폰 발급")
+        coalescer.send("hong@example.com", "포인트 적립")
+        dispatcher.flush(1_000)
+        assertEquals(listOf("가입 완료"), sink.messages)
+
+        // then: 창이 끝나면 요약 전송, 수신자 항목은 만료됨
+        val deadline = System.currentTimeMillis() + 2_000
+        while (coalescer.stats().activeRecipients > 0 && System.currentTimeMillis() < deadline) Thread.sleep(10)
+        dispatcher.flush(1_000)
+        assertEquals(listOf("가입 완료", "알림 2건: 포인트 적립 / 쿠폰 발급"), sink.messages)
+
+        val stats = coalescer.stats()
+        assertEquals(4, stats.received)
+        assertEquals(2, stats.sent)
+        assertEquals(1, stats.deduplicated)
+        assertEquals(2, stats.merged)
+        assertEquals(1, stats.digests)
+        assertEquals(2, stats.saved)
+        assertEquals(0, stats.activeRecipients)
+
+        // 만료 후에는 새 창이 시작되어 바로 전송됨
+        coalescer.send("hong@example.com", "가입 완료")
+        dispatcher.flush(1_000)
+        assertEquals("가입 완료", sink.messages.last())
+        coalescer.close()
+        dispatcher.close()
+    }
+
+    @Test
+    @DisplayName("maxMergedMessages만큼 모이면 창이 끝나기 전에 요약을 전송하고, 수신자 한도를 넘으면 병합 없이 전송한다")
+    fun `should flush full digest early and pass through over recipient limit`() {
+        // given
+        val coalescer = NotificationCoalescer(
+            dispatcher,
+            CoalescingOptions(windowMillis = 10_000, maxRecipients = 2, maxMergedMessages = 3)
+        )
+
+        // when
+        (0..3).forEach { coalescer.send("a", "메시지 $it") }
+        coalescer.send("b", "메시지")
+        repeat(2) { coalescer.send("c", "메시지") }
+        dispatcher.flush(1_000)
+
+        // then
+        assertEquals(
+            listOf("메시지 0", "알림 3건: 메시지 1 / 메시지 2 / 메시지 3", "메시지", "메시지", "메시지"),
+            sink.messages
+        )
+        val stats = coalescer.stats()
+        assertEquals(2, stats.overflow)
+        assertEquals(2, stats.activeRecipients)
+        coalescer.close()
+        dispatcher.close()
+    }
+
+    @Test
+    @DisplayName("close는 창이 끝나지 않은 요약도 전송하고, 이후 send는 거절한다")
+    fun `close should flush pending digests`() {
+        // given
+        val coalescer = NotificationCoalescer(dispatcher, CoalescingOptions(windowMillis = 60_000))
+        coalescer.send("hong@example.com", "메시지 1")
+        coalescer.send("hong@example.com", "메시지 2")
+        coalescer.send("hong@example.com", "메시지 3")
+
+        // when
+        coalescer.close()
+        dispatcher.close()
+
+        // then
+        assertEquals(listOf("메시지 1", "알림 2건: 메시지 2 / 메시지 3"), sink.messages)
+        assertThrows(IllegalStateException::class.java) { coalescer.send("hong@example.com", "메시지 4") }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.spring.notification
+
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * NotificationDispatcher 테스트
+ *
+ * - 호출 스레드는 게이트웨이 지연을 기다리지 않음
+ * - maxBatchSize / lingerMillis 기준으로 배치 전송
+ * - 큐가 가득 찼을 때의 처리 (REJECT)
+ * - 전송 실패가 핸들과 통계에 반영됨
+ * - close와 엇갈린 submit의 핸들도 모두 완료됨
+ */
+class NotificationDispatcherTest {
+
+    @Test
+    @DisplayName("submit은 게이트웨이 지연을 기다리지 않고, 메시지는 maxBatchSize 단위로 전송된다")
+    fun `submit should return immediately and deliver in batches`() {
+        // given: 배치 한 번에 50ms 걸리고, 열어 줄 때까지 멈춰 있는 게이트웨이
+        val gate = CountDownLatch(1)
+        val sink = StubNotificationSink(latencyMillis = 50, gate = gate)
+        val dispatcher = NotificationDispatcher(sink, DispatcherOptions(maxBatchSize = 10, lingerMillis = 100, workers = 1))
+
+        // when: 게이트웨이가 멈춘 동안 submit
+        val handles = (1..30).map { dispatcher.submit("메시지 $it") }
+
+        // then: 하나도 전송되지 않았어도 submit은 모두 반환됨
+        assertTrue(handles.none { it.isDone })
+        gate.countDown()
+        CompletableFuture.allOf(*handles.toTypedArray()).get(2, TimeUnit.SECONDS)
+        assertEquals((1..30).map { "메시지 $it" }, sink.messages)
+        assertTrue(sink.batches.all { it.size <= 10 })
+        assertTrue(sink.batches.size <= 4) { "배치 수: ${sink.batches.size}" }
+
+        val stats = dispatcher.stats()
+        assertEquals(30, stats.delivered)
+        assertEquals(0, stats.queueDepth)
+        assertTrue(stats.meanLatencyMillis >= 50)
+        dispatcher.close()
+    }
+
+    @Test
+    @DisplayName("배치가 다 차지 않아도 lingerMillis가 지나면 모인 메시지를 한 번에 전송한다")
+    fun `partial batch should be sent after linger time`() {
+        // given
+        val sink = StubNotificationSink()
+        val dispatcher = NotificationDispatcher(sink, DispatcherOptions(maxBatchSize = 100, lingerMillis = 200, workers = 1))
+
+        // when
+        val handles = (1..3).map { dispatcher.submit("메시지 $it") }
+        handles.forEach { it.get(2, TimeUnit.SECONDS) }
+
+        // then: 기다리지 않았다면 첫 메시지가 혼자 전송됐을 것 - 세 메시지가 다 차지 않은 배치 하나로 전송됨
+        assertEquals(listOf(listOf("메시지 1", "메시지 2", "메시지 3")), sink.batches)
+        val stats = dispatcher.stats()
+        assertEquals(1, stats.batches)
+        assertEquals(3.0, stats.meanBatchSize)
+        dispatcher.close()
+    }
+
+    @Test
+    @DisplayName("REJECT 정책에서 큐가 가득 차면 새 메시지의 핸들이 예외로 완료된다")
+    fun `full queue should reject new messages`() {
+        // given: 워커 1개가 멈춘 게이트웨이에서 첫 메시지를 전송하는 동안 용량 2인 큐를 채움
+        val gate = CountDownLatch(1)
+        val sink = StubNotificationSink(gate = gate)
+        val dispatcher = NotificationDispatcher(
+            sink,
+            DispatcherOptions(capacity = 2, maxBatchSize = 1, lingerMillis = 0, workers = 1, overflowPolicy = OverflowPolicy.REJECT)
+        )
+        dispatcher.submit("전송 중")
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2)
+        while (sink.calls < 1 && System.nanoTime() < deadline) Thread.sleep(1)
+        assertEquals(1, sink.calls)
+
+        // when
+        val queued = (1..2).map { dispatcher.submit("대기 $it") }
+        val rejected = dispatcher.submit("거절")
+
+        // then
+        val error = assertThrows(ExecutionException::class.java) { rejected.get(1, TimeUnit.SECONDS) }
+        assertTrue(error.cause is IllegalStateException)
+        gate.countDown()
+        queued.forEach { it.get(2, TimeUnit.SECONDS) }
+        val stats = dispatcher.stats()
+        assertEquals(1, stats.rejected)
+        assertEquals(3, stats.delivered)
+        assertEquals(2, stats.maxQueueDepth)
+        dispatcher.close()
+    }
+
+    @Test
+    @DisplayName("게이트웨이 전송이 실패하면 배치의 모든 핸들이 예외로 완료되고 failed로 집계된다")
+    fun `failed delivery should complete handles exceptionally`() {
+        // given
+        val sink = StubNotificationSink(failing = true)
+        val dispatcher = NotificationDispatcher(sink, DispatcherOptions(lingerMillis = 20))
+
+        // when
+        val handles = (1..5).map { dispatcher.submit("메시지 $it") }
+
+        // then
+        handles.forEach { handle ->
+            assertThrows(ExecutionException::class.java) { handle.get(1, TimeUnit.SECONDS) }
+        }
+        assertTrue(dispatcher.flush(1_000))
+        val stats = dispatcher.stats()
+        assertEquals(5, stats.failed)
+        assertEquals(0, stats.delivered)
+        dispatcher.close()
+    }
+
+    @Test
+    @DisplayName("close와 엇갈린 submit의 핸들도 모두 완료된다 (전송되거나 예외로 완료)")
+    fun `submits racing close should all complete`() {
+        // given: 작은 BLOCK 큐에 여러 스레드가 계속 submit (일부는 put에서 기다리다 close 중에 풀림)
+        val sink = StubNotificationSink(latencyMillis = 1)
+        val dispatcher = NotificationDispatcher(sink, DispatcherOptions(capacity = 4, maxBatchSize = 2, lingerMillis = 0))
+        val handles = ConcurrentLinkedQueue<CompletableFuture<Unit>>()
+        val submitters = Executors.newFixedThreadPool(4)
+        repeat(4) {
+            submitters.execute {
+                while (true) {
+                    handles.add(
+                        try {
+                            dispatcher.submit("메시지")
+                        } catch (e: IllegalStateException) {
+                            break
+                        }
+                    )
+                }
+            }
+        }
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2)
+        while (dispatcher.stats().submitted < 100 && System.nanoTime() < deadline) Thread.sleep(1)
+        assertTrue(dispatcher.stats().submitted >= 100) { dispatcher.stats().toString() }
+
+        // when
+        dispatcher.close()
+        submitters.shutdown()
+        assertTrue(submitters.awaitTermination(5, TimeUnit.SECONDS))
+
+        // then: 완료되지 않은 핸들이 없음
+        CompletableFuture.allOf(*handles.toTypedArray()).exceptionally { null }.get(1, TimeUnit.SECONDS)
+        val stats = dispatcher.stats()
+        assertEquals(handles.size.toLong(), stats.submitted)
+        assertEquals(stats.submitted, stats.delivered + stats.failed)
+        assertEquals(0, stats.queueDepth)
+    }
+}
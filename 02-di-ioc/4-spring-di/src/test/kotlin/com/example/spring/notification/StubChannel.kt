@@ -0,0 +1,44 @@
+package com.example.spring.notification
+
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 테스트용 알림 채널
+ * 배치마다 latencyMillis만큼 걸리고, failing이면 실패함
+ */
+class StubChannel(
+    override val name: String,
+    @Volatile var latencyMillis: Long = 0,
+    @Volatile var failing: Boolean = false
+) : NotificationChannel {
+
+    val messages: MutableList<String> = Collections.synchronizedList(mutableListOf())
+
+    /** 실제로 호출된 횟수 (서킷 브레이커가 건너뛴 호출은 세지 않음) */
+    val invocations = AtomicInteger()
+
+    /**
+     * 설정하면 배치마다 도착을 알리고(countDown) 0이 될 때까지 블로킹함 (최대 5초)
+     * 여러 채널이 공유하면 모두 동시에 호출되어야 통과하고, 남은 수는 테스트가 직접 내려 풀어 줄 수 있음
+     */
+    @Volatile
+    var barrier: CountDownLatch? = null
+
+    override fun sendBatch(messages: List<String>) {
+        invocations.incrementAndGet()
+        barrier?.let {
+            it.countDown()
+            it.await(BARRIER_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        }
+        if (latencyMillis > 0) Thread.sleep(latencyMillis)
+        check(!failing) { "$name 게이트웨이 오류" }
+        this.messages.addAll(messages)
+    }
+
+    private companion object {
+        const val BARRIER_TIMEOUT_SECONDS = 5L
+    }
+}
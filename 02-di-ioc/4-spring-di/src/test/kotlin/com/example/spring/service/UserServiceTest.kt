@@ -1,10 +1,13 @@
 package com.example.spring.service
 
+import com.example.spring.notification.NotificationDispatcher
 import org.junit.jupiter.api.Assertions.*
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.core.task.TaskExecutor
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor
 
 /**
  * Level 4: Spring Framework 테스트
@@ -22,6 +25,12 @@ class UserServiceTest {
     @Autowired
     private lateinit var userService: UserService
 
+    @Autowired
+    private lateinit var notificationDispatcher: NotificationDispatcher
+
+    @Autowired
+    private lateinit var applicationTaskExecutor: TaskExecutor
+
     @Test
     @DisplayName("사용자를 등록하면 ID가 자동 할당된다")
     fun `registerUser should assign id automatically`() {
@@ -91,4 +100,14 @@ class UserServiceTest {
         assertNotEquals(user2.id, user3.id)
         assertNotEquals(user1.id, user3.id)
     }
+
+    @Test
+    @DisplayName("@Async 실행기가 스레드 풀이면 동시에 전송 중인 배치 수만큼 스레드를 쓸 수 있다")
+    fun `async executor pool should match max in-flight batches`() {
+        // JDK 21 이상에서는 가상 스레드 실행기라 풀 크기 제한이 없음
+        val pool = applicationTaskExecutor as? ThreadPoolTaskExecutor ?: return
+
+        // then: 큐가 무제한이면 스레드는 core-size까지만 늘어남
+        assertEquals(notificationDispatcher.options.maxInFlightBatches, pool.corePoolSize)
+    }
 }
@@ -0,0 +1,39 @@
+plugins {
+    kotlin("jvm") version "1.9.22"
+    application
+}
+
+group = "com.example"
+version = "1.0-SNAPSHOT"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(kotlin("stdlib"))
+    implementation(kotlin("reflect"))
+    // Level 4: spring-boot-starter가 띄우는 것과 같은 ApplicationContext (로깅/자동 설정 없이 컨테이너만 측정)
+    implementation("org.springframework:spring-context:6.1.2")
+    // 3-reflection-di 소스가 사용하는 프록시 바이트코드 생성 라이브러리
+    implementation("org.ow2.asm:asm:9.6")
+    testImplementation(kotlin("test"))
+    testImplementation("org.junit.jupiter:junit-jupiter:5.10.1")
+}
+
+// Level 2, 3 컨테이너는 각 모듈의 소스를 그대로 함께 컴파일해서 측정
+sourceSets.main {
+    kotlin.srcDirs("../2-simple-container/src/main/kotlin", "../3-reflection-di/src/main/kotlin")
+}
+
+application {
+    mainClass.set("com.example.benchmark.BenchmarkHarnessKt")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+kotlin {
+    jvmToolchain(17)
+}
@@ -0,0 +1,139 @@
+package com.example.benchmark
+
+import java.io.File
+import java.util.Locale
+
+/**
+ * 02-di-ioc 레벨별 시작 시간 / 메모리 / 조회 성능 비교
+ *
+ * 1. 크기마다 합성 컴포넌트 그래프를 레벨별 소스로 생성/컴파일 (한 번만)
+ * 2. (레벨, 크기)마다 새 JVM을 forks번 띄워 StartupProbe로 측정 (항상 cold start)
+ * 3. fork별 원본 결과는 results.csv, 중앙값 요약은 summary.json으로 저장
+ *
+ * 실행: ./gradlew run --args="--sizes=100,1000,10000 --depth=4 --fanOut=2 --forks=5"
+ *
+ * 옵션:
+ *   --sizes   컴포넌트 개수 목록 (기본 100,1000,10000)
+ *   --depth   의존성 층 수 (기본 4)
+ *   --fanOut  컴포넌트마다 주입받는 의존성 수 (기본 2)
+ *   --forks   (레벨, 크기)마다 띄울 JVM 수 (기본 5)
+ *   --levels  측정할 레벨 (기본 SIMPLE_CONTAINER,REFLECTION,SPRING)
+ *   --out     결과 디렉토리 (기본 build/reports/di-benchmark)
+ */
+fun main(args: Array<String>) {
+    Locale.setDefault(Locale.ROOT)
+    val options = args.associate { arg ->
+        val (key, value) = arg.removePrefix("--").split("=", limit = 2).let { it[0] to it.getOrElse(1) { "" } }
+        key to value
+    }
+    val sizes = options["sizes"]?.split(",")?.map { it.trim().toInt() } ?: listOf(100, 1_000, 10_000)
+    val depth = options["depth"]?.toInt() ?: 4
+    val fanOut = options["fanOut"]?.toInt() ?: 2
+    val forks = options["forks"]?.toInt() ?: 5
+    val levels = options["levels"]?.split(",")?.map { ContainerLevel.valueOf(it.trim()) } ?: ContainerLevel.entries
+    val outputDir = File(options["out"] ?: "build/reports/di-benchmark")
+    val workDir = File(outputDir, "classes")
+
+    val results = mutableListOf<ProbeResult>()
+    sizes.forEach { count ->
+        val graph = SyntheticGraph(count, depth, fanOut)
+        levels.forEach { level ->
+            val classesDir = File(workDir, "${level.name.lowercase()}-$count")
+            println("[${level.label}] 컴포넌트 ${count}개 생성/컴파일 중...")
+            SyntheticSources(graph, level).compileTo(classesDir)
+
+            repeat(forks) { fork ->
+                val result = fork(level, graph, fork, classesDir)
+                println("  fork ${fork + 1}/$forks: ready ${result.jvmToReadyMillis}ms, container ${"%.1f".format(result.containerStartMillis)}ms")
+                results += result
+            }
+        }
+    }
+
+    outputDir.mkdirs()
+    val csv = File(outputDir, "results.csv")
+    csv.writeText((listOf(ProbeResult.CSV_HEADER) + results.map { it.toCsv() }).joinToString("\n", postfix = "\n"))
+    val summaries = summarize(results)
+    val json = File(outputDir, "summary.json")
+    json.writeText(toJson(summaries))
+
+    println()
+    printTable(summaries)
+    println()
+    println("원본 결과: $csv")
+    println("요약(JSON): $json")
+}
+
+/**
+ * 측정 JVM 실행 - 하네스와 같은 클래스패스 + 합성 컴포넌트 클래스
+ */
+private fun fork(level: ContainerLevel, graph: SyntheticGraph, fork: Int, classesDir: File): ProbeResult {
+    val java = File(System.getProperty("java.home"), "bin/java").path
+    val classpath = System.getProperty("java.class.path") + File.pathSeparator + classesDir.absolutePath
+    val process = ProcessBuilder(
+        java, "-Xmx1g", "-cp", classpath, "com.example.benchmark.StartupProbeKt",
+        level.name, graph.count.toString(), graph.depth.toString(), graph.fanOut.toString(), fork.toString()
+    ).redirectErrorStream(true).start()
+
+    val output = process.inputStream.bufferedReader().readLines()
+    val exitCode = process.waitFor()
+    val line = output.lastOrNull { it.startsWith("RESULT ") }
+        ?: throw IllegalStateException(
+            "측정 JVM이 결과 없이 종료되었습니다 (level=$level, count=${graph.count}, exit=$exitCode)\n" +
+                output.takeLast(20).joinToString("\n")
+        )
+    return ProbeResult.fromCsv(line.removePrefix("RESULT "))
+}
+
+/**
+ * (레벨, 크기)별 중앙값 - fork 간 편차(OS 캐시, GC 타이밍)에 덜 민감하도록 평균 대신 중앙값
+ */
+private class Summary(
+    val level: ContainerLevel,
+    val count: Int,
+    val forks: Int,
+    val jvmToReadyMillis: Double,
+    val containerStartMillis: Double,
+    val firstGetBeanMicros: Double,
+    val retainedHeapBytes: Double,
+    val lookupsPerSecond: Double
+)
+
+private fun summarize(results: List<ProbeResult>): List<Summary> =
+    results.groupBy { it.count to it.level }.map { (key, group) ->
+        Summary(
+            level = key.second,
+            count = key.first,
+            forks = group.size,
+            jvmToReadyMillis = group.median { it.jvmToReadyMillis.toDouble() },
+            containerStartMillis = group.median { it.containerStartMillis },
+            firstGetBeanMicros = group.median { it.firstGetBeanMicros },
+            retainedHeapBytes = group.median { it.retainedHeapBytes.toDouble() },
+            lookupsPerSecond = group.median { it.lookupsPerSecond }
+        )
+    }
+
+private fun <T> List<T>.median(selector: (T) -> Double): Double {
+    val sorted = map(selector).sorted()
+    val mid = sorted.size / 2
+    return if (sorted.size % 2 == 1) sorted[mid] else (sorted[mid - 1] + sorted[mid]) / 2
+}
+
+private fun toJson(summaries: List<Summary>): String = summaries.joinToString(",\n", "[\n", "\n]\n") { s ->
+    """  {"level": "${s.level.name}", "count": ${s.count}, "forks": ${s.forks}, """ +
+        """"jvmToReadyMillis": ${"%.1f".format(s.jvmToReadyMillis)}, "containerStartMillis": ${"%.2f".format(s.containerStartMillis)}, """ +
+        """"firstGetBeanMicros": ${"%.2f".format(s.firstGetBeanMicros)}, "retainedHeapBytes": ${"%.0f".format(s.retainedHeapBytes)}, """ +
+        """"lookupsPerSecond": ${"%.0f".format(s.lookupsPerSecond)}}"""
+}
+
+private fun printTable(summaries: List<Summary>) {
+    println("%-36s %7s %12s %14s %14s %14s %16s".format(
+        "level", "count", "ready(ms)", "container(ms)", "1st get(us)", "retained(MB)", "lookups/s"
+    ))
+    summaries.forEach { s ->
+        println("%-36s %7d %12.1f %14.1f %14.1f %14.2f %16.0f".format(
+            s.level.label, s.count, s.jvmToReadyMillis, s.containerStartMillis,
+            s.firstGetBeanMicros, s.retainedHeapBytes / 1024.0 / 1024.0, s.lookupsPerSecond
+        ))
+    }
+}
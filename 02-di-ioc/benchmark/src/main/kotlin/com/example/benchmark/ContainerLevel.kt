@@ -0,0 +1,77 @@
+package com.example.benchmark
+
+import com.example.container.DIContainer
+import com.example.reflection.ReflectionContainer
+import org.springframework.context.annotation.AnnotationConfigApplicationContext
+
+/**
+ * 측정 대상 컨테이너 (02-di-ioc의 Level 2 ~ 4)
+ *
+ * 레벨마다 시작 방법과 조회 API가 다르므로 StartedContainer로 통일해서 측정
+ * Level 1(Manual DI)은 컨테이너가 없으므로 제외
+ */
+enum class ContainerLevel(val label: String) {
+
+    /**
+     * Level 2: 생성된 SyntheticWiring.registerAll()이 위상 정렬 순서로 직접 new + register
+     * (Main.kt에서 손으로 쓰는 등록 코드와 같은 형태)
+     */
+    SIMPLE_CONTAINER("Level 2: DIContainer") {
+        override fun start(packageName: String): StartedContainer {
+            val container = DIContainer()
+            Class.forName("$packageName.$WIRING_CLASS")
+                .getMethod("registerAll", DIContainer::class.java)
+                .invoke(null, container)
+            return object : StartedContainer {
+                @Suppress("UNCHECKED_CAST")
+                override fun getBean(type: Class<*>): Any = container.get(type as Class<Any>)
+            }
+        }
+    },
+
+    /**
+     * Level 3: 패키지 스캔 + 생성자 분석 + 웨이브 단위 병렬 생성
+     */
+    REFLECTION("Level 3: ReflectionContainer") {
+        override fun start(packageName: String): StartedContainer {
+            val container = ReflectionContainer(packageName, verbose = false)
+            return object : StartedContainer {
+                @Suppress("UNCHECKED_CAST")
+                override fun getBean(type: Class<*>): Any = container.getBean(type as Class<Any>)
+            }
+        }
+    },
+
+    /**
+     * Level 4: 4-spring-di가 사용하는 Spring ApplicationContext (컴포넌트 스캔)
+     */
+    SPRING("Level 4: Spring ApplicationContext") {
+        override fun start(packageName: String): StartedContainer {
+            val context = AnnotationConfigApplicationContext(packageName)
+            return object : StartedContainer {
+                override fun getBean(type: Class<*>): Any = context.getBean(type)
+                override fun close() = context.close()
+            }
+        }
+    };
+
+    abstract fun start(packageName: String): StartedContainer
+
+    /**
+     * 레벨 / 크기마다 합성 컴포넌트를 별도 패키지에 생성 (스캔 대상이 섞이지 않도록)
+     */
+    fun packageName(count: Int): String = "com.example.synthetic.${name.lowercase()}.n$count"
+
+    companion object {
+        const val WIRING_CLASS = "SyntheticWiring"
+    }
+}
+
+/**
+ * 시작이 끝난 컨테이너 - 측정에 필요한 조회/종료만 노출
+ */
+interface StartedContainer : AutoCloseable {
+    fun getBean(type: Class<*>): Any
+
+    override fun close() {}
+}
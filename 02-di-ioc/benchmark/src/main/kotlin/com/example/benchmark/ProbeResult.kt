@@ -0,0 +1,51 @@
+package com.example.benchmark
+
+/**
+ * fork 한 번의 측정 결과
+ *
+ * @property jvmToReadyMillis JVM 시작부터 컨테이너 준비 완료까지 (JVM 부팅 + 클래스 로딩 포함, cold start)
+ * @property containerStartMillis 컨테이너 생성자 / refresh 호출 시간만
+ * @property firstGetBeanMicros 진입점 Bean의 첫 getBean 시간
+ * @property retainedHeapBytes 컨테이너 생성 전후 (GC 후) 힙 사용량 차이
+ * @property lookupsPerSecond 워밍업 이후 단일 스레드 getBean 처리량
+ */
+data class ProbeResult(
+    val level: ContainerLevel,
+    val count: Int,
+    val depth: Int,
+    val fanOut: Int,
+    val fork: Int,
+    val jvmToReadyMillis: Long,
+    val containerStartMillis: Double,
+    val firstGetBeanMicros: Double,
+    val retainedHeapBytes: Long,
+    val lookupsPerSecond: Double
+) {
+    fun toCsv(): String = listOf(
+        level.name, count, depth, fanOut, fork, jvmToReadyMillis,
+        "%.2f".format(containerStartMillis), "%.2f".format(firstGetBeanMicros),
+        retainedHeapBytes, "%.0f".format(lookupsPerSecond)
+    ).joinToString(",")
+
+    companion object {
+        const val CSV_HEADER = "level,count,depth,fanOut,fork,jvmToReadyMillis,containerStartMillis," +
+            "firstGetBeanMicros,retainedHeapBytes,lookupsPerSecond"
+
+        fun fromCsv(line: String): ProbeResult {
+            val v = line.split(",")
+            check(v.size == 10) { "측정 결과 형식이 올바르지 않습니다: $line" }
+            return ProbeResult(
+                level = ContainerLevel.valueOf(v[0]),
+                count = v[1].toInt(),
+                depth = v[2].toInt(),
+                fanOut = v[3].toInt(),
+                fork = v[4].toInt(),
+                jvmToReadyMillis = v[5].toLong(),
+                containerStartMillis = v[6].toDouble(),
+                firstGetBeanMicros = v[7].toDouble(),
+                retainedHeapBytes = v[8].toLong(),
+                lookupsPerSecond = v[9].toDouble()
+            )
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.benchmark
+
+import java.io.OutputStream
+import java.io.PrintStream
+import java.lang.management.ManagementFactory
+import java.util.Locale
+
+/**
+ * 측정용 JVM의 진입점 - 컨테이너 하나를 한 번만 띄우고 측정
+ *
+ * BenchmarkHarness가 측정마다 새 JVM을 fork 해서 실행하므로
+ * 클래스 로딩 / JIT / kotlin-reflect 캐시가 항상 비어 있는 cold start 상태에서 측정됨
+ *
+ * args: <level> <count> <depth> <fanOut> <fork>
+ * 결과: 표준 출력에 "RESULT <csv>" 한 줄
+ */
+fun main(args: Array<String>) {
+    Locale.setDefault(Locale.ROOT)
+    require(args.size == 5) { "사용법: StartupProbe <level> <count> <depth> <fanOut> <fork>" }
+    val level = ContainerLevel.valueOf(args[0])
+    val graph = SyntheticGraph(args[1].toInt(), args[2].toInt(), args[3].toInt())
+    val packageName = level.packageName(graph.count)
+
+    val heapBefore = usedHeapAfterGc()
+
+    // DIContainer는 등록마다 println 하므로 측정 중에는 출력을 버림 (콘솔 출력 비용 제외)
+    val stdout = System.out
+    System.setOut(PrintStream(OutputStream.nullOutputStream()))
+
+    val startNanos = System.nanoTime()
+    val container = level.start(packageName)
+    val containerStartNanos = System.nanoTime() - startNanos
+    val jvmToReadyMillis = ManagementFactory.getRuntimeMXBean().uptime
+
+    val rootType = Class.forName("$packageName.C${graph.roots().first}")
+    val firstGetStart = System.nanoTime()
+    container.getBean(rootType)
+    val firstGetNanos = System.nanoTime() - firstGetStart
+
+    val retainedHeapBytes = usedHeapAfterGc() - heapBefore
+
+    val types = (0 until graph.count).map { Class.forName("$packageName.C$it") }
+    val lookupsPerSecond = lookupsPerSecond(container, types)
+
+    container.close()
+    System.setOut(stdout)
+
+    val result = ProbeResult(
+        level, graph.count, graph.depth, graph.fanOut, args[4].toInt(),
+        jvmToReadyMillis, containerStartNanos / 1e6, firstGetNanos / 1e3, retainedHeapBytes, lookupsPerSecond
+    )
+    println("RESULT ${result.toCsv()}")
+}
+
+/**
+ * 단일 스레드 getBean 처리량
+ * 0.5초 워밍업 후 1초 동안 모든 컴포넌트 타입을 섞어서 조회
+ */
+private fun lookupsPerSecond(container: StartedContainer, types: List<Class<*>>): Double {
+    var sink = 0
+    fun runFor(millis: Long): Long {
+        val deadline = System.nanoTime() + millis * 1_000_000
+        var ops = 0L
+        var i = 0
+        while (true) {
+            repeat(1024) {
+                sink += System.identityHashCode(container.getBean(types[i]))
+                i = (i + 7919) % types.size
+            }
+            ops += 1024
+            if (System.nanoTime() >= deadline) return ops
+        }
+    }
+
+    runFor(500)
+    val ops = runFor(1000)
+    // JIT가 조회 자체를 제거하지 못하도록 결과를 사용
+    if (sink == 42) println(sink)
+    return ops.toDouble()
+}
+
+private fun usedHeapAfterGc(): Long {
+    repeat(3) { System.gc() }
+    return ManagementFactory.getMemoryMXBean().heapMemoryUsage.used
+}
@@ -0,0 +1,40 @@
+package com.example.benchmark
+
+/**
+ * 벤치마크용 합성 컴포넌트 그래프
+ *
+ * count개의 컴포넌트를 depth개의 층으로 나누고,
+ * 각 층의 컴포넌트는 바로 아래 층의 컴포넌트 fanOut개를 생성자로 주입받음
+ * (3-reflection-di의 bench/SyntheticComponents와 같은 모양)
+ *
+ * 예) count=6, depth=3, fanOut=2
+ *     layer 0: C0, C1        (의존성 없음)
+ *     layer 1: C2, C3        -> layer 0 중 2개
+ *     layer 2: C4, C5        -> layer 1 중 2개
+ *
+ * 의존성은 항상 더 작은 인덱스이므로 인덱스 순서가 곧 위상 정렬 순서
+ */
+class SyntheticGraph(val count: Int, val depth: Int = 4, val fanOut: Int = 2) {
+
+    init {
+        require(depth >= 1 && count >= depth) { "count($count)는 depth($depth) 이상이어야 합니다" }
+        require(fanOut >= 1) { "fanOut은 1 이상이어야 합니다" }
+    }
+
+    private val layerSize = (count + depth - 1) / depth
+
+    fun layerOf(index: Int): Int = index / layerSize
+
+    fun dependenciesOf(index: Int): List<Int> {
+        val layer = layerOf(index)
+        if (layer == 0) return emptyList()
+
+        val below = (layer - 1) * layerSize
+        return (0 until fanOut).map { j -> below + (index * 31 + j * 17) % layerSize }.distinct()
+    }
+
+    /**
+     * 가장 위층(다른 누구도 주입받지 않는) 컴포넌트 - 애플리케이션이 직접 조회하는 진입점 역할
+     */
+    fun roots(): IntRange = layerSize * layerOf(count - 1) until count
+}
@@ -0,0 +1,107 @@
+package com.example.benchmark
+
+import java.io.File
+import javax.tools.ToolProvider
+
+/**
+ * 합성 컴포넌트 그래프를 레벨별 Java 소스로 생성하고 컴파일
+ *
+ * - SIMPLE_CONTAINER: 애노테이션 없는 클래스 + 등록 코드(SyntheticWiring)
+ * - REFLECTION: com.example.reflection.annotation.@Component / @Inject
+ * - SPRING: org.springframework.stereotype.@Component (생성자가 하나이므로 @Autowired 생략)
+ *
+ * 컴파일 결과 디렉토리를 측정 JVM의 클래스패스에 추가하므로
+ * 각 컨테이너는 실제 애플리케이션 클래스처럼 스캔/로드함
+ */
+class SyntheticSources(private val graph: SyntheticGraph, private val level: ContainerLevel) {
+
+    val packageName = level.packageName(graph.count)
+
+    fun compileTo(classesDir: File) {
+        val sourceDir = File(classesDir.parentFile, "${classesDir.name}-src/" + packageName.replace('.', '/'))
+        sourceDir.deleteRecursively()
+        sourceDir.mkdirs()
+        classesDir.deleteRecursively()
+        classesDir.mkdirs()
+
+        val sources = (0 until graph.count).map { index ->
+            File(sourceDir, "C$index.java").apply { writeText(componentSource(index)) }
+        }.toMutableList()
+        if (level == ContainerLevel.SIMPLE_CONTAINER) {
+            sources += File(sourceDir, "${ContainerLevel.WIRING_CLASS}.java").apply { writeText(wiringSource()) }
+        }
+
+        val compiler = ToolProvider.getSystemJavaCompiler()
+            ?: throw IllegalStateException("JDK 컴파일러를 찾을 수 없습니다 (JRE가 아닌 JDK로 실행해야 합니다)")
+        val args = listOf(
+            "-d", classesDir.path,
+            "-encoding", "UTF-8",
+            "-proc:none",
+            "-cp", System.getProperty("java.class.path"),
+            "-nowarn"
+        ) + sources.map { it.path }
+        val exitCode = compiler.run(null, null, System.err, *args.toTypedArray())
+        check(exitCode == 0) { "합성 컴포넌트 컴파일 실패 (level=$level, exit=$exitCode)" }
+    }
+
+    private fun componentSource(index: Int): String {
+        val dependencies = graph.dependenciesOf(index)
+        val (imports, annotation, parameterAnnotation) = when (level) {
+            ContainerLevel.SIMPLE_CONTAINER -> Triple("", "", "")
+            ContainerLevel.REFLECTION -> Triple(
+                "import com.example.reflection.annotation.Component;\nimport com.example.reflection.annotation.Inject;",
+                "@Component",
+                "@Inject "
+            )
+            ContainerLevel.SPRING -> Triple("import org.springframework.stereotype.Component;", "@Component", "")
+        }
+        val params = dependencies.joinToString(", ") { "${parameterAnnotation}C$it d$it" }
+        return """
+            |package $packageName;
+            |
+            |$imports
+            |
+            |$annotation
+            |public class C$index {
+            |    // 실제 컴포넌트가 들고 있는 캐시/버퍼를 흉내내는 상태
+            |    private final long[] state = new long[32];
+            |
+            |    public C$index($params) {
+            |    }
+            |}
+            |""".trimMargin()
+    }
+
+    /**
+     * Level 2 등록 코드: 위상 정렬(인덱스) 순서로 생성해서 register
+     * JVM 메서드 크기 제한(64KB)을 넘지 않도록 CHUNK개씩 나눠서 메서드 생성
+     */
+    private fun wiringSource(): String {
+        val chunks = (0 until graph.count).chunked(CHUNK)
+        val methods = chunks.mapIndexed { chunkIndex, indices ->
+            val body = indices.joinToString("\n") { index ->
+                val args = graph.dependenciesOf(index).joinToString(", ") { "container.get(C$it.class)" }
+                "        container.register(C$index.class, new C$index($args));"
+            }
+            "    private static void register$chunkIndex(DIContainer container) {\n$body\n    }"
+        }
+        return """
+            |package $packageName;
+            |
+            |import com.example.container.DIContainer;
+            |
+            |public final class ${ContainerLevel.WIRING_CLASS} {
+            |
+            |    public static void registerAll(DIContainer container) {
+            |${chunks.indices.joinToString("\n") { "        register$it(container);" }}
+            |    }
+            |
+            |${methods.joinToString("\n\n")}
+            |}
+            |""".trimMargin()
+    }
+
+    companion object {
+        private const val CHUNK = 500
+    }
+}
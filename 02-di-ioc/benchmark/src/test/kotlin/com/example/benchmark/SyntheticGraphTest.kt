@@ -0,0 +1,55 @@
+package com.example.benchmark
+
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.io.File
+import java.nio.file.Files
+
+/**
+ * 합성 컴포넌트 그래프 / 소스 생성 테스트
+ */
+class SyntheticGraphTest {
+
+    @Test
+    @DisplayName("각 컴포넌트는 바로 아래 층의 컴포넌트만 fanOut개 이하로 주입받는다")
+    fun `dependencies should point to the layer below`() {
+        val graph = SyntheticGraph(count = 1_000, depth = 4, fanOut = 3)
+
+        (0 until graph.count).forEach { index ->
+            val dependencies = graph.dependenciesOf(index)
+            assertTrue(dependencies.size <= 3)
+            dependencies.forEach { assertEquals(graph.layerOf(index) - 1, graph.layerOf(it)) }
+        }
+        assertTrue(graph.dependenciesOf(0).isEmpty())
+    }
+
+    @Test
+    @DisplayName("층 크기로 나누어떨어지지 않아도 진입점은 가장 위층에 존재한다")
+    fun `roots should never be empty`() {
+        listOf(4, 9, 10, 101, 9_999).forEach { count ->
+            val graph = SyntheticGraph(count, depth = 4)
+
+            assertFalse(graph.roots().isEmpty(), "count=$count")
+            assertEquals(count - 1, graph.roots().last)
+        }
+    }
+
+    @Test
+    @DisplayName("Level 2 등록 코드와 Level 3 컴포넌트 소스는 컴파일된다")
+    fun `generated sources should compile`() {
+        val graph = SyntheticGraph(count = 1_200, depth = 3)
+        val root = Files.createTempDirectory("synthetic-graph-test").toFile()
+        try {
+            listOf(ContainerLevel.SIMPLE_CONTAINER, ContainerLevel.REFLECTION).forEach { level ->
+                val classesDir = File(root, level.name)
+                SyntheticSources(graph, level).compileTo(classesDir)
+
+                val packageDir = File(classesDir, level.packageName(graph.count).replace('.', '/'))
+                assertTrue(File(packageDir, "C${graph.count - 1}.class").exists())
+            }
+        } finally {
+            root.deleteRecursively()
+        }
+    }
+}